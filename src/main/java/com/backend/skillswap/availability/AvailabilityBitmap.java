@@ -0,0 +1,106 @@
+package com.backend.skillswap.availability;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// One day of working hours as 96 quarter-hour bits packed into two longs.
+// Bit i set → the provider works during [i*15, (i+1)*15) minutes of that day.
+public final class AvailabilityBitmap {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;   // 96
+
+    private AvailabilityBitmap() {
+        // Utility class
+    }
+
+    public static long[] empty() {
+        return new long[2];
+    }
+
+    public static long[] full() {
+        return new long[]{-1L, (1L << (SLOTS_PER_DAY - 64)) - 1};
+    }
+
+    public static long[] copy(long[] day) {
+        return new long[]{day[0], day[1]};
+    }
+
+    // ================= SLOT MATH =================
+    // First slot touched by this time (rounded down)
+    public static int floorSlot(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    // Slot after the last one touched (rounded up); 00:00 as an end time means end of day
+    public static int ceilSlot(LocalTime time) {
+        if (time.equals(LocalTime.MIDNIGHT)) {
+            return SLOTS_PER_DAY;
+        }
+        int minutes = time.getHour() * 60 + time.getMinute() + (time.getSecond() > 0 || time.getNano() > 0 ? 1 : 0);
+        return (minutes + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    }
+
+    public static boolean isAligned(LocalTime time) {
+        return time.getMinute() % SLOT_MINUTES == 0 && time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    // ================= MUTATION (compile time only) =================
+    public static void set(long[] day, int fromSlot, int toSlot) {
+        day[0] |= mask(0, fromSlot, toSlot);
+        day[1] |= mask(64, fromSlot, toSlot);
+    }
+
+    public static void clear(long[] day, int fromSlot, int toSlot) {
+        day[0] &= ~mask(0, fromSlot, toSlot);
+        day[1] &= ~mask(64, fromSlot, toSlot);
+    }
+
+    // ================= QUERY (O(1): two mask compares) =================
+    // true if every slot in [fromSlot, toSlot) is a working slot
+    public static boolean covers(long[] day, int fromSlot, int toSlot) {
+        long low = mask(0, fromSlot, toSlot);
+        long high = mask(64, fromSlot, toSlot);
+        return (day[0] & low) == low && (day[1] & high) == high;
+    }
+
+    // Contiguous working windows, for display
+    public static List<LocalTime[]> windows(long[] day) {
+        List<LocalTime[]> windows = new ArrayList<>();
+        int slot = 0;
+        while (slot < SLOTS_PER_DAY) {
+            if (!isSet(day, slot)) {
+                slot++;
+                continue;
+            }
+            int start = slot;
+            while (slot < SLOTS_PER_DAY && isSet(day, slot)) {
+                slot++;
+            }
+            windows.add(new LocalTime[]{toTime(start), toTime(slot)});
+        }
+        return windows;
+    }
+
+    // ================= HELPERS =================
+    private static boolean isSet(long[] day, int slot) {
+        return (day[slot >>> 6] & (1L << (slot & 63))) != 0;
+    }
+
+    private static LocalTime toTime(int slot) {
+        return slot >= SLOTS_PER_DAY ? LocalTime.MIDNIGHT : LocalTime.of(0, 0).plusMinutes((long) slot * SLOT_MINUTES);
+    }
+
+    // Bits of [fromSlot, toSlot) that fall into the 64-bit word starting at wordBase
+    private static long mask(int wordBase, int fromSlot, int toSlot) {
+        int from = Math.max(fromSlot - wordBase, 0);
+        int to = Math.min(toSlot - wordBase, 64);
+        if (from >= to) {
+            return 0L;
+        }
+        long upper = to == 64 ? -1L : (1L << to) - 1;
+        long lower = (1L << from) - 1;
+        return upper & ~lower;
+    }
+}
@@ -0,0 +1,187 @@
+package com.backend.skillswap.availability;
+
+import com.backend.skillswap.entity.ProviderAvailabilityException;
+import com.backend.skillswap.entity.ProviderAvailabilityRule;
+import com.backend.skillswap.repository.ProviderAvailabilityExceptionRepository;
+import com.backend.skillswap.repository.ProviderAvailabilityRuleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compiled working hours per provider.
+// Rules + exceptions are read once and turned into day bitmaps; booking checks are then pure bit math.
+// Entries are evicted (after commit) whenever the provider edits their availability.
+// At most maxProviders are kept; the least recently checked provider is dropped first.
+@Component
+public class ProviderAvailabilityCache {
+
+    private final ProviderAvailabilityRuleRepository ruleRepository;
+    private final ProviderAvailabilityExceptionRepository exceptionRepository;
+
+    // access-order LinkedHashMap = LRU; guarded by its own monitor
+    private final Map<Long, CompiledAvailability> cache;
+
+    // Bumped on every evict/clear → a compile that overlapped one is not cached
+    private long invalidations;
+
+    public ProviderAvailabilityCache(
+            ProviderAvailabilityRuleRepository ruleRepository,
+            ProviderAvailabilityExceptionRepository exceptionRepository,
+            @Value("${skillswap.availability.max-providers:10000}") int maxProviders
+    ) {
+        this.ruleRepository = ruleRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CompiledAvailability> eldest) {
+                return size() > maxProviders;
+            }
+        };
+    }
+
+    // ================= QUERY =================
+    // true if the provider works during the whole [start, end) range (may span midnight)
+    public boolean isWithinWorkingHours(Long providerId, LocalDateTime start, LocalDateTime end) {
+
+        CompiledAvailability availability = get(providerId);
+
+        LocalDate date = start.toLocalDate();
+        LocalDate lastDate = end.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? end.toLocalDate().minusDays(1)
+                : end.toLocalDate();
+
+        while (!date.isAfter(lastDate)) {
+            int from = date.equals(start.toLocalDate()) ? AvailabilityBitmap.floorSlot(start.toLocalTime()) : 0;
+            int to = date.equals(end.toLocalDate())
+                    ? AvailabilityBitmap.ceilSlot(end.toLocalTime())
+                    : AvailabilityBitmap.SLOTS_PER_DAY;
+
+            if (!AvailabilityBitmap.covers(availability.dayBitmap(date), from, to)) {
+                return false;
+            }
+            date = date.plusDays(1);
+        }
+        return true;
+    }
+
+    // Compiled bitmap of one day (do not mutate)
+    public long[] dayBitmap(Long providerId, LocalDate date) {
+        return get(providerId).dayBitmap(date);
+    }
+
+    // ================= INVALIDATION =================
+    public void evict(Long providerId) {
+        synchronized (cache) {
+            cache.remove(providerId);
+            invalidations++;
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            invalidations++;
+        }
+    }
+
+    // ================= COMPILE =================
+    private CompiledAvailability get(Long providerId) {
+
+        long loadedUnder;
+        synchronized (cache) {
+            CompiledAvailability compiled = cache.get(providerId);
+            if (compiled != null) {
+                return compiled;
+            }
+            loadedUnder = invalidations;
+        }
+
+        // Database reads outside the lock
+        CompiledAvailability compiled = compile(providerId);
+
+        synchronized (cache) {
+            // Hours changed while we were compiling → serve, but don't keep
+            if (invalidations == loadedUnder) {
+                cache.put(providerId, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    // Package-private for tests
+    int cachedProviders() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private CompiledAvailability compile(Long providerId) {
+
+        List<ProviderAvailabilityRule> rules =
+                ruleRepository.findByProviderIdOrderByDayOfWeekAscStartTimeAsc(providerId);
+
+        // No weekly rules declared → provider is bookable around the clock (old behaviour)
+        long[][] weekly = new long[7][];
+        for (int i = 0; i < 7; i++) {
+            weekly[i] = rules.isEmpty() ? AvailabilityBitmap.full() : AvailabilityBitmap.empty();
+        }
+        for (ProviderAvailabilityRule rule : rules) {
+            AvailabilityBitmap.set(
+                    weekly[rule.getDayOfWeek().getValue() - 1],
+                    AvailabilityBitmap.floorSlot(rule.getStartTime()),
+                    AvailabilityBitmap.ceilSlot(rule.getEndTime())
+            );
+        }
+
+        // Exceptions override the weekly pattern for their date: extra windows first, then blocks
+        Map<LocalDate, long[]> overrides = new HashMap<>();
+        List<ProviderAvailabilityException> exceptions =
+                exceptionRepository.findByProviderIdAndDateGreaterThanEqualOrderByDateAsc(providerId, LocalDate.now().minusDays(1));
+
+        for (ProviderAvailabilityException exception : exceptions) {
+            if (exception.isAvailable()) {
+                apply(overrides, weekly, exception);
+            }
+        }
+        for (ProviderAvailabilityException exception : exceptions) {
+            if (!exception.isAvailable()) {
+                apply(overrides, weekly, exception);
+            }
+        }
+
+        return new CompiledAvailability(weekly, overrides);
+    }
+
+    private void apply(Map<LocalDate, long[]> overrides, long[][] weekly, ProviderAvailabilityException exception) {
+
+        long[] day = overrides.computeIfAbsent(exception.getDate(),
+                date -> AvailabilityBitmap.copy(weekly[date.getDayOfWeek().getValue() - 1]));
+
+        int from = exception.getStartTime() != null ? AvailabilityBitmap.floorSlot(exception.getStartTime()) : 0;
+        int to = exception.getEndTime() != null
+                ? AvailabilityBitmap.ceilSlot(exception.getEndTime())
+                : AvailabilityBitmap.SLOTS_PER_DAY;
+
+        if (exception.isAvailable()) {
+            AvailabilityBitmap.set(day, from, to);
+        } else {
+            AvailabilityBitmap.clear(day, from, to);
+        }
+    }
+
+    // Weekly pattern (index = ISO day - 1) plus per-date overrides
+    private record CompiledAvailability(long[][] weekly, Map<LocalDate, long[]> overrides) {
+
+        long[] dayBitmap(LocalDate date) {
+            long[] override = overrides.get(date);
+            return override != null ? override : weekly[date.getDayOfWeek().getValue() - 1];
+        }
+    }
+}
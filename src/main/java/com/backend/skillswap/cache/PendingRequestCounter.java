@@ -0,0 +1,115 @@
+package com.backend.skillswap.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// Pending skill-request badge counts per user (inbox = received, outbox = sent).
+// Loaded once with a COUNT query, then moved by +/- deltas after each committed transition.
+// A load runs behind a placeholder: a delta arriving meanwhile marks it dirty and the loaded
+// count is served once but not kept (it may or may not include that transition).
+// Entries are refreshed after a TTL so a delta counted twice (commit seen by the COUNT, delta
+// applied right after) can't stick forever.
+@Component
+public class PendingRequestCounter {
+
+    public enum Box { INBOX, OUTBOX }
+
+    private static final long TTL_NANOS = Duration.ofMinutes(10).toNanos();
+
+    // Guarded by its own monitor
+    private final Map<Key, Counter> counters = new HashMap<>();
+
+    // ================= READ =================
+    public long get(Long userId, Box box, LongSupplier loader) {
+
+        Key key = new Key(userId, box);
+        Counter placeholder;
+
+        synchronized (counters) {
+            Counter counter = counters.get(key);
+
+            if (counter != null && !counter.loading) {
+                if (System.nanoTime() - counter.loadedAt <= TTL_NANOS) {
+                    return Math.max(counter.value, 0);
+                }
+                counters.remove(key);
+                counter = null;
+            }
+
+            // Someone else is loading this key → read through without caching
+            if (counter != null) {
+                return Math.max(loader.getAsLong(), 0);
+            }
+
+            placeholder = new Counter();
+            counters.put(key, placeholder);
+        }
+
+        // COUNT query outside the lock
+        long loaded;
+        try {
+            loaded = loader.getAsLong();
+        } catch (RuntimeException e) {
+            synchronized (counters) {
+                counters.remove(key, placeholder);
+            }
+            throw e;
+        }
+
+        synchronized (counters) {
+            // A transition landed while we were counting → our number may be off, don't keep it
+            if (counters.get(key) == placeholder && !placeholder.dirty) {
+                placeholder.value = loaded;
+                placeholder.loadedAt = System.nanoTime();
+                placeholder.loading = false;
+            } else {
+                counters.remove(key, placeholder);
+            }
+        }
+        return Math.max(loaded, 0);
+    }
+
+    // ================= UPDATE =================
+    // Only adjusts counters that are already loaded; absent ones load fresh on next read
+    public void add(Long userId, Box box, long delta) {
+        synchronized (counters) {
+            Counter counter = counters.get(new Key(userId, box));
+            if (counter == null) {
+                return;
+            }
+            if (counter.loading) {
+                counter.dirty = true;
+                return;
+            }
+            counter.value += delta;
+        }
+    }
+
+    public void evict(Long userId, Box box) {
+        synchronized (counters) {
+            counters.remove(new Key(userId, box));
+        }
+    }
+
+    // Bulk expiry can touch any user → start over
+    public void clear() {
+        synchronized (counters) {
+            counters.clear();
+        }
+    }
+
+    private record Key(Long userId, Box box) {
+    }
+
+    // Placeholder while loading (loading = true), then the live count
+    private static final class Counter {
+        long value;
+        long loadedAt;
+        boolean loading = true;
+        boolean dirty;
+    }
+}
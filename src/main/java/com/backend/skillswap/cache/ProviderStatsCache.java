@@ -0,0 +1,42 @@
+package com.backend.skillswap.cache;
+
+import com.backend.skillswap.dto.response.ProviderStatsResponse;
+import com.backend.skillswap.mapper.ProviderStatsMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory copy of provider_stats, so public skill lists and search ranking read
+// provider numbers without a query per hit. Written only after commit (by ProviderStatsService).
+@Component
+public class ProviderStatsCache {
+
+    private final Map<Long, ProviderStatsResponse> stats = new ConcurrentHashMap<>();
+
+    // Bumped on every change; seeded with the start time so it never repeats after a restart (ETags)
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public ProviderStatsResponse get(Long providerId) {
+        ProviderStatsResponse cached = stats.get(providerId);
+        return cached != null ? cached : ProviderStatsMapper.empty(providerId);
+    }
+
+    public synchronized void put(ProviderStatsResponse providerStats) {
+        stats.put(providerStats.getProviderId(), providerStats);
+        version.incrementAndGet();
+    }
+
+    // Readers never see an empty map while this runs
+    public synchronized void replaceAll(Collection<ProviderStatsResponse> all) {
+        stats.keySet().retainAll(all.stream().map(ProviderStatsResponse::getProviderId).toList());
+        all.forEach(providerStats -> stats.put(providerStats.getProviderId(), providerStats));
+        version.incrementAndGet();
+    }
+
+    public long version() {
+        return version.get();
+    }
+}
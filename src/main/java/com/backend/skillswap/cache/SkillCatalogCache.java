@@ -0,0 +1,138 @@
+package com.backend.skillswap.cache;
+
+import com.backend.skillswap.dto.response.CacheStatsResponse;
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.events.SkillChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Read-through cache for the public skill lists (all verified / per category / per user).
+// Every committed skill change bumps the catalog version; an entry is only served if it was
+// loaded under the current version, so a load racing with a change can never be cached as fresh.
+// Memory is bounded by an estimated byte weight, least recently used lists go first.
+@Component
+public class SkillCatalogCache {
+
+    // Rough per-item overhead (object headers, ids, enums, BigDecimal, timestamps)
+    private static final int ITEM_OVERHEAD_BYTES = 160;
+
+    private final long maxWeight;
+
+    // Seeded with the start time so versions (and the ETags built from them) don't repeat after a restart
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);   // access order = LRU
+    private long totalWeight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public SkillCatalogCache(@Value("${skillswap.catalog-cache.max-weight-bytes:16777216}") long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    // ================= READ =================
+    public List<UserSkillResponse> get(String key, Supplier<List<UserSkillResponse>> loader) {
+
+        long loadedUnder = version.get();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version == loadedUnder) {
+                hits.incrementAndGet();
+                return entry.items;
+            }
+        }
+
+        misses.incrementAndGet();
+        List<UserSkillResponse> items = List.copyOf(loader.get());
+        long weight = weigh(items);
+
+        synchronized (entries) {
+            // Catalog changed while we were loading → serve, but don't keep
+            if (weight <= maxWeight && version.get() == loadedUnder) {
+                Entry previous = entries.put(key, new Entry(loadedUnder, items, weight));
+                if (previous != null) {
+                    totalWeight -= previous.weight;
+                }
+                totalWeight += weight;
+                evictOverweight();
+            }
+        }
+        return items;
+    }
+
+    // ================= INVALIDATION (after commit) =================
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSkillChange(SkillChangeEvent event) {
+        bumpVersion();
+    }
+
+    public void bumpVersion() {
+        synchronized (entries) {
+            version.incrementAndGet();
+            invalidations.addAndGet(entries.size());
+            entries.clear();
+            totalWeight = 0;
+        }
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    // ================= STATS =================
+    public CacheStatsResponse stats() {
+        synchronized (entries) {
+            long hitCount = hits.get();
+            long missCount = misses.get();
+            return CacheStatsResponse.builder()
+                    .name("skill-catalog")
+                    .version(version.get())
+                    .entries(entries.size())
+                    .weightBytes(totalWeight)
+                    .maxWeightBytes(maxWeight)
+                    .hits(hitCount)
+                    .misses(missCount)
+                    .hitRatio(hitCount + missCount == 0 ? 0 : (double) hitCount / (hitCount + missCount))
+                    .evictions(evictions.get())
+                    .invalidations(invalidations.get())
+                    .build();
+        }
+    }
+
+    // ================= HELPERS =================
+    // Caller holds the lock
+    private void evictOverweight() {
+        var eldest = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && eldest.hasNext()) {
+            totalWeight -= eldest.next().getValue().weight;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static long weigh(List<UserSkillResponse> items) {
+        long weight = 0;
+        for (UserSkillResponse item : items) {
+            weight += ITEM_OVERHEAD_BYTES + 2L * (length(item.getTitle()) + length(item.getDescription()));
+        }
+        return weight;
+    }
+
+    private static int length(String text) {
+        return text == null ? 0 : text.length();
+    }
+
+    private record Entry(long version, List<UserSkillResponse> items, long weight) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.backend.skillswap.cache;
+
+import com.backend.skillswap.dto.response.RatingSummaryResponse;
+import com.backend.skillswap.mapper.ReviewMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory copy of skill_rating_stats plus a "best rated first" ordering over it.
+// Skill cards read their summary from here; sort=RATING browsing walks the ordering instead of
+// sorting all matches. Written only after commit (by ReviewService).
+@Component
+public class SkillRatingCache {
+
+    // Damped mean: a skill needs a few reviews before it can outrank an established one
+    // (one 5-star review → 3.33, twenty 4.8-star reviews → 4.44)
+    private static final double PRIOR_MEAN = 3.0;
+    private static final int PRIOR_WEIGHT = 5;
+
+    private static final Comparator<Ranked> BEST_FIRST =
+            Comparator.comparingDouble(Ranked::score).reversed()
+                    .thenComparing(Ranked::count, Comparator.reverseOrder())
+                    .thenComparing(Ranked::skillId, Comparator.reverseOrder());
+
+    private final Map<Long, Ranked> bySkill = new ConcurrentHashMap<>();
+    private final NavigableSet<Ranked> order = new ConcurrentSkipListSet<>(BEST_FIRST);
+
+    // Seeded with the start time so it never repeats after a restart (ETags)
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public RatingSummaryResponse get(Long skillId) {
+        Ranked ranked = bySkill.get(skillId);
+        return ranked != null ? ranked.summary() : ReviewMapper.emptySummary();
+    }
+
+    // Rated skills, best first. Weakly consistent: a rating changing mid-walk may be seen in either place.
+    public Iterable<Long> bestRated() {
+        return () -> order.stream().map(Ranked::skillId).iterator();
+    }
+
+    public synchronized void put(Long skillId, RatingSummaryResponse summary) {
+        Ranked ranked = rank(skillId, summary);
+        Ranked previous = bySkill.put(skillId, ranked);
+        if (previous != null) {
+            order.remove(previous);
+        }
+        order.add(ranked);
+        version.incrementAndGet();
+    }
+
+    public synchronized void replaceAll(Map<Long, RatingSummaryResponse> all) {
+        bySkill.keySet().retainAll(all.keySet());
+        all.forEach((skillId, summary) -> bySkill.put(skillId, rank(skillId, summary)));
+        // Drop entries replaced or removed above (identity: each put creates a new Ranked)
+        order.removeIf(ranked -> bySkill.get(ranked.skillId()) != ranked);
+        order.addAll(bySkill.values());
+        version.incrementAndGet();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    private static Ranked rank(Long skillId, RatingSummaryResponse summary) {
+        double score = (summary.getAverage() * summary.getCount() + PRIOR_MEAN * PRIOR_WEIGHT)
+                / (summary.getCount() + PRIOR_WEIGHT);
+        return new Ranked(skillId, score, summary.getCount(), summary);
+    }
+
+    private record Ranked(Long skillId, double score, long count, RatingSummaryResponse summary) {
+    }
+}
@@ -0,0 +1,178 @@
+package com.backend.skillswap.cache;
+
+import com.backend.skillswap.events.BookingEvent;
+import com.backend.skillswap.events.BookingSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+// Next N upcoming sessions per active user (home screen), kept in an LRU map.
+// Filled lazily from the database on a miss, then patched in place by booking events after commit,
+// so repeat reads never reach MySQL. Inactive users fall out once maxUsers is exceeded.
+@Component
+public class UpcomingTimelineCache {
+
+    public enum Side { REQUESTER, PROVIDER }
+
+    private static final Comparator<BookingSnapshot> BY_START =
+            Comparator.comparing(BookingSnapshot::startTime).thenComparing(BookingSnapshot::bookingId);
+
+    private final int sessionsPerUser;
+    private final Map<Key, Timeline> timelines;
+
+    public UpcomingTimelineCache(
+            @Value("${skillswap.timeline.sessions-per-user:50}") int sessionsPerUser,
+            @Value("${skillswap.timeline.max-users:10000}") int maxUsers
+    ) {
+        this.sessionsPerUser = sessionsPerUser;
+        // access-order LinkedHashMap = LRU; guarded by its own monitor
+        this.timelines = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Timeline> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    // ================= READ =================
+    // loader(limit) must return up to `limit` upcoming sessions ordered by start time
+    public List<BookingSnapshot> get(Long userId, Side side, IntFunction<List<BookingSnapshot>> loader) {
+
+        Key key = new Key(userId, side);
+        LocalDateTime now = LocalDateTime.now();
+        Timeline placeholder;
+
+        synchronized (timelines) {
+            Timeline timeline = timelines.get(key);
+
+            if (timeline != null && !timeline.loading) {
+                timeline.items.removeIf(item -> !isUpcoming(item, side, now));
+
+                // Still trustworthy: either we hold everything, or a full window of the next N
+                if (timeline.complete || timeline.items.size() >= sessionsPerUser) {
+                    return List.copyOf(timeline.items);
+                }
+                timelines.remove(key);
+                timeline = null;
+            }
+
+            // Someone else is loading this key → read through without caching
+            if (timeline != null) {
+                return List.copyOf(loader.apply(sessionsPerUser));
+            }
+
+            placeholder = new Timeline();
+            timelines.put(key, placeholder);
+        }
+
+        // Database read outside the lock; one extra row tells us whether the window is complete
+        List<BookingSnapshot> loaded;
+        try {
+            loaded = loader.apply(sessionsPerUser + 1);
+        } catch (RuntimeException e) {
+            synchronized (timelines) {
+                timelines.remove(key, placeholder);
+            }
+            throw e;
+        }
+
+        boolean complete = loaded.size() <= sessionsPerUser;
+        List<BookingSnapshot> items = new ArrayList<>(complete ? loaded : loaded.subList(0, sessionsPerUser));
+
+        synchronized (timelines) {
+            // An event landed while we were reading → our rows may be stale, don't cache them
+            if (timelines.get(key) == placeholder && !placeholder.dirty) {
+                placeholder.items = items;
+                placeholder.complete = complete;
+                placeholder.loading = false;
+            } else {
+                timelines.remove(key, placeholder);
+            }
+        }
+
+        return List.copyOf(items);
+    }
+
+    // ================= UPDATE (after commit) =================
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingEvent(BookingEvent event) {
+        BookingSnapshot booking = event.booking();
+        LocalDateTime now = LocalDateTime.now();
+
+        synchronized (timelines) {
+            apply(new Key(booking.requesterId(), Side.REQUESTER), booking, now);
+            apply(new Key(booking.providerId(), Side.PROVIDER), booking, now);
+        }
+    }
+
+    public void evictAll() {
+        synchronized (timelines) {
+            timelines.clear();
+        }
+    }
+
+    // ================= HELPERS =================
+    private void apply(Key key, BookingSnapshot booking, LocalDateTime now) {
+
+        Timeline timeline = timelines.get(key);
+        if (timeline == null) {
+            return;   // not cached → next read loads fresh
+        }
+        if (timeline.loading) {
+            timeline.dirty = true;
+            return;
+        }
+
+        timeline.items.removeIf(item -> item.bookingId().equals(booking.bookingId()));
+
+        if (!isUpcoming(booking, key.side(), now)) {
+            return;
+        }
+
+        // Beyond the cached window of an incomplete timeline → the database still owns it
+        if (!timeline.complete && !timeline.items.isEmpty()
+                && BY_START.compare(booking, timeline.items.get(timeline.items.size() - 1)) > 0) {
+            return;
+        }
+
+        int index = 0;
+        while (index < timeline.items.size() && BY_START.compare(timeline.items.get(index), booking) < 0) {
+            index++;
+        }
+        timeline.items.add(index, booking);
+
+        if (timeline.items.size() > sessionsPerUser) {
+            timeline.items.remove(timeline.items.size() - 1);
+            timeline.complete = false;
+        }
+    }
+
+    // Same rules as BookingRepository.findUpcomingBookingsFor{Requester,Provider}
+    private static boolean isUpcoming(BookingSnapshot booking, Side side, LocalDateTime now) {
+        return switch (booking.status()) {
+            case PENDING -> side == Side.REQUESTER;
+            case CONFIRMED -> booking.startTime().isAfter(now);
+            case IN_PROGRESS -> booking.endTime().isAfter(now);
+            default -> false;
+        };
+    }
+
+    private record Key(Long userId, Side side) {
+    }
+
+    private static final class Timeline {
+        List<BookingSnapshot> items = new ArrayList<>();
+        boolean complete;
+        boolean loading = true;
+        boolean dirty;
+    }
+}
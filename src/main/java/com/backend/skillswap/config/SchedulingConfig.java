@@ -0,0 +1,12 @@
+package com.backend.skillswap.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Turns on @Scheduled jobs. They run on Boot's dedicated task scheduler pool
+// (spring.task.scheduling.*), separate from the @Async executor.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -3,9 +3,11 @@ package com.backend.skillswap.config;
 import com.backend.skillswap.security.CustomAccessDeniedHandler;
 import com.backend.skillswap.security.CustomAuthenticationEntryPoint;
 import com.backend.skillswap.security.JWT.JwtFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -14,6 +16,11 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -25,6 +32,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // Server-sent event endpoints: the response completes on an ASYNC dispatch without the JWT filter
+    private static final List<String> SSE_STREAMS = List.of("/api/skill-requests/messages/stream");
+
     private final JwtFilter jwtFilter;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;   // Handles 401
     private final CustomAccessDeniedHandler accessDeniedHandler;             // Handles 403
@@ -52,6 +62,10 @@ public class SecurityConfig {
                 // Authorization rules
                 .authorizeHttpRequests(auth -> auth
 
+                        // Async re-dispatch of an SSE stream (JWT already checked on the original request).
+                        // Only the stream endpoints: any other async dispatch is authorized like a normal request
+                        .requestMatchers(sseAsyncDispatch()).permitAll()
+
                         // Public endpoints
                         .requestMatchers(
                                 "/api/auth/**",
@@ -89,6 +103,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // ASYNC dispatch of one of the SSE_STREAMS endpoints
+    private static RequestMatcher sseAsyncDispatch() {
+        RequestMatcher[] streams = SSE_STREAMS.stream()
+                .map(path -> PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, path))
+                .toArray(RequestMatcher[]::new);
+        return new AndRequestMatcher(
+                new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+                new OrRequestMatcher(streams)
+        );
+    }
+
     // Used internally by Spring Security during authentication
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -0,0 +1,42 @@
+package com.backend.skillswap.controller.Public;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Conditional GET for public endpoints.
+// The ETag comes from a cheap version stamp, so a matching If-None-Match answers 304
+// before the service builds (or Jackson serialises) the body.
+final class ConditionalGet {
+
+    // Skill lists change often → short freshness, revalidation is a 304 anyway
+    static final CacheControl SKILLS = CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic();
+
+    static final CacheControl PROFILE = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private ConditionalGet() {
+    }
+
+    // etag == null → resource has no stamp (e.g. not found), fall through to the service
+    static <T> ResponseEntity<T> respond(WebRequest request, String etag, CacheControl cacheControl, Supplier<T> body) {
+
+        if (etag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        // checkNotModified already writes the ETag header (on 200 and 304), so the entities below don't repeat it
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(body.get());
+    }
+}
@@ -1,15 +1,27 @@
 package com.backend.skillswap.controller.Public;
 
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.response.ReviewResponse;
+import com.backend.skillswap.dto.response.SkillBrowseResponse;
+import com.backend.skillswap.dto.response.SkillNearbyResponse;
+import com.backend.skillswap.dto.response.SkillSearchResponse;
 import com.backend.skillswap.dto.response.UserSkillResponse;
 import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.entity.enums.SkillLevel;
+import com.backend.skillswap.search.SkillFacetFilter;
+import com.backend.skillswap.search.SkillSort;
+import com.backend.skillswap.service.ReviewService;
 import com.backend.skillswap.service.UserSkillService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
 
 
 @Tag(
@@ -19,9 +31,15 @@ import java.util.List;
 
 Anyone can:
 • View verified skills
-• Search skills
+• Search skills (+ typeahead suggestions)
 • Filter by category
+• Browse with facets (category, level, rate, experience) and counts, newest or best rated first
+• Read reviews of a skill
+• See what learners of a skill also booked
+• Find skills offered near a location
 • View public profile skills
+
+Skill lists carry an ETag; send it back as If-None-Match to get 304 while the catalog is unchanged.
 """
 )
 @RestController
@@ -30,35 +48,133 @@ Anyone can:
 public class PublicSkillController {
 
     private final UserSkillService userSkillService;
+    private final ReviewService reviewService;
 
     // ================= GET ALL VERIFIED SKILLS =================
     @Operation(summary = "Get all verified skills")
     @GetMapping("/verified")
-    public ResponseEntity<List<UserSkillResponse>> getAllVerifiedSkills() {
-        return ResponseEntity.ok(
-                userSkillService.getAllVerifiedSkills()
-        );
+    public ResponseEntity<List<UserSkillResponse>> getAllVerifiedSkills(WebRequest request) {
+        return ConditionalGet.respond(request, catalogETag("verified"), ConditionalGet.SKILLS,
+                userSkillService::getAllVerifiedSkills);
     }
 
     // ================= GET USER PUBLIC SKILLS =================
     @Operation(summary = "Get verified skills of a user (Public profile)")
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<UserSkillResponse>> getUserSkills(
-            @PathVariable Long userId
+            @PathVariable Long userId,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(
-                userSkillService.getUserSkills(userId)
-        );
+        return ConditionalGet.respond(request, catalogETag("user-" + userId), ConditionalGet.SKILLS,
+                () -> userSkillService.getUserSkills(userId));
     }
 
     // ================= SEARCH SKILLS =================
-    @Operation(summary = "Search verified skills by keyword")
+    @Operation(
+            summary = "Search verified skills by keyword",
+            description = """
+Matches title and description, best match first. Empty keyword → newest skills.
+fuzzy=true tolerates typos in title words ("pyhton"); a keyword without exact hits falls back to it automatically.
+"""
+    )
     @GetMapping("/search")
-    public ResponseEntity<List<UserSkillResponse>> searchSkills(
-            @RequestParam(required = false) String keyword
+    public ResponseEntity<SkillSearchResponse> searchSkills(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean fuzzy
+    ) {
+        return ResponseEntity.ok(
+                userSkillService.searchSkills(keyword, page, size, fuzzy)
+        );
+    }
+
+    // ================= AUTOCOMPLETE =================
+    @Operation(
+            summary = "Autocomplete skill titles",
+            description = "Top titles (by popularity) with a word starting with the prefix. Meant for every keystroke."
+    )
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int limit
     ) {
         return ResponseEntity.ok(
-                userSkillService.searchSkills(keyword)
+                userSkillService.autocompleteTitles(prefix, limit)
+        );
+    }
+
+    // ================= FACETED BROWSE =================
+    @Operation(
+            summary = "Browse verified skills with filters and facet counts",
+            description = "Repeat category / level to select several values. Facet counts ignore their own facet's selection."
+    )
+    @GetMapping("/browse")
+    public ResponseEntity<SkillBrowseResponse> browseSkills(
+            @RequestParam(required = false) Set<SkillCategory> category,
+            @RequestParam(required = false) Set<SkillLevel> level,
+            @RequestParam(required = false) BigDecimal minRate,
+            @RequestParam(required = false) BigDecimal maxRate,
+            @RequestParam(required = false) Integer minExperience,
+            @RequestParam(required = false) Integer maxExperience,
+            @RequestParam(defaultValue = "NEWEST") SkillSort sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                userSkillService.browseSkills(
+                        new SkillFacetFilter(category, level, minRate, maxRate, minExperience, maxExperience),
+                        sort, page, size)
+        );
+    }
+
+    // ================= NEARBY =================
+    @Operation(
+            summary = "Verified skills offered near a location",
+            description = "Providers who shared coordinates on their profile, within radiusKm (max 100), nearest first. Items carry distanceKm, measured to the provider's ~1 km geohash cell, not their exact position."
+    )
+    @GetMapping("/nearby")
+    public ResponseEntity<SkillNearbyResponse> getNearbySkills(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) SkillCategory category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                userSkillService.getNearbySkills(lat, lon, radiusKm, category, page, size)
+        );
+    }
+
+    // ================= SKILL REVIEWS =================
+    @Operation(
+            summary = "Reviews of a skill",
+            description = "Newest first. Pass nextCursor from the previous page as cursor."
+    )
+    @GetMapping("/{skillId}/reviews")
+    public ResponseEntity<CursorPageResponse<ReviewResponse>> getSkillReviews(
+            @PathVariable Long skillId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                reviewService.getSkillReviews(skillId, cursor, size)
+        );
+    }
+
+    // ================= ALSO BOOKED =================
+    @Operation(
+            summary = "Learners who booked this skill also booked",
+            description = "Most related skills first, by learners shared between the two. Refreshed every few minutes."
+    )
+    @GetMapping("/{skillId}/also-booked")
+    public ResponseEntity<List<UserSkillResponse>> getAlsoBooked(
+            @PathVariable Long skillId,
+            @RequestParam(defaultValue = "6") int limit
+    ) {
+        return ResponseEntity.ok(
+                userSkillService.getAlsoBooked(skillId, limit)
         );
     }
 
@@ -66,10 +182,16 @@ public class PublicSkillController {
     @Operation(summary = "Get verified skills by category")
     @GetMapping("/category/{category}")
     public ResponseEntity<List<UserSkillResponse>> getSkillsByCategory(
-            @PathVariable SkillCategory category
+            @PathVariable SkillCategory category,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(
-                userSkillService.getSkillsByCategory(category)
-        );
+        return ConditionalGet.respond(request, catalogETag("category-" + category.name()), ConditionalGet.SKILLS,
+                () -> userSkillService.getSkillsByCategory(category));
+    }
+
+    // ================= HELPERS =================
+    // Any committed skill change or provider stats update changes the version → every list tag changes with it
+    private String catalogETag(String scope) {
+        return "\"skills-" + scope + "-" + userSkillService.getCatalogVersion() + "\"";
     }
 }
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/public/users")
@@ -23,9 +24,13 @@ public class PublicUserProfileController {
 
     private final UserProfileService profileService;
 
-    @Operation(summary = "Get public profile of a user")
+    @Operation(
+            summary = "Get public profile of a user",
+            description = "Supports If-None-Match: an unchanged profile answers 304 without a body"
+    )
     @GetMapping("/{userId}")
-    public ResponseEntity<UserProfileResponse> getPublicProfile(@PathVariable Long userId) {
-        return ResponseEntity.ok(profileService.getPublicProfile(userId));
+    public ResponseEntity<UserProfileResponse> getPublicProfile(@PathVariable Long userId, WebRequest request) {
+        return ConditionalGet.respond(request, profileService.getPublicProfileETag(userId), ConditionalGet.PROFILE,
+                () -> profileService.getPublicProfile(userId));
     }
 }
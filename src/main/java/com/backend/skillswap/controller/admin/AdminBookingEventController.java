@@ -0,0 +1,82 @@
+package com.backend.skillswap.controller.admin;
+
+import com.backend.skillswap.config.OpenApiConfig;
+import com.backend.skillswap.dto.response.BookingEventLogResponse;
+import com.backend.skillswap.dto.response.ProjectionReplayResponse;
+import com.backend.skillswap.service.BookingEventLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/booking-events")
+@RequiredArgsConstructor
+@Tag(
+        name = "18. Admin Booking Event Log APIs",
+        description = """
+📜 Append-only booking event log
+
+✔ Read the log by sequence number
+✔ View the full history of a booking
+✔ Replay the log to rebuild read-side projections
+"""
+)
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminBookingEventController {
+
+    private final BookingEventLogService bookingEventLogService;
+
+    // ======================= READ LOG ======================= //
+
+    @Operation(
+            summary = "Read booking events after a sequence number",
+            description = "Returns events in sequence order, only once they are ~10 s old (so no event can commit behind your cursor). Pass the last sequenceNumber you saw to continue."
+    )
+    @GetMapping
+    public ResponseEntity<List<BookingEventLogResponse>> readEvents(
+            @RequestParam(defaultValue = "0") Long afterSequence,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        return ResponseEntity.ok(bookingEventLogService.readAfter(afterSequence, size));
+    }
+
+    @Operation(summary = "Get full event history of a booking")
+    @GetMapping("/booking/{bookingId}")
+    public ResponseEntity<List<BookingEventLogResponse>> getBookingHistory(@PathVariable Long bookingId) {
+        return ResponseEntity.ok(bookingEventLogService.getBookingHistory(bookingId));
+    }
+
+    // ======================= PROJECTIONS ======================= //
+
+    @Operation(summary = "List registered read-side projections")
+    @GetMapping("/projections")
+    public ResponseEntity<List<String>> getProjections() {
+        return ResponseEntity.ok(bookingEventLogService.getProjectionNames());
+    }
+
+    @Operation(
+            summary = "Replay the event log into a projection",
+            description = "fromSequence = 0 rebuilds the projection from scratch; otherwise only newer events are folded in. "
+                    + "Projections with bounded state (provider-booking-stats) are always rebuilt from scratch"
+    )
+    @PostMapping("/projections/{name}/replay")
+    public ResponseEntity<ProjectionReplayResponse> replay(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "0") Long fromSequence
+    ) {
+        return ResponseEntity.ok(bookingEventLogService.replay(name, fromSequence));
+    }
+
+    @Operation(summary = "Rebuild all projections from the event log")
+    @PostMapping("/projections/replay")
+    public ResponseEntity<List<ProjectionReplayResponse>> replayAll() {
+        return ResponseEntity.ok(bookingEventLogService.replayAll());
+    }
+}
@@ -2,11 +2,16 @@ package com.backend.skillswap.controller.admin;
 
 import com.backend.skillswap.config.OpenApiConfig;
 import com.backend.skillswap.dto.common.ApiMessageResponse;
+import com.backend.skillswap.dto.common.BulkOperationResponse;
+import com.backend.skillswap.dto.request.SkillModerationRequest;
+import com.backend.skillswap.dto.response.CacheStatsResponse;
+import com.backend.skillswap.dto.response.SkillClusterResponse;
 import com.backend.skillswap.dto.response.UserSkillResponse;
 import com.backend.skillswap.service.UserSkillService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,8 +29,10 @@ import java.util.List;
 
 ✔ Verify skills
 ✔ Reject / disable skills
-✔ View unverified skills
+✔ Verify / reject up to 500 skills in one call (owners are mailed in the background)
+✔ View unverified skills (also grouped into near-duplicate clusters)
 ✔ View all skills of a user
+✔ Inspect the public catalog cache
 """
 )
 @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
@@ -62,6 +69,19 @@ public class AdminSkillController {
         );
     }
 
+    // ======================= BULK MODERATION ======================= //
+
+    @Operation(
+            summary = "Verify / reject many skills at once",
+            description = "Per-id outcome in request order; ids that are missing or already in the target state are reported, not failed"
+    )
+    @PatchMapping("/moderate")
+    public ResponseEntity<BulkOperationResponse> moderateSkills(@Valid @RequestBody SkillModerationRequest request) {
+        return ResponseEntity.ok(
+                userSkillService.moderateSkills(request)
+        );
+    }
+
     // ======================= GET UNVERIFIED SKILLS ======================= //
 
     @Operation(summary = "Get all unverified skills")
@@ -72,6 +92,21 @@ public class AdminSkillController {
         );
     }
 
+    // ======================= UNVERIFIED SKILL CLUSTERS ======================= //
+
+    @Operation(
+            summary = "Get unverified skills grouped by near-duplicates",
+            description = "Similar title + description (MinHash), biggest cluster first. minSize=2 hides skills without look-alikes; pass skillIds to /moderate to act on a cluster"
+    )
+    @GetMapping("/unverified/clusters")
+    public ResponseEntity<List<SkillClusterResponse>> getUnverifiedSkillClusters(
+            @RequestParam(defaultValue = "1") int minSize
+    ) {
+        return ResponseEntity.ok(
+                userSkillService.getUnverifiedSkillClusters(minSize)
+        );
+    }
+
     // ======================= GET ALL SKILLS OF USER ======================= //
 
     @Operation(summary = "Get all skills of a user")
@@ -83,4 +118,17 @@ public class AdminSkillController {
                 userSkillService.getAllSkillsOfUser(userId)
         );
     }
+
+    // ======================= CATALOG CACHE STATS ======================= //
+
+    @Operation(
+            summary = "Public skill catalog cache stats",
+            description = "Hits, misses, evictions and memory weight of the cache behind the public skill lists"
+    )
+    @GetMapping("/catalog-cache")
+    public ResponseEntity<CacheStatsResponse> getCatalogCacheStats() {
+        return ResponseEntity.ok(
+                userSkillService.getCatalogCacheStats()
+        );
+    }
 }
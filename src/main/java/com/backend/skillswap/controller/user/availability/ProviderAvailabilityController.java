@@ -0,0 +1,110 @@
+package com.backend.skillswap.controller.user.availability;
+
+import com.backend.skillswap.dto.request.AvailabilityExceptionRequest;
+import com.backend.skillswap.dto.request.AvailabilityRuleRequest;
+import com.backend.skillswap.dto.response.AvailabilityExceptionResponse;
+import com.backend.skillswap.dto.response.AvailabilityRuleResponse;
+import com.backend.skillswap.dto.response.DayAvailabilityResponse;
+import com.backend.skillswap.service.AuthService;
+import com.backend.skillswap.service.ProviderAvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(
+        name = "19. Provider Availability APIs",
+        description = """
+Working hours for PROVIDERS.
+
+PROVIDER can:
+• Set weekly working hours (quarter-hour windows)
+• Add date exceptions (day off, extra slot)
+
+Anyone logged in can:
+• View a provider's bookable windows for a date
+
+Bookings outside working hours are rejected before any overlap check.
+"""
+)
+@SecurityRequirement(name = "BearerAuth")
+@RestController
+@RequestMapping("/api/provider/availability")
+@RequiredArgsConstructor
+public class ProviderAvailabilityController {
+
+    private final ProviderAvailabilityService availabilityService;
+    private final AuthService authService;
+
+    // ================= WEEKLY RULES =================
+    @Operation(summary = "Get my weekly working hours")
+    @PreAuthorize("hasRole('PROVIDER')")
+    @GetMapping("/rules")
+    public ResponseEntity<List<AvailabilityRuleResponse>> getWeeklyRules() {
+        return ResponseEntity.ok(availabilityService.getWeeklyRules(authService.getCurrentUser()));
+    }
+
+    @Operation(
+            summary = "Replace my weekly working hours",
+            description = "Replaces all weekly rules. Send an empty list to be bookable at any time."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Working hours updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid or unaligned time window")
+    })
+    @PreAuthorize("hasRole('PROVIDER')")
+    @PutMapping("/rules")
+    public ResponseEntity<List<AvailabilityRuleResponse>> replaceWeeklyRules(
+            @RequestBody List<@Valid AvailabilityRuleRequest> rules
+    ) {
+        return ResponseEntity.ok(availabilityService.replaceWeeklyRules(authService.getCurrentUser(), rules));
+    }
+
+    // ================= DATE EXCEPTIONS =================
+    @Operation(summary = "Get my upcoming date exceptions")
+    @PreAuthorize("hasRole('PROVIDER')")
+    @GetMapping("/exceptions")
+    public ResponseEntity<List<AvailabilityExceptionResponse>> getExceptions() {
+        return ResponseEntity.ok(availabilityService.getUpcomingExceptions(authService.getCurrentUser()));
+    }
+
+    @Operation(
+            summary = "Add a date exception",
+            description = "available=false blocks the window (or whole day); available=true adds an extra window"
+    )
+    @PreAuthorize("hasRole('PROVIDER')")
+    @PostMapping("/exceptions")
+    public ResponseEntity<AvailabilityExceptionResponse> addException(
+            @Valid @RequestBody AvailabilityExceptionRequest request
+    ) {
+        return ResponseEntity.ok(availabilityService.addException(authService.getCurrentUser(), request));
+    }
+
+    @Operation(summary = "Delete a date exception")
+    @PreAuthorize("hasRole('PROVIDER')")
+    @DeleteMapping("/exceptions/{exceptionId}")
+    public ResponseEntity<Void> deleteException(@PathVariable Long exceptionId) {
+        availabilityService.deleteException(authService.getCurrentUser(), exceptionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // ================= COMPILED VIEW =================
+    @Operation(summary = "Get a provider's working windows for a date")
+    @GetMapping("/{providerId}")
+    public ResponseEntity<DayAvailabilityResponse> getDayAvailability(
+            @PathVariable Long providerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        return ResponseEntity.ok(availabilityService.getDayAvailability(providerId, date));
+    }
+}
@@ -1,6 +1,9 @@
 package com.backend.skillswap.controller.user.booking;
 
+import com.backend.skillswap.dto.common.BulkOperationResponse;
+import com.backend.skillswap.dto.request.BulkIdsRequest;
 import com.backend.skillswap.dto.response.BookingResponse;
+import com.backend.skillswap.dto.response.ProviderBookingStatsResponse;
 import com.backend.skillswap.entity.UserEntity;
 import com.backend.skillswap.entity.enums.BookingStatus;
 import com.backend.skillswap.mapper.BookingMapper;
@@ -13,6 +16,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -30,11 +34,12 @@ import java.util.List;
 Booking APIs for PROVIDERS (skill owner).
 
 PROVIDER can:
-• Confirm booking requests
+• Confirm booking requests (one by one or in bulk)
 • Start and complete sessions
 • View upcoming & past bookings
 • View bookings in date range
 • Check availability for a time slot
+• View dashboard stats
 """
 )
 public class ProviderBookingController {
@@ -77,6 +82,32 @@ Effects:
         return bookingService.confirmBooking(bookingId, provider);
     }
 
+    // ================= BULK CONFIRM ===============================
+    @Operation(
+            summary = "Confirm multiple bookings",
+            description = """
+Confirms up to 100 PENDING bookings in one call.
+
+Effects:
+• Requester wallet balance checked once per requester for the combined amount
+• Earliest bookings are confirmed first when the balance does not cover all of them
+• Escrow transactions are created together in one transaction
+• Returns an outcome per booking (CONFIRMED, NOT_FOUND, INVALID_STATUS, ESCROW_EXISTS, INSUFFICIENT_BALANCE)
+"""
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Bulk confirmation processed",
+                    content = @Content(schema = @Schema(implementation = BulkOperationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or too many ids"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PreAuthorize("hasRole('PROVIDER')")
+    @PostMapping("/confirm/bulk")
+    public BulkOperationResponse confirmBookings(@Valid @RequestBody BulkIdsRequest request) {
+        UserEntity provider = authService.getCurrentUser();
+        return bookingService.confirmBookings(request.getIds(), provider);
+    }
+
     // ======================== START BOOKING ==================
     @Operation(
             summary = "Start booking session",
@@ -128,7 +159,8 @@ Effects:
     @Operation(
             summary = "Get upcoming bookings",
             description = """
-Fetch all upcoming bookings for the logged-in PROVIDER.
+Fetch the next upcoming bookings (up to 50) for the logged-in PROVIDER.
+Served from an in-memory timeline kept current by booking events.
 
 Includes:
 • CONFIRMED
@@ -140,9 +172,7 @@ Includes:
     @GetMapping("/upcoming")
     public List<BookingResponse> upcomingBookings() {
         UserEntity provider = authService.getCurrentUser();
-        return bookingService.getUpcomingBookingsForProvider(provider).stream()
-                .map(BookingMapper::toResponse)
-                .toList();
+        return bookingService.getUpcomingTimelineForProvider(provider);
     }
 
     // ======================== PAST BOOKINGS =====================
@@ -211,4 +241,21 @@ Use case:
         UserEntity provider = authService.getCurrentUser();  // logged-in provider
         return bookingService.isSlotAvailable(provider, start, end);
     }
+
+    // ================= DASHBOARD STATS =============
+    @Operation(
+            summary = "Get my booking dashboard stats",
+            description = """
+Booking counts per status and completed earnings for the logged-in PROVIDER.
+
+Served from the booking event log projection (no scan of the bookings table).
+"""
+    )
+    @ApiResponse(responseCode = "200", description = "Stats fetched successfully")
+    @PreAuthorize("hasRole('PROVIDER')")
+    @GetMapping("/stats")
+    public ProviderBookingStatsResponse bookingStats() {
+        UserEntity provider = authService.getCurrentUser();
+        return bookingService.getProviderBookingStats(provider);
+    }
 }
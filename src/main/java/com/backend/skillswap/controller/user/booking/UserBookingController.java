@@ -82,7 +82,8 @@ Rules:
     @Operation(
             summary = "Get upcoming bookings",
             description = """
-Fetch all upcoming bookings for the logged-in USER.
+Fetch the next upcoming bookings (up to 50) for the logged-in USER.
+Served from an in-memory timeline kept current by booking events.
 
 Includes:
 • PENDING
@@ -96,9 +97,7 @@ Includes:
     @GetMapping("/upcoming")
     public List<BookingResponse> upcomingBookings() {
         UserEntity user = authService.getCurrentUser();
-        return bookingService.getUpcomingBookingsForRequester(user).stream()
-                .map(BookingMapper::toResponse)
-                .toList();
+        return bookingService.getUpcomingTimelineForRequester(user);
     }
 
     // ====================== PAST BOOKINGS =================
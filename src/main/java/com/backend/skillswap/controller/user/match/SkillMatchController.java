@@ -0,0 +1,86 @@
+package com.backend.skillswap.controller.user.match;
+
+import com.backend.skillswap.dto.request.WantedSkillRequest;
+import com.backend.skillswap.dto.response.SkillMatchResponse;
+import com.backend.skillswap.dto.response.WantedSkillResponse;
+import com.backend.skillswap.service.AuthService;
+import com.backend.skillswap.service.SkillMatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(
+        name = "22. Skill Swap Matching APIs",
+        description = """
+Find people to swap skills with.
+
+User can:
+• Declare wanted skills (category + optional title word, e.g. PROGRAMMING / "python")
+• Remove / list wanted skills
+• See matches: users who teach what I want and want what I teach (pairs),
+  and 3-way swaps A → B → C → A
+
+Only verified, active skills count as "teaches".
+"""
+)
+@SecurityRequirement(name = "BearerAuth")
+@RestController
+@RequestMapping("/api/swap")
+@RequiredArgsConstructor
+public class SkillMatchController {
+
+    private final SkillMatchService skillMatchService;
+    private final AuthService authService;
+
+    // ================= ADD WANTED SKILL =================
+    @Operation(summary = "Add a wanted skill")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Wanted skill saved"),
+            @ApiResponse(responseCode = "400", description = "Invalid keyword or too many wanted skills"),
+            @ApiResponse(responseCode = "409", description = "Already on the wanted list")
+    })
+    @PostMapping("/wanted-skills")
+    public ResponseEntity<WantedSkillResponse> addWantedSkill(@Valid @RequestBody WantedSkillRequest request) {
+        return ResponseEntity.status(201)
+                .body(skillMatchService.addWantedSkill(authService.getCurrentUserId(), request));
+    }
+
+    // ================= REMOVE WANTED SKILL =================
+    @Operation(summary = "Remove a wanted skill")
+    @DeleteMapping("/wanted-skills/{wantedSkillId}")
+    public ResponseEntity<Void> removeWantedSkill(@PathVariable Long wantedSkillId) {
+        skillMatchService.removeWantedSkill(authService.getCurrentUserId(), wantedSkillId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // ================= MY WANTED SKILLS =================
+    @Operation(summary = "List my wanted skills")
+    @GetMapping("/wanted-skills")
+    public ResponseEntity<List<WantedSkillResponse>> getWantedSkills() {
+        return ResponseEntity.ok(
+                skillMatchService.getWantedSkills(authService.getCurrentUserId())
+        );
+    }
+
+    // ================= MATCHES =================
+    @Operation(
+            summary = "My swap matches",
+            description = "Mutual pairs first (strongest overlap first), then 3-way cycles. Each leg names the skill taught."
+    )
+    @GetMapping("/matches")
+    public ResponseEntity<List<SkillMatchResponse>> getMatches(
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(
+                skillMatchService.getMatches(authService.getCurrentUserId(), limit)
+        );
+    }
+}
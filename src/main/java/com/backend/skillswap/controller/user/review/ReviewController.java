@@ -0,0 +1,54 @@
+package com.backend.skillswap.controller.user.review;
+
+import com.backend.skillswap.dto.request.ReviewRequest;
+import com.backend.skillswap.dto.response.ReviewResponse;
+import com.backend.skillswap.service.AuthService;
+import com.backend.skillswap.service.ReviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(
+        name = "21. Review APIs",
+        description = """
+Ratings of completed sessions.
+
+Learner can:
+• Rate a completed booking (1–5 stars + optional comment), once per booking
+
+Skill and provider averages / histograms are shown on public skill cards;
+reviews of a skill are listed at /api/public/skills/{skillId}/reviews.
+"""
+)
+@SecurityRequirement(name = "BearerAuth")
+@RestController
+@RequestMapping("/api/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+
+    private final ReviewService reviewService;
+    private final AuthService authService;
+
+    // ================= CREATE REVIEW =================
+    @Operation(summary = "Review a completed booking")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Review saved"),
+            @ApiResponse(responseCode = "400", description = "Invalid rating / comment, not the learner, or booking not completed"),
+            @ApiResponse(responseCode = "404", description = "Booking not found"),
+            @ApiResponse(responseCode = "409", description = "Booking already reviewed")
+    })
+    @PostMapping("/bookings/{bookingId}")
+    public ResponseEntity<ReviewResponse> createReview(
+            @PathVariable Long bookingId,
+            @Valid @RequestBody ReviewRequest request
+    ) {
+        return ResponseEntity.status(201)
+                .body(reviewService.createReview(authService.getCurrentUser(), bookingId, request));
+    }
+}
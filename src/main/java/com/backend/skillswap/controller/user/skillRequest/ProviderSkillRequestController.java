@@ -1,6 +1,10 @@
 package com.backend.skillswap.controller.user.skillRequest;
 
+import com.backend.skillswap.dto.common.BulkOperationResponse;
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.request.SkillRequestDecisionRequest;
 import com.backend.skillswap.dto.response.SkillRequestResponse;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
 import com.backend.skillswap.service.AuthService;
 import com.backend.skillswap.service.SkillRequestService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,9 +26,10 @@ import java.util.List;
 Skill request APIs for PROVIDERS (skill owner).
 
 PROVIDER can:
-• View received requests
+• View received requests (inbox pages + pending badge)
 • Accept request
 • Reject request
+• Accept / reject many requests at once
 """
 )
 @SecurityRequirement(name = "BearerAuth")
@@ -53,6 +59,35 @@ public class ProviderSkillRequestController {
         );
     }
 
+    // ================= INBOX (CURSOR PAGES) =================
+    @Operation(
+            summary = "View my received requests page by page",
+            description = "Newest first. Pass nextCursor from the previous page as cursor; optional status filter."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page fetched successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/inbox")
+    public ResponseEntity<CursorPageResponse<SkillRequestResponse>> inbox(
+            @RequestParam(required = false) SkillRequestStatus status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                skillRequestService.myReceivedRequestsPage(currentUserId(), status, cursor, size)
+        );
+    }
+
+    // ================= PENDING BADGE =================
+    @Operation(summary = "Count my pending received requests")
+    @ApiResponse(responseCode = "200", description = "Pending count fetched successfully")
+    @GetMapping("/inbox/pending-count")
+    public ResponseEntity<Long> pendingCount() {
+        return ResponseEntity.ok(skillRequestService.countPendingReceived(currentUserId()));
+    }
+
     // ================= ACCEPT REQUEST =================
     @Operation(summary = "Accept skill request")
     @ApiResponses({
@@ -82,4 +117,26 @@ public class ProviderSkillRequestController {
                 skillRequestService.rejectRequest(currentUserId(), id)
         );
     }
+
+    // ================= BULK ACCEPT / REJECT =================
+    @Operation(
+            summary = "Accept and reject many requests at once",
+            description = """
+Applies decisions to up to 100 + 100 requests in one call.
+
+Only your own PENDING (not expired) requests are changed; every id gets an outcome:
+ACCEPTED, REJECTED or NOT_ACTIONABLE.
+"""
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Decisions applied"),
+            @ApiResponse(responseCode = "400", description = "No ids, too many ids, or an id in both lists"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PostMapping("/decisions")
+    public ResponseEntity<BulkOperationResponse> decide(@Valid @RequestBody SkillRequestDecisionRequest request) {
+        return ResponseEntity.ok(
+                skillRequestService.decideRequests(currentUserId(), request)
+        );
+    }
 }
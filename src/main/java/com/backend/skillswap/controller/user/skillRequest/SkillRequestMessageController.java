@@ -0,0 +1,88 @@
+package com.backend.skillswap.controller.user.skillRequest;
+
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.request.SkillRequestMessageRequest;
+import com.backend.skillswap.dto.response.SkillRequestMessageResponse;
+import com.backend.skillswap.service.AuthService;
+import com.backend.skillswap.service.SkillRequestMessageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(
+        name = "20. Skill Request Message APIs",
+        description = """
+Negotiation thread between learner and provider of a skill request.
+
+Learner and provider can:
+• Post messages while the request is live (PENDING / ACCEPTED / BOOKED)
+• Read the thread page by page (newest first)
+• Open one live stream (server-sent events) for new messages in all their threads
+"""
+)
+@SecurityRequirement(name = "BearerAuth")
+@RestController
+@RequestMapping("/api/skill-requests")
+@RequiredArgsConstructor
+public class SkillRequestMessageController {
+
+    private final SkillRequestMessageService messageService;
+    private final AuthService authService;
+
+    // ================= POST MESSAGE =================
+    @Operation(summary = "Post a message to a skill request thread")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Message posted"),
+            @ApiResponse(responseCode = "400", description = "Empty message or request closed"),
+            @ApiResponse(responseCode = "403", description = "Not a participant of this request"),
+            @ApiResponse(responseCode = "404", description = "Request not found")
+    })
+    @PostMapping("/{requestId}/messages")
+    public ResponseEntity<SkillRequestMessageResponse> postMessage(
+            @PathVariable Long requestId,
+            @Valid @RequestBody SkillRequestMessageRequest request
+    ) {
+        return ResponseEntity.status(201)
+                .body(messageService.postMessage(authService.getCurrentUser(), requestId, request));
+    }
+
+    // ================= THREAD (CURSOR PAGES) =================
+    @Operation(
+            summary = "Read a skill request thread page by page",
+            description = "Newest first. Pass nextCursor from the previous page as cursor."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page fetched successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size"),
+            @ApiResponse(responseCode = "403", description = "Not a participant of this request"),
+            @ApiResponse(responseCode = "404", description = "Request not found")
+    })
+    @GetMapping("/{requestId}/messages")
+    public ResponseEntity<CursorPageResponse<SkillRequestMessageResponse>> getThread(
+            @PathVariable Long requestId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                messageService.getThread(authService.getCurrentUserId(), requestId, cursor, size)
+        );
+    }
+
+    // ================= LIVE STREAM =================
+    @Operation(
+            summary = "Stream new messages of all my threads",
+            description = "Server-sent events; each 'skill-request-message' event carries one message. Reconnect when the stream ends."
+    )
+    @GetMapping(value = "/messages/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return messageService.subscribe(authService.getCurrentUserId());
+    }
+}
@@ -2,7 +2,9 @@ package com.backend.skillswap.controller.user.skillRequest;
 
 
 import com.backend.skillswap.dto.request.SkillRequestRequest;
+import com.backend.skillswap.dto.common.CursorPageResponse;
 import com.backend.skillswap.dto.response.SkillRequestResponse;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
 import com.backend.skillswap.service.AuthService;
 import com.backend.skillswap.service.SkillRequestService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,7 +27,7 @@ Skill request APIs for USERS (request sender).
 
 USER can:
 • Send skill request
-• View sent requests
+• View sent requests (outbox pages + pending badge)
 • Cancel own pending request
 """
 )
@@ -59,6 +61,35 @@ public class UserSkillRequestController {
                 .body(skillRequestService.sendRequest(currentUserId(), request));
     }
 
+    // ================= OUTBOX (CURSOR PAGES) =================
+    @Operation(
+            summary = "View my sent requests page by page",
+            description = "Newest first. Pass nextCursor from the previous page as cursor; optional status filter."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page fetched successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/outbox")
+    public ResponseEntity<CursorPageResponse<SkillRequestResponse>> outbox(
+            @RequestParam(required = false) SkillRequestStatus status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(
+                skillRequestService.mySentRequestsPage(currentUserId(), status, cursor, size)
+        );
+    }
+
+    // ================= PENDING BADGE =================
+    @Operation(summary = "Count my pending sent requests")
+    @ApiResponse(responseCode = "200", description = "Pending count fetched successfully")
+    @GetMapping("/outbox/pending-count")
+    public ResponseEntity<Long> pendingCount() {
+        return ResponseEntity.ok(skillRequestService.countPendingSent(currentUserId()));
+    }
+
     // ================= VIEW SENT REQUESTS =================
     @Operation(summary = "View my sent requests")
     @ApiResponses({
@@ -2,17 +2,25 @@ package com.backend.skillswap.controller.user.userSkill;
 
 import com.backend.skillswap.dto.common.ApiMessageResponse;
 import com.backend.skillswap.dto.request.UserSkillRequest;
+import com.backend.skillswap.dto.response.SkillImportResponse;
 import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.importer.SkillImportFormat;
 import com.backend.skillswap.service.AuthService;
+import com.backend.skillswap.service.SkillImportService;
 import com.backend.skillswap.service.UserSkillService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 
@@ -23,6 +31,7 @@ import java.util.List;
 
 Any authenticated USER & Provider can: 
 • Add a new skill
+• Import many skills from a CSV / NDJSON file
 • Update own skill
 • Soft delete own skill
 • Restore deleted skill
@@ -39,7 +48,11 @@ Note:
 @PreAuthorize("hasAnyRole('USER','PROVIDER')")
 public class UserSkillController {
 
+    private static final String TEXT_CSV = "text/csv";
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private final UserSkillService userSkillService;
+    private final SkillImportService skillImportService;
     private final AuthService authService;
 
     // Extract logged-in userId from JWT
@@ -57,6 +70,28 @@ public class UserSkillController {
                 .body(userSkillService.addSkill(currentUserId(), request));
     }
 
+    // ================= IMPORT SKILLS =================
+    @Operation(
+            summary = "Import skills from a file",
+            description = """
+Raw request body, streamed row by row (up to 1000 rows).
+text/csv: header row with title, description, category, level, experienceYears, hourlyRate.
+application/x-ndjson: one skill JSON object per line (same fields as Add skill).
+Returns a per-row report; valid rows are saved even if others fail. Imported skills await admin verification.
+"""
+    )
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    public ResponseEntity<SkillImportResponse> importSkills(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) {
+        SkillImportFormat format = MediaType.valueOf(TEXT_CSV).isCompatibleWith(contentType) ? SkillImportFormat.CSV : SkillImportFormat.NDJSON;
+        return ResponseEntity.ok(
+                skillImportService.importSkills(currentUserId(), format, body,
+                        contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8)
+        );
+    }
+
     // ================= UPDATE SKILL =================
     @Operation(summary = "Update own skill")
     @PutMapping("/{skillId}")
@@ -0,0 +1,29 @@
+package com.backend.skillswap.dto.common;
+
+import lombok.*;
+
+// Outcome of one item inside a bulk operation
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkItemResult {
+
+    private Long id;
+
+    private boolean success;
+
+    // Machine-readable outcome, e.g. CONFIRMED, NOT_FOUND, INSUFFICIENT_BALANCE
+    private String code;
+
+    private String message;
+
+    public static BulkItemResult ok(Long id, String code) {
+        return new BulkItemResult(id, true, code, null);
+    }
+
+    public static BulkItemResult failed(Long id, String code, String message) {
+        return new BulkItemResult(id, false, code, message);
+    }
+}
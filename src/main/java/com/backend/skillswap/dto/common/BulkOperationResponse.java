@@ -0,0 +1,25 @@
+package com.backend.skillswap.dto.common;
+
+import lombok.*;
+
+import java.util.List;
+
+// Per-item outcomes of a bulk operation (one entry per requested id, in request order)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkOperationResponse {
+
+    private int requested;
+    private int succeeded;
+    private int failed;
+
+    private List<BulkItemResult> results;
+
+    public static BulkOperationResponse of(List<BulkItemResult> results) {
+        int succeeded = (int) results.stream().filter(BulkItemResult::isSuccess).count();
+        return new BulkOperationResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
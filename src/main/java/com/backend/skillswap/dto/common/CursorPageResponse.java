@@ -0,0 +1,20 @@
+package com.backend.skillswap.dto.common;
+
+import lombok.*;
+
+import java.util.List;
+
+// Keyset page: pass nextCursor back as ?cursor= to get the following page (null = no more items)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+
+    private Long nextCursor;
+
+    private boolean hasMore;
+}
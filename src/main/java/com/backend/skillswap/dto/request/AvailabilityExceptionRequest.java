@@ -0,0 +1,32 @@
+package com.backend.skillswap.dto.request;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AvailabilityExceptionRequest {
+
+    @NotNull(message = "Date is required")
+    @FutureOrPresent(message = "Date cannot be in the past")
+    private LocalDate date;
+
+    // Leave both times empty to cover the whole day
+    private LocalTime startTime;
+
+    private LocalTime endTime;
+
+    // true = extra working window, false = blocked
+    private boolean available;
+
+    @Size(max = 255)
+    private String reason;
+}
@@ -0,0 +1,26 @@
+package com.backend.skillswap.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AvailabilityRuleRequest {
+
+    @NotNull(message = "Day of week is required")
+    private DayOfWeek dayOfWeek;
+
+    // Quarter-hour aligned (09:00, 09:15 ...)
+    @NotNull(message = "Start time is required")
+    private LocalTime startTime;
+
+    // 00:00 = end of day
+    @NotNull(message = "End time is required")
+    private LocalTime endTime;
+}
@@ -0,0 +1,19 @@
+package com.backend.skillswap.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkIdsRequest {
+
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = 100, message = "At most 100 ids per request")
+    private List<Long> ids;
+}
@@ -0,0 +1,25 @@
+package com.backend.skillswap.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SkillModerationRequest {
+
+    // Skills to verify (make public)
+    @Size(max = 500, message = "At most 500 ids to verify per request")
+    @Builder.Default
+    private List<Long> verifyIds = new ArrayList<>();
+
+    // Skills to reject (hide)
+    @Size(max = 500, message = "At most 500 ids to reject per request")
+    @Builder.Default
+    private List<Long> rejectIds = new ArrayList<>();
+}
@@ -0,0 +1,25 @@
+package com.backend.skillswap.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SkillRequestDecisionRequest {
+
+    // Requests to accept
+    @Size(max = 100, message = "At most 100 ids to accept per request")
+    @Builder.Default
+    private List<Long> acceptIds = new ArrayList<>();
+
+    // Requests to reject
+    @Size(max = 100, message = "At most 100 ids to reject per request")
+    @Builder.Default
+    private List<Long> rejectIds = new ArrayList<>();
+}
@@ -0,0 +1,17 @@
+package com.backend.skillswap.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SkillRequestMessageRequest {
+
+    @NotBlank(message = "Message body is required")
+    @Size(max = 1000, message = "Message must be at most 1000 characters")
+    private String body;
+}
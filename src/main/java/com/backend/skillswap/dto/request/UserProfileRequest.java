@@ -1,5 +1,7 @@
 package com.backend.skillswap.dto.request;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -30,4 +32,16 @@ public class UserProfileRequest {
     @NotBlank(message = "Location is required")
     @Size(max = 100, message = "Location cannot exceed 100 characters")
     private String location;
+
+    // Optional coordinates, both or neither
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
+    // true = remove the stored coordinates (leaving them out keeps them unchanged)
+    private Boolean clearCoordinates;
 }
@@ -0,0 +1,21 @@
+package com.backend.skillswap.dto.request;
+
+import com.backend.skillswap.entity.enums.SkillCategory;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WantedSkillRequest {
+
+    @NotNull(message = "Category is required")
+    private SkillCategory category;
+
+    // Optional single title word ("python"); empty = any skill in the category
+    @Size(max = 50, message = "Keyword must be at most 50 characters")
+    private String keyword;
+}
@@ -0,0 +1,21 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AvailabilityExceptionResponse {
+
+    private Long id;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private boolean available;
+    private String reason;
+}
@@ -0,0 +1,35 @@
+package com.backend.skillswap.dto.response;
+
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.entity.enums.CancelBooking;
+import com.backend.skillswap.events.BookingEventType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingEventLogResponse {
+
+    private Long sequenceNumber;
+    private Long bookingId;
+    private Long bookingVersion;
+
+    private BookingEventType eventType;
+    private BookingStatus status;
+
+    private Long requesterId;
+    private Long providerId;
+    private Long skillId;
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private BigDecimal totalAmount;
+
+    private CancelBooking cancelledBy;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,31 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+// Counters of an in-process cache (since startup)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CacheStatsResponse {
+
+    private String name;
+
+    // Bumped on every change of the cached data
+    private long version;
+
+    private int entries;
+    private long weightBytes;
+    private long maxWeightBytes;
+
+    private long hits;
+    private long misses;
+    private double hitRatio;
+
+    // Dropped to stay under maxWeightBytes
+    private long evictions;
+
+    // Dropped because the data changed
+    private long invalidations;
+}
@@ -0,0 +1,31 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DayAvailabilityResponse {
+
+    private Long providerId;
+    private LocalDate date;
+
+    // Working windows of the day after weekly rules + exceptions (existing bookings not subtracted)
+    private List<Window> windows;
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Window {
+        private LocalTime start;
+        private LocalTime end;
+    }
+}
@@ -0,0 +1,21 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectionReplayResponse {
+
+    private String projection;
+
+    // Number of log entries folded during this replay
+    private long eventsApplied;
+
+    // Sequence number of the last event read
+    private Long lastSequenceNumber;
+
+    private long durationMillis;
+}
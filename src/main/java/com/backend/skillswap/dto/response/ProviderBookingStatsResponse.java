@@ -0,0 +1,26 @@
+package com.backend.skillswap.dto.response;
+
+import com.backend.skillswap.entity.enums.BookingStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProviderBookingStatsResponse {
+
+    private Long providerId;
+
+    // Current number of bookings in each status
+    private Map<BookingStatus, Long> bookingsByStatus;
+
+    // Sum of totalAmount over COMPLETED bookings
+    private BigDecimal completedEarnings;
+
+    // Last event sequence folded into these numbers
+    private Long lastSequenceNumber;
+}
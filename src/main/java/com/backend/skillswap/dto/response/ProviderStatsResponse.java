@@ -0,0 +1,27 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+// Public track record of a provider (shown with their skills, used in search ranking)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProviderStatsResponse {
+
+    private Long providerId;
+
+    private long completedSessions;
+    private long cancelledSessions;
+    private long disputedSessions;
+
+    private long distinctLearners;
+    private long repeatLearners;
+
+    // cancelled / (completed + cancelled), 0 without history
+    private double cancellationRate;
+
+    // Reviews over all of the provider's skills
+    private RatingSummaryResponse rating;
+}
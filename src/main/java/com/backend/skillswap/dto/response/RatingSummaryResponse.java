@@ -0,0 +1,21 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingSummaryResponse {
+
+    private long count;
+
+    // Plain mean, 0 without reviews
+    private double average;
+
+    // Stars (1..5) → number of reviews
+    private Map<Integer, Long> histogram;
+}
@@ -0,0 +1,27 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReviewResponse {
+
+    private Long id;
+
+    private Long bookingId;
+    private Long skillId;
+
+    // Learner who wrote it
+    private Long reviewerId;
+    private String reviewerUsername;
+
+    private int rating;
+    private String comment;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+// One page of filtered public skills + hit counts for every facet value (filter sidebar)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SkillBrowseResponse {
+
+    private long total;
+
+    private int page;
+    private int size;
+
+    private List<UserSkillResponse> items;
+
+    // facet (category / level / hourlyRate / experienceYears) → value → number of skills
+    private Map<String, Map<String, Integer>> facets;
+}
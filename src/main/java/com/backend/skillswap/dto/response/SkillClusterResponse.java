@@ -0,0 +1,27 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+// Pending skills that are near-duplicates of each other (title + description), newest first
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SkillClusterResponse {
+
+    // Oldest skill id in the cluster
+    private Long clusterId;
+
+    private int size;
+
+    // Distinct accounts behind the cluster (many = likely cross-account spam)
+    private int owners;
+
+    // Ready to pass as verifyIds / rejectIds to the bulk moderation endpoint
+    private List<Long> skillIds;
+
+    private List<UserSkillResponse> skills;
+}
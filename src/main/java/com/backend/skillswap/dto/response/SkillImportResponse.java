@@ -0,0 +1,43 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+// Per-row report of a skill file import (one entry per data row, in file order)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SkillImportResponse {
+
+    private int rows;
+    private int imported;
+    private int failed;
+
+    // Rows after the limit were not read
+    private boolean truncated;
+
+    private List<RowResult> results;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class RowResult {
+
+        // Line of the upload where the row starts
+        private int line;
+
+        private String title;
+
+        private boolean success;
+
+        // IMPORTED, INVALID or DUPLICATE
+        private String code;
+
+        private String message;
+    }
+}
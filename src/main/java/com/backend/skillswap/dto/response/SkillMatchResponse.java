@@ -0,0 +1,36 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SkillMatchResponse {
+
+    // PAIR = two users teach each other; CYCLE = A → B → C → A
+    public enum Type { PAIR, CYCLE }
+
+    private Type type;
+
+    // Users in swap order, starting with the caller
+    private List<Long> userIds;
+
+    // legs[i]: userIds[i] teaches userIds[i + 1] (last leg closes the loop)
+    private List<Leg> legs;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Leg {
+        private Long teacherId;
+        private Long learnerId;
+        private Long skillId;
+        private String skillTitle;
+    }
+}
@@ -0,0 +1,26 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+// One page of public skills around a point, nearest provider first
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SkillNearbyResponse {
+
+    private double latitude;
+    private double longitude;
+    private double radiusKm;
+
+    // All matches within the radius, not only this page
+    private long total;
+
+    private int page;
+    private int size;
+
+    private List<UserSkillResponse> items;
+}
@@ -0,0 +1,26 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SkillRequestMessageResponse {
+
+    private Long id;
+
+    // Thread (skill request) id
+    private Long requestId;
+
+    // Author
+    private Long senderId;
+    private String senderUsername;
+
+    private String body;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.backend.skillswap.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+// One ranked page of public skills (best match first)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SkillSearchResponse {
+
+    private String keyword;
+
+    // true → results come from typo-tolerant matching ("showing results for similar terms")
+    private boolean fuzzy;
+
+    // All matches, not only this page
+    private long total;
+
+    private int page;
+    private int size;
+
+    private List<UserSkillResponse> items;
+}
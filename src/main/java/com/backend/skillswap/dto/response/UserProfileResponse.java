@@ -20,6 +20,10 @@ public class UserProfileResponse {
     private String profileImage;
     private String location;
 
+    // Own / admin view only, never public
+    private Double latitude;
+    private Double longitude;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class UserSkillResponse {
 
     private Long id;
@@ -33,4 +33,11 @@ public class UserSkillResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Provider track record and this skill's reviews, attached on public reads only
+    private ProviderStatsResponse providerStats;
+    private RatingSummaryResponse rating;
+
+    // Distance from the searcher in km, nearby search only
+    private Double distanceKm;
+
 }
@@ -0,0 +1,21 @@
+package com.backend.skillswap.dto.response;
+
+import com.backend.skillswap.entity.enums.SkillCategory;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WantedSkillResponse {
+
+    private Long id;
+
+    private SkillCategory category;
+    private String keyword;
+
+    private LocalDateTime createdAt;
+}
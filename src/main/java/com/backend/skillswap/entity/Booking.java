@@ -90,6 +90,12 @@ public class Booking {
     @Enumerated(EnumType.STRING)
     private CancelBooking cancelledBy;
 
+    // Optimistic lock: concurrent transitions of one booking can't overwrite each other,
+    // and the event log uses it to order a booking's events
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     // Auto-managed timestamps for creation & last update
     @CreationTimestamp
     private LocalDateTime createdAt;    //  Auto set when booking created
@@ -0,0 +1,87 @@
+package com.backend.skillswap.entity;
+
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.entity.enums.CancelBooking;
+import com.backend.skillswap.events.BookingEventType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Immutable   // Append-only: rows are never updated after insert
+@Entity
+@Table(
+        name = "booking_event_log",    // Durable, replayable history of every booking lifecycle change
+        indexes = {
+                @Index(name = "idx_booking_event_booking", columnList = "booking_id"),
+                @Index(name = "idx_booking_event_provider", columnList = "provider_id")
+        }
+)
+public class BookingEventLog {
+
+    // Global sequence number of the event (assigned on persist, in allocation order).
+    // Pooled: each instance reserves a block of 50 numbers per sequence round trip, so a bulk change
+    // logging many events costs one fetch, not one per event. Numbers are unique but only ordered
+    // within an instance; readers stay behind a safety lag (BookingEventLogService) because neither
+    // blocks nor commits arrive in sequence order, and projections order a booking by its version.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_event_seq")
+    @SequenceGenerator(name = "booking_event_seq", sequenceName = "booking_event_seq", allocationSize = 50)
+    @Column(name = "sequence_number")
+    private Long sequenceNumber;
+
+    // Booking this event belongs to (plain id, no FK join needed while replaying)
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    // Booking's @Version right after this change: orders one booking's events, whatever their sequence.
+    // NULL for events logged before the booking was versioned
+    @Column(name = "booking_version")
+    private Long bookingVersion;
+
+    // What happened (CREATED, CONFIRMED, STARTED, COMPLETED, CANCELLED, DISPUTED)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BookingEventType eventType;
+
+    // Booking status right after this event
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BookingStatus status;
+
+    // ---- Snapshot of the booking at event time (projections read only these) ----
+    @Column(name = "requester_id", nullable = false)
+    private Long requesterId;
+
+    @Column(name = "provider_id", nullable = false)
+    private Long providerId;
+
+    @Column(name = "skill_id", nullable = false)
+    private Long skillId;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    // Only set for CANCELLED events
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private CancelBooking cancelledBy;
+
+    // When the event was recorded
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+}
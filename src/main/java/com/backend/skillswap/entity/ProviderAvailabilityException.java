@@ -0,0 +1,46 @@
+package com.backend.skillswap.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "provider_availability_exceptions",    // One-off overrides of the weekly rules (holiday, extra slot)
+        indexes = {
+                @Index(name = "idx_availability_exception_provider_date", columnList = "provider_id, exception_date")
+        }
+)
+public class ProviderAvailabilityException {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "provider_id", nullable = false)
+    private UserEntity provider;
+
+    // Calendar date this override applies to
+    @Column(name = "exception_date", nullable = false)
+    private LocalDate date;
+
+    // Optional window; both null = the whole day
+    private LocalTime startTime;
+
+    private LocalTime endTime;
+
+    // true → extra working window, false → blocked (day off / break)
+    @Column(nullable = false)
+    private boolean available;
+
+    @Column(length = 255)
+    private String reason;
+}
@@ -0,0 +1,43 @@
+package com.backend.skillswap.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "provider_availability_rules",    // Weekly working hours declared by a provider
+        indexes = {
+                @Index(name = "idx_availability_rule_provider", columnList = "provider_id")
+        }
+)
+public class ProviderAvailabilityRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Provider who works in this window
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "provider_id", nullable = false)
+    private UserEntity provider;
+
+    // Repeats every week on this day
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private DayOfWeek dayOfWeek;
+
+    // Window [startTime, endTime) on quarter-hour boundaries; endTime 00:00 = end of day
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+}
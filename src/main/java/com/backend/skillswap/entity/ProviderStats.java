@@ -0,0 +1,46 @@
+package com.backend.skillswap.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "provider_stats")    // Running counters per provider, patched on each booking transition
+public class ProviderStats {
+
+    // Same id as the provider's user row (one stats row per provider)
+    @Id
+    @Column(name = "provider_id")
+    private Long providerId;
+
+    // Sessions that reached COMPLETED (later disputes included)
+    @Column(nullable = false)
+    private long completedSessions;
+
+    @Column(nullable = false)
+    private long cancelledSessions;
+
+    @Column(nullable = false)
+    private long disputedSessions;
+
+    // Learners with at least one / at least two completed sessions
+    @Column(nullable = false)
+    private long distinctLearners;
+
+    @Column(nullable = false)
+    private long repeatLearners;
+
+    // Reviews across all of the provider's skills (maintained by reviews, not by the rebuild)
+    @Embedded
+    @Builder.Default
+    private RatingSummary rating = new RatingSummary();
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,38 @@
+package com.backend.skillswap.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+// Running review aggregate (count, sum, 1–5 histogram), embedded in the skill / provider stats rows.
+// Average = ratingSum / ratingCount; never recomputed from the reviews table on reads.
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Embeddable
+public class RatingSummary {
+
+    @Column(nullable = false)
+    private long ratingCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    // Reviews per star value
+    @Column(nullable = false)
+    private long oneStar;
+
+    @Column(nullable = false)
+    private long twoStars;
+
+    @Column(nullable = false)
+    private long threeStars;
+
+    @Column(nullable = false)
+    private long fourStars;
+
+    @Column(nullable = false)
+    private long fiveStars;
+}
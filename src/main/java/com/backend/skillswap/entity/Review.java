@@ -0,0 +1,59 @@
+package com.backend.skillswap.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "reviews",    // Learner's rating of a completed session (immutable once written)
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_review_booking", columnNames = "booking_id")   // one review per booking
+        },
+        indexes = {
+                @Index(name = "idx_review_skill_id", columnList = "skill_id, id")   // skill review pages (keyset on id)
+        }
+)
+public class Review {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Completed booking being reviewed
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "booking_id", nullable = false, updatable = false)
+    private Booking booking;
+
+    // Copied from the booking so aggregates and pages never join through it
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "skill_id", nullable = false, updatable = false)
+    private UserSkill skill;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "provider_id", nullable = false, updatable = false)
+    private UserEntity provider;
+
+    // Learner who attended the session
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "reviewer_id", nullable = false, updatable = false)
+    private UserEntity reviewer;
+
+    // 1..5 stars
+    @Column(nullable = false, updatable = false)
+    private int rating;
+
+    @Column(length = 1000, updatable = false)
+    private String comment;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
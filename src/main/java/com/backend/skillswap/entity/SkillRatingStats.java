@@ -0,0 +1,28 @@
+package com.backend.skillswap.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "skill_rating_stats")    // Review aggregate per skill, patched on each new review
+public class SkillRatingStats {
+
+    // Same id as the reviewed skill (one row per skill)
+    @Id
+    @Column(name = "skill_id")
+    private Long skillId;
+
+    @Embedded
+    @Builder.Default
+    private RatingSummary rating = new RatingSummary();
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -22,7 +22,14 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_request_sender", columnList = "sender_id"),
                 @Index(name = "idx_request_receiver", columnList = "receiver_id"),
                 @Index(name = "idx_request_skill", columnList = "skill_id"),
-                @Index(name = "idx_request_status", columnList = "status")
+                @Index(name = "idx_request_status", columnList = "status"),
+                @Index(name = "idx_request_status_expires", columnList = "status, expires_at"),   // expiry sweep
+                @Index(name = "idx_request_sender_status", columnList = "sender_id, status"),       // outbox pages
+                @Index(name = "idx_request_receiver_status", columnList = "receiver_id, status")    // inbox pages
+        },
+        uniqueConstraints = {
+                // At most one live request per (sender, skill); NULLs (finished requests) don't collide
+                @UniqueConstraint(name = "uk_request_active_key", columnNames = "active_key")
         }
 )
 public class SkillRequest {
@@ -33,17 +40,17 @@ public class SkillRequest {
     private Long id;
 
     // Logged-in Learner who is requesting to learn the skill --> Request sender (learner)
-    @ManyToOne(fetch = FetchType.EAGER, optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "sender_id", nullable = false)
     private UserEntity sender;
 
     // Skill provider who will accept or reject the request -->  Request receiver (skill provider)
-    @ManyToOne(fetch = FetchType.EAGER, optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "receiver_id", nullable = false)
     private UserEntity receiver;
 
     // Specific skill for which the request is sent
-    @ManyToOne(fetch = FetchType.EAGER, optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "skill_id", nullable = false)
     private UserSkill skill;
 
@@ -60,6 +67,11 @@ public class SkillRequest {
     // Auto-expiry time after which the request becomes invalid
     private LocalDateTime expiresAt;
 
+    // "senderId:skillId" while the request is live (PENDING / ACCEPTED / BOOKED), NULL once finished.
+    // Unique → the database itself refuses a second live request for the same skill.
+    @Column(name = "active_key", length = 64)
+    private String activeKey;
+
     // Timestamp when the skill request was created (Auto set when booking created)
     @Column(updatable = false)
     @CreationTimestamp
@@ -68,5 +80,22 @@ public class SkillRequest {
     // Timestamp when the request status or details were last updated (Auto update when booking updated)
     @UpdateTimestamp
     private LocalDateTime updatedAt;
-}
 
+    // ===== ACTIVE KEY =====
+    public static boolean isActive(SkillRequestStatus status) {
+        return status == SkillRequestStatus.PENDING
+                || status == SkillRequestStatus.ACCEPTED
+                || status == SkillRequestStatus.BOOKED;
+    }
+
+    public static String activeKeyOf(Long senderId, Long skillId) {
+        return senderId + ":" + skillId;
+    }
+
+    // Kept in sync on every entity write; bulk UPDATEs clear the column themselves
+    @PrePersist
+    @PreUpdate
+    void syncActiveKey() {
+        activeKey = isActive(status) ? activeKeyOf(sender.getId(), skill.getId()) : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.backend.skillswap.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "skill_request_messages",    // Append-only negotiation thread of a skill request
+        indexes = {
+                @Index(name = "idx_message_request_id", columnList = "request_id, id")   // thread pages (keyset on id)
+        }
+)
+public class SkillRequestMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Thread this message belongs to
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "request_id", nullable = false, updatable = false)
+    private SkillRequest request;
+
+    // Learner or provider who wrote it
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "sender_id", nullable = false, updatable = false)
+    private UserEntity sender;
+
+    @Column(nullable = false, length = 1000, updatable = false)
+    private String body;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -49,6 +49,11 @@ public class UserProfile {
     @Column(nullable = false, length = 100)
     private String location;
 
+    // Optional, shared by the user for "skills near me" (both set or both null)
+    private Double latitude;
+
+    private Double longitude;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,44 @@
+package com.backend.skillswap.entity;
+
+import com.backend.skillswap.entity.enums.SkillCategory;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "wanted_skills",    // What a user would like to learn (the "wants" side of skill swaps)
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_wanted_skill", columnNames = {"user_id", "category", "keyword"})
+        }
+)
+public class WantedSkill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
+    private UserEntity user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private SkillCategory category;
+
+    // One normalised title word ("python"); empty = anything in the category.
+    // Never null, so the unique key also covers "whole category" wants.
+    @Column(nullable = false, length = 50, updatable = false)
+    private String keyword;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
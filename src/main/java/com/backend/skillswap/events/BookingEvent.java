@@ -1,21 +1,15 @@
 package com.backend.skillswap.events;
 
-import com.backend.skillswap.entity.Booking;
-import lombok.Getter;
-import lombok.ToString;
+// Booking lifecycle notification, delivered to listeners only after the booking transaction commits.
+// sequenceNumber links the notification to its durable row in booking_event_log.
+public record BookingEvent(
 
-@Getter
-@ToString
-public class BookingEvent {
+        Long sequenceNumber,
 
-    // The booking associated with this event
-    private final Booking booking;
+        // Type of event (CREATED, CONFIRMED, STARTED, COMPLETED, CANCELLED, DISPUTED)
+        BookingEventType eventType,
 
-    // Type of event (e.g., BOOKING_CREATED, BOOKING_CONFIRMED, STARTED ,COMPLETED etc.)
-    private final String eventType;
-
-    public BookingEvent(Booking booking, String eventType) {
-        this.booking = booking;
-        this.eventType = eventType;
-    }
+        // Detached snapshot of the booking at event time
+        BookingSnapshot booking
+) {
 }
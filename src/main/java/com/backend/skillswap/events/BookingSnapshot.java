@@ -0,0 +1,49 @@
+package com.backend.skillswap.events;
+
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.entity.enums.CancelBooking;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Immutable, detached copy of a booking taken inside the publishing transaction.
+// Carries every value the async listeners need, so they never touch a JPA entity or the database.
+public record BookingSnapshot(
+
+        Long bookingId,
+
+        // Skill
+        Long skillId,
+        String skillTitle,
+
+        // Requester (learner)
+        Long requesterId,
+        String requesterEmail,
+        String requesterName,
+
+        // Provider (mentor)
+        Long providerId,
+        String providerEmail,
+        String providerName,
+        String providerFullName,    // null without a profile (responses then show the email)
+
+        // Session
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Integer durationMinutes,
+
+        // Pricing
+        BigDecimal pricePerHour,
+        BigDecimal totalAmount,
+
+        // Status
+        BookingStatus status,
+        String cancelReason,
+        CancelBooking cancelledBy,
+        String disputeReason,
+
+        // Audit
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.backend.skillswap.events;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+
+// Published whenever a skill is added, edited, verified, rejected, deleted or restored.
+// Carries the detached state after the change; search indexes apply it after commit.
+public record SkillChangeEvent(UserSkillResponse skill) {
+}
@@ -0,0 +1,26 @@
+package com.backend.skillswap.events;
+
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.entity.enums.SkillLevel;
+
+import java.math.BigDecimal;
+
+// Detached copy of a moderated skill and its owner, taken inside the moderating transaction.
+// Queued after commit and mailed later in batches, so it never touches an entity or the database.
+public record SkillModerationNotice(
+
+        Decision decision,
+
+        Long skillId,
+        String skillTitle,
+        SkillCategory category,
+        SkillLevel level,
+        BigDecimal hourlyRate,
+
+        // Owner (provider)
+        String ownerEmail,
+        String ownerName
+) {
+
+    public enum Decision { VERIFIED, REJECTED }
+}
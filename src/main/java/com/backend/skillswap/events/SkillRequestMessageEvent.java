@@ -0,0 +1,7 @@
+package com.backend.skillswap.events;
+
+import com.backend.skillswap.dto.response.SkillRequestMessageResponse;
+
+// Published when a thread message is stored; pushed to both participants after commit
+public record SkillRequestMessageEvent(Long learnerId, Long providerId, SkillRequestMessageResponse message) {
+}
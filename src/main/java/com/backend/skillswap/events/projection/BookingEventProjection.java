@@ -0,0 +1,24 @@
+package com.backend.skillswap.events.projection;
+
+import com.backend.skillswap.entity.BookingEventLog;
+
+// Read-side view built only from the booking event log (never from the bookings table).
+// apply() must be idempotent and tolerate out-of-order delivery, because the same event
+// can arrive both live (after commit) and again during a replay.
+public interface BookingEventProjection {
+
+    // Unique name used by the replay API
+    String name();
+
+    // Drop all state before a full rebuild
+    void reset();
+
+    // Fold one event into the projection
+    void apply(BookingEventLog event);
+
+    // false → state is bounded and forgets old events, so re-applying part of the log could count
+    // a booking twice; a replay from a later sequence number is turned into a full rebuild
+    default boolean supportsPartialReplay() {
+        return true;
+    }
+}
@@ -0,0 +1,168 @@
+package com.backend.skillswap.events.projection;
+
+import com.backend.skillswap.dto.response.ProviderBookingStatsResponse;
+import com.backend.skillswap.entity.BookingEventLog;
+import com.backend.skillswap.entity.enums.BookingStatus;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Provider dashboard numbers (bookings per status + completed earnings) folded from the event log.
+// Keeps only the latest state per booking, ordered by the booking's version (sequence numbers of
+// different instances / transactions say nothing about one booking), so re-applying or reordering is harmless.
+// Memory stays bounded: bookings still in flight are tracked until they finish, finished ones only
+// within a window of the most recent FINISHED_WINDOW.
+@Component
+public class ProviderBookingStatsProjection implements BookingEventProjection {
+
+    public static final String NAME = "provider-booking-stats";
+
+    // Finished bookings remembered for late / duplicate deliveries
+    static final int FINISHED_WINDOW = 10_000;
+
+    // Latest known state of each booking that can still change
+    private final Map<Long, BookingState> active = new HashMap<>();
+
+    // Latest state of recently finished bookings, oldest evicted first
+    private final Map<Long, BookingState> finished = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BookingState> eldest) {
+            return size() > FINISHED_WINDOW;
+        }
+    };
+
+    // Aggregated counters per provider
+    private final Map<Long, ProviderCounters> providers = new HashMap<>();
+
+    private long lastSequenceNumber;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    // A finished booking that left the window looks new again when its events are replayed
+    @Override
+    public boolean supportsPartialReplay() {
+        return false;
+    }
+
+    @Override
+    public synchronized void reset() {
+        active.clear();
+        finished.clear();
+        providers.clear();
+        lastSequenceNumber = 0;
+    }
+
+    @Override
+    public synchronized void apply(BookingEventLog event) {
+
+        // Position in the log advances even when the event itself turns out stale
+        lastSequenceNumber = Math.max(lastSequenceNumber, event.getSequenceNumber());
+
+        BookingState current = BookingState.of(event);
+        BookingState previous = active.containsKey(event.getBookingId())
+                ? active.get(event.getBookingId())
+                : finished.get(event.getBookingId());
+
+        // Not newer than what we already folded → ignore (duplicate or late delivery)
+        if (previous != null && !current.isNewerThan(previous)) {
+            return;
+        }
+
+        // A dispute can only follow completion: a completed booking that already left the window is still
+        // counted as COMPLETED and has to move
+        if (previous == null && event.getStatus() == BookingStatus.DISPUTED) {
+            previous = new BookingState(-1, -1, BookingStatus.COMPLETED, event.getTotalAmount());
+        }
+
+        ProviderCounters counters = providers.computeIfAbsent(event.getProviderId(), id -> new ProviderCounters());
+
+        // Move the booking out of its old status bucket
+        if (previous != null) {
+            counters.remove(previous.status(), previous.totalAmount());
+        }
+        counters.add(event.getStatus(), event.getTotalAmount());
+
+        if (isFinished(event.getStatus())) {
+            active.remove(event.getBookingId());
+            finished.remove(event.getBookingId());   // re-insert → youngest in the window
+            finished.put(event.getBookingId(), current);
+        } else {
+            active.put(event.getBookingId(), current);
+        }
+    }
+
+    // Snapshot for one provider (empty counters if nothing recorded yet)
+    public synchronized ProviderBookingStatsResponse getStats(Long providerId) {
+
+        ProviderCounters counters = providers.getOrDefault(providerId, new ProviderCounters());
+
+        return ProviderBookingStatsResponse.builder()
+                .providerId(providerId)
+                .bookingsByStatus(new EnumMap<>(counters.byStatus))
+                .completedEarnings(counters.completedEarnings)
+                .lastSequenceNumber(lastSequenceNumber)
+                .build();
+    }
+
+    // Package-private for tests
+    synchronized int trackedBookings() {
+        return active.size() + finished.size();
+    }
+
+    // COMPLETED may still be disputed, but that is handled without the state (see apply)
+    private static boolean isFinished(BookingStatus status) {
+        return status == BookingStatus.COMPLETED
+                || status == BookingStatus.CANCELLED
+                || status == BookingStatus.DISPUTED;
+    }
+
+    // ================= INTERNAL STATE =================
+    // version -1 = logged before bookings were versioned; then the sequence number decides
+    private record BookingState(long version, long sequenceNumber, BookingStatus status, BigDecimal totalAmount) {
+
+        static BookingState of(BookingEventLog event) {
+            long version = event.getBookingVersion() != null ? event.getBookingVersion() : -1;
+            return new BookingState(version, event.getSequenceNumber(), event.getStatus(), event.getTotalAmount());
+        }
+
+        boolean isNewerThan(BookingState other) {
+            if (version != other.version) {
+                return version > other.version;
+            }
+            return sequenceNumber > other.sequenceNumber;
+        }
+    }
+
+    private static class ProviderCounters {
+
+        private final EnumMap<BookingStatus, Long> byStatus = new EnumMap<>(BookingStatus.class);
+        private BigDecimal completedEarnings = BigDecimal.ZERO;
+
+        ProviderCounters() {
+            for (BookingStatus status : BookingStatus.values()) {
+                byStatus.put(status, 0L);
+            }
+        }
+
+        void add(BookingStatus status, BigDecimal amount) {
+            byStatus.merge(status, 1L, Long::sum);
+            if (status == BookingStatus.COMPLETED) {
+                completedEarnings = completedEarnings.add(amount);
+            }
+        }
+
+        void remove(BookingStatus status, BigDecimal amount) {
+            byStatus.merge(status, -1L, Long::sum);
+            if (status == BookingStatus.COMPLETED) {
+                completedEarnings = completedEarnings.subtract(amount);
+            }
+        }
+    }
+}
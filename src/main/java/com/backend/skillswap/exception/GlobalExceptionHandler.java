@@ -2,6 +2,7 @@ package com.backend.skillswap.exception;
 
 import com.backend.skillswap.dto.common.ApiErrorResponse;
 import com.backend.skillswap.exception.authentication.*;
+import com.backend.skillswap.exception.booking.OutsideWorkingHoursException;
 import com.backend.skillswap.exception.booking.OverlappingBookingException;
 import com.backend.skillswap.exception.booking.RateLimitExceededException;
 import com.backend.skillswap.exception.booking.RecentBookingCooldownException;
@@ -15,6 +16,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -326,6 +328,20 @@ class GlobalExceptionHandler {
         );
     }
 
+    // ================= BOOKING: OUTSIDE WORKING HOURS =================
+    @ExceptionHandler(OutsideWorkingHoursException.class)
+    public ResponseEntity<ApiErrorResponse> handleOutsideWorkingHours(
+            OutsideWorkingHoursException ex,
+            HttpServletRequest request
+    ) {
+        return buildError(
+                HttpStatus.CONFLICT,
+                "OUTSIDE_WORKING_HOURS",
+                ex.getMessage(),
+                request
+        );
+    }
+
     // ================= BOOKING: COOLDOWN =================
     @ExceptionHandler(RecentBookingCooldownException.class)
     public ResponseEntity<ApiErrorResponse> handleBookingCooldown(
@@ -449,6 +465,20 @@ class GlobalExceptionHandler {
         );
     }
 
+    // Someone else changed the same record in the meantime (e.g. two transitions of one booking) → 409
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleConcurrentUpdate(
+            ObjectOptimisticLockingFailureException ex,
+            HttpServletRequest request
+    ) {
+        return buildError(
+                HttpStatus.CONFLICT,
+                "CONCURRENT_UPDATE",
+                "This record was changed by another request, please reload and try again",
+                request
+        );
+    }
+
 
 
 
@@ -0,0 +1,8 @@
+package com.backend.skillswap.exception.booking;
+
+// requested slot falls outside the provider's declared working hours
+public class OutsideWorkingHoursException extends RuntimeException {
+    public OutsideWorkingHoursException(String message) {
+        super(message);
+    }
+}
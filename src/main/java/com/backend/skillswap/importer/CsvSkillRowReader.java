@@ -0,0 +1,202 @@
+package com.backend.skillswap.importer;
+
+import com.backend.skillswap.dto.request.UserSkillRequest;
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.entity.enums.SkillLevel;
+import com.backend.skillswap.exception.common.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// RFC 4180 CSV with a header row naming the columns (any order, extra columns ignored):
+// title, description, category, level, experienceYears, hourlyRate.
+// Quoted fields may contain commas, "" and line breaks. Blank lines are skipped.
+// Fields and records are length-capped, so a missing closing quote can't buffer the whole upload.
+final class CsvSkillRowReader implements SkillRowReader {
+
+    private static final List<String> COLUMNS =
+            List.of("title", "description", "category", "level", "experienceyears", "hourlyrate");
+
+    private final BufferedReader in;
+    private final Map<String, Integer> columnIndex = new HashMap<>();
+
+    private int lineNumber = 1;   // line the next record starts on
+    private int pending = -2;     // one char of look-ahead, -2 = none
+
+    CsvSkillRowReader(Reader in) throws IOException {
+        this.in = new BufferedReader(in);
+        readHeader();
+    }
+
+    @Override
+    public Row next() throws IOException {
+        List<String> fields;
+        int line;
+        do {
+            line = lineNumber;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        try {
+            return Row.parsed(line, toRequest(fields));
+        } catch (IllegalArgumentException e) {
+            return Row.failed(line, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    // ================= MAPPING =================
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new BadRequestException("CSV file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            // Excel puts a byte order mark in front of the first column name
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columnIndex.putIfAbsent(name, i);
+        }
+        for (String column : COLUMNS) {
+            if (!columnIndex.containsKey(column)) {
+                throw new BadRequestException("Missing CSV column: " + column);
+            }
+        }
+    }
+
+    // Syntax and type errors only; field constraints are left to bean validation
+    private UserSkillRequest toRequest(List<String> fields) {
+        String experience = field(fields, "experienceyears");
+        String rate = field(fields, "hourlyrate");
+        return UserSkillRequest.builder()
+                .title(field(fields, "title"))
+                .description(field(fields, "description"))
+                .category(enumValue(SkillCategory.class, field(fields, "category")))
+                .level(enumValue(SkillLevel.class, field(fields, "level")))
+                .experienceYears(experience.isEmpty() ? 0 : wholeNumber(experience, "experienceYears"))
+                .hourlyRate(rate.isEmpty() ? null : number(rate, "hourlyRate"))
+                .build();
+    }
+
+    private String field(List<String> fields, String column) {
+        int index = columnIndex.get(column);
+        return index < fields.size() ? fields.get(index).trim() : "";
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + type.getSimpleName() + ": " + value);
+        }
+    }
+
+    private static BigDecimal number(String value, String column) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static int wholeNumber(String value, String column) {
+        try {
+            return number(value, column).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(column + " must be a whole number");
+        }
+    }
+
+    // ================= TOKENIZER =================
+    // One record (may span lines inside quotes), null at end of input
+    private List<String> readRecord() throws IOException {
+
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int startLine = lineNumber;
+        int length = 0;
+        int previous = -1;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new BadRequestException("Unterminated quoted field starting near line " + lineNumber);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    // CRLF, LF and bare CR each end one line
+                    if (c == '\r' || (c == '\n' && previous != '\r')) {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pending = next;
+                    }
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            if (field.length() > MAX_FIELD_LENGTH) {
+                throw new BadRequestException("Field in the record starting on line " + startLine + " is longer than " + MAX_FIELD_LENGTH + " characters");
+            }
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new BadRequestException("Record starting on line " + startLine + " is longer than " + MAX_RECORD_LENGTH + " characters");
+            }
+            previous = c;
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return in.read();
+    }
+}
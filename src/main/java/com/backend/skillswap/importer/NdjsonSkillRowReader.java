@@ -0,0 +1,70 @@
+package com.backend.skillswap.importer;
+
+import com.backend.skillswap.dto.request.UserSkillRequest;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+// One JSON object per line, same fields as POST /api/user/skills. Blank lines are skipped.
+// Lines are read with a length cap (BufferedReader.readLine would buffer a newline-free upload whole).
+final class NdjsonSkillRowReader implements SkillRowReader {
+
+    private final BufferedReader in;
+    private final ObjectMapper objectMapper;
+    private int lineNumber;
+
+    NdjsonSkillRowReader(Reader in, ObjectMapper objectMapper) {
+        this.in = new BufferedReader(in);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            lineNumber++;
+            // Editors on Windows put a byte order mark in front of the first line
+            if (lineNumber == 1) {
+                line = line.replace("\uFEFF", "");
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                return Row.parsed(lineNumber, objectMapper.readValue(line, UserSkillRequest.class));
+            } catch (JsonProcessingException e) {
+                return Row.failed(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    // Next line without its terminator (LF, CRLF or bare CR), null at end of input
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (c == '\r') {
+                in.mark(1);
+                if (in.read() != '\n') {
+                    in.reset();
+                }
+                break;
+            }
+            if (line.length() == MAX_RECORD_LENGTH) {
+                throw new BadRequestException("Line " + (lineNumber + 1) + " is longer than " + MAX_RECORD_LENGTH + " characters");
+            }
+            line.append((char) c);
+        }
+        return c == -1 && line.isEmpty() ? null : line.toString();
+    }
+}
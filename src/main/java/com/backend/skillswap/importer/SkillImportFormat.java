@@ -0,0 +1,16 @@
+package com.backend.skillswap.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+
+public enum SkillImportFormat {
+
+    CSV,
+    NDJSON;
+
+    public SkillRowReader open(Reader in, ObjectMapper objectMapper) throws IOException {
+        return this == CSV ? new CsvSkillRowReader(in) : new NdjsonSkillRowReader(in, objectMapper);
+    }
+}
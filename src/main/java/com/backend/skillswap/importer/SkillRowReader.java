@@ -0,0 +1,31 @@
+package com.backend.skillswap.importer;
+
+import com.backend.skillswap.dto.request.UserSkillRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Pull-style reader over an uploaded skill file: one row in memory at a time, never the whole upload
+public interface SkillRowReader extends Closeable {
+
+    // Longest accepted field: twice the 500-char description limit, so overlong text still gets a row error
+    int MAX_FIELD_LENGTH = 1_000;
+
+    // Longest accepted record (CSV record / NDJSON line); anything bigger rejects the whole upload
+    int MAX_RECORD_LENGTH = 4_000;
+
+    // Next row, or null at the end of the upload
+    Row next() throws IOException;
+
+    // line = where the row starts in the upload (1-based); request is null when the row could not be parsed
+    record Row(int line, UserSkillRequest request, String error) {
+
+        static Row parsed(int line, UserSkillRequest request) {
+            return new Row(line, request, null);
+        }
+
+        static Row failed(int line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+}
@@ -4,9 +4,10 @@ import com.backend.skillswap.events.BookingEvent;
 import com.backend.skillswap.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
@@ -16,42 +17,43 @@ public class BookingEventListener {
     private final EmailService emailService;
 
     // Sends emails to both requester and provider based on event type & It Centralized, error-safe, non-blocking notification handling
+    // AFTER_COMMIT → rolled-back bookings never send mail. The payload is a detached snapshot, so this
+    // pool thread needs no Hibernate session and does no database access at all.
     @Async
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleBookingEvent(BookingEvent event) {
         try {
-            switch (event.getEventType()) {
+            switch (event.eventType()) {
 
-                case "BOOKING_CREATED":
-                    emailService.sendBookingCreatedMail(event.getBooking());           // Requester notification
-                    emailService.sendProviderBookingCreatedMail(event.getBooking());   // Provider notification
+                case CREATED:
+                    emailService.sendBookingCreatedMail(event.booking());           // Requester notification
+                    emailService.sendProviderBookingCreatedMail(event.booking());   // Provider notification
                     break;
 
-                case "BOOKING_CONFIRMED":
-                    emailService.sendBookingConfirmedMail(event.getBooking());         // Requester confirmation
-                    emailService.sendProviderBookingConfirmedMail(event.getBooking()); // Provider confirmation
+                case CONFIRMED:
+                    emailService.sendBookingConfirmedMail(event.booking());         // Requester confirmation
+                    emailService.sendProviderBookingConfirmedMail(event.booking()); // Provider confirmation
                     break;
 
-                case "BOOKING_CANCELLED":
-                    emailService.sendBookingCancelledMail(event.getBooking());         // Requester cancellation
-                    emailService.sendProviderBookingCancelledMail(event.getBooking()); // Provider cancellation
+                case CANCELLED:
+                    emailService.sendBookingCancelledMail(event.booking());         // Requester cancellation
+                    emailService.sendProviderBookingCancelledMail(event.booking()); // Provider cancellation
                     break;
 
-                case "BOOKING_STARTED":
-                    emailService.sendBookingStartedMail(event.getBooking());           // Notify session started
+                case STARTED:
+                    emailService.sendBookingStartedMail(event.booking());           // Notify session started
                     break;
 
-                case "BOOKING_COMPLETED":
-                    emailService.sendBookingCompletedMail(event.getBooking());         // Notify session completed
+                case COMPLETED:
+                    emailService.sendBookingCompletedMail(event.booking());         // Notify session completed
                     break;
 
-                case "BOOKING_DISPUTED":
-                    emailService.sendBookingDisputedMail(event.getBooking());          // Notify dispute raised
+                case DISPUTED:
+                    emailService.sendBookingDisputedMail(event.booking());          // Notify dispute raised
                     break;
             }
         } catch (Exception e) { // ❌ Error aaye to app crash nahi karegi
-            log.error("Failed to process booking event: {}", event.getEventType(), e);
+            log.error("Failed to process booking event: {} (seq {})", event.eventType(), event.sequenceNumber(), e);
         }
     }
 }
-
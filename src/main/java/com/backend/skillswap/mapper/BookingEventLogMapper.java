@@ -0,0 +1,49 @@
+package com.backend.skillswap.mapper;
+
+import com.backend.skillswap.dto.response.BookingEventLogResponse;
+import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.BookingEventLog;
+import com.backend.skillswap.events.BookingEventType;
+
+public class BookingEventLogMapper {
+
+    private BookingEventLogMapper() {
+        // Utility class
+    }
+
+    // Booking (current, flushed state) -> log entry. Only ids are read from the lazy associations.
+    public static BookingEventLog toEntity(Booking booking, BookingEventType eventType) {
+        return BookingEventLog.builder()
+                .bookingId(booking.getId())
+                .bookingVersion(booking.getVersion())
+                .eventType(eventType)
+                .status(booking.getStatus())
+                .requesterId(booking.getRequester().getId())
+                .providerId(booking.getProvider().getId())
+                .skillId(booking.getSkill().getId())
+                .startTime(booking.getStartTime())
+                .endTime(booking.getEndTime())
+                .totalAmount(booking.getTotalAmount())
+                .cancelledBy(booking.getCancelledBy())
+                .build();
+    }
+
+    // Entity -> Response DTO
+    public static BookingEventLogResponse toResponse(BookingEventLog event) {
+        return BookingEventLogResponse.builder()
+                .sequenceNumber(event.getSequenceNumber())
+                .bookingId(event.getBookingId())
+                .bookingVersion(event.getBookingVersion())
+                .eventType(event.getEventType())
+                .status(event.getStatus())
+                .requesterId(event.getRequesterId())
+                .providerId(event.getProviderId())
+                .skillId(event.getSkillId())
+                .startTime(event.getStartTime())
+                .endTime(event.getEndTime())
+                .totalAmount(event.getTotalAmount())
+                .cancelledBy(event.getCancelledBy())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
@@ -3,6 +3,8 @@ package com.backend.skillswap.mapper;
 import com.backend.skillswap.dto.request.BookingRequest;
 import com.backend.skillswap.dto.response.BookingResponse;
 import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.events.BookingSnapshot;
 
 public class BookingMapper {
 
@@ -50,6 +52,72 @@ public class BookingMapper {
                 .build();
     }
 
+    // Entity -> immutable event snapshot (call inside the transaction, lazy associations are resolved here)
+    public static BookingSnapshot toSnapshot(Booking booking) {
+        return new BookingSnapshot(
+                booking.getId(),
+
+                booking.getSkill().getId(),
+                booking.getSkill().getTitle(),
+
+                booking.getRequester().getId(),
+                booking.getRequester().getEmail(),
+                displayName(booking.getRequester()),
+
+                booking.getProvider().getId(),
+                booking.getProvider().getEmail(),
+                displayName(booking.getProvider()),
+                booking.getProvider().getUserProfile() != null
+                        ? booking.getProvider().getUserProfile().getFullName()
+                        : null,
+
+                booking.getStartTime(),
+                booking.getEndTime(),
+                booking.getDurationMinutes(),
+
+                booking.getPricePerHour(),
+                booking.getTotalAmount(),
+
+                booking.getStatus(),
+                booking.getCancelReason(),
+                booking.getCancelledBy(),
+                booking.getDisputeReason(),
+
+                booking.getCreatedAt(),
+                booking.getUpdatedAt()
+        );
+    }
+
+    // Full name from profile, username if profile not created yet
+    private static String displayName(UserEntity user) {
+        return user.getUserProfile() != null
+                ? user.getUserProfile().getFullName()
+                : user.getUsername();
+    }
+
+    // Event snapshot -> Response DTO (cached timelines are served without touching entities).
+    // Provider name as in toResponse(Booking): full name, email if no profile
+    public static BookingResponse toResponse(BookingSnapshot booking) {
+        return BookingResponse.builder()
+                .bookingId(booking.bookingId())
+                .skillId(booking.skillId())
+                .skillName(booking.skillTitle())
+                .requesterId(booking.requesterId())
+                .providerId(booking.providerId())
+                .providerName(booking.providerFullName() != null ? booking.providerFullName() : booking.providerEmail())
+                .startTime(booking.startTime())
+                .endTime(booking.endTime())
+                .durationMinutes(booking.durationMinutes())
+                .pricePerHour(booking.pricePerHour())
+                .totalAmount(booking.totalAmount())
+                .status(booking.status())
+                .cancelReason(booking.cancelReason())
+                .message(null)
+                .createdAt(booking.createdAt())
+                .updatedAt(booking.updatedAt())
+                .build();
+    }
+
     // Request DTO -> Entity
     public static Booking toEntity(BookingRequest request) {
         return Booking.builder()
@@ -0,0 +1,58 @@
+package com.backend.skillswap.mapper;
+
+import com.backend.skillswap.dto.request.AvailabilityExceptionRequest;
+import com.backend.skillswap.dto.request.AvailabilityRuleRequest;
+import com.backend.skillswap.dto.response.AvailabilityExceptionResponse;
+import com.backend.skillswap.dto.response.AvailabilityRuleResponse;
+import com.backend.skillswap.entity.ProviderAvailabilityException;
+import com.backend.skillswap.entity.ProviderAvailabilityRule;
+import com.backend.skillswap.entity.UserEntity;
+
+public class ProviderAvailabilityMapper {
+
+    private ProviderAvailabilityMapper() {
+        // Utility class
+    }
+
+    // ================= RULE =================
+    public static ProviderAvailabilityRule toEntity(AvailabilityRuleRequest request, UserEntity provider) {
+        return ProviderAvailabilityRule.builder()
+                .provider(provider)
+                .dayOfWeek(request.getDayOfWeek())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .build();
+    }
+
+    public static AvailabilityRuleResponse toResponse(ProviderAvailabilityRule rule) {
+        return AvailabilityRuleResponse.builder()
+                .id(rule.getId())
+                .dayOfWeek(rule.getDayOfWeek())
+                .startTime(rule.getStartTime())
+                .endTime(rule.getEndTime())
+                .build();
+    }
+
+    // ================= EXCEPTION =================
+    public static ProviderAvailabilityException toEntity(AvailabilityExceptionRequest request, UserEntity provider) {
+        return ProviderAvailabilityException.builder()
+                .provider(provider)
+                .date(request.getDate())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .available(request.isAvailable())
+                .reason(request.getReason())
+                .build();
+    }
+
+    public static AvailabilityExceptionResponse toResponse(ProviderAvailabilityException exception) {
+        return AvailabilityExceptionResponse.builder()
+                .id(exception.getId())
+                .date(exception.getDate())
+                .startTime(exception.getStartTime())
+                .endTime(exception.getEndTime())
+                .available(exception.isAvailable())
+                .reason(exception.getReason())
+                .build();
+    }
+}
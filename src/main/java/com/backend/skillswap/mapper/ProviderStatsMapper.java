@@ -0,0 +1,31 @@
+package com.backend.skillswap.mapper;
+
+import com.backend.skillswap.dto.response.ProviderStatsResponse;
+import com.backend.skillswap.entity.ProviderStats;
+
+public class ProviderStatsMapper {
+
+    // Entity → Response DTO
+    public static ProviderStatsResponse toResponse(ProviderStats stats) {
+        long finished = stats.getCompletedSessions() + stats.getCancelledSessions();
+
+        return ProviderStatsResponse.builder()
+                .providerId(stats.getProviderId())
+                .completedSessions(stats.getCompletedSessions())
+                .cancelledSessions(stats.getCancelledSessions())
+                .disputedSessions(stats.getDisputedSessions())
+                .distinctLearners(stats.getDistinctLearners())
+                .repeatLearners(stats.getRepeatLearners())
+                .cancellationRate(finished == 0 ? 0 : (double) stats.getCancelledSessions() / finished)
+                .rating(ReviewMapper.toSummary(stats.getRating()))
+                .build();
+    }
+
+    // Provider without any finished booking yet
+    public static ProviderStatsResponse empty(Long providerId) {
+        return ProviderStatsResponse.builder()
+                .providerId(providerId)
+                .rating(ReviewMapper.emptySummary())
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.skillswap.mapper;
+
+import com.backend.skillswap.dto.response.RatingSummaryResponse;
+import com.backend.skillswap.dto.response.ReviewResponse;
+import com.backend.skillswap.entity.RatingSummary;
+import com.backend.skillswap.entity.Review;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ReviewMapper {
+
+    // Entity → Response DTO
+    public static ReviewResponse toResponse(Review review) {
+        return ReviewResponse.builder()
+                .id(review.getId())
+                .bookingId(review.getBooking().getId())
+                .skillId(review.getSkill().getId())
+                .reviewerId(review.getReviewer().getId())
+                .reviewerUsername(review.getReviewer().getUsername())
+                .rating(review.getRating())
+                .comment(review.getComment())
+                .createdAt(review.getCreatedAt())
+                .build();
+    }
+
+    // Aggregate columns → count / average / histogram
+    public static RatingSummaryResponse toSummary(RatingSummary rating) {
+        if (rating == null) {
+            return emptySummary();
+        }
+
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, rating.getOneStar());
+        histogram.put(2, rating.getTwoStars());
+        histogram.put(3, rating.getThreeStars());
+        histogram.put(4, rating.getFourStars());
+        histogram.put(5, rating.getFiveStars());
+
+        return RatingSummaryResponse.builder()
+                .count(rating.getRatingCount())
+                .average(rating.getRatingCount() == 0 ? 0 : (double) rating.getRatingSum() / rating.getRatingCount())
+                .histogram(histogram)
+                .build();
+    }
+
+    public static RatingSummaryResponse emptySummary() {
+        return toSummary(new RatingSummary());
+    }
+}
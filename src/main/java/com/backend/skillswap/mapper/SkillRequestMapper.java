@@ -5,6 +5,7 @@ import com.backend.skillswap.dto.response.SkillRequestResponse;
 import com.backend.skillswap.entity.SkillRequest;
 import com.backend.skillswap.entity.UserEntity;
 import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.repository.projection.SkillRequestLabels;
 
 public class SkillRequestMapper {
 
@@ -13,22 +14,23 @@ public class SkillRequestMapper {
     }
 
     // ENTITY → RESPONSE
-    public static SkillRequestResponse toResponse(SkillRequest request) {
+    // Ids come from the (lazy) association keys; names from one projection query, so no user/skill row is loaded
+    public static SkillRequestResponse toResponse(SkillRequest request, SkillRequestLabels labels) {
 
         return SkillRequestResponse.builder()
                 .id(request.getId())
 
                 // Sender
                 .senderId(request.getSender().getId())
-                .senderUsername(request.getSender().getUsername())
+                .senderUsername(labels.senderUsername())
 
                 // Receiver
                 .receiverId(request.getReceiver().getId())
-                .receiverUsername(request.getReceiver().getUsername())
+                .receiverUsername(labels.receiverUsername())
 
                 // Skill
                 .skillId(request.getSkill().getId())
-                .skillTitle(request.getSkill().getTitle())
+                .skillTitle(labels.skillTitle())
 
                 // Request data
                 .message(request.getMessage())
@@ -21,6 +21,8 @@ public class UserProfileMapper {
                 .bio(profile.getBio())
                 .country(profile.getCountry())
                 .location(profile.getLocation())
+                .latitude(profile.getLatitude())
+                .longitude(profile.getLongitude())
                 .profileImage(profile.getProfileImage())
                 .createdAt(profile.getCreatedAt())
                 .updatedAt(profile.getUpdatedAt())
@@ -4,6 +4,7 @@ import com.backend.skillswap.dto.request.UserSkillRequest;
 import com.backend.skillswap.dto.response.UserSkillResponse;
 import com.backend.skillswap.entity.UserEntity;
 import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.events.SkillModerationNotice;
 
 public class UserSkillMapper {
 
@@ -25,6 +26,21 @@ public class UserSkillMapper {
                 .build();
     }
 
+    // Entity → moderation mail snapshot (call inside the transaction, owner and profile are resolved here)
+    public static SkillModerationNotice toNotice(UserSkill skill, SkillModerationNotice.Decision decision) {
+        UserEntity owner = skill.getUser();
+        return new SkillModerationNotice(
+                decision,
+                skill.getId(),
+                skill.getTitle(),
+                skill.getCategory(),
+                skill.getLevel(),
+                skill.getHourlyRate(),
+                owner.getEmail(),
+                owner.getUserProfile() != null ? owner.getUserProfile().getFullName() : owner.getEmail()
+        );
+    }
+
     // Request DTO → Entity (Create)
     public static UserSkill toEntity(UserSkillRequest dto, UserEntity user) {
         return UserSkill.builder()
@@ -0,0 +1,17 @@
+package com.backend.skillswap.mapper;
+
+import com.backend.skillswap.dto.response.WantedSkillResponse;
+import com.backend.skillswap.entity.WantedSkill;
+
+public class WantedSkillMapper {
+
+    // Entity → Response DTO
+    public static WantedSkillResponse toResponse(WantedSkill wantedSkill) {
+        return WantedSkillResponse.builder()
+                .id(wantedSkill.getId())
+                .category(wantedSkill.getCategory())
+                .keyword(wantedSkill.getKeyword())
+                .createdAt(wantedSkill.getCreatedAt())
+                .build();
+    }
+}
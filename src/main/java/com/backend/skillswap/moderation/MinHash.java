@@ -0,0 +1,75 @@
+package com.backend.skillswap.moderation;
+
+import com.backend.skillswap.search.SkillTokenizer;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// MinHash signatures over character shingles of a skill's title + description.
+// Two signatures agree in a position with probability equal to the Jaccard similarity of the shingle
+// sets, so the share of equal positions estimates similarity without keeping (or comparing) the text.
+public final class MinHash {
+
+    public static final int SIGNATURE_LENGTH = 64;
+
+    // Character shingles survive small edits ("guitar lessons!!" vs "guitar lesson") better than word shingles
+    private static final int SHINGLE = 5;
+
+    // One seed per signature position, fixed → signatures stay comparable across restarts
+    private static final long[] SEEDS = new SplittableRandom(0x5EED_5C17L).longs(SIGNATURE_LENGTH).toArray();
+
+    private MinHash() {
+        // Utility class
+    }
+
+    // null = nothing to shingle (blank text)
+    public static int[] signature(String title, String description) {
+
+        String text = (SkillTokenizer.normalize(title) + " " + SkillTokenizer.normalize(description)).trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int shingles = Math.max(1, text.length() - SHINGLE + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = fnv(text, start, Math.min(text.length(), start + SHINGLE));
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // Estimated Jaccard similarity of the two shingle sets
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_LENGTH;
+    }
+
+    private static long fnv(String text, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Stafford variant 13 finaliser (as in SplittableRandom)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
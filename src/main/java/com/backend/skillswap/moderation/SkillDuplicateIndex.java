@@ -0,0 +1,320 @@
+package com.backend.skillswap.moderation;
+
+import com.backend.skillswap.dto.response.SkillClusterResponse;
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.events.SkillChangeEvent;
+import com.backend.skillswap.mapper.UserSkillMapper;
+import com.backend.skillswap.repository.UserSkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Near-duplicate detection for the moderation queue (active, unverified skills).
+// Each pending skill gets a MinHash signature; LSH splits it into bands and files the skill under one
+// bucket per band. Only skills sharing a bucket are compared, and confirmed pairs are kept as edges, so
+// the clusters shown to moderators are connected components — no pass ever compares all pairs.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillDuplicateIndex {
+
+    // Signature agreement needed to call two skills near-duplicates
+    public static final double SIMILARITY_THRESHOLD = 0.7;
+
+    // 16 bands × 4 rows: a pair with similarity s becomes a candidate with probability 1 - (1 - s^4)^16,
+    // i.e. ~99% at 0.7, ~64% at 0.5, ~12% at 0.3, ~2.5% at 0.2. Candidates below the threshold are only
+    // compared once and dropped, so the false-positive side costs a signature comparison, not a wrong edge.
+    private static final int BANDS = 16;
+    private static final int ROWS = MinHash.SIGNATURE_LENGTH / BANDS;
+
+    // Candidates verified per change; a bucket of identical spam still links up through the first few
+    private static final int CANDIDATE_CAP = 50;
+
+    private final UserSkillRepository userSkillRepository;
+
+    private final Map<Long, Pending> pending = new HashMap<>();
+    // band key → pending skills in that bucket
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+    // skill → confirmed near-duplicates
+    private final Map<Long, Set<Long>> similar = new HashMap<>();
+
+    // Skills that recently left the queue → a late (older) change can't bring them back.
+    // Pending skills carry their own timestamp; only the most recent REMOVED_WINDOW removals are kept.
+    static final int REMOVED_WINDOW = 10_000;
+    private final Map<Long, LocalDateTime> removed = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LocalDateTime> eldest) {
+            return size() > REMOVED_WINDOW;
+        }
+    };
+
+    // Changes applied while a warm-up query runs, replayed on top of its rows (null = no load running)
+    private List<UserSkillResponse> changedDuringLoad;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ================= WARM-UP =================
+    // Query without the lock (live changes keep flowing), then rebuild under it: loaded rows first,
+    // then the changes that arrived meanwhile, newest wins
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadPending() {
+
+        long started = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<UserSkillResponse> queue;
+        try {
+            queue = userSkillRepository.findByVerifiedFalseAndActiveTrue()
+                    .stream()
+                    .map(UserSkillMapper::toResponse)
+                    .toList();
+        } catch (RuntimeException e) {
+            log.warn("Skill duplicate index load failed: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                changedDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<UserSkillResponse> live = changedDuringLoad;
+            changedDuringLoad = null;
+
+            pending.clear();
+            buckets.clear();
+            similar.clear();
+            removed.clear();
+            queue.forEach(this::apply);
+            live.forEach(this::apply);
+
+            log.info("Skill duplicate index loaded {} pending skills ({} live changes replayed) in {} ms",
+                    queue.size(), live.size(), System.currentTimeMillis() - started);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= LIVE CHANGES (after commit) =================
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSkillChange(SkillChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event.skill());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // File imports insert over JDBC without change events → pick up the user's new skills afterwards
+    @Transactional(readOnly = true)
+    public void loadImported(Long userId, LocalDateTime since) {
+        List<UserSkillResponse> imported = userSkillRepository
+                .findByUserIdAndVerifiedFalseAndActiveTrueAndCreatedAtGreaterThanEqual(userId, since)
+                .stream()
+                .map(UserSkillMapper::toResponse)
+                .toList();
+
+        lock.writeLock().lock();
+        try {
+            imported.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= CLUSTERS =================
+    // Pending skills grouped by similarity, biggest cluster first; minSize = 1 also lists lone skills
+    public List<SkillClusterResponse> clusters(int minSize) {
+
+        lock.readLock().lock();
+        try {
+            List<SkillClusterResponse> clusters = new ArrayList<>();
+            Set<Long> seen = new HashSet<>();
+
+            for (Long start : pending.keySet()) {
+                if (!seen.add(start)) {
+                    continue;
+                }
+
+                // Breadth-first over confirmed pairs
+                List<UserSkillResponse> members = new ArrayList<>();
+                Deque<Long> queue = new ArrayDeque<>();
+                queue.add(start);
+                while (!queue.isEmpty()) {
+                    Long skillId = queue.poll();
+                    members.add(pending.get(skillId).skill());
+                    for (Long neighbor : similar.getOrDefault(skillId, Set.of())) {
+                        if (seen.add(neighbor)) {
+                            queue.add(neighbor);
+                        }
+                    }
+                }
+
+                if (members.size() >= minSize) {
+                    clusters.add(toCluster(members));
+                }
+            }
+
+            clusters.sort(Comparator.comparingInt(SkillClusterResponse::getSize).reversed()
+                    .thenComparing(SkillClusterResponse::getClusterId, Comparator.reverseOrder()));
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================= HELPERS =================
+    // Caller holds the write lock
+    private void apply(UserSkillResponse skill) {
+
+        if (changedDuringLoad != null) {
+            changedDuringLoad.add(skill);
+        }
+
+        LocalDateTime previous = lastApplied(skill.getId());
+        if (previous != null && skill.getUpdatedAt() != null && skill.getUpdatedAt().isBefore(previous)) {
+            return;
+        }
+
+        drop(skill.getId());
+        removed.remove(skill.getId());
+        if (skill.isActive() && !skill.isVerified()) {
+            add(skill);
+        } else if (skill.getUpdatedAt() != null) {
+            removed.put(skill.getId(), skill.getUpdatedAt());
+        }
+    }
+
+    // Caller holds the lock
+    private LocalDateTime lastApplied(Long skillId) {
+        Pending current = pending.get(skillId);
+        return current != null ? current.skill().getUpdatedAt() : removed.get(skillId);
+    }
+
+    // Package-private for tests
+    int trackedSkills() {
+        lock.readLock().lock();
+        try {
+            return pending.size() + removed.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void add(UserSkillResponse skill) {
+
+        int[] signature = MinHash.signature(skill.getTitle(), skill.getDescription());
+        long[] bandKeys = signature != null ? bandKeys(signature) : new long[0];
+
+        // Candidate generation: skills sharing at least one bucket
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (long key : bandKeys) {
+            for (Long other : buckets.getOrDefault(key, Set.of())) {
+                if (candidates.size() >= CANDIDATE_CAP) {
+                    break;
+                }
+                candidates.add(other);
+            }
+        }
+
+        for (Long other : candidates) {
+            if (MinHash.similarity(signature, pending.get(other).signature()) >= SIMILARITY_THRESHOLD) {
+                similar.computeIfAbsent(skill.getId(), id -> new HashSet<>()).add(other);
+                similar.computeIfAbsent(other, id -> new HashSet<>()).add(skill.getId());
+            }
+        }
+
+        for (long key : bandKeys) {
+            buckets.computeIfAbsent(key, k -> new HashSet<>()).add(skill.getId());
+        }
+        pending.put(skill.getId(), new Pending(skill, signature, bandKeys));
+    }
+
+    // Caller holds the write lock
+    private void drop(Long skillId) {
+
+        Pending previous = pending.remove(skillId);
+        if (previous == null) {
+            return;
+        }
+
+        for (long key : previous.bandKeys()) {
+            Set<Long> bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(skillId) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+
+        Set<Long> neighbors = similar.remove(skillId);
+        if (neighbors != null) {
+            for (Long neighbor : neighbors) {
+                Set<Long> theirs = similar.get(neighbor);
+                if (theirs != null && theirs.remove(skillId) && theirs.isEmpty()) {
+                    similar.remove(neighbor);
+                }
+            }
+        }
+    }
+
+    // One key per band: the band's rows hashed together with the band number
+    private static long[] bandKeys(int[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS; row++) {
+                key = key * 0x9E3779B97F4A7C15L + signature[band * ROWS + row];
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    private static SkillClusterResponse toCluster(List<UserSkillResponse> members) {
+
+        members.sort(Comparator.comparing(UserSkillResponse::getId).reversed());
+
+        return SkillClusterResponse.builder()
+                .clusterId(members.get(members.size() - 1).getId())
+                .size(members.size())
+                .owners((int) members.stream().map(UserSkillResponse::getUserId).distinct().count())
+                .skillIds(members.stream().map(UserSkillResponse::getId).toList())
+                .skills(List.copyOf(members))
+                .build();
+    }
+
+    private record Pending(UserSkillResponse skill, int[] signature, long[] bandKeys) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.backend.skillswap.notification;
+
+import com.backend.skillswap.events.SkillModerationNotice;
+import com.backend.skillswap.service.EmailService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Skill moderation mails, decoupled from the moderating request.
+// Services enqueue detached notices after commit (never inside the transaction); a scheduled flush
+// drains the queue in batches, each batch sent over one SMTP session. A notice whose mail fails is
+// queued again for the next flush, up to MAX_ATTEMPTS sends, then dropped with an error log.
+// In-memory → loss window: notices enqueued but not yet sent (up to one flush interval, plus one more
+// for a retry) are lost if the instance dies without running shutdown(), e.g. on a kill -9 or crash.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillNotificationQueue {
+
+    // Mails per SMTP session
+    private static final int BATCH_SIZE = 50;
+
+    // First send + one retry
+    static final int MAX_ATTEMPTS = 2;
+
+    private final EmailService emailService;
+
+    private final Queue<Queued> pending = new ConcurrentLinkedQueue<>();
+
+    // ================= ENQUEUE (after commit) =================
+    public void enqueue(Collection<SkillModerationNotice> notices) {
+        notices.forEach(notice -> pending.add(new Queued(notice, 0)));
+    }
+
+    // ================= DELIVERY =================
+    @Scheduled(fixedDelayString = "${skillswap.notifications.flush-ms:2000}")
+    public synchronized void flush() {
+
+        // Failures go back only after the drain → retried on the next flush, not in a loop now
+        List<Queued> retry = new ArrayList<>();
+        List<Queued> batch = new ArrayList<>(BATCH_SIZE);
+        Queued next;
+
+        while ((next = pending.poll()) != null) {
+            batch.add(next);
+            if (batch.size() == BATCH_SIZE) {
+                send(batch, retry);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch, retry);
+        }
+
+        pending.addAll(retry);
+    }
+
+    // Last chance for whatever is still queued (including retries)
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        flush();
+    }
+
+    private void send(List<Queued> batch, List<Queued> retry) {
+
+        List<SkillModerationNotice> notices = batch.stream().map(Queued::notice).toList();
+
+        List<SkillModerationNotice> failed;
+        try {
+            failed = emailService.sendSkillModerationMails(notices);
+        } catch (RuntimeException e) {
+            log.error("Failed to send {} skill moderation mails", batch.size(), e);
+            failed = notices;
+        }
+        if (failed.isEmpty()) {
+            return;
+        }
+
+        Set<SkillModerationNotice> failedNotices = new HashSet<>(failed);
+        for (Queued queued : batch) {
+            if (!failedNotices.contains(queued.notice())) {
+                continue;
+            }
+            if (queued.attempts() + 1 < MAX_ATTEMPTS) {
+                retry.add(new Queued(queued.notice(), queued.attempts() + 1));
+            } else {
+                log.error("Giving up on skill moderation mail for skill {} to {}",
+                        queued.notice().skillId(), queued.notice().ownerEmail());
+            }
+        }
+    }
+
+    private record Queued(SkillModerationNotice notice, int attempts) {
+    }
+}
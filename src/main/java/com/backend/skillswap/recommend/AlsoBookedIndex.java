@@ -0,0 +1,212 @@
+package com.backend.skillswap.recommend;
+
+import com.backend.skillswap.repository.BookingRepository;
+import com.backend.skillswap.repository.projection.LearnerSkill;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// "Learners who booked X also booked Y", from held (completed / disputed) sessions.
+// Full build: learners are split into partitions (id mod N), each worker pages through its own bookings
+// and builds a partial co-occurrence matrix; the partials are merged and every row cut to its top-k
+// by cosine similarity. Refresh: only bookings updated since the last run are fed in and only the
+// touched rows are re-ranked. Readers get an immutable packed snapshot, swapped atomically.
+@Slf4j
+@Component
+public class AlsoBookedIndex {
+
+    // Upper bound for ?limit=
+    public static final int MAX_NEIGHBORS = 10;
+
+    // Neighbours kept per skill, with headroom for ones that are no longer public
+    private static final int KEPT_NEIGHBORS = 20;
+
+    private static final int PAGE_SIZE = 5_000;
+
+    // Re-read a little before the last run: sessions completed in a transaction that committed late
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(2);
+
+    private final BookingRepository bookingRepository;
+    private final int partitions;
+    private final ExecutorService workers;
+
+    // Guarded by this (build / refresh are synchronized)
+    private CoOccurrenceCounts counts = new CoOccurrenceCounts();
+    private final Map<Long, long[]> topNeighbors = new HashMap<>();
+    private LocalDateTime watermark;
+
+    private final AtomicReference<SkillNeighbors> current = new AtomicReference<>(SkillNeighbors.EMPTY);
+
+    public AlsoBookedIndex(
+            BookingRepository bookingRepository,
+            @Value("${skillswap.also-booked.partitions:4}") int partitions
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.partitions = partitions;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(partitions, runnable -> {
+            Thread thread = new Thread(runnable, "also-booked-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================= LOOKUP =================
+    public long[] neighbors(Long skillId) {
+        return current.get().neighbors(skillId);
+    }
+
+    // ================= FULL BUILD (startup + nightly) =================
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${skillswap.also-booked.rebuild-cron:0 0 4 * * *}")
+    public synchronized void rebuild() {
+
+        long started = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        try {
+            List<Future<CoOccurrenceCounts>> parts = new ArrayList<>();
+            for (int partition = 0; partition < partitions; partition++) {
+                int part = partition;
+                parts.add(workers.submit(() -> loadPartition(part)));
+            }
+
+            CoOccurrenceCounts merged = new CoOccurrenceCounts();
+            for (Future<CoOccurrenceCounts> part : parts) {
+                merged.addAll(part.get());
+            }
+
+            counts = merged;
+            topNeighbors.clear();
+            merged.skills().forEach(this::rank);
+            watermark = startedAt.minus(REFRESH_OVERLAP);
+            publish();
+
+            log.info("Also-booked index built for {} skills over {} partitions in {} ms",
+                    topNeighbors.size(), partitions, System.currentTimeMillis() - started);
+        } catch (ExecutionException | RuntimeException e) {
+            // Keep serving the previous snapshot
+            log.warn("Also-booked rebuild failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ================= INCREMENTAL REFRESH =================
+    // Other rows that merely contain a touched skill keep their scores until the nightly build
+    @Scheduled(fixedDelayString = "${skillswap.also-booked.refresh-ms:600000}",
+            initialDelayString = "${skillswap.also-booked.refresh-ms:600000}")
+    public synchronized void refresh() {
+
+        if (watermark == null) {
+            return;   // first build not done yet
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        Set<Long> touched = new HashSet<>();
+
+        try {
+            long afterId = 0;
+            List<LearnerSkill> page;
+            do {
+                page = bookingRepository.findHeldSessionsUpdatedSince(watermark, afterId, PageRequest.of(0, PAGE_SIZE));
+                for (LearnerSkill row : page) {
+                    counts.add(row.learnerId(), row.skillId(), touched);
+                    afterId = row.bookingId();
+                }
+            } while (page.size() == PAGE_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Also-booked refresh failed: {}", e.getMessage());
+            return;
+        }
+
+        watermark = startedAt.minus(REFRESH_OVERLAP);
+        if (!touched.isEmpty()) {
+            touched.forEach(this::rank);
+            publish();
+            log.debug("Also-booked index refreshed, {} rows re-ranked", touched.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // ================= HELPERS =================
+    // Worker thread: each repository call runs in its own read-only transaction
+    private CoOccurrenceCounts loadPartition(int partition) {
+        CoOccurrenceCounts partial = new CoOccurrenceCounts();
+        Set<Long> ignored = new HashSet<>();
+
+        long afterId = 0;
+        List<LearnerSkill> page;
+        do {
+            page = bookingRepository.findHeldSessionsInPartition(partitions, partition, afterId, PageRequest.of(0, PAGE_SIZE));
+            for (LearnerSkill row : page) {
+                partial.add(row.learnerId(), row.skillId(), ignored);
+                afterId = row.bookingId();
+            }
+            ignored.clear();
+        } while (page.size() == PAGE_SIZE);
+
+        return partial;
+    }
+
+    // Top-k of one row by cosine: shared learners / sqrt(learners of x * learners of y)
+    private void rank(Long skillId) {
+
+        Map<Long, Integer> row = counts.row(skillId);
+        if (row.isEmpty()) {
+            topNeighbors.remove(skillId);
+            return;
+        }
+
+        double learnersOfSkill = counts.learners(skillId);
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(Map.Entry.comparingByValue());
+
+        row.forEach((neighbor, shared) -> {
+            best.add(Map.entry(neighbor, shared / Math.sqrt(learnersOfSkill * counts.learners(neighbor))));
+            if (best.size() > KEPT_NEIGHBORS) {
+                best.poll();
+            }
+        });
+
+        long[] ranked = new long[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = best.poll().getKey();
+        }
+        topNeighbors.put(skillId, ranked);
+    }
+
+    private void publish() {
+        current.set(SkillNeighbors.pack(topNeighbors));
+    }
+}
@@ -0,0 +1,60 @@
+package com.backend.skillswap.recommend;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Sparse, symmetric skill × skill matrix: cell (x, y) = learners who held sessions of both x and y.
+// Fed one (learner, skill) pair at a time, so a full load and an incremental refresh share the same path.
+// Not thread-safe: each partition builds its own, the owner merges them.
+final class CoOccurrenceCounts {
+
+    // Very active learners would add O(n²) cells and mostly noise
+    static final int MAX_SKILLS_PER_LEARNER = 100;
+
+    private final Map<Long, Set<Long>> skillsByLearner = new HashMap<>();
+    private final Map<Long, Map<Long, Integer>> rows = new HashMap<>();
+    private final Map<Long, Integer> learnersPerSkill = new HashMap<>();
+
+    // Adds the pair once (repeats are no-ops); rows that changed are added to `touched`
+    void add(Long learnerId, Long skillId, Set<Long> touched) {
+
+        Set<Long> skills = skillsByLearner.computeIfAbsent(learnerId, id -> new HashSet<>());
+        if (skills.contains(skillId) || skills.size() >= MAX_SKILLS_PER_LEARNER) {
+            return;
+        }
+
+        for (Long other : skills) {
+            rows.computeIfAbsent(skillId, id -> new HashMap<>()).merge(other, 1, Integer::sum);
+            rows.computeIfAbsent(other, id -> new HashMap<>()).merge(skillId, 1, Integer::sum);
+            touched.add(other);
+        }
+        skills.add(skillId);
+        learnersPerSkill.merge(skillId, 1, Integer::sum);
+        touched.add(skillId);
+    }
+
+    // Partitions own disjoint learners, so cells and popularity simply add up
+    void addAll(CoOccurrenceCounts other) {
+        skillsByLearner.putAll(other.skillsByLearner);
+        other.rows.forEach((skillId, row) -> {
+            Map<Long, Integer> target = rows.computeIfAbsent(skillId, id -> new HashMap<>());
+            row.forEach((neighbor, count) -> target.merge(neighbor, count, Integer::sum));
+        });
+        other.learnersPerSkill.forEach((skillId, count) -> learnersPerSkill.merge(skillId, count, Integer::sum));
+    }
+
+    Map<Long, Integer> row(Long skillId) {
+        return rows.getOrDefault(skillId, Map.of());
+    }
+
+    int learners(Long skillId) {
+        return learnersPerSkill.getOrDefault(skillId, 0);
+    }
+
+    Collection<Long> skills() {
+        return rows.keySet();
+    }
+}
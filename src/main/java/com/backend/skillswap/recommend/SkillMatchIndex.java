@@ -0,0 +1,315 @@
+package com.backend.skillswap.recommend;
+
+import com.backend.skillswap.dto.response.SkillMatchResponse;
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.repository.WantedSkillRepository;
+import com.backend.skillswap.repository.projection.UserWant;
+import com.backend.skillswap.search.SkillIndex;
+import com.backend.skillswap.search.SkillTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Skill-swap matching: who can teach whom.
+// Both sides are indexed by match key ("PROGRAMMING" or "PROGRAMMING:python"): public skills give one key
+// per title word plus their category, a want gives exactly one. Every change walks only the users behind
+// the affected keys and patches a directed "a can teach b" graph, so asking for matches is a lookup in
+// that graph: mutual pairs (a ⇄ b) and 3-cycles (a → b → c → a, settled with time credits).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillMatchIndex implements SkillIndex {
+
+    // Upper bound for ?limit=
+    public static final int MAX_MATCHES = 50;
+
+    // Neighbours looked at per hop when searching cycles → bounded work for very popular users
+    private static final int CYCLE_FANOUT = 200;
+
+    private final WantedSkillRepository wantedSkillRepository;
+
+    // ===== Teaches side (public skills only) =====
+    private final Map<Long, Taught> taught = new HashMap<>();
+    private final Map<Long, Map<Long, Taught>> taughtByUser = new HashMap<>();
+    // user → key → number of their skills giving it
+    private final Map<Long, Map<String, Integer>> teachKeys = new HashMap<>();
+    private final Map<String, Set<Long>> teachersByKey = new HashMap<>();
+
+    // ===== Wants side =====
+    private final Map<Long, Set<String>> wants = new HashMap<>();
+    private final Map<String, Set<Long>> wantersByKey = new HashMap<>();
+
+    // ===== Graph: teaches[a][b] = keys through which a can teach b; learnsFrom is the mirror =====
+    private final Map<Long, Map<Long, Integer>> teaches = new HashMap<>();
+    private final Map<Long, Map<Long, Integer>> learnsFrom = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public String name() {
+        return "skill-match";
+    }
+
+    // ================= TEACHES (fed by SkillIndexUpdater) =================
+    @Override
+    public void reset() {
+        lock.writeLock().lock();
+        try {
+            taught.clear();
+            taughtByUser.clear();
+            teachKeys.clear();
+            teachersByKey.clear();
+            teaches.clear();
+            learnsFrom.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(UserSkillResponse skill) {
+
+        Taught entry = new Taught(skill.getId(), skill.getUserId(), skill.getTitle(), teachKeysOf(skill));
+
+        lock.writeLock().lock();
+        try {
+            untrack(skill.getId());
+            taught.put(entry.skillId(), entry);
+            taughtByUser.computeIfAbsent(entry.userId(), id -> new TreeMap<>()).put(entry.skillId(), entry);
+
+            Map<String, Integer> keys = teachKeys.computeIfAbsent(entry.userId(), id -> new HashMap<>());
+            for (String key : entry.keys()) {
+                if (keys.merge(key, 1, Integer::sum) == 1) {
+                    teachersByKey.computeIfAbsent(key, k -> new HashSet<>()).add(entry.userId());
+                    wantersByKey.getOrDefault(key, Set.of()).forEach(learner -> link(entry.userId(), learner, 1));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long skillId) {
+        lock.writeLock().lock();
+        try {
+            untrack(skillId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= WANTS (after commit) =================
+    public void addWant(Long userId, SkillCategory category, String keyword) {
+        lock.writeLock().lock();
+        try {
+            trackWant(userId, key(category, keyword));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeWant(Long userId, SkillCategory category, String keyword) {
+
+        String key = key(category, keyword);
+
+        lock.writeLock().lock();
+        try {
+            Set<String> userWants = wants.get(userId);
+            if (userWants == null || !userWants.remove(key)) {
+                return;
+            }
+            if (userWants.isEmpty()) {
+                wants.remove(userId);
+            }
+            removeFromKey(wantersByKey, key, userId);
+            teachersByKey.getOrDefault(key, Set.of()).forEach(teacher -> link(teacher, userId, -1));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Read under the write lock: a want committed during the load is either in the rows or applied after us
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWants() {
+
+        long started = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            List<UserWant> all = wantedSkillRepository.findAllWants();
+
+            wants.clear();
+            wantersByKey.clear();
+            teaches.clear();
+            learnsFrom.clear();
+            all.forEach(want -> trackWant(want.userId(), key(want.category(), want.keyword())));
+
+            log.info("Skill match index loaded {} wants, {} teach links in {} ms",
+                    all.size(), teaches.values().stream().mapToInt(Map::size).sum(),
+                    System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("Skill match wants load failed: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= MATCHES =================
+    // Mutual pairs first (strongest overlap first), then 3-cycles
+    public List<SkillMatchResponse> matches(Long userId, int limit) {
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> out = teaches.getOrDefault(userId, Map.of());
+            Map<Long, Integer> in = learnsFrom.getOrDefault(userId, Map.of());
+            List<SkillMatchResponse> result = new ArrayList<>();
+
+            // Pairs: out ∩ in, walking the smaller side
+            Map<Long, Integer> smaller = out.size() <= in.size() ? out : in;
+            Map<Long, Integer> larger = smaller == out ? in : out;
+            List<Long> partners = smaller.keySet().stream()
+                    .filter(larger::containsKey)
+                    .sorted(Comparator.<Long>comparingInt(partner -> out.get(partner) + in.get(partner))
+                            .reversed()
+                            .thenComparing(Comparator.naturalOrder()))
+                    .limit(limit)
+                    .toList();
+            for (Long partner : partners) {
+                result.add(match(SkillMatchResponse.Type.PAIR, List.of(userId, partner)));
+            }
+
+            // Cycles: me → b → c → me
+            for (Long b : out.keySet().stream().limit(CYCLE_FANOUT).toList()) {
+                for (Long c : teaches.getOrDefault(b, Map.of()).keySet().stream().limit(CYCLE_FANOUT).toList()) {
+                    if (result.size() >= limit) {
+                        return result;
+                    }
+                    if (!c.equals(userId) && in.containsKey(c)) {
+                        result.add(match(SkillMatchResponse.Type.CYCLE, List.of(userId, b, c)));
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================= HELPERS =================
+    // Caller holds the write lock
+    private void trackWant(Long userId, String key) {
+        if (!wants.computeIfAbsent(userId, id -> new HashSet<>()).add(key)) {
+            return;
+        }
+        wantersByKey.computeIfAbsent(key, k -> new HashSet<>()).add(userId);
+        teachersByKey.getOrDefault(key, Set.of()).forEach(teacher -> link(teacher, userId, 1));
+    }
+
+    // Caller holds the write lock
+    private void untrack(Long skillId) {
+
+        Taught previous = taught.remove(skillId);
+        if (previous == null) {
+            return;
+        }
+
+        Map<Long, Taught> userSkills = taughtByUser.get(previous.userId());
+        userSkills.remove(skillId);
+        if (userSkills.isEmpty()) {
+            taughtByUser.remove(previous.userId());
+        }
+
+        Map<String, Integer> keys = teachKeys.get(previous.userId());
+        for (String key : previous.keys()) {
+            if (keys.merge(key, -1, (count, delta) -> count + delta == 0 ? null : count + delta) == null) {
+                removeFromKey(teachersByKey, key, previous.userId());
+                wantersByKey.getOrDefault(key, Set.of()).forEach(learner -> link(previous.userId(), learner, -1));
+            }
+        }
+        if (keys.isEmpty()) {
+            teachKeys.remove(previous.userId());
+        }
+    }
+
+    private void link(Long teacher, Long learner, int delta) {
+        if (teacher.equals(learner)) {
+            return;
+        }
+        adjust(teaches, teacher, learner, delta);
+        adjust(learnsFrom, learner, teacher, delta);
+    }
+
+    private static void adjust(Map<Long, Map<Long, Integer>> graph, Long from, Long to, int delta) {
+        Map<Long, Integer> edges = graph.computeIfAbsent(from, id -> new HashMap<>());
+        edges.merge(to, delta, (weight, change) -> weight + change == 0 ? null : weight + change);
+        if (edges.isEmpty()) {
+            graph.remove(from);
+        }
+    }
+
+    private static void removeFromKey(Map<String, Set<Long>> index, String key, Long userId) {
+        Set<Long> users = index.get(key);
+        if (users != null && users.remove(userId) && users.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    // users[i] teaches users[i + 1], the last one teaches users[0]
+    private SkillMatchResponse match(SkillMatchResponse.Type type, List<Long> users) {
+        List<SkillMatchResponse.Leg> legs = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            legs.add(leg(users.get(i), users.get((i + 1) % users.size())));
+        }
+        return SkillMatchResponse.builder()
+                .type(type)
+                .userIds(users)
+                .legs(legs)
+                .build();
+    }
+
+    // Lowest-id skill of the teacher that covers one of the learner's wants
+    private SkillMatchResponse.Leg leg(Long teacher, Long learner) {
+        Set<String> wanted = wants.getOrDefault(learner, Set.of());
+        for (Taught skill : taughtByUser.getOrDefault(teacher, Map.of()).values()) {
+            if (skill.keys().stream().anyMatch(wanted::contains)) {
+                return SkillMatchResponse.Leg.builder()
+                        .teacherId(teacher)
+                        .learnerId(learner)
+                        .skillId(skill.skillId())
+                        .skillTitle(skill.title())
+                        .build();
+            }
+        }
+        throw new IllegalStateException("No skill behind teach link " + teacher + " → " + learner);
+    }
+
+    private static Set<String> teachKeysOf(UserSkillResponse skill) {
+        Set<String> keys = new HashSet<>();
+        keys.add(key(skill.getCategory(), ""));
+        SkillTokenizer.tokenize(skill.getTitle()).forEach(word -> keys.add(key(skill.getCategory(), word)));
+        return keys;
+    }
+
+    private static String key(SkillCategory category, String keyword) {
+        return keyword == null || keyword.isEmpty() ? category.name() : category.name() + ":" + keyword;
+    }
+
+    private record Taught(Long skillId, Long userId, String title, Set<String> keys) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.backend.skillswap.recommend;
+
+import java.util.Arrays;
+import java.util.Map;
+
+// Immutable top-k neighbour lists packed into primitive arrays (CSR layout):
+// the neighbours of skillIds[i] are neighborIds[offsets[i] .. offsets[i + 1]), best first.
+// No boxing and no per-entry objects, so a large catalog stays three flat arrays.
+final class SkillNeighbors {
+
+    static final SkillNeighbors EMPTY = new SkillNeighbors(new long[0], new int[]{0}, new long[0]);
+
+    private final long[] skillIds;      // sorted → binary search
+    private final int[] offsets;
+    private final long[] neighborIds;
+
+    private SkillNeighbors(long[] skillIds, int[] offsets, long[] neighborIds) {
+        this.skillIds = skillIds;
+        this.offsets = offsets;
+        this.neighborIds = neighborIds;
+    }
+
+    long[] neighbors(long skillId) {
+        int index = Arrays.binarySearch(skillIds, skillId);
+        return index < 0 ? new long[0] : Arrays.copyOfRange(neighborIds, offsets[index], offsets[index + 1]);
+    }
+
+    int size() {
+        return skillIds.length;
+    }
+
+    // lists: skill id → ranked neighbour ids (already cut to k)
+    static SkillNeighbors pack(Map<Long, long[]> lists) {
+
+        long[] skillIds = lists.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int[] offsets = new int[skillIds.length + 1];
+        for (int i = 0; i < skillIds.length; i++) {
+            offsets[i + 1] = offsets[i] + lists.get(skillIds[i]).length;
+        }
+
+        long[] neighborIds = new long[offsets[skillIds.length]];
+        for (int i = 0; i < skillIds.length; i++) {
+            long[] list = lists.get(skillIds[i]);
+            System.arraycopy(list, 0, neighborIds, offsets[i], list.length);
+        }
+        return new SkillNeighbors(skillIds, offsets, neighborIds);
+    }
+}
@@ -0,0 +1,24 @@
+package com.backend.skillswap.repository;
+
+import com.backend.skillswap.entity.BookingEventLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BookingEventLogRepository extends JpaRepository<BookingEventLog, Long> {
+
+    // Read the log forward from a sequence number (replay / tailing), always in sequence order
+    List<BookingEventLog> findBySequenceNumberGreaterThanOrderBySequenceNumberAsc(Long afterSequence, Pageable pageable);
+
+    // Tailing reads: only events recorded before the cutoff (see BookingEventLogService.readAfter)
+    List<BookingEventLog> findBySequenceNumberGreaterThanAndOccurredAtBeforeOrderBySequenceNumberAsc(
+            Long afterSequence, LocalDateTime cutoff, Pageable pageable);
+
+    // Full history of a single booking
+    List<BookingEventLog> findByBookingIdOrderBySequenceNumberAsc(Long bookingId);
+
+}
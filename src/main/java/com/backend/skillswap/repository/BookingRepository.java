@@ -4,6 +4,8 @@ import com.backend.skillswap.entity.Booking;
 import com.backend.skillswap.entity.UserEntity;
 import com.backend.skillswap.entity.UserSkill;
 import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.repository.projection.LearnerSkill;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -66,6 +68,49 @@ ORDER BY b.startTime ASC
             @Param("now") LocalDateTime now
     );
 
+    // ------------------------- UPCOMING TIMELINE (first N, for the cache) -------------------------
+    // Same filters as above, limited and with skill/requester/provider fetched so snapshots need no extra queries
+    @Query("""
+SELECT b FROM Booking b
+JOIN FETCH b.skill
+JOIN FETCH b.requester
+JOIN FETCH b.provider
+WHERE b.provider = :provider
+AND (
+     (b.status = com.backend.skillswap.entity.enums.BookingStatus.CONFIRMED
+      AND b.startTime > :now)
+  OR (b.status = com.backend.skillswap.entity.enums.BookingStatus.IN_PROGRESS
+      AND b.endTime > :now)
+)
+ORDER BY b.startTime ASC, b.id ASC
+""")
+    List<Booking> findUpcomingTimelineForProvider(
+            @Param("provider") UserEntity provider,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    @Query("""
+SELECT b FROM Booking b
+JOIN FETCH b.skill
+JOIN FETCH b.requester
+JOIN FETCH b.provider
+WHERE b.requester = :requester
+AND (
+      b.status = com.backend.skillswap.entity.enums.BookingStatus.PENDING
+   OR (b.status = com.backend.skillswap.entity.enums.BookingStatus.CONFIRMED
+       AND b.startTime > :now)
+   OR (b.status = com.backend.skillswap.entity.enums.BookingStatus.IN_PROGRESS
+       AND b.endTime > :now)
+)
+ORDER BY b.startTime ASC, b.id ASC
+""")
+    List<Booking> findUpcomingTimelineForRequester(
+            @Param("requester") UserEntity requester,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
     // ------------------------- PAST BOOKINGS -------------------------
 
     @Query("""
@@ -107,6 +152,10 @@ ORDER BY b.updatedAt DESC
 
     Optional<Booking> findByIdAndRequester(Long bookingId, UserEntity requester);
 
+    // Bulk confirm: one query for all bookings, requester + skill fetched for grouping & events
+    @Query("SELECT b FROM Booking b JOIN FETCH b.requester JOIN FETCH b.skill WHERE b.id IN :ids AND b.provider = :provider")
+    List<Booking> findAllByIdInAndProvider(@Param("ids") List<Long> ids, @Param("provider") UserEntity provider);
+
     @Query("SELECT b FROM Booking b LEFT JOIN FETCH b.request WHERE b.id = :id")
     Optional<Booking> findByIdWithRequest(@Param("id") Long id);
 
@@ -158,4 +207,89 @@ ORDER BY b.updatedAt DESC
       AND b.createdAt >= :cooldownTime
 """)
     boolean hasRecentBooking(Long userId, Long providerId, LocalDateTime cooldownTime);
+
+    // ===================== POPULARITY ===========================
+    // [skill id, bookings that were not cancelled] → weights autocomplete suggestions
+    @Query("""
+    SELECT b.skill.id, COUNT(b)
+    FROM Booking b
+    WHERE b.status <> com.backend.skillswap.entity.enums.BookingStatus.CANCELLED
+    GROUP BY b.skill.id
+""")
+    List<Object[]> countBookingsPerSkill();
+
+    // ===================== PROVIDER STATS ===========================
+    // Sessions held between one provider and one learner (disputed ones were held too)
+    @Query("""
+    SELECT COUNT(b)
+    FROM Booking b
+    WHERE b.provider.id = :providerId
+      AND b.requester.id = :learnerId
+      AND b.status IN (com.backend.skillswap.entity.enums.BookingStatus.COMPLETED,
+                       com.backend.skillswap.entity.enums.BookingStatus.DISPUTED)
+""")
+    long countHeldSessions(@Param("providerId") Long providerId, @Param("learnerId") Long learnerId);
+
+    // Providers with at least one finished booking → provider stats rebuild
+    @Query("""
+    SELECT DISTINCT b.provider.id
+    FROM Booking b
+    WHERE b.status IN (com.backend.skillswap.entity.enums.BookingStatus.COMPLETED,
+                       com.backend.skillswap.entity.enums.BookingStatus.DISPUTED,
+                       com.backend.skillswap.entity.enums.BookingStatus.CANCELLED)
+""")
+    List<Long> findFinishedProviderIds();
+
+    // [status, count] over one provider's finished bookings → provider stats rebuild
+    @Query("""
+    SELECT b.status, COUNT(b)
+    FROM Booking b
+    WHERE b.provider.id = :providerId
+      AND b.status IN (com.backend.skillswap.entity.enums.BookingStatus.COMPLETED,
+                       com.backend.skillswap.entity.enums.BookingStatus.DISPUTED,
+                       com.backend.skillswap.entity.enums.BookingStatus.CANCELLED)
+    GROUP BY b.status
+""")
+    List<Object[]> countFinishedPerStatus(@Param("providerId") Long providerId);
+
+    // Held sessions per learner of one provider → distinct / repeat learners in the rebuild
+    @Query("""
+    SELECT COUNT(b)
+    FROM Booking b
+    WHERE b.provider.id = :providerId
+      AND b.status IN (com.backend.skillswap.entity.enums.BookingStatus.COMPLETED,
+                       com.backend.skillswap.entity.enums.BookingStatus.DISPUTED)
+    GROUP BY b.requester.id
+""")
+    List<Long> countHeldSessionsPerLearner(@Param("providerId") Long providerId);
+
+    // ===================== ALSO BOOKED ===========================
+    // Held sessions of one learner partition (learner id mod partitions), keyset on id
+    @Query("""
+    SELECT new com.backend.skillswap.repository.projection.LearnerSkill(b.requester.id, b.skill.id, b.id)
+    FROM Booking b
+    WHERE b.status IN (com.backend.skillswap.entity.enums.BookingStatus.COMPLETED,
+                       com.backend.skillswap.entity.enums.BookingStatus.DISPUTED)
+      AND MOD(b.requester.id, :partitions) = :partition
+      AND b.id > :afterId
+    ORDER BY b.id
+""")
+    List<LearnerSkill> findHeldSessionsInPartition(@Param("partitions") int partitions,
+                                                   @Param("partition") int partition,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    // Held sessions touched since the last refresh, keyset on id
+    @Query("""
+    SELECT new com.backend.skillswap.repository.projection.LearnerSkill(b.requester.id, b.skill.id, b.id)
+    FROM Booking b
+    WHERE b.status IN (com.backend.skillswap.entity.enums.BookingStatus.COMPLETED,
+                       com.backend.skillswap.entity.enums.BookingStatus.DISPUTED)
+      AND b.updatedAt >= :since
+      AND b.id > :afterId
+    ORDER BY b.id
+""")
+    List<LearnerSkill> findHeldSessionsUpdatedSince(@Param("since") LocalDateTime since,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
 }
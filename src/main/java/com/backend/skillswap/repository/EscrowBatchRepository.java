@@ -0,0 +1,67 @@
+package com.backend.skillswap.repository;
+
+import com.backend.skillswap.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Multi-row escrow insert for bulk confirmation.
+// Transaction ids are IDENTITY, so Hibernate cannot batch these inserts; plain JDBC batching can
+// (joins the surrounding JPA transaction on the same connection).
+// Every column is read from the entity (builder defaults included), so a row looks exactly like one
+// Hibernate would have written; only what Hibernate adds on persist is filled in here.
+@Repository
+@RequiredArgsConstructor
+public class EscrowBatchRepository {
+
+    private static final String INSERT_TRANSACTION = """
+            INSERT INTO transactions (
+                booking_id, payer_id, payee_id, amount, currency, net_amount, platform_fee,
+                transaction_type, status, transaction_reference, payment_gateway, payment_method,
+                failure_reason, escrow, escrow_release_at, retry_count, version, description,
+                created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // What Hibernate writes into a new row's @Version column
+    private static final long INITIAL_VERSION = 0L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // New (unsaved) transactions, e.g. one PENDING escrow per booking; ids are not set back on the entities
+    public void insertAll(List<Transaction> transactions) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = transactions.stream()
+                .map(tx -> new Object[]{
+                        tx.getBooking() != null ? tx.getBooking().getId() : null,
+                        tx.getPayer().getId(),
+                        tx.getPayee().getId(),
+                        tx.getAmount(),
+                        tx.getCurrency().name(),
+                        tx.getNetAmount(),
+                        tx.getPlatformFee(),
+                        tx.getTransactionType().name(),
+                        tx.getStatus().name(),
+                        tx.getTransactionReference(),
+                        tx.getPaymentGateway().name(),
+                        tx.getPaymentMethod().name(),
+                        tx.getFailureReason(),
+                        tx.isEscrow(),
+                        tx.getEscrowReleaseAt() != null ? Timestamp.valueOf(tx.getEscrowReleaseAt()) : null,
+                        tx.getRetryCount(),
+                        tx.getVersion() != null ? tx.getVersion() : INITIAL_VERSION,
+                        tx.getDescription(),
+                        now,
+                        now
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION, rows);
+    }
+}
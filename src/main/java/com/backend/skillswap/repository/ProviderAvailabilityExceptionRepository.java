@@ -0,0 +1,18 @@
+package com.backend.skillswap.repository;
+
+import com.backend.skillswap.entity.ProviderAvailabilityException;
+import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProviderAvailabilityExceptionRepository extends JpaRepository<ProviderAvailabilityException, Long> {
+
+    // Past overrides are irrelevant for new bookings, so only today onwards is compiled
+    List<ProviderAvailabilityException> findByProviderIdAndDateGreaterThanEqualOrderByDateAsc(Long providerId, LocalDate from);
+
+    Optional<ProviderAvailabilityException> findByIdAndProviderId(Long id, Long providerId);
+}
@@ -0,0 +1,21 @@
+package com.backend.skillswap.repository;
+
+import com.backend.skillswap.entity.ProviderAvailabilityRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProviderAvailabilityRuleRepository extends JpaRepository<ProviderAvailabilityRule, Long> {
+
+    List<ProviderAvailabilityRule> findByProviderIdOrderByDayOfWeekAscStartTimeAsc(Long providerId);
+
+    // Weekly rules are replaced as a whole
+    @Modifying
+    @Query("DELETE FROM ProviderAvailabilityRule r WHERE r.provider.id = :providerId")
+    void deleteByProviderId(@Param("providerId") Long providerId);
+}
@@ -0,0 +1,114 @@
+package com.backend.skillswap.repository;
+
+import com.backend.skillswap.entity.ProviderStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProviderStatsRepository extends JpaRepository<ProviderStats, Long> {
+
+    // ================= O(1) COUNTER UPSERTS =================
+    // One statement in the caller's transaction: inserts the provider's first row or applies relative
+    // increments to the existing one. No read, no lost update, and no separate "create the row" step
+    // (a 0-row UPDATE followed by an INSERT would wait on its own InnoDB gap lock).
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO provider_stats
+                (provider_id, completed_sessions, cancelled_sessions, disputed_sessions,
+                 distinct_learners, repeat_learners,
+                 rating_count, rating_sum, one_star, two_stars, three_stars, four_stars, five_stars, updated_at)
+            VALUES (:providerId, 1, 0, 0, :newLearner, :repeatLearner, 0, 0, 0, 0, 0, 0, 0, :now)
+            ON DUPLICATE KEY UPDATE
+                completed_sessions = completed_sessions + 1,
+                distinct_learners = distinct_learners + :newLearner,
+                repeat_learners = repeat_learners + :repeatLearner,
+                updated_at = :now
+            """, nativeQuery = true)
+    int incrementCompleted(@Param("providerId") Long providerId,
+                           @Param("newLearner") long newLearner,
+                           @Param("repeatLearner") long repeatLearner,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO provider_stats
+                (provider_id, completed_sessions, cancelled_sessions, disputed_sessions,
+                 distinct_learners, repeat_learners,
+                 rating_count, rating_sum, one_star, two_stars, three_stars, four_stars, five_stars, updated_at)
+            VALUES (:providerId, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, :now)
+            ON DUPLICATE KEY UPDATE
+                cancelled_sessions = cancelled_sessions + 1,
+                updated_at = :now
+            """, nativeQuery = true)
+    int incrementCancelled(@Param("providerId") Long providerId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO provider_stats
+                (provider_id, completed_sessions, cancelled_sessions, disputed_sessions,
+                 distinct_learners, repeat_learners,
+                 rating_count, rating_sum, one_star, two_stars, three_stars, four_stars, five_stars, updated_at)
+            VALUES (:providerId, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, :now)
+            ON DUPLICATE KEY UPDATE
+                disputed_sessions = disputed_sessions + 1,
+                updated_at = :now
+            """, nativeQuery = true)
+    int incrementDisputed(@Param("providerId") Long providerId, @Param("now") LocalDateTime now);
+
+    // One new review: count, sum and the matching histogram bucket
+    @Modifying
+    @Query(value = """
+            INSERT INTO provider_stats
+                (provider_id, completed_sessions, cancelled_sessions, disputed_sessions,
+                 distinct_learners, repeat_learners,
+                 rating_count, rating_sum, one_star, two_stars, three_stars, four_stars, five_stars, updated_at)
+            VALUES (:providerId, 0, 0, 0, 0, 0, 1, :stars,
+                    CASE WHEN :stars = 1 THEN 1 ELSE 0 END,
+                    CASE WHEN :stars = 2 THEN 1 ELSE 0 END,
+                    CASE WHEN :stars = 3 THEN 1 ELSE 0 END,
+                    CASE WHEN :stars = 4 THEN 1 ELSE 0 END,
+                    CASE WHEN :stars = 5 THEN 1 ELSE 0 END,
+                    :now)
+            ON DUPLICATE KEY UPDATE
+                rating_count = rating_count + 1,
+                rating_sum = rating_sum + :stars,
+                one_star = one_star + CASE WHEN :stars = 1 THEN 1 ELSE 0 END,
+                two_stars = two_stars + CASE WHEN :stars = 2 THEN 1 ELSE 0 END,
+                three_stars = three_stars + CASE WHEN :stars = 3 THEN 1 ELSE 0 END,
+                four_stars = four_stars + CASE WHEN :stars = 4 THEN 1 ELSE 0 END,
+                five_stars = five_stars + CASE WHEN :stars = 5 THEN 1 ELSE 0 END,
+                updated_at = :now
+            """, nativeQuery = true)
+    int addRating(@Param("providerId") Long providerId, @Param("stars") int stars, @Param("now") LocalDateTime now);
+
+    // ================= REBUILD (one provider per transaction) =================
+    // Empty row if missing; an existing row is left as it is
+    @Modifying
+    @Query(value = """
+            INSERT INTO provider_stats
+                (provider_id, completed_sessions, cancelled_sessions, disputed_sessions,
+                 distinct_learners, repeat_learners,
+                 rating_count, rating_sum, one_star, two_stars, three_stars, four_stars, five_stars, updated_at)
+            VALUES (:providerId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, :now)
+            ON DUPLICATE KEY UPDATE provider_id = provider_id
+            """, nativeQuery = true)
+    int insertIfMissing(@Param("providerId") Long providerId, @Param("now") LocalDateTime now);
+
+    // Row lock held until commit: transitions of this provider wait for the rebuild instead of being overwritten
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProviderStats s WHERE s.providerId = :providerId")
+    Optional<ProviderStats> findByIdForUpdate(@Param("providerId") Long providerId);
+
+    @Query("SELECT s.providerId FROM ProviderStats s")
+    List<Long> findAllProviderIds();
+}
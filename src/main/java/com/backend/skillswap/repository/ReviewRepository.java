@@ -0,0 +1,32 @@
+package com.backend.skillswap.repository;
+
+import com.backend.skillswap.dto.response.ReviewResponse;
+import com.backend.skillswap.entity.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    boolean existsByBooking_Id(Long bookingId);
+
+    // ------------------------- SKILL REVIEW PAGES -------------------------
+    // Newest first, keyset on id → range scan on (skill_id, id), no entity loads
+    @Query("""
+SELECT new com.backend.skillswap.dto.response.ReviewResponse(
+    r.id, r.booking.id, r.skill.id, u.id, u.username, r.rating, r.comment, r.createdAt)
+FROM Review r
+JOIN r.reviewer u
+WHERE r.skill.id = :skillId
+AND (:cursor IS NULL OR r.id < :cursor)
+ORDER BY r.id DESC
+""")
+    List<ReviewResponse> findSkillReviewPage(@Param("skillId") Long skillId,
+                                             @Param("cursor") Long cursor,
+                                             Pageable pageable);
+}
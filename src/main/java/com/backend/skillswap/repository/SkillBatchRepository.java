@@ -0,0 +1,53 @@
+package com.backend.skillswap.repository;
+
+import com.backend.skillswap.dto.request.UserSkillRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Multi-row skill insert for file imports.
+// Skill ids are IDENTITY, so Hibernate cannot batch these inserts; plain JDBC batching can.
+// Each chunk commits on its own: an import never holds a connection while the upload is still being read.
+@Repository
+@RequiredArgsConstructor
+public class SkillBatchRepository {
+
+    private static final String INSERT_SKILL = """
+            INSERT INTO skills (
+                user_id, title, description, category, level, experience_years, hourly_rate,
+                verified, is_active, created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // New skills: active, unverified (same defaults as UserSkillMapper.toEntity)
+    @Transactional
+    public void insertSkills(Long userId, List<UserSkillRequest> skills) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = skills.stream()
+                .map(skill -> new Object[]{
+                        userId,
+                        skill.getTitle(),
+                        skill.getDescription(),
+                        skill.getCategory().name(),
+                        skill.getLevel().name(),
+                        skill.getExperienceYears(),
+                        skill.getHourlyRate(),
+                        false,
+                        true,
+                        now,
+                        now
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_SKILL, rows);
+    }
+}
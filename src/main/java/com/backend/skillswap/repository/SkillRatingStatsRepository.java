@@ -0,0 +1,39 @@
+package com.backend.skillswap.repository;
+
+import com.backend.skillswap.entity.SkillRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SkillRatingStatsRepository extends JpaRepository<SkillRatingStats, Long> {
+
+    // One new review: the skill's first row or relative increments, one statement in the caller's
+    // transaction (same reasoning as ProviderStatsRepository.addRating)
+    @Modifying
+    @Query(value = """
+            INSERT INTO skill_rating_stats
+                (skill_id, rating_count, rating_sum, one_star, two_stars, three_stars, four_stars, five_stars, updated_at)
+            VALUES (:skillId, 1, :stars,
+                    CASE WHEN :stars = 1 THEN 1 ELSE 0 END,
+                    CASE WHEN :stars = 2 THEN 1 ELSE 0 END,
+                    CASE WHEN :stars = 3 THEN 1 ELSE 0 END,
+                    CASE WHEN :stars = 4 THEN 1 ELSE 0 END,
+                    CASE WHEN :stars = 5 THEN 1 ELSE 0 END,
+                    :now)
+            ON DUPLICATE KEY UPDATE
+                rating_count = rating_count + 1,
+                rating_sum = rating_sum + :stars,
+                one_star = one_star + CASE WHEN :stars = 1 THEN 1 ELSE 0 END,
+                two_stars = two_stars + CASE WHEN :stars = 2 THEN 1 ELSE 0 END,
+                three_stars = three_stars + CASE WHEN :stars = 3 THEN 1 ELSE 0 END,
+                four_stars = four_stars + CASE WHEN :stars = 4 THEN 1 ELSE 0 END,
+                five_stars = five_stars + CASE WHEN :stars = 5 THEN 1 ELSE 0 END,
+                updated_at = :now
+            """, nativeQuery = true)
+    int addRating(@Param("skillId") Long skillId, @Param("stars") int stars, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package com.backend.skillswap.repository;
+
+import com.backend.skillswap.dto.response.SkillRequestMessageResponse;
+import com.backend.skillswap.entity.SkillRequestMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SkillRequestMessageRepository extends JpaRepository<SkillRequestMessage, Long> {
+
+    // ------------------------- THREAD PAGES -------------------------
+    // Newest first, keyset on id → range scan on (request_id, id), no entity loads
+    @Query("""
+SELECT new com.backend.skillswap.dto.response.SkillRequestMessageResponse(
+    m.id, m.request.id, s.id, s.username, m.body, m.createdAt)
+FROM SkillRequestMessage m
+JOIN m.sender s
+WHERE m.request.id = :requestId
+AND (:cursor IS NULL OR m.id < :cursor)
+ORDER BY m.id DESC
+""")
+    List<SkillRequestMessageResponse> findThreadPage(@Param("requestId") Long requestId,
+                                                     @Param("cursor") Long cursor,
+                                                     Pageable pageable);
+}
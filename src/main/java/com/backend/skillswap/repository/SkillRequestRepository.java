@@ -1,15 +1,21 @@
 package com.backend.skillswap.repository;
 
+import com.backend.skillswap.dto.response.SkillRequestResponse;
 import com.backend.skillswap.entity.SkillRequest;
 import com.backend.skillswap.entity.UserEntity;
 import com.backend.skillswap.entity.UserSkill;
 import com.backend.skillswap.entity.enums.SkillRequestStatus;
+import com.backend.skillswap.repository.projection.SkillRequestLabels;
+import com.backend.skillswap.repository.projection.SkillRequestParties;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,20 +30,33 @@ public interface SkillRequestRepository extends JpaRepository<SkillRequest, Long
     // Requests Received requests for user
     List<SkillRequest> findByReceiver(UserEntity receiver);
 
-    // Check Duplicates : same sender → receiver → skill → status not COMPLETED (status != COMPLETED)
-    boolean existsBySenderAndReceiverAndSkillAndStatusIn(
-            UserEntity sender,
-            UserEntity receiver,
-            UserSkill skill,
-            List<SkillRequestStatus> statuses
-    );
-
     // Skill Delete Check
     boolean existsBySkillAndStatusIn(
             UserSkill skill,
             List<SkillRequestStatus> statuses
     );
 
+    // Names for a response (associations are LAZY; this replaces loading two users + a skill)
+    @Query("""
+SELECT new com.backend.skillswap.repository.projection.SkillRequestLabels(s.username, rc.username, sk.title)
+FROM SkillRequest r
+JOIN r.sender s
+JOIN r.receiver rc
+JOIN r.skill sk
+WHERE r.id = :id
+""")
+    SkillRequestLabels findLabelsById(@Param("id") Long id);
+
+    // Participants + state of a request, for thread access checks (no entity loads)
+    @Query("""
+SELECT new com.backend.skillswap.repository.projection.SkillRequestParties(
+    r.sender.id, r.receiver.id, r.status, r.expiresAt)
+FROM SkillRequest r
+WHERE r.id = :id
+""")
+    Optional<SkillRequestParties> findPartiesById(@Param("id") Long id);
+
+    // No fetch graph here on purpose: a joined FOR UPDATE would lock the user and skill rows too
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select sr from SkillRequest sr where sr.id = :id")
     Optional<SkillRequest> findByIdForUpdate(@Param("id") Long id);
@@ -48,4 +67,144 @@ public interface SkillRequestRepository extends JpaRepository<SkillRequest, Long
 
     // Find expired requests
     List<SkillRequest> findByStatusAndExpiresAtBefore(SkillRequestStatus status, LocalDateTime time);
+
+    // ------------------------- CURSOR PAGES (outbox / inbox) -------------------------
+    // Constructor projection → one flat query, none of the EAGER sender/receiver/skill graphs are loaded.
+    // Keyset on id (newest first); due-but-unswept PENDING rows are left out of a PENDING filter.
+    @Query("""
+SELECT new com.backend.skillswap.dto.response.SkillRequestResponse(
+    r.id, s.id, s.username, rc.id, rc.username, sk.id, sk.title,
+    r.message, r.status, r.expiresAt, r.createdAt)
+FROM SkillRequest r
+JOIN r.sender s
+JOIN r.receiver rc
+JOIN r.skill sk
+WHERE s.id = :userId
+AND (:status IS NULL OR r.status = :status)
+AND (:status IS NULL OR :status <> com.backend.skillswap.entity.enums.SkillRequestStatus.PENDING
+     OR r.expiresAt IS NULL OR r.expiresAt > :now)
+AND (:cursor IS NULL OR r.id < :cursor)
+ORDER BY r.id DESC
+""")
+    List<SkillRequestResponse> findSentPage(@Param("userId") Long userId,
+                                            @Param("status") SkillRequestStatus status,
+                                            @Param("cursor") Long cursor,
+                                            @Param("now") LocalDateTime now,
+                                            Pageable pageable);
+
+    @Query("""
+SELECT new com.backend.skillswap.dto.response.SkillRequestResponse(
+    r.id, s.id, s.username, rc.id, rc.username, sk.id, sk.title,
+    r.message, r.status, r.expiresAt, r.createdAt)
+FROM SkillRequest r
+JOIN r.sender s
+JOIN r.receiver rc
+JOIN r.skill sk
+WHERE rc.id = :userId
+AND (:status IS NULL OR r.status = :status)
+AND (:status IS NULL OR :status <> com.backend.skillswap.entity.enums.SkillRequestStatus.PENDING
+     OR r.expiresAt IS NULL OR r.expiresAt > :now)
+AND (:cursor IS NULL OR r.id < :cursor)
+ORDER BY r.id DESC
+""")
+    List<SkillRequestResponse> findReceivedPage(@Param("userId") Long userId,
+                                                @Param("status") SkillRequestStatus status,
+                                                @Param("cursor") Long cursor,
+                                                @Param("now") LocalDateTime now,
+                                                Pageable pageable);
+
+    // ------------------------- PENDING BADGE COUNTS -------------------------
+    @Query("""
+SELECT COUNT(r) FROM SkillRequest r
+WHERE r.sender.id = :userId
+AND r.status = com.backend.skillswap.entity.enums.SkillRequestStatus.PENDING
+AND (r.expiresAt IS NULL OR r.expiresAt > :now)
+""")
+    long countPendingSent(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Query("""
+SELECT COUNT(r) FROM SkillRequest r
+WHERE r.receiver.id = :userId
+AND r.status = com.backend.skillswap.entity.enums.SkillRequestStatus.PENDING
+AND (r.expiresAt IS NULL OR r.expiresAt > :now)
+""")
+    long countPendingReceived(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // ------------------------- BULK DECISION -------------------------
+    // Locks the still-actionable rows (receiver's, PENDING, not due) → [id, sender_id]; nothing else is loaded
+    @Query(value = """
+SELECT id, sender_id FROM skill_requests
+WHERE id IN (:ids)
+AND receiver_id = :receiverId
+AND status = 'PENDING'
+AND (expires_at IS NULL OR expires_at > :now)
+FOR UPDATE
+""", nativeQuery = true)
+    List<Object[]> lockPendingForReceiver(@Param("ids") List<Long> ids,
+                                          @Param("receiverId") Long receiverId,
+                                          @Param("now") LocalDateTime now);
+
+    // One conditional UPDATE per target status
+    @Modifying
+    @Query("""
+UPDATE SkillRequest r
+SET r.status = :status, r.updatedAt = :now,
+    r.activeKey = CASE WHEN :status = com.backend.skillswap.entity.enums.SkillRequestStatus.ACCEPTED
+                       THEN r.activeKey ELSE NULL END
+WHERE r.id IN :ids
+AND r.receiver.id = :receiverId
+AND r.status = com.backend.skillswap.entity.enums.SkillRequestStatus.PENDING
+""")
+    int decidePending(@Param("ids") List<Long> ids,
+                      @Param("receiverId") Long receiverId,
+                      @Param("status") SkillRequestStatus status,
+                      @Param("now") LocalDateTime now);
+
+    // ------------------------- BULK EXPIRY -------------------------
+    // One chunk of the expiry sweep: range scan on (status, expires_at), no rows loaded into memory.
+    // Own transaction per call so each chunk commits and releases its row locks immediately.
+    @Transactional
+    @Modifying
+    @Query(value = """
+UPDATE skill_requests
+SET status = 'EXPIRED', active_key = NULL, updated_at = :now
+WHERE status = 'PENDING' AND expires_at < :now
+LIMIT :chunkSize
+""", nativeQuery = true)
+    int expirePendingChunk(@Param("now") LocalDateTime now, @Param("chunkSize") int chunkSize);
+
+    // ------------------------- ACTIVE KEY BACKFILL -------------------------
+    // Keys live rows written before the active_key column existed: the newest live request per
+    // (sender, skill), and only if that pair has no keyed row yet. Older duplicates from that time stay
+    // unkeyed until they finish. The double derived table lets MySQL read the table it is updating.
+    @Transactional
+    @Modifying
+    @Query(value = """
+UPDATE skill_requests
+SET active_key = CONCAT(sender_id, ':', skill_id)
+WHERE id IN (
+    SELECT id FROM (
+        SELECT MAX(id) AS id
+        FROM skill_requests
+        WHERE status IN ('PENDING', 'ACCEPTED', 'BOOKED')
+        GROUP BY sender_id, skill_id
+        HAVING COUNT(active_key) = 0
+    ) newest
+)
+""", nativeQuery = true)
+    int backfillActiveKeys();
+
+    // Lazy expiry of one sender's due requests for a skill (frees the active key before the insert)
+    @Modifying
+    @Query("""
+UPDATE SkillRequest r
+SET r.status = com.backend.skillswap.entity.enums.SkillRequestStatus.EXPIRED, r.activeKey = NULL, r.updatedAt = :now
+WHERE r.sender.id = :senderId
+AND r.skill.id = :skillId
+AND r.status = com.backend.skillswap.entity.enums.SkillRequestStatus.PENDING
+AND r.expiresAt < :now
+""")
+    int expireDueForSenderAndSkill(@Param("senderId") Long senderId,
+                                   @Param("skillId") Long skillId,
+                                   @Param("now") LocalDateTime now);
 }
@@ -51,6 +51,15 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             TransactionStatus status
     );
 
+    // Bookings (out of the given ids) that already hold a PENDING escrow
+    @Query("""
+SELECT t.booking.id FROM Transaction t
+WHERE t.booking.id IN :bookingIds
+AND t.transactionType = com.backend.skillswap.entity.enums.TransactionType.ESCROW
+AND t.status = com.backend.skillswap.entity.enums.TransactionStatus.PENDING
+""")
+    List<Long> findBookingIdsWithPendingEscrow(@Param("bookingIds") List<Long> bookingIds);
+
     // -------------------------------- Fetch last transaction attempt for booking -------------------------------
     @Lock(LockModeType.OPTIMISTIC)
     Optional<Transaction> findByBookingAndTransactionTypeAndStatus(
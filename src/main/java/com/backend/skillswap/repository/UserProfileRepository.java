@@ -1,9 +1,14 @@
 package com.backend.skillswap.repository;
 
 import com.backend.skillswap.entity.UserProfile;
+import com.backend.skillswap.repository.projection.ProfileStamp;
+import com.backend.skillswap.repository.projection.ProviderLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,5 +18,21 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
 
     boolean existsByUser_Id(Long userId);
 
+    // ETag source for the public profile
+    @Query("""
+            SELECT new com.backend.skillswap.repository.projection.ProfileStamp(p.id, p.updatedAt)
+            FROM UserProfile p
+            WHERE p.user.id = :userId
+            """)
+    Optional<ProfileStamp> findStampByUserId(@Param("userId") Long userId);
+
+    // Proximity index warm-up: users who shared coordinates
+    @Query("""
+            SELECT new com.backend.skillswap.repository.projection.ProviderLocation(p.user.id, p.latitude, p.longitude)
+            FROM UserProfile p
+            WHERE p.latitude IS NOT NULL AND p.longitude IS NOT NULL
+            """)
+    List<ProviderLocation> findLocations();
+
 }
 
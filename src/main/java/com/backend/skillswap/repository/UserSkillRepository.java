@@ -4,8 +4,12 @@ import com.backend.skillswap.entity.UserEntity;
 import com.backend.skillswap.entity.UserSkill;
 import com.backend.skillswap.entity.enums.SkillCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -17,9 +21,6 @@ public interface UserSkillRepository extends JpaRepository<UserSkill, Long> {
     // Logged-in user ki skill (for update/delete ownership check)
     List<UserSkill> findByUserIdAndActiveTrue(Long userId);
 
-    // Search skills by title (case-insensitive, public only)
-    List<UserSkill> findByTitleContainingIgnoreCaseAndVerifiedTrueAndActiveTrue(String title);
-
     // Publicly visible skills (verified + active)
     List<UserSkill> findByVerifiedTrueAndActiveTrue();
 
@@ -35,7 +36,52 @@ public interface UserSkillRepository extends JpaRepository<UserSkill, Long> {
     // Admin: fetch all unverified skills  (Pending skills only)
     List<UserSkill> findByVerifiedFalseAndActiveTrue();
 
+    // Pending skills a user added since the given time (file imports → duplicate index)
+    List<UserSkill> findByUserIdAndVerifiedFalseAndActiveTrueAndCreatedAtGreaterThanEqual(Long userId, LocalDateTime since);
+
     // Duplicate Skill Check
     boolean existsByUserIdAndTitleIgnoreCaseAndActiveTrue(Long userId, String title);
 
+    // Duplicate check for file imports: all active titles of the user in one query
+    @Query("SELECT LOWER(s.title) FROM UserSkill s WHERE s.user.id = :userId AND s.active = true")
+    List<String> findActiveTitlesLowerCase(@Param("userId") Long userId);
+
+    // ------------------------- BULK MODERATION -------------------------
+    // Locks the requested rows until commit → [id, verified, is_active]; nothing else is loaded
+    @Query(value = """
+SELECT id, verified, is_active FROM skills
+WHERE id IN (:ids)
+FOR UPDATE
+""", nativeQuery = true)
+    List<Object[]> lockModerationState(@Param("ids") List<Long> ids);
+
+    // One UPDATE for all approvals (pending = active and not yet verified)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+UPDATE UserSkill s
+SET s.verified = true, s.updatedAt = :now
+WHERE s.id IN :ids
+AND s.verified = false
+AND s.active = true
+""")
+    int verifyAll(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // One UPDATE for all rejections (anything not already rejected)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+UPDATE UserSkill s
+SET s.verified = false, s.active = false, s.updatedAt = :now
+WHERE s.id IN :ids
+AND (s.verified = true OR s.active = true)
+""")
+    int rejectAll(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // Moderated skills with owner + profile in one query (index events and mail snapshots)
+    @Query("""
+SELECT s FROM UserSkill s
+JOIN FETCH s.user u
+LEFT JOIN FETCH u.userProfile
+WHERE s.id IN :ids
+""")
+    List<UserSkill> findWithOwnerByIdIn(@Param("ids") List<Long> ids);
 }
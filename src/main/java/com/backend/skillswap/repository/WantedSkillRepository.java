@@ -0,0 +1,27 @@
+package com.backend.skillswap.repository;
+
+import com.backend.skillswap.entity.WantedSkill;
+import com.backend.skillswap.repository.projection.UserWant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WantedSkillRepository extends JpaRepository<WantedSkill, Long> {
+
+    List<WantedSkill> findByUser_IdOrderByIdDesc(Long userId);
+
+    Optional<WantedSkill> findByIdAndUser_Id(Long id, Long userId);
+
+    long countByUser_Id(Long userId);
+
+    // All wants, no entity hydration
+    @Query("""
+    SELECT new com.backend.skillswap.repository.projection.UserWant(w.user.id, w.category, w.keyword)
+    FROM WantedSkill w
+""")
+    List<UserWant> findAllWants();
+}
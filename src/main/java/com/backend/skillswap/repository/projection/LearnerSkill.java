@@ -0,0 +1,5 @@
+package com.backend.skillswap.repository.projection;
+
+// One held session reduced to who learned what (booking id = keyset cursor)
+public record LearnerSkill(Long learnerId, Long skillId, Long bookingId) {
+}
@@ -0,0 +1,15 @@
+package com.backend.skillswap.repository.projection;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Identity + last modification of a profile, enough to tell whether a client copy is current
+public record ProfileStamp(Long id, LocalDateTime updatedAt) {
+
+    // Microsecond precision, as stored by MySQL DATETIME(6)
+    public String etag() {
+        long micros = updatedAt == null ? 0
+                : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return "\"profile-" + id + "-" + Long.toString(micros, 36) + "\"";
+    }
+}
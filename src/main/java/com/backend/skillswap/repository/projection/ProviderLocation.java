@@ -0,0 +1,5 @@
+package com.backend.skillswap.repository.projection;
+
+// Coordinates of a user who shared them on their profile (proximity index warm-up)
+public record ProviderLocation(Long userId, Double latitude, Double longitude) {
+}
@@ -0,0 +1,5 @@
+package com.backend.skillswap.repository.projection;
+
+// Display names of a skill request's parties and skill, read in one flat query
+public record SkillRequestLabels(String senderUsername, String receiverUsername, String skillTitle) {
+}
@@ -0,0 +1,9 @@
+package com.backend.skillswap.repository.projection;
+
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
+
+import java.time.LocalDateTime;
+
+// Who may read/write a skill request's thread, and whether it is still open
+public record SkillRequestParties(Long senderId, Long receiverId, SkillRequestStatus status, LocalDateTime expiresAt) {
+}
@@ -0,0 +1,7 @@
+package com.backend.skillswap.repository.projection;
+
+import com.backend.skillswap.entity.enums.SkillCategory;
+
+// One wanted skill, without the user row (matching index warm-up)
+public record UserWant(Long userId, SkillCategory category, String keyword) {
+}
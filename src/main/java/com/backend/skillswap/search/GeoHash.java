@@ -0,0 +1,120 @@
+package com.backend.skillswap.search;
+
+// Geohash cells and great-circle distance for the proximity index.
+// A geohash interleaves longitude / latitude bisections into base-32 characters, so all points of a
+// cell share its string as prefix and a shorter prefix is always the enclosing, bigger cell.
+public final class GeoHash {
+
+    private static final String BASE32_INDEX = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final char[] BASE32 = BASE32_INDEX.toCharArray();
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private GeoHash() {
+        // Utility class
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;   // bits alternate, longitude first
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    // Centre of the cell {latitude, longitude}
+    public static double[] centre(String hash) {
+
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        boolean evenBit = true;
+
+        for (int i = 0; i < hash.length(); i++) {
+            int ch = BASE32_INDEX.indexOf(hash.charAt(i));
+            if (ch < 0) {
+                throw new IllegalArgumentException("Invalid geohash: " + hash);
+            }
+            for (int mask = 16; mask > 0; mask >>= 1) {
+                boolean high = (ch & mask) != 0;
+                if (evenBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (high) {
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (high) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{(minLat + maxLat) / 2, (minLon + maxLon) / 2};
+    }
+
+    // Cell size in degrees: 5 bits per character, longitude gets the odd one
+    public static double cellHeightDegrees(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    public static double cellWidthDegrees(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    public static double cellHeightKm(int precision) {
+        return cellHeightDegrees(precision) * KM_PER_DEGREE;
+    }
+
+    // Cells get narrower towards the poles
+    public static double cellWidthKm(int precision, double latitude) {
+        return cellWidthDegrees(precision) * KM_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+    }
+
+    // Haversine
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,256 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.repository.BookingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Typeahead over normalised titles of public skills.
+// Lookups walk an immutable, array-packed trie whose nodes already hold their top-K completions,
+// so a keystroke costs O(prefix length). Catalog changes only mark the trie stale; a background
+// thread rebuilds it (bursts coalesced) and swaps it in atomically — readers never wait.
+@Slf4j
+@Component
+public class SkillAutocompleteIndex implements SkillIndex {
+
+    // Completions kept per trie node (upper bound for ?limit=)
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // Collects a burst of changes (e.g. the startup load) into one rebuild
+    private static final long REBUILD_DELAY_MS = 200;
+
+    private final BookingRepository bookingRepository;
+
+    // Source of truth for the next build: skill id → title
+    private final Map<Long, String> titles = new HashMap<>();
+
+    private final AtomicReference<Trie> current = new AtomicReference<>(Trie.EMPTY);
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private final ScheduledExecutorService builder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "skill-autocomplete-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SkillAutocompleteIndex(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    @Override
+    public String name() {
+        return "skill-autocomplete";
+    }
+
+    // ================= UPDATE =================
+    @Override
+    public void reset() {
+        synchronized (titles) {
+            titles.clear();
+        }
+        scheduleRebuild();
+    }
+
+    @Override
+    public void upsert(UserSkillResponse skill) {
+        synchronized (titles) {
+            titles.put(skill.getId(), skill.getTitle());
+        }
+        scheduleRebuild();
+    }
+
+    @Override
+    public void remove(Long skillId) {
+        synchronized (titles) {
+            if (titles.remove(skillId) == null) {
+                return;
+            }
+        }
+        scheduleRebuild();
+    }
+
+    // Booking counts drift without any catalog change → re-weight periodically
+    @Scheduled(fixedDelay = 60 * 60 * 1000L, initialDelay = 60 * 60 * 1000L)
+    public void refreshPopularity() {
+        scheduleRebuild();
+    }
+
+    // ================= LOOKUP =================
+    public List<String> complete(String prefix, int limit) {
+        String normalized = SkillTokenizer.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return current.get().complete(normalized, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    // ================= BUILD (background) =================
+    private void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            builder.schedule(this::rebuild, REBUILD_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void rebuild() {
+        // Cleared first: a change landing while we build schedules the next round
+        rebuildScheduled.set(false);
+
+        try {
+            long started = System.currentTimeMillis();
+
+            Map<Long, String> snapshot;
+            synchronized (titles) {
+                snapshot = new HashMap<>(titles);
+            }
+
+            Map<Long, Long> bookings = new HashMap<>();
+            for (Object[] row : bookingRepository.countBookingsPerSkill()) {
+                bookings.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+            }
+
+            // Same normalised title offered by several providers → one suggestion, weights summed
+            Map<String, Long> weights = new HashMap<>();
+            Map<String, String> display = new HashMap<>();
+            snapshot.forEach((skillId, title) -> {
+                String key = SkillTokenizer.normalize(title);
+                if (!key.isEmpty()) {
+                    weights.merge(key, 1 + bookings.getOrDefault(skillId, 0L), Long::sum);
+                    display.putIfAbsent(key, title.trim());
+                }
+            });
+
+            current.set(Trie.build(weights, display));
+
+            log.debug("Autocomplete trie rebuilt with {} titles in {} ms",
+                    weights.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            // Keep serving the previous trie
+            log.warn("Autocomplete rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    // ================= TRIE =================
+    // Node i: children labelled edgeChars[i] (sorted) → edgeTargets[i]; top[i] = best term ids below i.
+    // Every word start of a title is inserted, so "sci" also finds "Python for Data Science".
+    private record Trie(char[][] edgeChars, int[][] edgeTargets, int[][] top, String[] terms) {
+
+        static final Trie EMPTY = new Trie(new char[][]{new char[0]}, new int[][]{new int[0]}, new int[][]{new int[0]}, new String[0]);
+
+        List<String> complete(String prefix, int limit) {
+            int node = 0;
+            for (int i = 0; i < prefix.length(); i++) {
+                int edge = Arrays.binarySearch(edgeChars[node], prefix.charAt(i));
+                if (edge < 0) {
+                    return List.of();
+                }
+                node = edgeTargets[node][edge];
+            }
+            int[] best = top[node];
+            List<String> result = new ArrayList<>(Math.min(limit, best.length));
+            for (int i = 0; i < best.length && i < limit; i++) {
+                result.add(terms[best[i]]);
+            }
+            return result;
+        }
+
+        static Trie build(Map<String, Long> weights, Map<String, String> display) {
+
+            // Term ids ordered by weight (then alphabetically) → a smaller id is always a better suggestion
+            List<String> keys = new ArrayList<>(weights.keySet());
+            keys.sort((a, b) -> {
+                int byWeight = Long.compare(weights.get(b), weights.get(a));
+                return byWeight != 0 ? byWeight : a.compareTo(b);
+            });
+
+            Node root = new Node();
+            for (int termId = 0; termId < keys.size(); termId++) {
+                String key = keys.get(termId);
+                for (int start = 0; start < key.length(); start++) {
+                    if (start == 0 || key.charAt(start - 1) == ' ') {
+                        root.insert(key, start, termId);
+                    }
+                }
+            }
+            root.collectTop();
+
+            // Flatten breadth-first into arrays
+            List<Node> order = new ArrayList<>();
+            order.add(root);
+            Map<Node, Integer> ids = new HashMap<>();
+            ids.put(root, 0);
+            for (int i = 0; i < order.size(); i++) {
+                for (Node child : order.get(i).children.values()) {
+                    ids.put(child, order.size());
+                    order.add(child);
+                }
+            }
+
+            int size = order.size();
+            char[][] edgeChars = new char[size][];
+            int[][] edgeTargets = new int[size][];
+            int[][] top = new int[size][];
+            for (int i = 0; i < size; i++) {
+                Node node = order.get(i);
+                edgeChars[i] = new char[node.children.size()];
+                edgeTargets[i] = new int[node.children.size()];
+                int edge = 0;
+                for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                    edgeChars[i][edge] = child.getKey();
+                    edgeTargets[i][edge] = ids.get(child.getValue());
+                    edge++;
+                }
+                top[i] = node.top;
+            }
+
+            String[] terms = keys.stream().map(display::get).toArray(String[]::new);
+            return new Trie(edgeChars, edgeTargets, top, terms);
+        }
+    }
+
+    // Build-time only
+    private static final class Node {
+        final TreeMap<Character, Node> children = new TreeMap<>();
+        final List<Integer> endingHere = new ArrayList<>();
+        int[] top;
+
+        void insert(String key, int from, int termId) {
+            Node node = this;
+            for (int i = from; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+            node.endingHere.add(termId);
+        }
+
+        // Best MAX_SUGGESTIONS term ids in this subtree (smallest ids win), no duplicates
+        int[] collectTop() {
+            LinkedHashSet<Integer> merged = new LinkedHashSet<>(endingHere);
+            for (Node child : children.values()) {
+                for (int termId : child.collectTop()) {
+                    merged.add(termId);
+                }
+            }
+            top = merged.stream().sorted().limit(MAX_SUGGESTIONS).mapToInt(Integer::intValue).toArray();
+            return top;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.entity.enums.SkillLevel;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+// Browse filters; empty set / null bound = no restriction. Values inside one facet are OR-ed, facets are AND-ed.
+public record SkillFacetFilter(
+        Set<SkillCategory> categories,
+        Set<SkillLevel> levels,
+        BigDecimal minRate,
+        BigDecimal maxRate,
+        Integer minExperience,
+        Integer maxExperience
+) {
+}
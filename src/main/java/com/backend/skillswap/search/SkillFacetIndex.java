@@ -0,0 +1,334 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.cache.SkillRatingCache;
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.entity.enums.SkillLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Columnar index of public skills for faceted browsing.
+// Every skill owns a slot; each facet value keeps a bitset of slots, so filtering and counting are
+// BitSet.and (word-level AND) + cardinality. Rate / experience ranges are scanned from primitive columns.
+// Counts are disjunctive: a facet's counts ignore that facet's own selection, so the sidebar shows
+// what every other choice would give. Rating order comes from the pre-sorted SkillRatingCache.
+@Component
+@RequiredArgsConstructor
+public class SkillFacetIndex implements SkillIndex {
+
+    public static final String FACET_CATEGORY = "category";
+    public static final String FACET_LEVEL = "level";
+    public static final String FACET_HOURLY_RATE = "hourlyRate";
+    public static final String FACET_EXPERIENCE = "experienceYears";
+
+    // Bucket lower bounds (rate in cents), last bucket is open-ended
+    private static final long[] RATE_BOUNDS = {0, 10_00, 25_00, 50_00, 100_00};
+    private static final String[] RATE_LABELS = {"0-10", "10-25", "25-50", "50-100", "100+"};
+
+    private static final int[] EXPERIENCE_BOUNDS = {0, 2, 5, 10};
+    private static final String[] EXPERIENCE_LABELS = {"0-1", "2-4", "5-9", "10+"};
+
+    private static final SkillCategory[] CATEGORIES = SkillCategory.values();
+    private static final SkillLevel[] LEVELS = SkillLevel.values();
+
+    // ===== Columns (index = slot) =====
+    private UserSkillResponse[] skills = new UserSkillResponse[256];
+    private long[] rateCents = new long[256];
+    private int[] experience = new int[256];
+
+    private final Map<Long, Integer> slotOfSkill = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int nextSlot;
+
+    // ===== Bitsets (one per facet value) =====
+    private final BitSet live = new BitSet();
+    private final BitSet[] byCategory = newBitsets(CATEGORIES.length);
+    private final BitSet[] byLevel = newBitsets(LEVELS.length);
+    private final BitSet[] byRateBucket = newBitsets(RATE_BOUNDS.length);
+    private final BitSet[] byExperienceBucket = newBitsets(EXPERIENCE_BOUNDS.length);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final SkillRatingCache skillRatingCache;
+
+    @Override
+    public String name() {
+        return "skill-facets";
+    }
+
+    // ================= UPDATE =================
+    @Override
+    public void reset() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(skills, null);
+            slotOfSkill.clear();
+            freeSlots.clear();
+            nextSlot = 0;
+            live.clear();
+            for (BitSet[] facet : List.of(byCategory, byLevel, byRateBucket, byExperienceBucket)) {
+                Arrays.stream(facet).forEach(BitSet::clear);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(UserSkillResponse skill) {
+        lock.writeLock().lock();
+        try {
+            free(skill.getId());
+
+            int slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+            ensureCapacity(slot + 1);
+
+            long cents = toCents(skill.getHourlyRate());
+            skills[slot] = skill;
+            rateCents[slot] = cents;
+            experience[slot] = skill.getExperienceYears();
+            slotOfSkill.put(skill.getId(), slot);
+
+            live.set(slot);
+            byCategory[skill.getCategory().ordinal()].set(slot);
+            byLevel[skill.getLevel().ordinal()].set(slot);
+            byRateBucket[rateBucket(cents)].set(slot);
+            byExperienceBucket[experienceBucket(skill.getExperienceYears())].set(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long skillId) {
+        lock.writeLock().lock();
+        try {
+            free(skillId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= BROWSE =================
+    // Matching skills in the requested order + disjunctive facet counts
+    public SkillFacetResult browse(SkillFacetFilter filter, SkillSort sort, int page, int size) {
+
+        lock.readLock().lock();
+        try {
+            BitSet categoryMask = union(byCategory, ordinals(filter.categories()));
+            BitSet levelMask = union(byLevel, ordinals(filter.levels()));
+            BitSet rateMask = rateRange(filter.minRate(), filter.maxRate());
+            BitSet experienceMask = experienceRange(filter.minExperience(), filter.maxExperience());
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put(FACET_CATEGORY, counts(byCategory, labels(CATEGORIES),
+                    intersect(levelMask, rateMask, experienceMask)));
+            facets.put(FACET_LEVEL, counts(byLevel, labels(LEVELS),
+                    intersect(categoryMask, rateMask, experienceMask)));
+            facets.put(FACET_HOURLY_RATE, counts(byRateBucket, RATE_LABELS,
+                    intersect(categoryMask, levelMask, experienceMask)));
+            facets.put(FACET_EXPERIENCE, counts(byExperienceBucket, EXPERIENCE_LABELS,
+                    intersect(categoryMask, levelMask, rateMask)));
+
+            BitSet matches = intersect(categoryMask, levelMask, rateMask, experienceMask);
+            int wanted = (page + 1) * size;
+
+            List<UserSkillResponse> ordered = sort == SkillSort.RATING
+                    ? bestRatedFirst(matches, wanted)
+                    : newestFirst(matches, wanted);
+
+            int from = Math.min(page * size, ordered.size());
+            int to = Math.min(from + size, ordered.size());
+
+            return new SkillFacetResult(new SkillHits(matches.cardinality(), List.copyOf(ordered.subList(from, to))), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================= LOOKUP =================
+    // Public skills among the given ids, in the given order (unknown or hidden ids are skipped)
+    public List<UserSkillResponse> lookup(long[] skillIds, int limit) {
+
+        lock.readLock().lock();
+        try {
+            List<UserSkillResponse> found = new ArrayList<>(Math.min(limit, skillIds.length));
+            for (long skillId : skillIds) {
+                if (found.size() >= limit) {
+                    break;
+                }
+                Integer slot = slotOfSkill.get(skillId);
+                if (slot != null) {
+                    found.add(skills[slot]);
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================= ORDER =================
+    private List<UserSkillResponse> newestFirst(BitSet matches, int wanted) {
+        return matches.stream()
+                .mapToObj(slot -> skills[slot])
+                .sorted(Comparator.comparing(UserSkillResponse::getId).reversed())
+                .limit(wanted)
+                .toList();
+    }
+
+    // Walk the rating order and keep matching skills until the page is full; only if it runs out
+    // do unrated matches follow (newest first). Nothing is sorted per request.
+    private List<UserSkillResponse> bestRatedFirst(BitSet matches, int wanted) {
+
+        BitSet unrated = (BitSet) matches.clone();
+        List<UserSkillResponse> ordered = new ArrayList<>(wanted);
+
+        for (Long skillId : skillRatingCache.bestRated()) {
+            if (ordered.size() >= wanted) {
+                return ordered;
+            }
+            Integer slot = slotOfSkill.get(skillId);
+            if (slot != null && unrated.get(slot)) {
+                ordered.add(skills[slot]);
+                unrated.clear(slot);
+            }
+        }
+
+        ordered.addAll(newestFirst(unrated, wanted - ordered.size()));
+        return ordered;
+    }
+
+    // ================= HELPERS =================
+    // Caller holds the write lock
+    private void free(Long skillId) {
+        Integer slot = slotOfSkill.remove(skillId);
+        if (slot == null) {
+            return;
+        }
+        live.clear(slot);
+        for (BitSet[] facet : List.of(byCategory, byLevel, byRateBucket, byExperienceBucket)) {
+            for (BitSet bits : facet) {
+                bits.clear(slot);
+            }
+        }
+        skills[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    // live AND every non-null mask (null = facet not filtered)
+    private BitSet intersect(BitSet... masks) {
+        BitSet result = (BitSet) live.clone();
+        for (BitSet mask : masks) {
+            if (mask != null) {
+                result.and(mask);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Integer> counts(BitSet[] values, String[] labels, BitSet base) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            BitSet hits = (BitSet) values[i].clone();
+            hits.and(base);
+            counts.put(labels[i], hits.cardinality());
+        }
+        return counts;
+    }
+
+    private static BitSet union(BitSet[] values, int[] selected) {
+        if (selected.length == 0) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        for (int ordinal : selected) {
+            result.or(values[ordinal]);
+        }
+        return result;
+    }
+
+    private BitSet rateRange(BigDecimal min, BigDecimal max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        long low = min != null ? toCents(min) : Long.MIN_VALUE;
+        long high = max != null ? toCents(max) : Long.MAX_VALUE;
+
+        BitSet result = new BitSet();
+        live.stream().filter(slot -> rateCents[slot] >= low && rateCents[slot] <= high).forEach(result::set);
+        return result;
+    }
+
+    private BitSet experienceRange(Integer min, Integer max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        int low = min != null ? min : Integer.MIN_VALUE;
+        int high = max != null ? max : Integer.MAX_VALUE;
+
+        BitSet result = new BitSet();
+        live.stream().filter(slot -> experience[slot] >= low && experience[slot] <= high).forEach(result::set);
+        return result;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > skills.length) {
+            int grown = Math.max(capacity, skills.length * 2);
+            skills = Arrays.copyOf(skills, grown);
+            rateCents = Arrays.copyOf(rateCents, grown);
+            experience = Arrays.copyOf(experience, grown);
+        }
+    }
+
+    private static int rateBucket(long cents) {
+        int bucket = 0;
+        while (bucket + 1 < RATE_BOUNDS.length && cents >= RATE_BOUNDS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static int experienceBucket(int years) {
+        int bucket = 0;
+        while (bucket + 1 < EXPERIENCE_BOUNDS.length && years >= EXPERIENCE_BOUNDS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    private static int[] ordinals(Set<? extends Enum<?>> values) {
+        return values == null ? new int[0] : values.stream().mapToInt(Enum::ordinal).toArray();
+    }
+
+    private static String[] labels(Enum<?>[] values) {
+        return Arrays.stream(values).map(Enum::name).toArray(String[]::new);
+    }
+
+    private static BitSet[] newBitsets(int count) {
+        BitSet[] bitsets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitsets[i] = new BitSet();
+        }
+        return bitsets;
+    }
+}
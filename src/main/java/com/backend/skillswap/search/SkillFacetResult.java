@@ -0,0 +1,7 @@
+package com.backend.skillswap.search;
+
+import java.util.Map;
+
+// Page of matching skills + per-facet value counts (facet name → value → hits)
+public record SkillFacetResult(SkillHits hits, Map<String, Map<String, Integer>> facets) {
+}
@@ -0,0 +1,251 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.repository.UserProfileRepository;
+import com.backend.skillswap.repository.projection.ProviderLocation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// "Skills near me": public skills of providers who shared coordinates, bucketed by geohash.
+// Every provider is filed under each prefix of their geohash (precision 2..6). A query picks the finest
+// precision whose cells are at least the radius across, so the circle always fits in the 3 × 3 block of
+// cells around the searcher; only providers in those 9 cells are distance-checked — never the whole catalog.
+// Providers are placed at the centre of their precision-6 cell, not their exact coordinates, so distances
+// from several search points can't be combined to pinpoint where someone lives.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillGeoIndex implements SkillIndex {
+
+    // Upper bound for ?radiusKm= (precision 2 cells still cover it almost up to the poles)
+    public static final double MAX_RADIUS_KM = 100;
+
+    private static final int MIN_PRECISION = 2;
+    private static final int MAX_PRECISION = 6;   // ~1.2 km × 0.6 km
+
+    private final UserProfileRepository userProfileRepository;
+
+    // Public skills, grouped by provider
+    private final Map<Long, UserSkillResponse> skills = new HashMap<>();
+    private final Map<Long, Set<Long>> skillsByProvider = new HashMap<>();
+
+    // Provider coordinates and the cells they are filed under
+    private final Map<Long, Location> locations = new HashMap<>();
+    private final Map<String, Set<Long>> providersByCell = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public String name() {
+        return "skill-geo";
+    }
+
+    // ================= SKILLS (fed by SkillIndexUpdater) =================
+    @Override
+    public void reset() {
+        lock.writeLock().lock();
+        try {
+            skills.clear();
+            skillsByProvider.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(UserSkillResponse skill) {
+        lock.writeLock().lock();
+        try {
+            untrackSkill(skill.getId());
+            skills.put(skill.getId(), skill);
+            skillsByProvider.computeIfAbsent(skill.getUserId(), id -> new HashSet<>()).add(skill.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long skillId) {
+        lock.writeLock().lock();
+        try {
+            untrackSkill(skillId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= LOCATIONS =================
+    // null coordinates = provider no longer located (after commit)
+    public void moveProvider(Long userId, Double latitude, Double longitude) {
+        lock.writeLock().lock();
+        try {
+            untrackLocation(userId);
+            if (latitude != null && longitude != null) {
+                trackLocation(userId, latitude, longitude);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Read under the write lock: a profile change committed during the load is either in the rows or applied after us
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLocations() {
+
+        long started = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            List<ProviderLocation> all = userProfileRepository.findLocations();
+
+            locations.clear();
+            providersByCell.clear();
+            all.forEach(location -> trackLocation(location.userId(), location.latitude(), location.longitude()));
+
+            log.info("Skill geo index loaded {} provider locations in {} ms",
+                    all.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.warn("Skill geo index location load failed: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= NEARBY =================
+    // Public skills within radiusKm, nearest first; each item carries its distance
+    public SkillHits nearby(double latitude, double longitude, double radiusKm, SkillCategory category, int page, int size) {
+
+        int precision = precisionFor(radiusKm, latitude);
+
+        lock.readLock().lock();
+        try {
+            List<Hit> hits = new ArrayList<>();
+
+            for (String cell : blockAround(latitude, longitude, precision)) {
+                for (Long providerId : providersByCell.getOrDefault(cell, Set.of())) {
+
+                    Set<Long> providerSkills = skillsByProvider.get(providerId);
+                    if (providerSkills == null) {
+                        continue;
+                    }
+
+                    Location location = locations.get(providerId);
+                    double distance = GeoHash.distanceKm(latitude, longitude, location.latitude(), location.longitude());
+                    if (distance > radiusKm) {
+                        continue;
+                    }
+
+                    for (Long skillId : providerSkills) {
+                        UserSkillResponse skill = skills.get(skillId);
+                        if (category == null || skill.getCategory() == category) {
+                            hits.add(new Hit(skill, distance));
+                        }
+                    }
+                }
+            }
+
+            hits.sort(Comparator.comparingDouble(Hit::distance)
+                    .thenComparing(hit -> hit.skill().getId(), Comparator.reverseOrder()));
+
+            int from = Math.min(page * size, hits.size());
+            int to = Math.min(from + size, hits.size());
+
+            List<UserSkillResponse> items = hits.subList(from, to).stream()
+                    .map(hit -> hit.skill().toBuilder()
+                            .distanceKm(Math.round(hit.distance() * 10) / 10.0)
+                            .build())
+                    .toList();
+
+            return new SkillHits(hits.size(), items);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================= HELPERS =================
+    // Finest precision whose cells are at least the radius high and wide at this latitude
+    static int precisionFor(double radiusKm, double latitude) {
+        for (int precision = MAX_PRECISION; precision > MIN_PRECISION; precision--) {
+            if (GeoHash.cellHeightKm(precision) >= radiusKm && GeoHash.cellWidthKm(precision, latitude) >= radiusKm) {
+                return precision;
+            }
+        }
+        return MIN_PRECISION;
+    }
+
+    // The searcher's cell and its 8 neighbours (fewer at the poles, longitude wraps around)
+    static Set<String> blockAround(double latitude, double longitude, int precision) {
+
+        double height = GeoHash.cellHeightDegrees(precision);
+        double width = GeoHash.cellWidthDegrees(precision);
+
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            double lat = Math.max(-90, Math.min(90 - 1e-9, latitude + dLat * height));
+            for (int dLon = -1; dLon <= 1; dLon++) {
+                double lon = ((longitude + dLon * width + 180) % 360 + 360) % 360 - 180;
+                cells.add(GeoHash.encode(lat, lon, precision));
+            }
+        }
+        return cells;
+    }
+
+    // Caller holds the write lock; only the cell centre is kept
+    private void trackLocation(Long userId, double latitude, double longitude) {
+        String hash = GeoHash.encode(latitude, longitude, MAX_PRECISION);
+        double[] centre = GeoHash.centre(hash);
+        locations.put(userId, new Location(centre[0], centre[1], hash));
+        for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+            providersByCell.computeIfAbsent(hash.substring(0, precision), cell -> new HashSet<>()).add(userId);
+        }
+    }
+
+    // Caller holds the write lock
+    private void untrackLocation(Long userId) {
+        Location previous = locations.remove(userId);
+        if (previous == null) {
+            return;
+        }
+        for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+            String cell = previous.hash().substring(0, precision);
+            Set<Long> providers = providersByCell.get(cell);
+            if (providers != null && providers.remove(userId) && providers.isEmpty()) {
+                providersByCell.remove(cell);
+            }
+        }
+    }
+
+    // Caller holds the write lock
+    private void untrackSkill(Long skillId) {
+        UserSkillResponse previous = skills.remove(skillId);
+        if (previous == null) {
+            return;
+        }
+        Set<Long> providerSkills = skillsByProvider.get(previous.getUserId());
+        if (providerSkills != null && providerSkills.remove(skillId) && providerSkills.isEmpty()) {
+            skillsByProvider.remove(previous.getUserId());
+        }
+    }
+
+    private record Location(double latitude, double longitude, String hash) {
+    }
+
+    private record Hit(UserSkillResponse skill, double distance) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+
+import java.util.List;
+
+// One page of index results, best first; total = all matches, not just this page
+public record SkillHits(int total, List<UserSkillResponse> items) {
+
+    public static SkillHits empty() {
+        return new SkillHits(0, List.of());
+    }
+}
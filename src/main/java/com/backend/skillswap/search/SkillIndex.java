@@ -0,0 +1,20 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+
+// In-memory read model over the public skill catalog (verified + active skills only).
+// Fed by SkillIndexUpdater: a full load at startup, then one call per committed skill change.
+public interface SkillIndex {
+
+    // Used in logs
+    String name();
+
+    // Drop all state before a full load
+    void reset();
+
+    // Insert or replace a publicly visible skill
+    void upsert(UserSkillResponse skill);
+
+    // Skill no longer visible (or never was) → no-op if absent
+    void remove(Long skillId);
+}
@@ -0,0 +1,127 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.events.SkillChangeEvent;
+import com.backend.skillswap.mapper.UserSkillMapper;
+import com.backend.skillswap.repository.UserSkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Keeps every SkillIndex in step with the catalog: full load once the app is up,
+// then each committed SkillChangeEvent is applied to all indexes.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillIndexUpdater {
+
+    private final UserSkillRepository userSkillRepository;
+    private final List<SkillIndex> indexes;
+
+    // Last applied state per visible skill → a late (older) change can't overwrite a newer one
+    private final Map<Long, UserSkillResponse> applied = new HashMap<>();
+
+    // Skills that recently left the catalog → a late (older) change can't bring them back.
+    // Only the most recent REMOVED_WINDOW removals are kept, like SkillDuplicateIndex.
+    static final int REMOVED_WINDOW = 10_000;
+    private final Map<Long, LocalDateTime> removed = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LocalDateTime> eldest) {
+            return size() > REMOVED_WINDOW;
+        }
+    };
+
+    // ================= WARM-UP =================
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmIndexes() {
+
+        long started = System.currentTimeMillis();
+
+        List<UserSkillResponse> visible = userSkillRepository.findByVerifiedTrueAndActiveTrue()
+                .stream()
+                .map(UserSkillMapper::toResponse)
+                .toList();
+
+        synchronized (this) {
+            // Changes that arrived live while we were loading are newer than (or as new as) the load
+            Map<Long, UserSkillResponse> merged = new HashMap<>();
+            visible.forEach(skill -> merged.put(skill.getId(), skill));
+            applied.values().forEach(live -> merged.merge(live.getId(), live,
+                    (loaded, change) -> isOlder(change, loaded) ? loaded : change));
+            removed.forEach((skillId, removedAt) -> {
+                UserSkillResponse loaded = merged.get(skillId);
+                if (loaded != null && !isAfter(loaded.getUpdatedAt(), removedAt)) {
+                    merged.remove(skillId);
+                }
+            });
+
+            indexes.forEach(SkillIndex::reset);
+            applied.clear();
+            merged.values().forEach(this::applyIfNewer);
+        }
+
+        log.info("Skill indexes {} loaded with {} skills in {} ms",
+                indexes.stream().map(SkillIndex::name).toList(), visible.size(), System.currentTimeMillis() - started);
+    }
+
+    // ================= LIVE CHANGES (after commit) =================
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onSkillChange(SkillChangeEvent event) {
+        applyIfNewer(event.skill());
+    }
+
+    // ================= HELPERS =================
+    private void applyIfNewer(UserSkillResponse skill) {
+
+        LocalDateTime last = lastApplied(skill.getId());
+        if (isAfter(last, skill.getUpdatedAt())) {
+            return;
+        }
+
+        if (skill.isActive() && skill.isVerified()) {
+            applied.put(skill.getId(), skill);
+            removed.remove(skill.getId());
+            indexes.forEach(index -> index.upsert(skill));
+        } else {
+            applied.remove(skill.getId());
+            if (skill.getUpdatedAt() != null) {
+                removed.remove(skill.getId());   // re-insert → youngest in the window
+                removed.put(skill.getId(), skill.getUpdatedAt());
+            }
+            indexes.forEach(index -> index.remove(skill.getId()));
+        }
+    }
+
+    private LocalDateTime lastApplied(Long skillId) {
+        UserSkillResponse visible = applied.get(skillId);
+        return visible != null ? visible.getUpdatedAt() : removed.get(skillId);
+    }
+
+    // Package-private for tests
+    synchronized int trackedSkills() {
+        return applied.size() + removed.size();
+    }
+
+    private static boolean isOlder(UserSkillResponse skill, UserSkillResponse than) {
+        return isAfter(than.getUpdatedAt(), skill.getUpdatedAt());
+    }
+
+    // Unknown timestamps never win or lose
+    private static boolean isAfter(LocalDateTime time, LocalDateTime than) {
+        return time != null && than != null && time.isAfter(than);
+    }
+}
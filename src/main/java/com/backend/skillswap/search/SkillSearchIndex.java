@@ -0,0 +1,203 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.cache.ProviderStatsCache;
+import com.backend.skillswap.dto.response.ProviderStatsResponse;
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Inverted index over title + description of public skills, ranked with BM25.
+// Title terms count double (a match in the title says more than one in the description),
+// and the provider's track record scales the text score (see qualityBoost).
+// Postings are patched per skill change, so a search never touches the database.
+@Component
+@RequiredArgsConstructor
+public class SkillSearchIndex implements SkillIndex {
+
+    // Standard BM25 constants
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int TITLE_BOOST = 2;
+
+    // Provider quality never outweighs relevance: at most +45% (30% track record, 15% returning learners)
+    private static final double EXPERIENCE_WEIGHT = 0.30;
+    private static final double REPEAT_WEIGHT = 0.15;
+
+    // Completed sessions at which the experience factor saturates
+    private static final int EXPERIENCE_SATURATION = 50;
+
+    private static final Comparator<ScoredSkill> BEST_FIRST =
+            Comparator.comparingDouble(ScoredSkill::score).reversed()
+                    .thenComparing(scored -> scored.skill().getId(), Comparator.reverseOrder());
+
+    // term → (skill id → weighted term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final ProviderStatsCache providerStatsCache;
+
+    @Override
+    public String name() {
+        return "skill-search";
+    }
+
+    // ================= UPDATE =================
+    @Override
+    public void reset() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(UserSkillResponse skill) {
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        SkillTokenizer.tokenize(skill.getTitle()).forEach(term -> frequencies.merge(term, TITLE_BOOST, Integer::sum));
+        SkillTokenizer.tokenize(skill.getDescription()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            unindex(skill.getId());
+            frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(skill.getId(), tf));
+            documents.put(skill.getId(), new Document(skill, frequencies.keySet().toArray(String[]::new), length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long skillId) {
+        lock.writeLock().lock();
+        try {
+            unindex(skillId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= SEARCH =================
+    // Any query term may match (OR); ranking does the rest. Blank query → newest skills first.
+    public SkillHits search(String query, int page, int size) {
+
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SkillTokenizer.tokenize(query)));
+        int wanted = (page + 1) * size;
+
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty()) {
+                return newest(page, size);
+            }
+
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (String term : terms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - list.size() + 0.5) / (list.size() + 0.5));
+
+                list.forEach((skillId, tf) -> {
+                    double norm = K1 * (1 - B + B * documents.get(skillId).length() / averageLength);
+                    scores.merge(skillId, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                });
+            }
+
+            // Bounded heap: only the first (page + 1) * size hits are ever ordered
+            PriorityQueue<ScoredSkill> top = new PriorityQueue<>(BEST_FIRST.reversed());
+            scores.forEach((skillId, score) -> {
+                UserSkillResponse skill = documents.get(skillId).skill();
+                top.add(new ScoredSkill(skill, score * qualityBoost(providerStatsCache.get(skill.getUserId()))));
+                if (top.size() > wanted) {
+                    top.poll();
+                }
+            });
+
+            List<ScoredSkill> ranked = new ArrayList<>(top);
+            ranked.sort(BEST_FIRST);
+
+            return new SkillHits(scores.size(), slice(ranked, page, size).stream().map(ScoredSkill::skill).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================= HELPERS =================
+    // 1 for a provider without history. Experience grows logarithmically with completed sessions
+    // and is discounted by cancellations and disputes; repeat share = learners who came back.
+    private static double qualityBoost(ProviderStatsResponse stats) {
+
+        long completed = stats.getCompletedSessions();
+        if (completed == 0) {
+            return 1;
+        }
+
+        double experience = Math.min(1, Math.log1p(completed) / Math.log1p(EXPERIENCE_SATURATION));
+        double reliability = Math.max(0, 1 - stats.getCancellationRate() - (double) stats.getDisputedSessions() / completed);
+        double repeatShare = stats.getDistinctLearners() == 0 ? 0 : (double) stats.getRepeatLearners() / stats.getDistinctLearners();
+
+        return 1 + EXPERIENCE_WEIGHT * experience * reliability + REPEAT_WEIGHT * repeatShare;
+    }
+
+    // Caller holds the write lock
+    private void unindex(Long skillId) {
+        Document previous = documents.remove(skillId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list != null) {
+                list.remove(skillId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= previous.length();
+    }
+
+    private SkillHits newest(int page, int size) {
+        List<UserSkillResponse> all = documents.values().stream()
+                .map(Document::skill)
+                .sorted(Comparator.comparing(UserSkillResponse::getId).reversed())
+                .toList();
+        return new SkillHits(all.size(), slice(all, page, size));
+    }
+
+    private static <T> List<T> slice(List<T> items, int page, int size) {
+        int from = Math.min(page * size, items.size());
+        int to = Math.min(from + size, items.size());
+        return List.copyOf(items.subList(from, to));
+    }
+
+    private record Document(UserSkillResponse skill, String[] terms, int length) {
+    }
+
+    private record ScoredSkill(UserSkillResponse skill, double score) {
+    }
+}
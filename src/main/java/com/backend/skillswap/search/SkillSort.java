@@ -0,0 +1,11 @@
+package com.backend.skillswap.search;
+
+// Order of browse results
+public enum SkillSort {
+
+    // Most recently added first
+    NEWEST,
+
+    // Best damped rating first (see SkillRatingCache), unrated skills after, newest first
+    RATING
+}
@@ -0,0 +1,65 @@
+package com.backend.skillswap.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Shared text normalisation for every skill index, so a query and the document it should match
+// always go through exactly the same steps.
+public final class SkillTokenizer {
+
+    // Too common in titles/descriptions to carry any ranking signal
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "the", "of", "for", "to", "in", "on", "with", "by", "at", "or", "is", "are", "i", "my"
+    );
+
+    private SkillTokenizer() {
+        // Utility class
+    }
+
+    // Lower case, accents stripped, anything but letters/digits/+/# becomes a space, whitespace collapsed
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+
+        StringBuilder out = new StringBuilder(folded.length());
+        boolean space = true;
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            // keep c++ / c# / f# intact
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                out.append(c);
+                space = false;
+            } else if (!space) {
+                out.append(' ');
+                space = true;
+            }
+        }
+        int end = out.length();
+        if (end > 0 && out.charAt(end - 1) == ' ') {
+            out.setLength(end - 1);
+        }
+        return out.toString();
+    }
+
+    // Normalised terms in order, stop words removed (duplicates kept → term frequency)
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return tokens;
+        }
+        for (String token : normalized.split(" ")) {
+            if (!STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
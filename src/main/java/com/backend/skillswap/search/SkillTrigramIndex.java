@@ -0,0 +1,240 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Typo-tolerant lookup over title words of public skills ("pyhton" → Python, "guiter" → Guitar).
+// Title words are indexed by character trigrams. A query word collects candidate words by trigram
+// overlap, only the best CANDIDATE_CAP of them are checked with edit distance, so the cost is bounded
+// by the cap and never by the catalog size.
+@Component
+public class SkillTrigramIndex implements SkillIndex {
+
+    // Words re-ranked by edit distance per query word
+    private static final int CANDIDATE_CAP = 50;
+
+    // Longer queries are cut (typeahead-length input only)
+    private static final int MAX_QUERY_WORDS = 5;
+
+    // Candidate must share at least this share of the query word's trigrams
+    private static final double MIN_OVERLAP = 0.3;
+
+    // trigram → title words containing it
+    private final Map<String, Set<String>> trigramToWords = new HashMap<>();
+    // title word → skills using it
+    private final Map<String, Set<Long>> wordToSkills = new HashMap<>();
+    private final Map<Long, Indexed> skills = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public String name() {
+        return "skill-trigram";
+    }
+
+    // ================= UPDATE =================
+    @Override
+    public void reset() {
+        lock.writeLock().lock();
+        try {
+            trigramToWords.clear();
+            wordToSkills.clear();
+            skills.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(UserSkillResponse skill) {
+
+        Set<String> words = new LinkedHashSet<>(SkillTokenizer.tokenize(skill.getTitle()));
+
+        lock.writeLock().lock();
+        try {
+            unindex(skill.getId());
+            for (String word : words) {
+                Set<Long> owners = wordToSkills.computeIfAbsent(word, w -> new HashSet<>());
+                if (owners.isEmpty()) {
+                    trigrams(word).forEach(gram -> trigramToWords.computeIfAbsent(gram, g -> new HashSet<>()).add(word));
+                }
+                owners.add(skill.getId());
+            }
+            skills.put(skill.getId(), new Indexed(skill, words));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long skillId) {
+        lock.writeLock().lock();
+        try {
+            unindex(skillId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= FUZZY SEARCH =================
+    // Score of a skill = Σ over query words of the best similarity (1 - distance / length) among its title words
+    public SkillHits search(String query, int page, int size) {
+
+        List<String> queryWords = SkillTokenizer.tokenize(query).stream()
+                .distinct()
+                .limit(MAX_QUERY_WORDS)
+                .toList();
+        if (queryWords.isEmpty()) {
+            return SkillHits.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (String queryWord : queryWords) {
+                Map<Long, Double> best = new HashMap<>();
+                matchWords(queryWord).forEach((word, similarity) ->
+                        wordToSkills.get(word).forEach(skillId -> best.merge(skillId, similarity, Math::max)));
+                best.forEach((skillId, similarity) -> scores.merge(skillId, similarity, Double::sum));
+            }
+
+            List<UserSkillResponse> ranked = scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .map(entry -> skills.get(entry.getKey()).skill())
+                    .toList();
+
+            int from = Math.min(page * size, ranked.size());
+            int to = Math.min(from + size, ranked.size());
+            return new SkillHits(ranked.size(), List.copyOf(ranked.subList(from, to)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================= HELPERS =================
+    // Title words close enough to the query word → similarity in (0, 1]
+    private Map<String, Double> matchWords(String queryWord) {
+
+        List<String> grams = trigrams(queryWord);
+
+        // Candidate generation: count shared trigrams per title word
+        Map<String, Integer> overlap = new HashMap<>();
+        for (String gram : grams) {
+            Set<String> words = trigramToWords.get(gram);
+            if (words != null) {
+                words.forEach(word -> overlap.merge(word, 1, Integer::sum));
+            }
+        }
+
+        int minShared = Math.max(1, (int) Math.ceil(grams.size() * MIN_OVERLAP));
+        int maxEdits = queryWord.length() <= 4 ? 1 : 2;
+
+        Map<String, Double> matches = new HashMap<>();
+        overlap.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minShared)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(CANDIDATE_CAP)
+                .forEach(entry -> {
+                    String word = entry.getKey();
+                    int distance = editDistance(queryWord, word, maxEdits);
+                    if (distance <= maxEdits) {
+                        matches.put(word, 1.0 - (double) distance / Math.max(queryWord.length(), word.length()));
+                    }
+                });
+        return matches;
+    }
+
+    // Caller holds the write lock
+    private void unindex(Long skillId) {
+        Indexed previous = skills.remove(skillId);
+        if (previous == null) {
+            return;
+        }
+        for (String word : previous.words()) {
+            Set<Long> owners = wordToSkills.get(word);
+            if (owners == null) {
+                continue;
+            }
+            owners.remove(skillId);
+            if (owners.isEmpty()) {
+                wordToSkills.remove(word);
+                for (String gram : trigrams(word)) {
+                    Set<String> words = trigramToWords.get(gram);
+                    if (words != null) {
+                        words.remove(word);
+                        if (words.isEmpty()) {
+                            trigramToWords.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Padded so word starts/ends get their own grams ("go" → "$go", "go$")
+    private static List<String> trigrams(String word) {
+        String padded = "$" + word + "$";
+        List<String> grams = new ArrayList<>(padded.length());
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams.stream().distinct().toList();
+    }
+
+    // Optimal string alignment distance (adjacent swaps count as one edit, "pyhton" → "python" = 1).
+    // Gives up early with limit + 1 once every cell of a row is over the limit.
+    static int editDistance(String a, String b, int limit) {
+
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+
+        int[] previousRow = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+
+        for (int j = 0; j <= b.length(); j++) {
+            row[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(row[j] + 1, current[j - 1] + 1), row[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousRow[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+
+            int[] recycled = previousRow;
+            previousRow = row;
+            row = current;
+            current = recycled;
+        }
+        return row[b.length()];
+    }
+
+    private record Indexed(UserSkillResponse skill, Set<String> words) {
+    }
+}
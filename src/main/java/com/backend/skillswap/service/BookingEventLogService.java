@@ -0,0 +1,30 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.response.BookingEventLogResponse;
+import com.backend.skillswap.dto.response.ProjectionReplayResponse;
+import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.BookingEventLog;
+import com.backend.skillswap.events.BookingEventType;
+
+import java.util.List;
+
+public interface BookingEventLogService {
+
+    // Append an event for the booking's current state (joins the caller's transaction)
+    BookingEventLog append(Booking booking, BookingEventType eventType);
+
+    // Read the log forward from a sequence number (events younger than a few seconds are held back)
+    List<BookingEventLogResponse> readAfter(Long afterSequence, int size);
+
+    // Full history of one booking
+    List<BookingEventLogResponse> getBookingHistory(Long bookingId);
+
+    // Rebuild one projection from the log (fromSequence = 0, or a projection without partial replay → full rebuild)
+    ProjectionReplayResponse replay(String projectionName, Long fromSequence);
+
+    // Rebuild every registered projection
+    List<ProjectionReplayResponse> replayAll();
+
+    // Names of registered projections
+    List<String> getProjectionNames();
+}
@@ -1,7 +1,9 @@
 package com.backend.skillswap.service;
 
+import com.backend.skillswap.dto.common.BulkOperationResponse;
 import com.backend.skillswap.dto.request.BookingRequest;
 import com.backend.skillswap.dto.response.BookingResponse;
+import com.backend.skillswap.dto.response.ProviderBookingStatsResponse;
 import com.backend.skillswap.entity.Booking;
 import com.backend.skillswap.entity.UserEntity;
 import com.backend.skillswap.entity.enums.BookingStatus;
@@ -18,6 +20,9 @@ public interface BookingService {
     // CONFIRM
     BookingResponse confirmBooking(Long bookingId, UserEntity provider);
 
+    // BULK CONFIRM (per-booking outcomes)
+    BulkOperationResponse confirmBookings(List<Long> bookingIds, UserEntity provider);
+
     // CANCEL
     BookingResponse cancelBooking(Long bookingId, UserEntity user, String reason);
 
@@ -34,6 +39,10 @@ public interface BookingService {
     List<Booking> getUpcomingBookingsForProvider(UserEntity provider);
     List<Booking> getUpcomingBookingsForRequester(UserEntity requester);
 
+    // HOME SCREEN: next N upcoming sessions, served from the in-memory timeline cache
+    List<BookingResponse> getUpcomingTimelineForProvider(UserEntity provider);
+    List<BookingResponse> getUpcomingTimelineForRequester(UserEntity requester);
+
     List<Booking> getPastBookingsForProvider(UserEntity provider);
     List<Booking> getPastBookingsForRequester(UserEntity requester);
 
@@ -69,4 +78,7 @@ public interface BookingService {
             LocalDateTime end
     );
 
+    // DASHBOARD (served from the booking event log projection)
+    ProviderBookingStatsResponse getProviderBookingStats(UserEntity provider);
+
 }
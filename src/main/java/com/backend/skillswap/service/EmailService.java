@@ -1,9 +1,11 @@
 package com.backend.skillswap.service;
 
-import com.backend.skillswap.entity.Booking;
 import com.backend.skillswap.entity.UserSkill;
 import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.events.BookingSnapshot;
+import com.backend.skillswap.events.SkillModerationNotice;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public interface EmailService {
@@ -16,9 +18,10 @@ public interface EmailService {
     void sendPasswordResetConfirmation(String toEmail);
 
     // ==================== User Skill verification email ================
-    void sendSkillVerifiedMail(UserSkill skill);
-
-    void sendSkillRejectedMail(UserSkill skill);
+    // Verified / rejected mails for a batch of moderated skills, sent over one SMTP session
+    // (called by SkillNotificationQueue, never inside a transaction). Returns the notices whose mail
+    // could not be delivered, so the queue can try them again.
+    List<SkillModerationNotice> sendSkillModerationMails(List<SkillModerationNotice> notices);
 
     void sendSkillDeletedMail(UserSkill skill);
 
@@ -26,32 +29,33 @@ public interface EmailService {
     void sendSkillRestoredMail(String email,String fullName, String skillTitle, SkillCategory category, Long skillId);
 
     // ===================== Booking Notifications =====================
+    // Booking mails take a detached snapshot, never the entity (they run on async threads without a session)
     // Notify user that a booking has been created successfully; professional transactional email
-    void sendBookingCreatedMail(Booking booking);
+    void sendBookingCreatedMail(BookingSnapshot booking);
 
     // Notify user that their booking has been confirmed; professional transactional email
-    void sendBookingConfirmedMail(Booking booking);
+    void sendBookingConfirmedMail(BookingSnapshot booking);
 
     // Notify user that their booking has been cancelled; includes reason if available
-    void sendBookingCancelledMail(Booking booking);
+    void sendBookingCancelledMail(BookingSnapshot booking);
 
     // Notify provider about a new booking request received; transactional & informative
-    void sendProviderBookingCreatedMail(Booking booking);
+    void sendProviderBookingCreatedMail(BookingSnapshot booking);
 
     // Notify provider that booking was successfully confirmed by them
-    void sendProviderBookingConfirmedMail(Booking booking);
+    void sendProviderBookingConfirmedMail(BookingSnapshot booking);
 
     // Notify provider that a booking was cancelled; includes reason
-    void sendProviderBookingCancelledMail(Booking booking);
+    void sendProviderBookingCancelledMail(BookingSnapshot booking);
 
     // Notify requester that the session has started; professional notification
-    void sendBookingStartedMail(Booking booking);
+    void sendBookingStartedMail(BookingSnapshot booking);
 
     // Notify requester that the session has completed successfully
-    void sendBookingCompletedMail(Booking booking);
+    void sendBookingCompletedMail(BookingSnapshot booking);
 
     // Notify requester that a dispute has been raised for their booking
-    void sendBookingDisputedMail(Booking booking);
+    void sendBookingDisputedMail(BookingSnapshot booking);
 
     // ===================== Transactional Emails =====================
     // Sends email for transaction events asynchronously; e.g., deposit, withdraw, escrow release, refund
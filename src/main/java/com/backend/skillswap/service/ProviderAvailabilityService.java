@@ -0,0 +1,26 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.request.AvailabilityExceptionRequest;
+import com.backend.skillswap.dto.request.AvailabilityRuleRequest;
+import com.backend.skillswap.dto.response.AvailabilityExceptionResponse;
+import com.backend.skillswap.dto.response.AvailabilityRuleResponse;
+import com.backend.skillswap.dto.response.DayAvailabilityResponse;
+import com.backend.skillswap.entity.UserEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ProviderAvailabilityService {
+
+    // WEEKLY RULES (replaced as a whole)
+    List<AvailabilityRuleResponse> getWeeklyRules(UserEntity provider);
+    List<AvailabilityRuleResponse> replaceWeeklyRules(UserEntity provider, List<AvailabilityRuleRequest> rules);
+
+    // DATE EXCEPTIONS
+    List<AvailabilityExceptionResponse> getUpcomingExceptions(UserEntity provider);
+    AvailabilityExceptionResponse addException(UserEntity provider, AvailabilityExceptionRequest request);
+    void deleteException(UserEntity provider, Long exceptionId);
+
+    // COMPILED VIEW (what learners can book)
+    DayAvailabilityResponse getDayAvailability(Long providerId, LocalDate date);
+}
@@ -0,0 +1,15 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.entity.Booking;
+
+public interface ProviderStatsService {
+
+    // Apply one booking transition (call in the booking's transaction; no-op for non-final statuses)
+    void recordTransition(Booking booking);
+
+    // Add one review to the provider's rating aggregate (call in the review's transaction)
+    void recordRating(Long providerId, int stars);
+
+    // Recompute every provider's booking counters from the bookings table
+    int rebuildAll();
+}
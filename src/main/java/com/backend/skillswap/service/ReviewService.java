@@ -0,0 +1,17 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.request.ReviewRequest;
+import com.backend.skillswap.dto.response.ReviewResponse;
+import com.backend.skillswap.entity.UserEntity;
+
+public interface ReviewService {
+
+    // ================= LEARNER =================
+    // One review per completed booking, by its learner
+    ReviewResponse createReview(UserEntity reviewer, Long bookingId, ReviewRequest request);
+
+    // ================= PUBLIC =================
+    // Newest first; pass nextCursor back as cursor
+    CursorPageResponse<ReviewResponse> getSkillReviews(Long skillId, Long cursor, int size);
+}
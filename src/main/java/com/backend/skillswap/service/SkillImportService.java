@@ -0,0 +1,13 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.response.SkillImportResponse;
+import com.backend.skillswap.importer.SkillImportFormat;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+public interface SkillImportService {
+
+    // Streams the upload row by row; valid, non-duplicate rows become new (unverified) skills
+    SkillImportResponse importSkills(Long userId, SkillImportFormat format, InputStream body, Charset charset);
+}
@@ -0,0 +1,21 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.request.WantedSkillRequest;
+import com.backend.skillswap.dto.response.SkillMatchResponse;
+import com.backend.skillswap.dto.response.WantedSkillResponse;
+
+import java.util.List;
+
+public interface SkillMatchService {
+
+    // ================= WANTED SKILLS =================
+    WantedSkillResponse addWantedSkill(Long userId, WantedSkillRequest request);
+
+    void removeWantedSkill(Long userId, Long wantedSkillId);
+
+    List<WantedSkillResponse> getWantedSkills(Long userId);
+
+    // ================= MATCHES =================
+    // Users I could swap with: mutual pairs, then 3-way cycles
+    List<SkillMatchResponse> getMatches(Long userId, int limit);
+}
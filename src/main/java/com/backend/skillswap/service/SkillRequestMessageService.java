@@ -0,0 +1,19 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.request.SkillRequestMessageRequest;
+import com.backend.skillswap.dto.response.SkillRequestMessageResponse;
+import com.backend.skillswap.entity.UserEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface SkillRequestMessageService {
+
+    // Append a message to a request's thread (learner or provider only)
+    SkillRequestMessageResponse postMessage(UserEntity author, Long requestId, SkillRequestMessageRequest request);
+
+    // Thread page, newest first
+    CursorPageResponse<SkillRequestMessageResponse> getThread(Long userId, Long requestId, Long cursor, int size);
+
+    // Live stream of new messages in all of the user's threads
+    SseEmitter subscribe(Long userId);
+}
@@ -1,7 +1,11 @@
 package com.backend.skillswap.service;
 
+import com.backend.skillswap.dto.common.BulkOperationResponse;
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.request.SkillRequestDecisionRequest;
 import com.backend.skillswap.dto.request.SkillRequestRequest;
 import com.backend.skillswap.dto.response.SkillRequestResponse;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
 
 import java.util.List;
 
@@ -16,12 +20,25 @@ public interface SkillRequestService {
     // Get received requests
     List<SkillRequestResponse> myReceivedRequests(Long receiverId);
 
+    // Cursor-paginated outbox / inbox (optional status filter)
+    CursorPageResponse<SkillRequestResponse> mySentRequestsPage(Long senderId, SkillRequestStatus status, Long cursor, int size);
+
+    CursorPageResponse<SkillRequestResponse> myReceivedRequestsPage(Long receiverId, SkillRequestStatus status, Long cursor, int size);
+
+    // Pending badge counts (served from the in-memory counter)
+    long countPendingSent(Long senderId);
+
+    long countPendingReceived(Long receiverId);
+
     // Accept a request
     SkillRequestResponse acceptRequest(Long receiverId, Long requestId);
 
     // Reject a request
     SkillRequestResponse rejectRequest(Long receiverId, Long requestId);
 
+    // Accept / reject many requests at once (per-id outcomes)
+    BulkOperationResponse decideRequests(Long receiverId, SkillRequestDecisionRequest request);
+
     // sender can cancel a pending request before it’s accepted/rejected.
     SkillRequestResponse cancelRequest(Long senderId, Long requestId);
 
@@ -29,6 +29,12 @@ public interface TransactionService {
     // Service
     TransactionResponse createEscrowTransaction(UserEntity payer, Booking booking, BigDecimal amount, TransactionType type);
 
+    // Bulk confirm: escrows for already-validated CONFIRMED bookings, batch inserted in the caller's transaction
+    void createEscrowTransactions(List<Booking> bookings);
+
+    // Booking ids (out of the given ones) that already hold a PENDING escrow
+    List<Long> findBookingIdsWithPendingEscrow(List<Long> bookingIds);
+
     TransactionResponse refund(Long bookingId);
 
     TransactionResponse releaseEscrow(Long bookingId);
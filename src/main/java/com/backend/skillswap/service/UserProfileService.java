@@ -15,6 +15,9 @@ public interface UserProfileService {
     // ================= PUBLIC =================
     UserProfileResponse getPublicProfile(Long userId);
 
+    // Strong ETag of the public profile, null if the user has no profile
+    String getPublicProfileETag(Long userId);
+
     // ================= ADMIN =================
     UserProfileResponse getProfileByUserId(Long userId);
 
@@ -1,8 +1,17 @@
 package com.backend.skillswap.service;
 
+import com.backend.skillswap.dto.common.BulkOperationResponse;
+import com.backend.skillswap.dto.request.SkillModerationRequest;
 import com.backend.skillswap.dto.request.UserSkillRequest;
+import com.backend.skillswap.dto.response.CacheStatsResponse;
+import com.backend.skillswap.dto.response.SkillBrowseResponse;
+import com.backend.skillswap.dto.response.SkillClusterResponse;
+import com.backend.skillswap.dto.response.SkillNearbyResponse;
+import com.backend.skillswap.dto.response.SkillSearchResponse;
 import com.backend.skillswap.dto.response.UserSkillResponse;
 import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.search.SkillFacetFilter;
+import com.backend.skillswap.search.SkillSort;
 
 import java.util.List;
 
@@ -37,12 +46,24 @@ public interface UserSkillService {
     // Admin rejects / disables skill
     void rejectSkill(Long skillId);
 
+    // Admin verifies / rejects many skills at once (per-item outcomes, mails sent in the background)
+    BulkOperationResponse moderateSkills(SkillModerationRequest request);
+
     // Get ALL skills (active + inactive) of a user
     List<UserSkillResponse> getAllSkillsOfUser(Long userId);
 
     // Get all unverified skills (admin moderation queue)
     List<UserSkillResponse> getUnverifiedSkills();
 
+    // Unverified skills grouped by near-duplicate title / description, biggest cluster first
+    List<SkillClusterResponse> getUnverifiedSkillClusters(int minSize);
+
+    // Hit / miss / eviction counters of the public catalog cache
+    CacheStatsResponse getCatalogCacheStats();
+
+    // Changes whenever any public skill list may have changed: catalog, provider stats or ratings (ETag source)
+    String getCatalogVersion();
+
     // ================= PUBLIC OPERATIONS =================
 
     // Get verified & active skills by category
@@ -54,7 +75,20 @@ public interface UserSkillService {
     // Public profile → kisi user ki verified skills
     List<UserSkillResponse> getUserSkills(Long userId);
 
-    // Public search (verified + active only)
-    List<UserSkillResponse> searchSkills(String keyword);
+    // Public typeahead: most popular titles starting with (a word of) the prefix
+    List<String> autocompleteTitles(String prefix, int limit);
+
+    // Public faceted browse (filters + counts per facet value), newest or best rated first
+    SkillBrowseResponse browseSkills(SkillFacetFilter filter, SkillSort sort, int page, int size);
+
+    // Public: skills most often also booked by learners of this skill
+    List<UserSkillResponse> getAlsoBooked(Long skillId, int limit);
+
+    // Public search (verified + active only), ranked + paginated; fuzzy = typo tolerant
+    SkillSearchResponse searchSkills(String keyword, int page, int size, boolean fuzzy);
+
+    // Public: skills of providers within radiusKm of a point, nearest first (optional category)
+    SkillNearbyResponse getNearbySkills(double latitude, double longitude, double radiusKm,
+                                        SkillCategory category, int page, int size);
 
 }
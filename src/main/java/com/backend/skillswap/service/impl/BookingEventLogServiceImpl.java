@@ -0,0 +1,182 @@
+package com.backend.skillswap.service.impl;
+
+import com.backend.skillswap.dto.response.BookingEventLogResponse;
+import com.backend.skillswap.dto.response.ProjectionReplayResponse;
+import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.BookingEventLog;
+import com.backend.skillswap.events.BookingEventType;
+import com.backend.skillswap.events.projection.BookingEventProjection;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.backend.skillswap.exception.common.ResourceNotFoundException;
+import com.backend.skillswap.mapper.BookingEventLogMapper;
+import com.backend.skillswap.repository.BookingEventLogRepository;
+import com.backend.skillswap.service.BookingEventLogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingEventLogServiceImpl implements BookingEventLogService {
+
+    // Page size used while streaming the log during a replay
+    private static final int REPLAY_PAGE_SIZE = 500;
+
+    private static final int MAX_READ_SIZE = 1000;
+
+    // Tailing readers only see events at least this old. Sequence numbers are allocated before commit,
+    // so a transaction holding N can commit after N + 1 was already read; a cursor past N would skip
+    // it for good. Any booking transaction that takes longer than this to commit can still be missed,
+    // and so can events from a second instance still drawing on an older pooled block (BookingEventLog).
+    static final Duration READ_LAG = Duration.ofSeconds(10);
+
+    private final BookingEventLogRepository eventLogRepository;
+    private final List<BookingEventProjection> projections;
+
+    // ================= APPEND =================
+    // MANDATORY: the event must commit (or roll back) together with the booking change itself
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BookingEventLog append(Booking booking, BookingEventType eventType) {
+
+        // persist() assigns the sequence number immediately; the INSERT itself is batched at flush
+        BookingEventLog event = eventLogRepository.save(BookingEventLogMapper.toEntity(booking, eventType));
+
+        // Fold into live projections only once the booking transaction has committed
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyToProjections(event);
+            }
+        });
+
+        return event;
+    }
+
+    // ================= READ =================
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingEventLogResponse> readAfter(Long afterSequence, int size) {
+
+        if (size <= 0 || size > MAX_READ_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_READ_SIZE);
+        }
+
+        long cursor = afterSequence != null ? afterSequence : 0L;
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(READ_LAG);
+
+        return eventLogRepository
+                .findBySequenceNumberGreaterThanAndOccurredAtBeforeOrderBySequenceNumberAsc(cursor, cutoff, PageRequest.of(0, size))
+                .stream()
+                .map(BookingEventLogMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingEventLogResponse> getBookingHistory(Long bookingId) {
+        return eventLogRepository.findByBookingIdOrderBySequenceNumberAsc(bookingId)
+                .stream()
+                .map(BookingEventLogMapper::toResponse)
+                .toList();
+    }
+
+    // ================= REPLAY =================
+    @Override
+    public ProjectionReplayResponse replay(String projectionName, Long fromSequence) {
+
+        BookingEventProjection projection = projections.stream()
+                .filter(p -> p.name().equals(projectionName))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Projection not found: " + projectionName));
+
+        long from = fromSequence != null ? fromSequence : 0L;
+        if (from > 0 && !projection.supportsPartialReplay()) {
+            log.info("Projection {} can't replay from sequence {}, rebuilding from the start", projectionName, from);
+            from = 0L;
+        }
+
+        return replay(projection, from);
+    }
+
+    @Override
+    public List<ProjectionReplayResponse> replayAll() {
+        return projections.stream()
+                .map(projection -> replay(projection, 0L))
+                .toList();
+    }
+
+    @Override
+    public List<String> getProjectionNames() {
+        return projections.stream().map(BookingEventProjection::name).toList();
+    }
+
+    // Warm all projections from the log once the app is up (off the main thread)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmProjections() {
+        replayAll().forEach(result ->
+                log.info("Projection {} rebuilt from {} booking events in {} ms",
+                        result.getProjection(), result.getEventsApplied(), result.getDurationMillis()));
+    }
+
+    // ================= HELPERS =================
+    // Streams the log page by page (keyset on sequence number), never touching the bookings table
+    private ProjectionReplayResponse replay(BookingEventProjection projection, long fromSequence) {
+
+        long started = System.currentTimeMillis();
+
+        if (fromSequence == 0L) {
+            projection.reset();
+        }
+
+        long cursor = fromSequence;
+        long applied = 0;
+
+        while (true) {
+            List<BookingEventLog> page = eventLogRepository
+                    .findBySequenceNumberGreaterThanOrderBySequenceNumberAsc(cursor, PageRequest.of(0, REPLAY_PAGE_SIZE));
+
+            for (BookingEventLog event : page) {
+                projection.apply(event);
+                cursor = event.getSequenceNumber();
+                applied++;
+            }
+
+            if (page.size() < REPLAY_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        return ProjectionReplayResponse.builder()
+                .projection(projection.name())
+                .eventsApplied(applied)
+                .lastSequenceNumber(cursor)
+                .durationMillis(System.currentTimeMillis() - started)
+                .build();
+    }
+
+    private void applyToProjections(BookingEventLog event) {
+        for (BookingEventProjection projection : projections) {
+            try {
+                projection.apply(event);
+            } catch (Exception e) { // A broken projection must never affect the booking flow
+                log.error("Projection {} failed on event {}", projection.name(), event.getSequenceNumber(), e);
+            }
+        }
+    }
+}
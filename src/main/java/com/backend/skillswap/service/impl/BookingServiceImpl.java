@@ -1,8 +1,14 @@
 package com.backend.skillswap.service.impl;
 
+import com.backend.skillswap.availability.ProviderAvailabilityCache;
+import com.backend.skillswap.cache.UpcomingTimelineCache;
+import com.backend.skillswap.dto.common.BulkItemResult;
+import com.backend.skillswap.dto.common.BulkOperationResponse;
 import com.backend.skillswap.dto.request.BookingRequest;
 import com.backend.skillswap.dto.response.BookingResponse;
+import com.backend.skillswap.dto.response.ProviderBookingStatsResponse;
 import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.BookingEventLog;
 import com.backend.skillswap.entity.SkillRequest;
 import com.backend.skillswap.entity.UserEntity;
 import com.backend.skillswap.entity.UserSkill;
@@ -11,6 +17,8 @@ import com.backend.skillswap.entity.enums.CancelBooking;
 import com.backend.skillswap.entity.enums.SkillRequestStatus;
 import com.backend.skillswap.events.BookingEvent;
 import com.backend.skillswap.events.BookingEventType;
+import com.backend.skillswap.events.projection.ProviderBookingStatsProjection;
+import com.backend.skillswap.exception.booking.OutsideWorkingHoursException;
 import com.backend.skillswap.exception.booking.OverlappingBookingException;
 import com.backend.skillswap.exception.booking.RecentBookingCooldownException;
 import com.backend.skillswap.exception.common.BadRequestException;
@@ -20,20 +28,31 @@ import com.backend.skillswap.mapper.BookingMapper;
 import com.backend.skillswap.repository.BookingRepository;
 import com.backend.skillswap.repository.SkillRequestRepository;
 import com.backend.skillswap.repository.UserSkillRepository;
+import com.backend.skillswap.service.BookingEventLogService;
 import com.backend.skillswap.service.BookingService;
+import com.backend.skillswap.service.ProviderStatsService;
 import com.backend.skillswap.service.TransactionService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -45,6 +64,11 @@ public class BookingServiceImpl implements BookingService {
     private final TransactionService transactionService;
     private final SkillRequestRepository skillRequestRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final BookingEventLogService bookingEventLogService;
+    private final ProviderBookingStatsProjection providerBookingStatsProjection;
+    private final ProviderAvailabilityCache providerAvailabilityCache;
+    private final UpcomingTimelineCache upcomingTimelineCache;
+    private final ProviderStatsService providerStatsService;
 
     // Lifecycle enforcement (PENDING → CONFIRMED → IN_PROGRESS → COMPLETED / CANCELLED / DISPUTED)  (Authorization checks in Every Step )
     // ================= CREATE BOOKING =================
@@ -83,6 +107,11 @@ public class BookingServiceImpl implements BookingService {
         UserEntity provider = skillRequest.getReceiver();
         UserSkill skill = skillRequest.getSkill();
 
+        // Working hours (in-memory bitmap) → rejects off-hours slots before any overlap query
+        if (!providerAvailabilityCache.isWithinWorkingHours(provider.getId(), request.getStartTime(), request.getEndTime())) {
+            throw new OutsideWorkingHoursException("Slot is outside the provider's working hours");
+        }
+
         // Check slot availability
         boolean providerOverlap = bookingRepository.existsOverlappingBookingForProvider(
                 provider.getId(), request.getStartTime(), request.getEndTime());
@@ -129,8 +158,8 @@ public class BookingServiceImpl implements BookingService {
         skillRequest.setStatus(SkillRequestStatus.BOOKED);
         skillRequestRepository.save(skillRequest);
 
-        // Publish event
-        eventPublisher.publishEvent(new BookingEvent(savedBooking, BookingEventType.CREATED.name()));
+        // Record + publish event
+        recordEvent(savedBooking, BookingEventType.CREATED);
 
         // Return response
         return BookingMapper.toResponse(savedBooking);
@@ -160,11 +189,76 @@ public class BookingServiceImpl implements BookingService {
                 null   // type (null defaults to ESCROW)
         );
 
-        eventPublisher.publishEvent(new BookingEvent(updated, BookingEventType.CONFIRMED.name()));
+        recordEvent(updated, BookingEventType.CONFIRMED);
 
         return BookingMapper.toResponse(updated);
     }
 
+    // ================= BULK CONFIRM =================
+    // One load query, one wallet balance per requester, one batched escrow insert — all in a single transaction.
+    // Per requester, bookings are accepted earliest-first while the combined amount fits the balance.
+    @Transactional
+    @Override
+    public BulkOperationResponse confirmBookings(List<Long> bookingIds, UserEntity provider) {
+
+        List<Long> ids = bookingIds.stream().distinct().toList();
+
+        Map<Long, Booking> bookings = bookingRepository.findAllByIdInAndProvider(ids, provider)
+                .stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        Map<Long, BulkItemResult> results = new LinkedHashMap<>();
+        Set<Long> withEscrow = new HashSet<>(transactionService.findBookingIdsWithPendingEscrow(List.copyOf(bookings.keySet())));
+
+        // Validate + group candidates by requester
+        Map<Long, List<Booking>> byRequester = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Booking booking = bookings.get(id);
+
+            if (booking == null) {
+                results.put(id, BulkItemResult.failed(id, "NOT_FOUND", "Booking not found"));
+            } else if (booking.getStatus() != BookingStatus.PENDING) {
+                results.put(id, BulkItemResult.failed(id, "INVALID_STATUS", "Only pending bookings can be confirmed"));
+            } else if (withEscrow.contains(id)) {
+                results.put(id, BulkItemResult.failed(id, "ESCROW_EXISTS", "Escrow already exists"));
+            } else {
+                byRequester.computeIfAbsent(booking.getRequester().getId(), k -> new ArrayList<>()).add(booking);
+            }
+        }
+
+        // One balance check per requester for the combined amount
+        List<Booking> confirmed = new ArrayList<>();
+        for (List<Booking> requesterBookings : byRequester.values()) {
+
+            BigDecimal remaining = transactionService.getWalletBalance(requesterBookings.get(0).getRequester());
+            requesterBookings.sort(Comparator.comparing(Booking::getStartTime));
+
+            for (Booking booking : requesterBookings) {
+                if (remaining.compareTo(booking.getTotalAmount()) < 0) {
+                    results.put(booking.getId(), BulkItemResult.failed(booking.getId(), "INSUFFICIENT_BALANCE",
+                            "Requester does not have enough balance for this booking"));
+                    continue;
+                }
+                remaining = remaining.subtract(booking.getTotalAmount());
+
+                booking.setStatus(BookingStatus.CONFIRMED);
+                confirmed.add(booking);
+                results.put(booking.getId(), BulkItemResult.ok(booking.getId(), BookingStatus.CONFIRMED.name()));
+            }
+        }
+
+        // Status updates flush as one JDBC batch; escrows go in as one multi-row batch
+        bookingRepository.saveAll(confirmed);
+        transactionService.createEscrowTransactions(confirmed);
+
+        // One flush for all status changes, then the events (INSERTs batched at commit)
+        bookingRepository.flush();
+        confirmed.forEach(booking -> logEvent(booking, BookingEventType.CONFIRMED));
+
+        // Keep request order in the response
+        return BulkOperationResponse.of(ids.stream().map(results::get).toList());
+    }
+
     @Transactional
     @Override
     public BookingResponse cancelBooking(Long bookingId, UserEntity user, String reason) {
@@ -220,8 +314,8 @@ public class BookingServiceImpl implements BookingService {
             skillRequestRepository.save(skillRequest);
         }
 
-        // Publish event
-        eventPublisher.publishEvent(new BookingEvent(updatedBooking, BookingEventType.CANCELLED.name()));
+        // Record + publish event
+        recordEvent(updatedBooking, BookingEventType.CANCELLED);
 
         return BookingMapper.toResponse(updatedBooking);
     }
@@ -241,7 +335,7 @@ public class BookingServiceImpl implements BookingService {
         booking.setStatus(BookingStatus.IN_PROGRESS);
         Booking updated = bookingRepository.save(booking);
 
-        eventPublisher.publishEvent(new BookingEvent(booking, BookingEventType.STARTED.name()));
+        recordEvent(updated, BookingEventType.STARTED);
 
         return BookingMapper.toResponse(updated);
     }
@@ -274,8 +368,8 @@ public class BookingServiceImpl implements BookingService {
             skillRequestRepository.save(skillRequest);
         }
 
-        // Publish event
-        eventPublisher.publishEvent(new BookingEvent(updatedBooking, BookingEventType.COMPLETED.name()));
+        // Record + publish event
+        recordEvent(updatedBooking, BookingEventType.COMPLETED);
 
         return BookingMapper.toResponse(updatedBooking);
     }
@@ -312,6 +406,32 @@ public class BookingServiceImpl implements BookingService {
         );
     }
 
+    // ================= HOME SCREEN TIMELINE =================
+    // Cache hit → no database access; miss → one limited query, then kept current by booking events
+    @Override
+    public List<BookingResponse> getUpcomingTimelineForProvider(UserEntity provider) {
+        return upcomingTimelineCache.get(provider.getId(), UpcomingTimelineCache.Side.PROVIDER, limit ->
+                        bookingRepository.findUpcomingTimelineForProvider(provider, LocalDateTime.now(), PageRequest.of(0, limit))
+                                .stream()
+                                .map(BookingMapper::toSnapshot)
+                                .toList())
+                .stream()
+                .map(BookingMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<BookingResponse> getUpcomingTimelineForRequester(UserEntity requester) {
+        return upcomingTimelineCache.get(requester.getId(), UpcomingTimelineCache.Side.REQUESTER, limit ->
+                        bookingRepository.findUpcomingTimelineForRequester(requester, LocalDateTime.now(), PageRequest.of(0, limit))
+                                .stream()
+                                .map(BookingMapper::toSnapshot)
+                                .toList())
+                .stream()
+                .map(BookingMapper::toResponse)
+                .toList();
+    }
+
     // ================= PAST =================
     @Override
     public List<Booking> getPastBookingsForProvider(UserEntity provider) {
@@ -326,6 +446,10 @@ public class BookingServiceImpl implements BookingService {
     // ================= AVAILABILITY =================
     @Override
     public boolean isSlotAvailable(UserEntity provider, LocalDateTime start, LocalDateTime end) {
+        // Off-hours slots short-circuit without touching the database
+        if (!providerAvailabilityCache.isWithinWorkingHours(provider.getId(), start, end)) {
+            return false;
+        }
         return !bookingRepository.existsOverlappingBookingForProvider(
                 provider.getId(), start, end
         );
@@ -368,6 +492,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     // Dispute allowed only after COMPLETED.
+    @Transactional
     @Override
     public BookingResponse raiseDispute(Long bookingId, UserEntity user, String reason) {
 
@@ -393,9 +518,7 @@ public class BookingServiceImpl implements BookingService {
 
         Booking updated = bookingRepository.save(booking);
 
-        eventPublisher.publishEvent(
-                new BookingEvent(updated, BookingEventType.DISPUTED.name())
-        );
+        recordEvent(updated, BookingEventType.DISPUTED);
 
         return BookingMapper.toResponse(updated);
     }
@@ -413,4 +536,29 @@ public class BookingServiceImpl implements BookingService {
 
         return bookingRepository.findProviderBookingsWithinDateRange(provider, status, start, end);
     }
+
+    // ================= DASHBOARD (event-log projection) =================
+    @Override
+    public ProviderBookingStatsResponse getProviderBookingStats(UserEntity provider) {
+        return providerBookingStatsProjection.getStats(provider.getId());
+    }
+
+    // ================= HELPER: EVENT =================
+    // Append to the durable event log (same transaction) and publish a detached snapshot.
+    // Listeners receive it only after commit, so rolled-back changes never notify anyone.
+    // Provider stats are patched in the same transaction, so they can't drift from the booking.
+    private void recordEvent(Booking booking, BookingEventType eventType) {
+        // Flush first so the logged booking version is the one this change commits with
+        bookingRepository.flush();
+        logEvent(booking, eventType);
+    }
+
+    // Booking already flushed by the caller
+    private void logEvent(Booking booking, BookingEventType eventType) {
+        BookingEventLog logged = bookingEventLogService.append(booking, eventType);
+        providerStatsService.recordTransition(booking);
+        eventPublisher.publishEvent(
+                new BookingEvent(logged.getSequenceNumber(), eventType, BookingMapper.toSnapshot(booking))
+        );
+    }
 }
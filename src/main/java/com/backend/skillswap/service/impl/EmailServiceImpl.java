@@ -1,11 +1,14 @@
 package com.backend.skillswap.service.impl;
 
-import com.backend.skillswap.entity.Booking;
 import com.backend.skillswap.entity.UserSkill;
 import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.events.BookingSnapshot;
+import com.backend.skillswap.events.SkillModerationNotice;
 import com.backend.skillswap.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
@@ -14,6 +17,10 @@ import org.springframework.stereotype.Service;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
@@ -89,9 +96,55 @@ public class EmailServiceImpl implements EmailService {
 
     // ==================== User Skill verification email ================
     @Override
-    public void sendSkillVerifiedMail(UserSkill skill) {
+    public List<SkillModerationNotice> sendSkillModerationMails(List<SkillModerationNotice> notices) {
+
+        // Message → its notice, to tell which ones failed (MimeMessage has identity equality)
+        Map<MimeMessage, SkillModerationNotice> messages = new LinkedHashMap<>();
+        for (SkillModerationNotice notice : notices) {
+            boolean verified = notice.decision() == SkillModerationNotice.Decision.VERIFIED;
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, true);
+                helper.setTo(notice.ownerEmail());
+                helper.setSubject(verified
+                        ? "🎉 Your Skill Has Been Approved - SkillSwap"
+                        : "❌ Skill Rejected - SkillSwap");
+                helper.setText(verified ? skillVerifiedHtml(notice) : skillRejectedHtml(notice), true);
+                messages.put(message, notice);
+            } catch (MessagingException e) {
+                // Building the same mail again would fail the same way → not retried
+                log.error("Failed to build skill moderation email for {}", notice.ownerEmail(), e);
+            }
+        }
 
-        String html = """
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        // One connection for the whole batch; a failed message doesn't stop the ones after it
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            log.info("Skill moderation emails sent: {}", messages.size());
+            return List.of();
+        } catch (MailSendException e) {
+            List<SkillModerationNotice> failed = e.getFailedMessages().keySet().stream()
+                    .map(messages::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            // No per-message detail → the session itself failed and nothing can be assumed sent
+            if (failed.isEmpty()) {
+                failed = List.copyOf(messages.values());
+            }
+            log.warn("Skill moderation emails: {} of {} failed", failed.size(), messages.size(), e);
+            return failed;
+        } catch (MailException e) {
+            log.warn("Skill moderation emails: session failed for {} mails", messages.size(), e);
+            return List.copyOf(messages.values());
+        }
+    }
+
+    private static String skillVerifiedHtml(SkillModerationNotice notice) {
+        return """
         <html>
         <body style="margin:0;padding:0;background:#f4f6f8;font-family:Arial,sans-serif;">
             <div style="max-width:600px;margin:30px auto;background:#ffffff;border-radius:8px;overflow:hidden;">
@@ -129,24 +182,16 @@ public class EmailServiceImpl implements EmailService {
         </body>
         </html>
         """.formatted(
-                skill.getUser().getUserProfile().getFullName(),
-                skill.getTitle(),
-                skill.getCategory(),
-                skill.getLevel(),
-                skill.getHourlyRate()
-        );
-
-        sendHtmlEmail(
-                skill.getUser().getEmail(),
-                "🎉 Your Skill Has Been Approved - SkillSwap",
-                html
+                notice.ownerName(),
+                notice.skillTitle(),
+                notice.category(),
+                notice.level(),
+                notice.hourlyRate()
         );
     }
 
-    @Override
-    public void sendSkillRejectedMail(UserSkill skill) {
-
-        String html = """
+    private static String skillRejectedHtml(SkillModerationNotice notice) {
+        return """
         <html>
         <body style="margin:0;padding:0;background:#f4f6f8;font-family:Arial,sans-serif;">
             <div style="max-width:600px;margin:30px auto;background:#ffffff;border-radius:8px;">
@@ -181,14 +226,8 @@ public class EmailServiceImpl implements EmailService {
         </body>
         </html>
         """.formatted(
-                skill.getUser().getUserProfile().getFullName(),
-                skill.getTitle()
-        );
-
-        sendHtmlEmail(
-                skill.getUser().getEmail(),
-                "❌ Skill Rejected - SkillSwap",
-                html
+                notice.ownerName(),
+                notice.skillTitle()
         );
     }
 
@@ -284,14 +323,14 @@ public class EmailServiceImpl implements EmailService {
     // -------------------- BOOKING EMAILS --------------------
     @Async
     @Override
-    public void sendBookingCreatedMail(Booking booking) {
+    public void sendBookingCreatedMail(BookingSnapshot booking) {
         try {
             String html = "<h2>Booking Created Successfully!</h2>" +
-                    "<p>Hello <b>" + booking.getRequester().getUserProfile().getFullName() + "</b>,</p>" +
-                    "<p>Your booking for skill '<b>" + booking.getSkill().getTitle() + "</b>' has been created.</p>" +
-                    "<p>Start Time: " + booking.getStartTime() + "</p>" +
-                    "<p>Provider: " + booking.getProvider().getUserProfile().getFullName() + "</p>";
-            sendHtmlEmail(booking.getRequester().getEmail(), "Booking Created Successfully", html);
+                    "<p>Hello <b>" + booking.requesterName() + "</b>,</p>" +
+                    "<p>Your booking for skill '<b>" + booking.skillTitle() + "</b>' has been created.</p>" +
+                    "<p>Start Time: " + booking.startTime() + "</p>" +
+                    "<p>Provider: " + booking.providerName() + "</p>";
+            sendHtmlEmail(booking.requesterEmail(), "Booking Created Successfully", html);
         } catch (Exception e) {
             log.error("Failed to send booking created email", e);
         }
@@ -299,14 +338,14 @@ public class EmailServiceImpl implements EmailService {
 
     @Async
     @Override
-    public void sendProviderBookingCreatedMail(Booking booking) {
+    public void sendProviderBookingCreatedMail(BookingSnapshot booking) {
         try {
             String html = "<h2>New Booking Request Received!</h2>" +
-                    "<p>Hello <b>" + booking.getProvider().getUserProfile().getFullName() + "</b>,</p>" +
-                    "<p>You have received a booking request for skill '<b>" + booking.getSkill().getTitle() + "</b>'.</p>" +
-                    "<p>Start Time: " + booking.getStartTime() + "</p>" +
-                    "<p>Requester: " + booking.getRequester().getUserProfile().getFullName() + "</p>";
-            sendHtmlEmail(booking.getProvider().getEmail(), "New Booking Request Received", html);
+                    "<p>Hello <b>" + booking.providerName() + "</b>,</p>" +
+                    "<p>You have received a booking request for skill '<b>" + booking.skillTitle() + "</b>'.</p>" +
+                    "<p>Start Time: " + booking.startTime() + "</p>" +
+                    "<p>Requester: " + booking.requesterName() + "</p>";
+            sendHtmlEmail(booking.providerEmail(), "New Booking Request Received", html);
         } catch (Exception e) {
             log.error("Failed to send provider booking created email", e);
         }
@@ -314,14 +353,14 @@ public class EmailServiceImpl implements EmailService {
 
     @Async
     @Override
-    public void sendBookingConfirmedMail(Booking booking) {
+    public void sendBookingConfirmedMail(BookingSnapshot booking) {
         try {
             String html = "<h2>Booking Confirmed</h2>" +
-                    "<p>Hello <b>" + booking.getRequester().getUserProfile().getFullName() + "</b>,</p>" +
-                    "<p>Your booking for skill '<b>" + booking.getSkill().getTitle() + "</b>' has been confirmed.</p>" +
-                    "<p>Start Time: " + booking.getStartTime() + "</p>" +
-                    "<p>Provider: " + booking.getProvider().getUserProfile().getFullName() + "</p>";
-            sendHtmlEmail(booking.getRequester().getEmail(), "Booking Confirmed", html);
+                    "<p>Hello <b>" + booking.requesterName() + "</b>,</p>" +
+                    "<p>Your booking for skill '<b>" + booking.skillTitle() + "</b>' has been confirmed.</p>" +
+                    "<p>Start Time: " + booking.startTime() + "</p>" +
+                    "<p>Provider: " + booking.providerName() + "</p>";
+            sendHtmlEmail(booking.requesterEmail(), "Booking Confirmed", html);
         } catch (Exception e) {
             log.error("Failed to send booking confirmed email", e);
         }
@@ -329,14 +368,14 @@ public class EmailServiceImpl implements EmailService {
 
     @Async
     @Override
-    public void sendProviderBookingConfirmedMail(Booking booking) {
+    public void sendProviderBookingConfirmedMail(BookingSnapshot booking) {
         try {
             String html = "<h2>Booking Confirmed by You</h2>" +
-                    "<p>Hello <b>" + booking.getProvider().getUserProfile().getFullName() + "</b>,</p>" +
-                    "<p>You confirmed a booking for skill '<b>" + booking.getSkill().getTitle() + "</b>'.</p>" +
-                    "<p>Start Time: " + booking.getStartTime() + "</p>" +
-                    "<p>Requester: " + booking.getRequester().getUserProfile().getFullName() + "</p>";
-            sendHtmlEmail(booking.getProvider().getEmail(), "Booking Confirmed by You", html);
+                    "<p>Hello <b>" + booking.providerName() + "</b>,</p>" +
+                    "<p>You confirmed a booking for skill '<b>" + booking.skillTitle() + "</b>'.</p>" +
+                    "<p>Start Time: " + booking.startTime() + "</p>" +
+                    "<p>Requester: " + booking.requesterName() + "</p>";
+            sendHtmlEmail(booking.providerEmail(), "Booking Confirmed by You", html);
         } catch (Exception e) {
             log.error("Failed to send provider booking confirmed email", e);
         }
@@ -344,15 +383,15 @@ public class EmailServiceImpl implements EmailService {
 
     @Async
     @Override
-    public void sendBookingCancelledMail(Booking booking) {
+    public void sendBookingCancelledMail(BookingSnapshot booking) {
         try {
-            String reason = booking.getCancelReason() != null ? booking.getCancelReason() : "No reason provided";
+            String reason = booking.cancelReason() != null ? booking.cancelReason() : "No reason provided";
             String html = "<h2>Booking Cancelled</h2>" +
-                    "<p>Hello <b>" + booking.getRequester().getUserProfile().getFullName() + "</b>,</p>" +
-                    "<p>Your booking for skill '<b>" + booking.getSkill().getTitle() + "</b>' has been cancelled.</p>" +
+                    "<p>Hello <b>" + booking.requesterName() + "</b>,</p>" +
+                    "<p>Your booking for skill '<b>" + booking.skillTitle() + "</b>' has been cancelled.</p>" +
                     "<p>Reason: " + reason + "</p>" +
-                    "<p>Provider: " + booking.getProvider().getUserProfile().getFullName() + "</p>";
-            sendHtmlEmail(booking.getRequester().getEmail(), "Booking Cancelled", html);
+                    "<p>Provider: " + booking.providerName() + "</p>";
+            sendHtmlEmail(booking.requesterEmail(), "Booking Cancelled", html);
         } catch (Exception e) {
             log.error("Failed to send booking cancelled email", e);
         }
@@ -360,15 +399,15 @@ public class EmailServiceImpl implements EmailService {
 
     @Async
     @Override
-    public void sendProviderBookingCancelledMail(Booking booking) {
+    public void sendProviderBookingCancelledMail(BookingSnapshot booking) {
         try {
-            String reason = booking.getCancelReason() != null ? booking.getCancelReason() : "No reason provided";
+            String reason = booking.cancelReason() != null ? booking.cancelReason() : "No reason provided";
             String html = "<h2>Booking Cancelled</h2>" +
-                    "<p>Hello <b>" + booking.getProvider().getUserProfile().getFullName() + "</b>,</p>" +
-                    "<p>A booking for skill '<b>" + booking.getSkill().getTitle() + "</b>' has been cancelled.</p>" +
+                    "<p>Hello <b>" + booking.providerName() + "</b>,</p>" +
+                    "<p>A booking for skill '<b>" + booking.skillTitle() + "</b>' has been cancelled.</p>" +
                     "<p>Reason: " + reason + "</p>" +
-                    "<p>Requester: " + booking.getRequester().getUserProfile().getFullName() + "</p>";
-            sendHtmlEmail(booking.getProvider().getEmail(), "Booking Cancelled", html);
+                    "<p>Requester: " + booking.requesterName() + "</p>";
+            sendHtmlEmail(booking.providerEmail(), "Booking Cancelled", html);
         } catch (Exception e) {
             log.error("Failed to send provider booking cancelled email", e);
         }
@@ -376,13 +415,13 @@ public class EmailServiceImpl implements EmailService {
 
     @Async
     @Override
-    public void sendBookingStartedMail(Booking booking) {
+    public void sendBookingStartedMail(BookingSnapshot booking) {
         try {
             String html = "<h2>Booking Started</h2>" +
-                    "<p>Hello <b>" + booking.getRequester().getUserProfile().getFullName() + "</b>,</p>" +
-                    "<p>Your session for skill '<b>" + booking.getSkill().getTitle() + "</b>' has started.</p>" +
-                    "<p>Provider: " + booking.getProvider().getUserProfile().getFullName() + "</p>";
-            sendHtmlEmail(booking.getRequester().getEmail(), "Booking Started", html);
+                    "<p>Hello <b>" + booking.requesterName() + "</b>,</p>" +
+                    "<p>Your session for skill '<b>" + booking.skillTitle() + "</b>' has started.</p>" +
+                    "<p>Provider: " + booking.providerName() + "</p>";
+            sendHtmlEmail(booking.requesterEmail(), "Booking Started", html);
         } catch (Exception e) {
             log.error("Failed to send booking started email", e);
         }
@@ -390,14 +429,14 @@ public class EmailServiceImpl implements EmailService {
 
     @Async
     @Override
-    public void sendBookingCompletedMail(Booking booking) {
+    public void sendBookingCompletedMail(BookingSnapshot booking) {
         try {
             String html = "<h2>Booking Completed</h2>" +
-                    "<p>Hello <b>" + booking.getRequester().getUserProfile().getFullName() + "</b>,</p>" +
-                    "<p>Your session for skill '<b>" + booking.getSkill().getTitle() + "</b>' has been completed successfully.</p>" +
-                    "<p>Provider: " + booking.getProvider().getUserProfile().getFullName() + "</p>" +
+                    "<p>Hello <b>" + booking.requesterName() + "</b>,</p>" +
+                    "<p>Your session for skill '<b>" + booking.skillTitle() + "</b>' has been completed successfully.</p>" +
+                    "<p>Provider: " + booking.providerName() + "</p>" +
                     "<p>Please leave a review!</p>";
-            sendHtmlEmail(booking.getRequester().getEmail(), "Booking Completed", html);
+            sendHtmlEmail(booking.requesterEmail(), "Booking Completed", html);
         } catch (Exception e) {
             log.error("Failed to send booking completed email", e);
         }
@@ -405,13 +444,13 @@ public class EmailServiceImpl implements EmailService {
 
     @Async
     @Override
-    public void sendBookingDisputedMail(Booking booking) {
+    public void sendBookingDisputedMail(BookingSnapshot booking) {
         try {
             String html = "<h2>Booking Dispute Raised</h2>" +
-                    "<p>Hello <b>" + booking.getRequester().getUserProfile().getFullName() + "</b>,</p>" +
-                    "<p>A dispute has been raised for your booking of skill '<b>" + booking.getSkill().getTitle() + "</b>'.</p>" +
-                    "<p>Provider: " + booking.getProvider().getUserProfile().getFullName() + "</p>";
-            sendHtmlEmail(booking.getRequester().getEmail(), "Booking Dispute Raised", html);
+                    "<p>Hello <b>" + booking.requesterName() + "</b>,</p>" +
+                    "<p>A dispute has been raised for your booking of skill '<b>" + booking.skillTitle() + "</b>'.</p>" +
+                    "<p>Provider: " + booking.providerName() + "</p>";
+            sendHtmlEmail(booking.requesterEmail(), "Booking Dispute Raised", html);
         } catch (Exception e) {
             log.error("Failed to send booking dispute email", e);
         }
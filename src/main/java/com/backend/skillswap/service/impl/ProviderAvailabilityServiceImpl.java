@@ -0,0 +1,161 @@
+package com.backend.skillswap.service.impl;
+
+import com.backend.skillswap.availability.AvailabilityBitmap;
+import com.backend.skillswap.availability.ProviderAvailabilityCache;
+import com.backend.skillswap.dto.request.AvailabilityExceptionRequest;
+import com.backend.skillswap.dto.request.AvailabilityRuleRequest;
+import com.backend.skillswap.dto.response.AvailabilityExceptionResponse;
+import com.backend.skillswap.dto.response.AvailabilityRuleResponse;
+import com.backend.skillswap.dto.response.DayAvailabilityResponse;
+import com.backend.skillswap.entity.ProviderAvailabilityException;
+import com.backend.skillswap.entity.ProviderAvailabilityRule;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.backend.skillswap.exception.common.ResourceNotFoundException;
+import com.backend.skillswap.mapper.ProviderAvailabilityMapper;
+import com.backend.skillswap.repository.ProviderAvailabilityExceptionRepository;
+import com.backend.skillswap.repository.ProviderAvailabilityRuleRepository;
+import com.backend.skillswap.service.ProviderAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProviderAvailabilityServiceImpl implements ProviderAvailabilityService {
+
+    private static final int MAX_RULES = 50;
+
+    private final ProviderAvailabilityRuleRepository ruleRepository;
+    private final ProviderAvailabilityExceptionRepository exceptionRepository;
+    private final ProviderAvailabilityCache availabilityCache;
+
+    // ===================== WEEKLY RULES =====================
+    @Override
+    @Transactional(readOnly = true)
+    public List<AvailabilityRuleResponse> getWeeklyRules(UserEntity provider) {
+        return ruleRepository.findByProviderIdOrderByDayOfWeekAscStartTimeAsc(provider.getId())
+                .stream()
+                .map(ProviderAvailabilityMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<AvailabilityRuleResponse> replaceWeeklyRules(UserEntity provider, List<AvailabilityRuleRequest> rules) {
+
+        if (rules.size() > MAX_RULES) {
+            throw new BadRequestException("At most " + MAX_RULES + " weekly rules are allowed");
+        }
+
+        rules.forEach(rule -> validateWindow(rule.getStartTime(), rule.getEndTime()));
+
+        // Empty list = no restriction (bookable any time)
+        ruleRepository.deleteByProviderId(provider.getId());
+
+        List<ProviderAvailabilityRule> saved = ruleRepository.saveAll(
+                rules.stream()
+                        .map(rule -> ProviderAvailabilityMapper.toEntity(rule, provider))
+                        .toList()
+        );
+
+        evictAfterCommit(provider.getId());
+
+        return saved.stream().map(ProviderAvailabilityMapper::toResponse).toList();
+    }
+
+    // ===================== DATE EXCEPTIONS =====================
+    @Override
+    @Transactional(readOnly = true)
+    public List<AvailabilityExceptionResponse> getUpcomingExceptions(UserEntity provider) {
+        return exceptionRepository.findByProviderIdAndDateGreaterThanEqualOrderByDateAsc(provider.getId(), LocalDate.now())
+                .stream()
+                .map(ProviderAvailabilityMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public AvailabilityExceptionResponse addException(UserEntity provider, AvailabilityExceptionRequest request) {
+
+        // Both times or none (whole day)
+        if ((request.getStartTime() == null) != (request.getEndTime() == null)) {
+            throw new BadRequestException("Provide both start and end time, or neither for the whole day");
+        }
+        if (request.getStartTime() != null) {
+            validateWindow(request.getStartTime(), request.getEndTime());
+        }
+
+        ProviderAvailabilityException saved =
+                exceptionRepository.save(ProviderAvailabilityMapper.toEntity(request, provider));
+
+        evictAfterCommit(provider.getId());
+
+        return ProviderAvailabilityMapper.toResponse(saved);
+    }
+
+    @Override
+    public void deleteException(UserEntity provider, Long exceptionId) {
+
+        ProviderAvailabilityException exception = exceptionRepository.findByIdAndProviderId(exceptionId, provider.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Availability exception not found"));
+
+        exceptionRepository.delete(exception);
+
+        evictAfterCommit(provider.getId());
+    }
+
+    // ===================== COMPILED VIEW =====================
+    @Override
+    @Transactional(readOnly = true)
+    public DayAvailabilityResponse getDayAvailability(Long providerId, LocalDate date) {
+
+        List<DayAvailabilityResponse.Window> windows =
+                AvailabilityBitmap.windows(availabilityCache.dayBitmap(providerId, date))
+                        .stream()
+                        .map(window -> DayAvailabilityResponse.Window.builder()
+                                .start(window[0])
+                                .end(window[1])
+                                .build())
+                        .toList();
+
+        return DayAvailabilityResponse.builder()
+                .providerId(providerId)
+                .date(date)
+                .windows(windows)
+                .build();
+    }
+
+    // ===================== HELPERS =====================
+    // Windows must sit on quarter-hour boundaries so they map exactly onto bitmap slots
+    private void validateWindow(LocalTime start, LocalTime end) {
+
+        if (start == null || end == null) {
+            throw new BadRequestException("Start time and End time are required");
+        }
+
+        if (!AvailabilityBitmap.isAligned(start) || !AvailabilityBitmap.isAligned(end)) {
+            throw new BadRequestException("Times must be on a " + AvailabilityBitmap.SLOT_MINUTES + "-minute boundary");
+        }
+
+        // 00:00 as end = end of day
+        if (!end.equals(LocalTime.MIDNIGHT) && !end.isAfter(start)) {
+            throw new BadRequestException("End time must be after start time");
+        }
+    }
+
+    // Drop the compiled bitmap only once the new rules are visible to other transactions
+    private void evictAfterCommit(Long providerId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                availabilityCache.evict(providerId);
+            }
+        });
+    }
+}
@@ -0,0 +1,170 @@
+package com.backend.skillswap.service.impl;
+
+import com.backend.skillswap.cache.ProviderStatsCache;
+import com.backend.skillswap.dto.response.ProviderStatsResponse;
+import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.ProviderStats;
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.mapper.ProviderStatsMapper;
+import com.backend.skillswap.repository.BookingRepository;
+import com.backend.skillswap.repository.ProviderStatsRepository;
+import com.backend.skillswap.service.ProviderStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntSupplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProviderStatsServiceImpl implements ProviderStatsService {
+
+    private final ProviderStatsRepository providerStatsRepository;
+    private final BookingRepository bookingRepository;
+    private final ProviderStatsCache providerStatsCache;
+    private final TransactionTemplate transactionTemplate;
+
+    // ================= INCREMENTAL (per transition) =================
+    // One relative upsert on the provider's row; completion adds one indexed count for the learner pair
+    @Override
+    public void recordTransition(Booking booking) {
+
+        Long providerId = booking.getProvider().getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        switch (booking.getStatus()) {
+            case COMPLETED -> {
+                // This session is already flushed into the count (same transaction)
+                long held = bookingRepository.countHeldSessions(providerId, booking.getRequester().getId());
+                long newLearner = held == 1 ? 1 : 0;
+                long repeatLearner = held == 2 ? 1 : 0;
+                update(providerId, () -> providerStatsRepository.incrementCompleted(providerId, newLearner, repeatLearner, now));
+            }
+            case CANCELLED -> update(providerId, () -> providerStatsRepository.incrementCancelled(providerId, now));
+            case DISPUTED -> update(providerId, () -> providerStatsRepository.incrementDisputed(providerId, now));
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public void recordRating(Long providerId, int stars) {
+        LocalDateTime now = LocalDateTime.now();
+        update(providerId, () -> providerStatsRepository.addRating(providerId, stars, now));
+    }
+
+    // ================= REBUILD (nightly + first start) =================
+    // Repairs drift (e.g. bookings changed outside the service), one provider per short transaction:
+    // the stats row is locked before the bookings are counted, so a transition either committed before
+    // the lock (and is counted) or waits for it (and is applied on top). Nothing is overwritten.
+    // Rating columns are left alone: reviews are insert-only and patch them in their own transaction.
+    @Override
+    @Scheduled(cron = "${skillswap.provider-stats.rebuild-cron:0 30 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+
+        long started = System.currentTimeMillis();
+
+        Set<Long> providerIds = new TreeSet<>(bookingRepository.findFinishedProviderIds());
+        providerIds.addAll(providerStatsRepository.findAllProviderIds());
+
+        providerIds.forEach(providerId -> transactionTemplate.executeWithoutResult(status -> rebuild(providerId)));
+
+        List<ProviderStatsResponse> snapshot = loadSnapshot();
+        providerStatsCache.replaceAll(snapshot);
+
+        log.info("Provider stats rebuilt for {} providers in {} ms", providerIds.size(), System.currentTimeMillis() - started);
+        return providerIds.size();
+    }
+
+    // Empty table (first deploy) → build from history; otherwise just load the cache
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void warmUp() {
+        if (providerStatsRepository.count() == 0 && bookingRepository.count() > 0) {
+            rebuildAll();
+            return;
+        }
+        providerStatsCache.replaceAll(loadSnapshot());
+    }
+
+    // ================= HELPERS =================
+    // Relative upsert (creates the provider's first row in the same statement); cache refreshed after commit
+    private void update(Long providerId, IntSupplier upsert) {
+
+        upsert.getAsInt();
+
+        afterCommit(() -> providerStatsRepository.findById(providerId)
+                .map(ProviderStatsMapper::toResponse)
+                .ifPresent(providerStatsCache::put));
+    }
+
+    // Caller runs this in its own transaction. Locking statements first: on MySQL the
+    // REPEATABLE READ snapshot is taken by the first plain read, i.e. after the lock is held.
+    private void rebuild(Long providerId) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        providerStatsRepository.insertIfMissing(providerId, now);
+        ProviderStats stats = providerStatsRepository.findByIdForUpdate(providerId)
+                .orElseThrow(() -> new IllegalStateException("Provider stats row vanished: " + providerId));
+
+        long completed = 0;
+        long cancelled = 0;
+        long disputed = 0;
+        for (Object[] row : bookingRepository.countFinishedPerStatus(providerId)) {
+            long count = ((Number) row[1]).longValue();
+            switch ((BookingStatus) row[0]) {
+                case COMPLETED -> completed += count;
+                case DISPUTED -> {
+                    completed += count;
+                    disputed = count;
+                }
+                case CANCELLED -> cancelled = count;
+                default -> {
+                }
+            }
+        }
+
+        List<Long> heldPerLearner = bookingRepository.countHeldSessionsPerLearner(providerId);
+
+        // Managed entity → flushed by dirty checking at commit
+        stats.setCompletedSessions(completed);
+        stats.setCancelledSessions(cancelled);
+        stats.setDisputedSessions(disputed);
+        stats.setDistinctLearners(heldPerLearner.size());
+        stats.setRepeatLearners(heldPerLearner.stream().filter(held -> held >= 2).count());
+        stats.setUpdatedAt(now);
+    }
+
+    private List<ProviderStatsResponse> loadSnapshot() {
+        return providerStatsRepository.findAll().stream()
+                .map(ProviderStatsMapper::toResponse)
+                .toList();
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,143 @@
+package com.backend.skillswap.service.impl;
+
+import com.backend.skillswap.cache.SkillRatingCache;
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.request.ReviewRequest;
+import com.backend.skillswap.dto.response.RatingSummaryResponse;
+import com.backend.skillswap.dto.response.ReviewResponse;
+import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.Review;
+import com.backend.skillswap.entity.SkillRatingStats;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.backend.skillswap.exception.common.DuplicateResourceException;
+import com.backend.skillswap.exception.common.OperationNotAllowedException;
+import com.backend.skillswap.exception.common.ResourceNotFoundException;
+import com.backend.skillswap.mapper.ReviewMapper;
+import com.backend.skillswap.repository.BookingRepository;
+import com.backend.skillswap.repository.ReviewRepository;
+import com.backend.skillswap.repository.SkillRatingStatsRepository;
+import com.backend.skillswap.service.ProviderStatsService;
+import com.backend.skillswap.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReviewServiceImpl implements ReviewService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ReviewRepository reviewRepository;
+    private final BookingRepository bookingRepository;
+    private final SkillRatingStatsRepository skillRatingStatsRepository;
+    private final ProviderStatsService providerStatsService;
+    private final SkillRatingCache skillRatingCache;
+
+    // ===================== CREATE =====================
+    // Review row + skill and provider aggregates in one transaction: O(1) each, no AVG over reviews
+    @Override
+    public ReviewResponse createReview(UserEntity reviewer, Long bookingId, ReviewRequest request) {
+
+        Booking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+
+        if (!booking.getRequester().getId().equals(reviewer.getId())) {
+            throw new OperationNotAllowedException("Only the learner of this booking can review it");
+        }
+
+        if (booking.getStatus() != BookingStatus.COMPLETED) {
+            throw new OperationNotAllowedException("Only completed bookings can be reviewed");
+        }
+
+        if (reviewRepository.existsByBooking_Id(bookingId)) {
+            throw new DuplicateResourceException("This booking is already reviewed");
+        }
+
+        Review review = Review.builder()
+                .booking(booking)
+                .skill(booking.getSkill())
+                .provider(booking.getProvider())
+                .reviewer(reviewer)
+                .rating(request.getRating())
+                .comment(request.getComment())
+                .build();
+
+        // Unique booking_id settles two concurrent submits
+        try {
+            review = reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateResourceException("This booking is already reviewed");
+        }
+
+        addSkillRating(booking.getSkill().getId(), review.getRating());
+        providerStatsService.recordRating(booking.getProvider().getId(), review.getRating());
+
+        return ReviewMapper.toResponse(review);
+    }
+
+    // ===================== PUBLIC: SKILL REVIEWS =====================
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ReviewResponse> getSkillReviews(Long skillId, Long cursor, int size) {
+
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // size + 1 rows: the extra one only tells us whether another page exists
+        List<ReviewResponse> rows = reviewRepository.findSkillReviewPage(skillId, cursor, PageRequest.of(0, size + 1));
+
+        boolean hasMore = rows.size() > size;
+        List<ReviewResponse> items = hasMore ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<ReviewResponse>builder()
+                .items(items)
+                .nextCursor(hasMore ? items.get(items.size() - 1).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // ===================== WARM-UP =====================
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRatings() {
+        Map<Long, RatingSummaryResponse> ratings = skillRatingStatsRepository.findAll().stream()
+                .collect(Collectors.toMap(SkillRatingStats::getSkillId, stats -> ReviewMapper.toSummary(stats.getRating())));
+        skillRatingCache.replaceAll(ratings);
+        log.info("Skill ratings loaded for {} skills", ratings.size());
+    }
+
+    // ===================== HELPERS =====================
+    // Relative upsert, creates the skill's first row in the same statement
+    private void addSkillRating(Long skillId, int stars) {
+
+        skillRatingStatsRepository.addRating(skillId, stars, LocalDateTime.now());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                skillRatingStatsRepository.findById(skillId)
+                        .ifPresent(stats -> skillRatingCache.put(skillId, ReviewMapper.toSummary(stats.getRating())));
+            }
+        });
+    }
+}
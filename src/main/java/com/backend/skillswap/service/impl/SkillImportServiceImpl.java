@@ -0,0 +1,174 @@
+package com.backend.skillswap.service.impl;
+
+import com.backend.skillswap.dto.request.UserSkillRequest;
+import com.backend.skillswap.dto.response.SkillImportResponse;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.backend.skillswap.exception.common.ResourceNotFoundException;
+import com.backend.skillswap.importer.SkillImportFormat;
+import com.backend.skillswap.importer.SkillRowReader;
+import com.backend.skillswap.moderation.SkillDuplicateIndex;
+import com.backend.skillswap.repository.SkillBatchRepository;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import com.backend.skillswap.service.SkillImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SkillImportServiceImpl implements SkillImportService {
+
+    // Data rows read per upload; the rest is reported as truncated
+    private static final int MAX_ROWS = 1000;
+
+    // Rows per JDBC batch (one multi-row INSERT on MySQL)
+    private static final int BATCH_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final UserSkillRepository userSkillRepository;
+    private final SkillBatchRepository skillBatchRepository;
+    private final SkillDuplicateIndex skillDuplicateIndex;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    // ===================== IMPORT =====================
+    // 1 query for existing titles, then parse → validate → dedupe row by row, inserting in JDBC batches.
+    // No transaction around the upload: each batch commits on its own (see SkillBatchRepository).
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SkillImportResponse importSkills(Long userId, SkillImportFormat format, InputStream body, Charset charset) {
+
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+
+        // A second back: created_at may be stored at lower precision than the clock
+        LocalDateTime started = LocalDateTime.now().minusSeconds(1);
+
+        // Same rule as addSkill: one active skill per title (case-insensitive), also within the file
+        Set<String> titles = new HashSet<>(userSkillRepository.findActiveTitlesLowerCase(userId));
+
+        List<SkillImportResponse.RowResult> results = new ArrayList<>();
+        List<UserSkillRequest> batch = new ArrayList<>(BATCH_SIZE);
+        boolean truncated = false;
+        int imported = 0;
+
+        try (SkillRowReader reader = format.open(new InputStreamReader(body, charset), objectMapper)) {
+
+            SkillRowReader.Row row;
+            while ((row = reader.next()) != null) {
+
+                if (results.size() >= MAX_ROWS) {
+                    truncated = true;
+                    break;
+                }
+
+                UserSkillRequest skill = row.request();
+                if (skill == null) {
+                    results.add(failed(row.line(), null, "INVALID", row.error()));
+                    continue;
+                }
+                if (skill.getTitle() != null) {
+                    skill.setTitle(skill.getTitle().trim());
+                }
+
+                String violations = violations(skill);
+                if (violations != null) {
+                    results.add(failed(row.line(), skill.getTitle(), "INVALID", violations));
+                    continue;
+                }
+                if (!titles.add(skill.getTitle().toLowerCase(Locale.ROOT))) {
+                    results.add(failed(row.line(), skill.getTitle(), "DUPLICATE", "You already added this skill"));
+                    continue;
+                }
+
+                batch.add(skill);
+                results.add(SkillImportResponse.RowResult.builder()
+                        .line(row.line())
+                        .title(skill.getTitle())
+                        .success(true)
+                        .code("IMPORTED")
+                        .build());
+
+                if (batch.size() == BATCH_SIZE) {
+                    imported += flush(userId, batch);
+                }
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read the uploaded file");
+        }
+
+        imported += flush(userId, batch);
+
+        log.info("Skill import for user {}: {} rows, {} imported{}",
+                userId, results.size(), imported, truncated ? " (truncated)" : "");
+
+        // New skills are unverified → not public, so no search index or catalog cache work is needed;
+        // only the moderation queue's duplicate index has to see them
+        if (imported > 0) {
+            skillDuplicateIndex.loadImported(userId, started);
+        }
+
+        return SkillImportResponse.builder()
+                .rows(results.size())
+                .imported(imported)
+                .failed(results.size() - imported)
+                .truncated(truncated)
+                .results(results)
+                .build();
+    }
+
+    // ===================== HELPERS =====================
+    private int flush(Long userId, List<UserSkillRequest> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        skillBatchRepository.insertSkills(userId, batch);
+        int count = batch.size();
+        batch.clear();
+        return count;
+    }
+
+    // Same constraints as the single-skill endpoint, joined into one message (null = valid)
+    private String violations(UserSkillRequest skill) {
+        Set<ConstraintViolation<UserSkillRequest>> violations = validator.validate(skill);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; "));
+    }
+
+    private static SkillImportResponse.RowResult failed(int line, String title, String code, String message) {
+        return SkillImportResponse.RowResult.builder()
+                .line(line)
+                .title(title)
+                .success(false)
+                .code(code)
+                .message(message)
+                .build();
+    }
+}
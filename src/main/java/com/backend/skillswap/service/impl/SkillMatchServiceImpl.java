@@ -0,0 +1,128 @@
+package com.backend.skillswap.service.impl;
+
+import com.backend.skillswap.dto.request.WantedSkillRequest;
+import com.backend.skillswap.dto.response.SkillMatchResponse;
+import com.backend.skillswap.dto.response.WantedSkillResponse;
+import com.backend.skillswap.entity.WantedSkill;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.backend.skillswap.exception.common.DuplicateResourceException;
+import com.backend.skillswap.exception.common.OperationNotAllowedException;
+import com.backend.skillswap.exception.common.ResourceNotFoundException;
+import com.backend.skillswap.mapper.WantedSkillMapper;
+import com.backend.skillswap.recommend.SkillMatchIndex;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.WantedSkillRepository;
+import com.backend.skillswap.search.SkillTokenizer;
+import com.backend.skillswap.service.SkillMatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SkillMatchServiceImpl implements SkillMatchService {
+
+    // Keeps match lists meaningful and the index small
+    private static final int MAX_WANTED_SKILLS = 20;
+
+    private final WantedSkillRepository wantedSkillRepository;
+    private final UserRepository userRepository;
+    private final SkillMatchIndex skillMatchIndex;
+
+    // ===================== ADD WANTED SKILL =====================
+    @Override
+    public WantedSkillResponse addWantedSkill(Long userId, WantedSkillRequest request) {
+
+        String keyword = normalizeKeyword(request.getKeyword());
+
+        if (wantedSkillRepository.countByUser_Id(userId) >= MAX_WANTED_SKILLS) {
+            throw new OperationNotAllowedException("You can have at most " + MAX_WANTED_SKILLS + " wanted skills");
+        }
+
+        WantedSkill wantedSkill = WantedSkill.builder()
+                .user(userRepository.getReferenceById(userId))
+                .category(request.getCategory())
+                .keyword(keyword)
+                .build();
+
+        // Unique (user, category, keyword) settles repeats and double submits
+        try {
+            wantedSkill = wantedSkillRepository.saveAndFlush(wantedSkill);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateResourceException("This skill is already on your wanted list");
+        }
+
+        afterCommit(() -> skillMatchIndex.addWant(userId, request.getCategory(), keyword));
+
+        return WantedSkillMapper.toResponse(wantedSkill);
+    }
+
+    // ===================== REMOVE WANTED SKILL =====================
+    @Override
+    public void removeWantedSkill(Long userId, Long wantedSkillId) {
+
+        WantedSkill wantedSkill = wantedSkillRepository.findByIdAndUser_Id(wantedSkillId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Wanted skill not found"));
+
+        wantedSkillRepository.delete(wantedSkill);
+
+        afterCommit(() -> skillMatchIndex.removeWant(userId, wantedSkill.getCategory(), wantedSkill.getKeyword()));
+    }
+
+    // ===================== MY WANTED SKILLS =====================
+    @Override
+    @Transactional(readOnly = true)
+    public List<WantedSkillResponse> getWantedSkills(Long userId) {
+        return wantedSkillRepository.findByUser_IdOrderByIdDesc(userId)
+                .stream()
+                .map(WantedSkillMapper::toResponse)
+                .toList();
+    }
+
+    // ===================== MATCHES =====================
+    // Served from memory, no database round trip
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SkillMatchResponse> getMatches(Long userId, int limit) {
+
+        if (limit <= 0 || limit > SkillMatchIndex.MAX_MATCHES) {
+            throw new BadRequestException("Limit must be between 1 and " + SkillMatchIndex.MAX_MATCHES);
+        }
+
+        return skillMatchIndex.matches(userId, limit);
+    }
+
+    // ===================== HELPERS =====================
+    // Same normalisation as skill titles, so "Pythön" wants match "python" skills
+    private static String normalizeKeyword(String keyword) {
+
+        if (keyword == null || keyword.isBlank()) {
+            return "";
+        }
+
+        List<String> words = SkillTokenizer.tokenize(keyword);
+        if (words.isEmpty()) {
+            throw new BadRequestException("Keyword is too generic, leave it empty to match the whole category");
+        }
+        if (words.size() > 1) {
+            throw new BadRequestException("Keyword must be a single word");
+        }
+        return words.get(0);
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,126 @@
+package com.backend.skillswap.service.impl;
+
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.request.SkillRequestMessageRequest;
+import com.backend.skillswap.dto.response.SkillRequestMessageResponse;
+import com.backend.skillswap.entity.SkillRequestMessage;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.events.SkillRequestMessageEvent;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.backend.skillswap.exception.common.OperationNotAllowedException;
+import com.backend.skillswap.exception.common.ResourceNotFoundException;
+import com.backend.skillswap.repository.SkillRequestMessageRepository;
+import com.backend.skillswap.repository.SkillRequestRepository;
+import com.backend.skillswap.repository.projection.SkillRequestParties;
+import com.backend.skillswap.service.SkillRequestMessageService;
+import com.backend.skillswap.stream.SkillRequestMessageBroker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SkillRequestMessageServiceImpl implements SkillRequestMessageService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SkillRequestMessageRepository messageRepository;
+    private final SkillRequestRepository skillRequestRepository;
+    private final SkillRequestMessageBroker messageBroker;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ===================== POST MESSAGE =====================
+    @Override
+    public SkillRequestMessageResponse postMessage(UserEntity author, Long requestId, SkillRequestMessageRequest request) {
+
+        SkillRequestParties parties = loadParties(author.getId(), requestId);
+
+        // Thread stays readable forever, but only live requests take new messages
+        if (!isOpen(parties)) {
+            throw new BadRequestException("This skill request is closed for new messages");
+        }
+
+        // Reference only: no SELECT for the request row
+        SkillRequestMessage saved = messageRepository.save(SkillRequestMessage.builder()
+                .request(skillRequestRepository.getReferenceById(requestId))
+                .sender(author)
+                .body(request.getBody().trim())
+                .build());
+
+        SkillRequestMessageResponse response = SkillRequestMessageResponse.builder()
+                .id(saved.getId())
+                .requestId(requestId)
+                .senderId(author.getId())
+                .senderUsername(author.getUsername())
+                .body(saved.getBody())
+                .createdAt(saved.getCreatedAt())
+                .build();
+
+        // Pushed to both sides once the message is committed
+        eventPublisher.publishEvent(new SkillRequestMessageEvent(parties.senderId(), parties.receiverId(), response));
+
+        return response;
+    }
+
+    // ===================== THREAD PAGES =====================
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SkillRequestMessageResponse> getThread(Long userId, Long requestId, Long cursor, int size) {
+
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        loadParties(userId, requestId);
+
+        // size + 1 rows: the extra one only tells us whether another page exists
+        List<SkillRequestMessageResponse> rows =
+                messageRepository.findThreadPage(requestId, cursor, PageRequest.of(0, size + 1));
+
+        boolean hasMore = rows.size() > size;
+        List<SkillRequestMessageResponse> items = hasMore ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<SkillRequestMessageResponse>builder()
+                .items(items)
+                .nextCursor(hasMore ? items.get(items.size() - 1).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // ===================== LIVE STREAM =====================
+    // No transaction: the stream outlives the request that opened it
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribe(Long userId) {
+        return messageBroker.subscribe(userId);
+    }
+
+    // ===================== HELPERS =====================
+    private SkillRequestParties loadParties(Long userId, Long requestId) {
+
+        SkillRequestParties parties = skillRequestRepository.findPartiesById(requestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Request not found"));
+
+        if (!parties.senderId().equals(userId) && !parties.receiverId().equals(userId)) {
+            throw new OperationNotAllowedException("Only the learner and the provider can access this thread");
+        }
+        return parties;
+    }
+
+    // Same lifecycle rules as SkillRequestServiceImpl: due PENDING counts as expired
+    private boolean isOpen(SkillRequestParties parties) {
+        return switch (parties.status()) {
+            case PENDING -> parties.expiresAt() == null || parties.expiresAt().isAfter(LocalDateTime.now());
+            case ACCEPTED, BOOKED -> true;
+            default -> false;
+        };
+    }
+}
@@ -1,30 +1,62 @@
 package com.backend.skillswap.service.impl;
 
+import com.backend.skillswap.cache.PendingRequestCounter;
+import com.backend.skillswap.dto.common.BulkItemResult;
+import com.backend.skillswap.dto.common.BulkOperationResponse;
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.request.SkillRequestDecisionRequest;
 import com.backend.skillswap.dto.request.SkillRequestRequest;
 import com.backend.skillswap.dto.response.SkillRequestResponse;
 import com.backend.skillswap.entity.*;
 import com.backend.skillswap.entity.enums.SkillRequestStatus;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.backend.skillswap.exception.common.DuplicateResourceException;
 import com.backend.skillswap.exception.common.ResourceNotFoundException;
 import com.backend.skillswap.mapper.SkillRequestMapper;
 import com.backend.skillswap.repository.*;
 import com.backend.skillswap.service.SkillRequestService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class SkillRequestServiceImpl implements SkillRequestService {
 
+    // Rows expired per UPDATE statement in the sweep
+    private static final int EXPIRY_CHUNK_SIZE = 500;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String ACTIVE_KEY_CONSTRAINT = "uk_request_active_key";
+
     private final SkillRequestRepository skillRequestRepository;
     private final UserRepository userRepository;
     private final UserSkillRepository userSkillRepository;
+    private final PendingRequestCounter pendingRequestCounter;
 
     // ===================== SEND REQUEST =====================
     @Override
@@ -43,17 +75,13 @@ public class SkillRequestServiceImpl implements SkillRequestService {
             throw new IllegalStateException("You cannot send request to yourself");
         }
 
-        //  VALIDATION: Duplicate request
-        boolean exists = skillRequestRepository
-                .existsBySenderAndReceiverAndSkillAndStatusIn(
-                        sender,
-                        receiver,
-                        skill,
-                        List.of(SkillRequestStatus.PENDING, SkillRequestStatus.ACCEPTED)
-                );
-
-        if (exists) {
-            throw new IllegalStateException("Active request already exists for this skill");
+        // Lazy expiry: a due PENDING request must not block a fresh one until the sweep runs
+        int expiredNow = skillRequestRepository.expireDueForSenderAndSkill(sender.getId(), skill.getId(), LocalDateTime.now());
+        if (expiredNow > 0) {
+            afterCommit(() -> {
+                pendingRequestCounter.evict(sender.getId(), PendingRequestCounter.Box.OUTBOX);
+                pendingRequestCounter.evict(receiver.getId(), PendingRequestCounter.Box.INBOX);
+            });
         }
 
         SkillRequest request = SkillRequestMapper.toEntity(requestDto, sender, receiver, skill);
@@ -61,35 +89,80 @@ public class SkillRequestServiceImpl implements SkillRequestService {
         // Set Expiry time here
         request.setExpiresAt(LocalDateTime.now().plusHours(48)); // or plusDays(2)
 
-        SkillRequest saved = skillRequestRepository.save(request);
+        //  VALIDATION: Duplicate request → the insert itself (unique active key), no check-then-insert race
+        SkillRequest saved;
+        try {
+            saved = skillRequestRepository.saveAndFlush(request);
+        } catch (DataIntegrityViolationException e) {
+            // Only the active-key constraint means "duplicate"; anything else (FK, NOT NULL, ...) is a real error
+            if (!violates(e, ACTIVE_KEY_CONSTRAINT)) {
+                throw e;
+            }
+            throw new DuplicateResourceException("Active request already exists for this skill");
+        }
+
+        pendingDelta(saved, +1);
 
-        return SkillRequestMapper.toResponse(saved);
+        return toResponse(saved);
     }
 
     // ===================== SENT REQUESTS =====================
     @Override
     @Transactional(readOnly = true)
     public List<SkillRequestResponse> mySentRequests(Long senderId) {
-        UserEntity sender = userRepository.findById(senderId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (!userRepository.existsById(senderId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
 
-        return skillRequestRepository.findBySender(sender)
-                .stream()
-                .map(SkillRequestMapper::toResponse)
-                .collect(Collectors.toList());
+        // Flat projection (newest first) instead of loading every request's user/skill graphs
+        return markExpired(skillRequestRepository.findSentPage(senderId, null, null, LocalDateTime.now(), Pageable.unpaged()));
     }
 
     // ===================== RECEIVED REQUESTS =====================
     @Override
     @Transactional(readOnly = true)
     public List<SkillRequestResponse> myReceivedRequests(Long receiverId) {
-        UserEntity receiver = userRepository.findById(receiverId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (!userRepository.existsById(receiverId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
 
-        return skillRequestRepository.findByReceiver(receiver)
-                .stream()
-                .map(SkillRequestMapper::toResponse)
-                .collect(Collectors.toList());
+        return markExpired(skillRequestRepository.findReceivedPage(receiverId, null, null, LocalDateTime.now(), Pageable.unpaged()));
+    }
+
+    // ===================== OUTBOX / INBOX PAGES =====================
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SkillRequestResponse> mySentRequestsPage(Long senderId, SkillRequestStatus status, Long cursor, int size) {
+        validatePageSize(size);
+        return toCursorPage(
+                skillRequestRepository.findSentPage(senderId, status, cursor, LocalDateTime.now(), PageRequest.of(0, size + 1)),
+                size
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SkillRequestResponse> myReceivedRequestsPage(Long receiverId, SkillRequestStatus status, Long cursor, int size) {
+        validatePageSize(size);
+        return toCursorPage(
+                skillRequestRepository.findReceivedPage(receiverId, status, cursor, LocalDateTime.now(), PageRequest.of(0, size + 1)),
+                size
+        );
+    }
+
+    // ===================== PENDING BADGES =====================
+    @Override
+    @Transactional(readOnly = true)
+    public long countPendingSent(Long senderId) {
+        return pendingRequestCounter.get(senderId, PendingRequestCounter.Box.OUTBOX,
+                () -> skillRequestRepository.countPendingSent(senderId, LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPendingReceived(Long receiverId) {
+        return pendingRequestCounter.get(receiverId, PendingRequestCounter.Box.INBOX,
+                () -> skillRequestRepository.countPendingReceived(receiverId, LocalDateTime.now()));
     }
 
     // ===================== ACCEPT REQUEST =====================
@@ -114,7 +187,9 @@ public class SkillRequestServiceImpl implements SkillRequestService {
         request.setStatus(SkillRequestStatus.ACCEPTED);
         SkillRequest saved = skillRequestRepository.save(request);
 
-        return SkillRequestMapper.toResponse(saved);
+        pendingDelta(saved, -1);
+
+        return toResponse(saved);
     }
 
     // ===================== REJECT REQUEST =====================
@@ -138,7 +213,63 @@ public class SkillRequestServiceImpl implements SkillRequestService {
 
         request.setStatus(SkillRequestStatus.REJECTED);
 
-        return SkillRequestMapper.toResponse(skillRequestRepository.save(request));
+        pendingDelta(request, -1);
+
+        return toResponse(skillRequestRepository.save(request));
+    }
+
+    // ===================== BULK ACCEPT / REJECT =====================
+    // 1 locking SELECT for all ids + 1 conditional UPDATE per target status (no entity loads, no per-row saves)
+    @Override
+    public BulkOperationResponse decideRequests(Long receiverId, SkillRequestDecisionRequest decision) {
+
+        List<Long> acceptIds = decision.getAcceptIds() != null ? decision.getAcceptIds().stream().distinct().toList() : List.of();
+        List<Long> rejectIds = decision.getRejectIds() != null ? decision.getRejectIds().stream().distinct().toList() : List.of();
+
+        if (acceptIds.isEmpty() && rejectIds.isEmpty()) {
+            throw new BadRequestException("At least one id is required");
+        }
+        if (acceptIds.stream().anyMatch(rejectIds::contains)) {
+            throw new BadRequestException("A request cannot be both accepted and rejected");
+        }
+
+        List<Long> allIds = new ArrayList<>(acceptIds);
+        allIds.addAll(rejectIds);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // id → sender id of rows that can still be decided (locked until commit)
+        Map<Long, Long> actionable = new HashMap<>();
+        for (Object[] row : skillRequestRepository.lockPendingForReceiver(allIds, receiverId, now)) {
+            actionable.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+
+        List<Long> toAccept = acceptIds.stream().filter(actionable::containsKey).toList();
+        List<Long> toReject = rejectIds.stream().filter(actionable::containsKey).toList();
+
+        if (!toAccept.isEmpty()) {
+            skillRequestRepository.decidePending(toAccept, receiverId, SkillRequestStatus.ACCEPTED, now);
+        }
+        if (!toReject.isEmpty()) {
+            skillRequestRepository.decidePending(toReject, receiverId, SkillRequestStatus.REJECTED, now);
+        }
+
+        // Badges: every decided request leaves PENDING
+        Set<Long> decided = new HashSet<>(toAccept);
+        decided.addAll(toReject);
+        Map<Long, Long> perSender = new HashMap<>();
+        decided.forEach(id -> perSender.merge(actionable.get(id), 1L, Long::sum));
+        afterCommit(() -> {
+            pendingRequestCounter.add(receiverId, PendingRequestCounter.Box.INBOX, -decided.size());
+            perSender.forEach((senderId, count) ->
+                    pendingRequestCounter.add(senderId, PendingRequestCounter.Box.OUTBOX, -count));
+        });
+
+        List<BulkItemResult> results = new ArrayList<>();
+        acceptIds.forEach(id -> results.add(outcome(id, decided, SkillRequestStatus.ACCEPTED)));
+        rejectIds.forEach(id -> results.add(outcome(id, decided, SkillRequestStatus.REJECTED)));
+
+        return BulkOperationResponse.of(results);
     }
 
     // ===================== CANCEL REQUEST =====================
@@ -170,7 +301,9 @@ public class SkillRequestServiceImpl implements SkillRequestService {
         // Cancel
         request.setStatus(SkillRequestStatus.CANCELLED);
 
-        return SkillRequestMapper.toResponse(skillRequestRepository.save(request));
+        pendingDelta(request, -1);
+
+        return toResponse(skillRequestRepository.save(request));
     }
 
     // ===================== MARK COMPLETED =====================
@@ -195,29 +328,136 @@ public class SkillRequestServiceImpl implements SkillRequestService {
 
         request.setStatus(SkillRequestStatus.COMPLETED);
 
-        return SkillRequestMapper.toResponse(skillRequestRepository.save(request));
+        return toResponse(skillRequestRepository.save(request));
     }
 
     // ===================== AUTO EXPIRE =====================
+    // Chunked bulk UPDATE, each chunk in its own transaction (NOT_SUPPORTED here → repository opens one per call)
     @Override
-    @Scheduled(cron = "0 0 * * * *")  // Runs every hour
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(cron = "${skillswap.skill-request.expiry-cron:0 */5 * * * *}")
     public void autoExpireRequests() {
 
-        List<SkillRequest> expired = skillRequestRepository
-                .findByStatusAndExpiresAtBefore(SkillRequestStatus.PENDING, LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int updated;
+
+        do {
+            updated = skillRequestRepository.expirePendingChunk(now, EXPIRY_CHUNK_SIZE);
+            total += updated;
+        } while (updated == EXPIRY_CHUNK_SIZE);
+
+        if (total > 0) {
+            pendingRequestCounter.clear();   // any user's badge may have changed
+            log.info("Expired {} pending skill requests", total);
+        }
+    }
+
+    // ===================== ACTIVE KEY BACKFILL =====================
+    // Live requests created before active_key existed have it NULL, so they wouldn't block a second one.
+    // Idempotent: only rows still missing the key are touched, so it can run on every start.
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillActiveKeys() {
+        try {
+            int updated = skillRequestRepository.backfillActiveKeys();
+            if (updated > 0) {
+                log.info("Backfilled active_key on {} live skill requests", updated);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Skill request active_key backfill failed: {}", e.getMessage());
+        }
+    }
+
+    // ===================== HELPER: LAZY EXPIRY =====================
+    // Correctness doesn't wait for the sweep: a due PENDING request is treated as EXPIRED right away
+    // (responses show EXPIRED, actions are refused). The sweep persists it later.
+    private void expireIfDue(SkillRequest request) {
+        if (request.getStatus() == SkillRequestStatus.PENDING
+                && request.getExpiresAt() != null
+                && request.getExpiresAt().isBefore(LocalDateTime.now())) {
+            request.setStatus(SkillRequestStatus.EXPIRED);
+        }
+    }
+
+    private SkillRequestResponse toResponse(SkillRequest request) {
+        expireIfDue(request);
+        return SkillRequestMapper.toResponse(request, skillRequestRepository.findLabelsById(request.getId()));
+    }
+
+    // ===================== HELPER: PAGES =====================
+    private void validatePageSize(int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // Query fetched size + 1 rows; the extra one only tells us whether another page exists
+    private CursorPageResponse<SkillRequestResponse> toCursorPage(List<SkillRequestResponse> rows, int size) {
+
+        boolean hasMore = rows.size() > size;
+        List<SkillRequestResponse> items = hasMore ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<SkillRequestResponse>builder()
+                .items(markExpired(items))
+                .nextCursor(hasMore ? items.get(items.size() - 1).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // Lazy expiry for projected rows
+    private List<SkillRequestResponse> markExpired(List<SkillRequestResponse> items) {
+        LocalDateTime now = LocalDateTime.now();
+        items.forEach(item -> {
+            if (item.getStatus() == SkillRequestStatus.PENDING
+                    && item.getExpiresAt() != null
+                    && item.getExpiresAt().isBefore(now)) {
+                item.setStatus(SkillRequestStatus.EXPIRED);
+            }
+        });
+        return items;
+    }
+
+    private BulkItemResult outcome(Long id, Set<Long> decided, SkillRequestStatus target) {
+        return decided.contains(id)
+                ? BulkItemResult.ok(id, target.name())
+                : BulkItemResult.failed(id, "NOT_ACTIONABLE", "Request not found, not yours, expired or no longer pending");
+    }
+
+    // ===================== HELPER: PENDING COUNTERS =====================
+    // Leaving / entering PENDING moves both badges, only once the change is committed
+    private void pendingDelta(SkillRequest request, long delta) {
+        Long senderId = request.getSender().getId();
+        Long receiverId = request.getReceiver().getId();
+        afterCommit(() -> {
+            pendingRequestCounter.add(senderId, PendingRequestCounter.Box.OUTBOX, delta);
+            pendingRequestCounter.add(receiverId, PendingRequestCounter.Box.INBOX, delta);
+        });
+    }
 
-        expired.forEach(req -> {
-            // Extra safety
-            if (req.getStatus() == SkillRequestStatus.PENDING) {
-                req.setStatus(SkillRequestStatus.EXPIRED);
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
             }
         });
+    }
 
-        skillRequestRepository.saveAll(expired);
+    // Constraint name as reported by the driver (MySQL may prefix the table name, H2 upper-cases it)
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraint);
+            }
+        }
+        return false;
     }
 
     // ===================== HELPER: TERMINAL CHECK =====================
     private void ensureNotTerminal(SkillRequest request) {
+        expireIfDue(request);
         if (request.getStatus() == SkillRequestStatus.COMPLETED ||
                 request.getStatus() == SkillRequestStatus.REJECTED ||
                 request.getStatus() == SkillRequestStatus.CANCELLED ||
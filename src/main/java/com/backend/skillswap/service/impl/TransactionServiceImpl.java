@@ -13,6 +13,7 @@ import com.backend.skillswap.exception.transaction.TransactionAlreadyProcessedEx
 import com.backend.skillswap.exception.transaction.TransactionFailedException;
 import com.backend.skillswap.mapper.TransactionMapper;
 import com.backend.skillswap.repository.BookingRepository;
+import com.backend.skillswap.repository.EscrowBatchRepository;
 import com.backend.skillswap.repository.TransactionRepository;
 import com.backend.skillswap.repository.WalletRepository;
 import com.backend.skillswap.service.EmailService;
@@ -23,10 +24,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -39,6 +44,7 @@ public class TransactionServiceImpl implements TransactionService {
     private final TransactionRepository transactionRepository;
     private final BookingRepository bookingRepository;
     private final WalletRepository walletRepository;
+    private final EscrowBatchRepository escrowBatchRepository;
     private final EmailService emailService;
 
     // ================= WALLET =================
@@ -210,6 +216,61 @@ public class TransactionServiceImpl implements TransactionService {
         throw new RuntimeException("Failed to create escrow due to concurrent updates");
     }
 
+    // MANDATORY: escrows must commit together with the booking confirmations (no REQUIRES_NEW per row here)
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void createEscrowTransactions(List<Booking> bookings) {
+
+        if (bookings.isEmpty()) {
+            return;
+        }
+
+        for (Booking booking : bookings) {
+            if (booking.getStatus() != BookingStatus.CONFIRMED) {
+                throw new InvalidRequestException("Escrow can be created only on CONFIRMED booking");
+            }
+        }
+
+        // Same escrow as the single-booking path (payer = requester, payee = provider, amount = totalAmount)
+        escrowBatchRepository.insertAll(bookings.stream()
+                .map(booking -> Transaction.builder()
+                        .payer(booking.getRequester())
+                        .payee(booking.getProvider())
+                        .booking(booking)
+                        .amount(booking.getTotalAmount())
+                        .transactionType(TransactionType.ESCROW)
+                        .status(TransactionStatus.PENDING)
+                        .paymentGateway(PaymentGateway.INTERNAL)
+                        .paymentMethod(PaymentMethod.WALLET)
+                        .escrow(true)
+                        .transactionReference(UUID.randomUUID().toString())
+                        .description("Escrow for booking #" + booking.getId())
+                        .build())
+                .toList());
+
+        // One summary mail per payer, only once the escrows are really committed
+        Map<Long, List<Booking>> byPayer = bookings.stream()
+                .collect(Collectors.groupingBy(b -> b.getRequester().getId(), LinkedHashMap::new, Collectors.toList()));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                byPayer.values().forEach(payerBookings -> emailService.sendTransactionMail(
+                        payerBookings.get(0).getRequester().getEmail(),
+                        "Escrow Created",
+                        "₹" + payerBookings.stream().map(Booking::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add)
+                                + " has been locked in escrow for booking IDs: "
+                                + payerBookings.stream().map(b -> String.valueOf(b.getId())).collect(Collectors.joining(", "))
+                ));
+            }
+        });
+    }
+
+    @Override
+    public List<Long> findBookingIdsWithPendingEscrow(List<Long> bookingIds) {
+        return bookingIds.isEmpty() ? List.of() : transactionRepository.findBookingIdsWithPendingEscrow(bookingIds);
+    }
+
     @Transactional
     @Override
     public TransactionResponse releaseEscrow(Long bookingId) {
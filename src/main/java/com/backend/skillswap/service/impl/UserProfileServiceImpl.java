@@ -5,10 +5,13 @@ import com.backend.skillswap.dto.response.UserProfileResponse;
 import com.backend.skillswap.entity.UserEntity;
 import com.backend.skillswap.entity.UserProfile;
 import com.backend.skillswap.exception.authentication.InvalidCredentialsException;
+import com.backend.skillswap.exception.common.BadRequestException;
 import com.backend.skillswap.exception.common.ResourceNotFoundException;
 import com.backend.skillswap.mapper.UserProfileMapper;
 import com.backend.skillswap.repository.UserProfileRepository;
 import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.projection.ProfileStamp;
+import com.backend.skillswap.search.SkillGeoIndex;
 import com.backend.skillswap.security.CustomUserDetails;
 import com.backend.skillswap.service.UserProfileService;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +19,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +29,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 
     private final UserProfileRepository profileRepository;
     private final UserRepository userRepository;
+    private final SkillGeoIndex skillGeoIndex;
 
     // ================== GET MY PROFILE (USER) ==================
     @Override
@@ -52,6 +58,26 @@ public class UserProfileServiceImpl implements UserProfileService {
         if (request.getCountry() != null) profile.setCountry(request.getCountry());
         if (request.getLocation() != null) profile.setLocation(request.getLocation());
 
+        // Coordinates come as a pair; omitted = unchanged, clearCoordinates = removed
+        if ((request.getLatitude() == null) != (request.getLongitude() == null)) {
+            throw new BadRequestException("Latitude and longitude must be given together");
+        }
+        if (Boolean.TRUE.equals(request.getClearCoordinates())) {
+            if (request.getLatitude() != null) {
+                throw new BadRequestException("Either set coordinates or clear them, not both");
+            }
+            profile.setLatitude(null);
+            profile.setLongitude(null);
+            afterCommit(() -> skillGeoIndex.moveProvider(userId, null, null));
+        } else if (request.getLatitude() != null) {
+            profile.setLatitude(request.getLatitude());
+            profile.setLongitude(request.getLongitude());
+
+            Double latitude = profile.getLatitude();
+            Double longitude = profile.getLongitude();
+            afterCommit(() -> skillGeoIndex.moveProvider(userId, latitude, longitude));
+        }
+
         profileRepository.save(profile);
 
         return UserProfileMapper.toResponse(profile);
@@ -88,6 +114,15 @@ public class UserProfileServiceImpl implements UserProfileService {
         return UserProfileMapper.toPublicResponse(profile);
     }
 
+    // Reads two columns only; the profile row is not materialised
+    @Override
+    @Transactional(readOnly = true)
+    public String getPublicProfileETag(Long userId) {
+        return profileRepository.findStampByUserId(userId)
+                .map(ProfileStamp::etag)
+                .orElse(null);
+    }
+
     // ================= ADMIN (Admin can fetch any user's profile) =================
 
     @Override
@@ -129,6 +164,15 @@ public class UserProfileServiceImpl implements UserProfileService {
         userRepository.save(user);
     }
 
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     // ================== SAFE FETCH LOGGED-IN USER ID ==================
     private Long getLoggedInUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -1,25 +1,60 @@
 package com.backend.skillswap.service.impl;
 
+import com.backend.skillswap.cache.ProviderStatsCache;
+import com.backend.skillswap.cache.SkillCatalogCache;
+import com.backend.skillswap.cache.SkillRatingCache;
+import com.backend.skillswap.dto.common.BulkItemResult;
+import com.backend.skillswap.dto.common.BulkOperationResponse;
+import com.backend.skillswap.dto.request.SkillModerationRequest;
 import com.backend.skillswap.dto.request.UserSkillRequest;
+import com.backend.skillswap.dto.response.CacheStatsResponse;
+import com.backend.skillswap.dto.response.SkillBrowseResponse;
+import com.backend.skillswap.dto.response.SkillClusterResponse;
+import com.backend.skillswap.dto.response.SkillNearbyResponse;
+import com.backend.skillswap.dto.response.SkillSearchResponse;
 import com.backend.skillswap.dto.response.UserSkillResponse;
 import com.backend.skillswap.entity.UserEntity;
 import com.backend.skillswap.entity.UserSkill;
 import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.events.SkillChangeEvent;
+import com.backend.skillswap.events.SkillModerationNotice;
+import com.backend.skillswap.exception.common.BadRequestException;
 import com.backend.skillswap.exception.common.DuplicateResourceException;
 import com.backend.skillswap.exception.common.ResourceNotFoundException;
 import com.backend.skillswap.exception.userSkill.SkillDeletionNotAllowedException;
 import com.backend.skillswap.mapper.UserSkillMapper;
+import com.backend.skillswap.moderation.SkillDuplicateIndex;
+import com.backend.skillswap.notification.SkillNotificationQueue;
+import com.backend.skillswap.recommend.AlsoBookedIndex;
 import com.backend.skillswap.repository.SkillRequestRepository;
 import com.backend.skillswap.repository.UserRepository;
 import com.backend.skillswap.repository.UserSkillRepository;
+import com.backend.skillswap.search.SkillAutocompleteIndex;
+import com.backend.skillswap.search.SkillFacetFilter;
+import com.backend.skillswap.search.SkillFacetIndex;
+import com.backend.skillswap.search.SkillFacetResult;
+import com.backend.skillswap.search.SkillGeoIndex;
+import com.backend.skillswap.search.SkillHits;
+import com.backend.skillswap.search.SkillSearchIndex;
+import com.backend.skillswap.search.SkillSort;
+import com.backend.skillswap.search.SkillTrigramIndex;
 import com.backend.skillswap.service.EmailService;
 import com.backend.skillswap.service.UserSkillService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.backend.skillswap.entity.enums.SkillRequestStatus.ACCEPTED;
@@ -31,10 +66,25 @@ import static com.backend.skillswap.entity.enums.SkillRequestStatus.PENDING;
 @Transactional
 public class UserSkillServiceImpl implements UserSkillService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_PAGE = 1000;
+
     private final UserSkillRepository userSkillRepository;
     private final UserRepository userRepository;
     private final SkillRequestRepository skillRequestRepository;
     private final EmailService emailService;
+    private final SkillNotificationQueue skillNotificationQueue;
+    private final SkillSearchIndex skillSearchIndex;
+    private final SkillFacetIndex skillFacetIndex;
+    private final SkillAutocompleteIndex skillAutocompleteIndex;
+    private final SkillTrigramIndex skillTrigramIndex;
+    private final SkillCatalogCache skillCatalogCache;
+    private final ProviderStatsCache providerStatsCache;
+    private final SkillRatingCache skillRatingCache;
+    private final AlsoBookedIndex alsoBookedIndex;
+    private final SkillGeoIndex skillGeoIndex;
+    private final SkillDuplicateIndex skillDuplicateIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ================= USER: ADD SKILL =================
     @Override
@@ -55,7 +105,7 @@ public class UserSkillServiceImpl implements UserSkillService {
         skill.setVerified(false); // new skill always unverified
 
         UserSkill saved = userSkillRepository.save(skill);
-        return UserSkillMapper.toResponse(saved);
+        return publishChange(saved);
     }
 
     // ================= USER: UPDATE SKILL =================
@@ -82,7 +132,7 @@ public class UserSkillServiceImpl implements UserSkillService {
         skill.setVerified(false);  // must re-verify after update
 
         UserSkill updated = userSkillRepository.save(skill);
-        return UserSkillMapper.toResponse(updated);
+        return publishChange(updated);
     }
 
 
@@ -115,6 +165,7 @@ public class UserSkillServiceImpl implements UserSkillService {
         skill.setActive(false);   // delete
         skill.setVerified(false);  // Skill - Unverify
         userSkillRepository.save(skill);
+        publishChange(skill);
 
         // Send success email to user
         emailService.sendSkillDeletedMail(skill);  // Sends confirmation email when user deletes their own skill
@@ -143,6 +194,7 @@ public class UserSkillServiceImpl implements UserSkillService {
         skill.setActive(true);
         skill.setVerified(false); //  must re-verify
         userSkillRepository.save(skill);
+        publishChange(skill);
 
         // Extract everything BEFORE async
         String email = skill.getUser().getEmail();
@@ -169,41 +221,137 @@ public class UserSkillServiceImpl implements UserSkillService {
     }
 
     // ================= PUBLIC: USER SKILLS =================
+    // Public lists are served through the versioned catalog cache; no connection on a hit
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<UserSkillResponse> getUserSkills(Long userId) {
 
-        return userSkillRepository.findByUserIdAndVerifiedTrueAndActiveTrue(userId)
-                .stream()
-                .map(UserSkillMapper::toResponse)
-                .collect(Collectors.toList());
+        return withPublicStats(skillCatalogCache.get("user:" + userId, () ->
+                userSkillRepository.findByUserIdAndVerifiedTrueAndActiveTrue(userId)
+                        .stream()
+                        .map(UserSkillMapper::toResponse)
+                        .toList()));
     }
 
     // ================= PUBLIC: SEARCH =================
+    // Served from the in-memory indexes: ranked, paginated, no LIKE scan (and no connection).
+    // fuzzy=true → trigram/edit-distance matching; a keyword with no exact hit falls back to it as well.
     @Override
-    @Transactional(readOnly = true)
-    public List<UserSkillResponse> searchSkills(String keyword) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SkillSearchResponse searchSkills(String keyword, int page, int size, boolean fuzzy) {
 
-        if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllVerifiedSkills();
+        validatePage(page, size);
+
+        boolean blank = keyword == null || keyword.isBlank();
+        SkillHits hits = fuzzy && !blank ? SkillHits.empty() : skillSearchIndex.search(keyword, page, size);
+
+        boolean usedFuzzy = !blank && (fuzzy || hits.total() == 0);
+        if (usedFuzzy) {
+            hits = skillTrigramIndex.search(keyword, page, size);
         }
 
-        return userSkillRepository
-                .findByTitleContainingIgnoreCaseAndVerifiedTrueAndActiveTrue(keyword)
-                .stream()
-                .map(UserSkillMapper::toResponse)
-                .collect(Collectors.toList());
+        return SkillSearchResponse.builder()
+                .keyword(keyword)
+                .fuzzy(usedFuzzy)
+                .total(hits.total())
+                .page(page)
+                .size(size)
+                .items(withPublicStats(hits.items()))
+                .build();
+    }
+
+    // ================= PUBLIC: AUTOCOMPLETE =================
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> autocompleteTitles(String prefix, int limit) {
+
+        if (limit <= 0 || limit > SkillAutocompleteIndex.MAX_SUGGESTIONS) {
+            throw new BadRequestException("Limit must be between 1 and " + SkillAutocompleteIndex.MAX_SUGGESTIONS);
+        }
+
+        return skillAutocompleteIndex.complete(prefix, limit);
+    }
+
+    // ================= PUBLIC: FACETED BROWSE =================
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SkillBrowseResponse browseSkills(SkillFacetFilter filter, SkillSort sort, int page, int size) {
+
+        validatePage(page, size);
+
+        if (filter.minRate() != null && filter.maxRate() != null && filter.minRate().compareTo(filter.maxRate()) > 0) {
+            throw new BadRequestException("minRate cannot be greater than maxRate");
+        }
+        if (filter.minExperience() != null && filter.maxExperience() != null
+                && filter.minExperience() > filter.maxExperience()) {
+            throw new BadRequestException("minExperience cannot be greater than maxExperience");
+        }
+
+        SkillFacetResult result = skillFacetIndex.browse(filter, sort, page, size);
+
+        return SkillBrowseResponse.builder()
+                .total(result.hits().total())
+                .page(page)
+                .size(size)
+                .items(withPublicStats(result.hits().items()))
+                .facets(result.facets())
+                .build();
+    }
+
+    // ================= PUBLIC: ALSO BOOKED =================
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserSkillResponse> getAlsoBooked(Long skillId, int limit) {
+
+        if (limit <= 0 || limit > AlsoBookedIndex.MAX_NEIGHBORS) {
+            throw new BadRequestException("Limit must be between 1 and " + AlsoBookedIndex.MAX_NEIGHBORS);
+        }
+
+        // Neighbours that are no longer public are skipped by the facet index
+        return withPublicStats(skillFacetIndex.lookup(alsoBookedIndex.neighbors(skillId), limit));
+    }
+
+    // ================= PUBLIC: NEARBY =================
+    // Geohash cell lookups around the point, only providers in those cells are distance-checked
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SkillNearbyResponse getNearbySkills(double latitude, double longitude, double radiusKm,
+                                               SkillCategory category, int page, int size) {
+
+        validatePage(page, size);
+
+        // NaN slips through range comparisons
+        if (!Double.isFinite(latitude) || !Double.isFinite(longitude)
+                || latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Latitude must be between -90 and 90, longitude between -180 and 180");
+        }
+        if (!(radiusKm > 0) || radiusKm > SkillGeoIndex.MAX_RADIUS_KM) {
+            throw new BadRequestException("Radius must be greater than 0 and at most " + SkillGeoIndex.MAX_RADIUS_KM + " km");
+        }
+
+        SkillHits hits = skillGeoIndex.nearby(latitude, longitude, radiusKm, category, page, size);
+
+        return SkillNearbyResponse.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .radiusKm(radiusKm)
+                .total(hits.total())
+                .page(page)
+                .size(size)
+                .items(withPublicStats(hits.items()))
+                .build();
     }
 
     // ================= PUBLIC: ALL VERIFIED =================
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<UserSkillResponse> getAllVerifiedSkills() {
 
-        return userSkillRepository.findByVerifiedTrueAndActiveTrue()
-                .stream()
-                .map(UserSkillMapper::toResponse)
-                .collect(Collectors.toList());
+        return withPublicStats(skillCatalogCache.get("verified", () ->
+                userSkillRepository.findByVerifiedTrueAndActiveTrue()
+                        .stream()
+                        .map(UserSkillMapper::toResponse)
+                        .toList()));
     }
 
     // ================= ADMIN: VERIFY SKILL =================
@@ -226,9 +374,10 @@ public class UserSkillServiceImpl implements UserSkillService {
         skill.setVerified(true);
         skill.setActive(true);
         userSkillRepository.save(skill);
+        publishChange(skill);
 
-        // SEND EMAIL
-        emailService.sendSkillVerifiedMail(skill);
+        // Mail goes out after commit, batched with other moderation mails
+        notifyAfterCommit(List.of(UserSkillMapper.toNotice(skill, SkillModerationNotice.Decision.VERIFIED)));
     }
 
 
@@ -247,12 +396,112 @@ public class UserSkillServiceImpl implements UserSkillService {
         skill.setVerified(false);
         skill.setActive(false);
         userSkillRepository.save(skill);
+        publishChange(skill);
+
+        // Mail goes out after commit, batched with other moderation mails
+        notifyAfterCommit(List.of(UserSkillMapper.toNotice(skill, SkillModerationNotice.Decision.REJECTED)));
+    }
+
+    // ================= ADMIN: BULK MODERATION =================
+    // 1 locking SELECT for all ids + 1 UPDATE per outcome + 1 fetch of the changed rows; mails queued after commit
+    @Override
+    public BulkOperationResponse moderateSkills(SkillModerationRequest request) {
+
+        List<Long> verifyIds = request.getVerifyIds() != null ? request.getVerifyIds().stream().distinct().toList() : List.of();
+        List<Long> rejectIds = request.getRejectIds() != null ? request.getRejectIds().stream().distinct().toList() : List.of();
+
+        if (verifyIds.isEmpty() && rejectIds.isEmpty()) {
+            throw new BadRequestException("At least one id is required");
+        }
+        if (verifyIds.stream().anyMatch(rejectIds::contains)) {
+            throw new BadRequestException("A skill cannot be both verified and rejected");
+        }
+
+        List<Long> allIds = new ArrayList<>(verifyIds);
+        allIds.addAll(rejectIds);
+
+        // id → [verified, active] of existing rows (locked until commit)
+        Map<Long, boolean[]> state = new HashMap<>();
+        for (Object[] row : userSkillRepository.lockModerationState(allIds)) {
+            state.put(((Number) row[0]).longValue(), new boolean[]{flag(row[1]), flag(row[2])});
+        }
 
-        // SEND EMAIL
-        emailService.sendSkillRejectedMail(skill);
+        // Same rules as verifySkill / rejectSkill
+        List<Long> toVerify = verifyIds.stream()
+                .filter(id -> state.containsKey(id) && !state.get(id)[0] && state.get(id)[1])
+                .toList();
+        List<Long> toReject = rejectIds.stream()
+                .filter(id -> state.containsKey(id) && (state.get(id)[0] || state.get(id)[1]))
+                .toList();
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!toVerify.isEmpty()) {
+            userSkillRepository.verifyAll(toVerify, now);
+        }
+        if (!toReject.isEmpty()) {
+            userSkillRepository.rejectAll(toReject, now);
+        }
+
+        Set<Long> verified = Set.copyOf(toVerify);
+        Set<Long> rejected = Set.copyOf(toReject);
+        List<Long> changedIds = new ArrayList<>(toVerify);
+        changedIds.addAll(toReject);
+
+        if (!changedIds.isEmpty()) {
+            List<SkillModerationNotice> notices = new ArrayList<>(changedIds.size());
+            for (UserSkill skill : userSkillRepository.findWithOwnerByIdIn(changedIds)) {
+                eventPublisher.publishEvent(new SkillChangeEvent(UserSkillMapper.toResponse(skill)));
+                notices.add(UserSkillMapper.toNotice(skill, verified.contains(skill.getId())
+                        ? SkillModerationNotice.Decision.VERIFIED
+                        : SkillModerationNotice.Decision.REJECTED));
+            }
+            notifyAfterCommit(notices);
+        }
+
+        List<BulkItemResult> results = new ArrayList<>();
+        verifyIds.forEach(id -> results.add(verified.contains(id)
+                ? BulkItemResult.ok(id, "VERIFIED")
+                : BulkItemResult.failed(id, "NOT_ACTIONABLE", "Skill not found, inactive or already verified")));
+        rejectIds.forEach(id -> results.add(rejected.contains(id)
+                ? BulkItemResult.ok(id, "REJECTED")
+                : BulkItemResult.failed(id, "NOT_ACTIONABLE", "Skill not found or already rejected")));
+
+        return BulkOperationResponse.of(results);
     }
 
 
+    // ================= HELPERS =================
+    private void validatePage(int page, int size) {
+        if (page < 0 || page > MAX_PAGE) {
+            throw new BadRequestException("Page must be between 0 and " + MAX_PAGE);
+        }
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // Native boolean columns come back as Boolean or a number depending on the driver
+    private static boolean flag(Object value) {
+        return value instanceof Boolean bool ? bool : ((Number) value).intValue() != 0;
+    }
+
+    private void notifyAfterCommit(List<SkillModerationNotice> notices) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                skillNotificationQueue.enqueue(notices);
+            }
+        });
+    }
+
+    // Flush first so updatedAt is final, then hand the committed state to the search indexes
+    private UserSkillResponse publishChange(UserSkill skill) {
+        userSkillRepository.flush();
+        UserSkillResponse response = UserSkillMapper.toResponse(skill);
+        eventPublisher.publishEvent(new SkillChangeEvent(response));
+        return response;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<UserSkillResponse> getMySkillsByUserId(Long userId) {
@@ -264,14 +513,37 @@ public class UserSkillServiceImpl implements UserSkillService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<UserSkillResponse> getSkillsByCategory(SkillCategory category) {
 
-        return userSkillRepository
-                .findByCategoryAndVerifiedTrueAndActiveTrue(category)
-                .stream()
-                .map(UserSkillMapper::toResponse)
-                .collect(Collectors.toList());
+        return withPublicStats(skillCatalogCache.get("category:" + category.name(), () ->
+                userSkillRepository
+                        .findByCategoryAndVerifiedTrueAndActiveTrue(category)
+                        .stream()
+                        .map(UserSkillMapper::toResponse)
+                        .toList()));
+    }
+
+    @Override
+    public CacheStatsResponse getCatalogCacheStats() {
+        return skillCatalogCache.stats();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getCatalogVersion() {
+        return skillCatalogCache.version() + "-" + providerStatsCache.version() + "-" + skillRatingCache.version();
+    }
+
+    // ================= HELPER: PROVIDER STATS + RATINGS =================
+    // Cached / indexed responses are shared between requests → attach stats to copies
+    private List<UserSkillResponse> withPublicStats(List<UserSkillResponse> skills) {
+        return skills.stream()
+                .map(skill -> skill.toBuilder()
+                        .providerStats(providerStatsCache.get(skill.getUserId()))
+                        .rating(skillRatingCache.get(skill.getId()))
+                        .build())
+                .toList();
     }
 
     @Override
@@ -293,5 +565,16 @@ public class UserSkillServiceImpl implements UserSkillService {
                 .map(UserSkillMapper::toResponse)
                 .collect(Collectors.toList());
     }
-}
 
+    // Served from the duplicate index: LSH buckets + confirmed pairs, no pairwise pass over the queue
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SkillClusterResponse> getUnverifiedSkillClusters(int minSize) {
+
+        if (minSize <= 0) {
+            throw new BadRequestException("minSize must be at least 1");
+        }
+
+        return skillDuplicateIndex.clusters(minSize);
+    }
+}
@@ -0,0 +1,112 @@
+package com.backend.skillswap.stream;
+
+import com.backend.skillswap.events.SkillRequestMessageEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Live push of skill-request thread messages over server-sent events.
+// One stream per connected user (several tabs → several emitters); a message goes to both participants.
+// In-memory → only clients connected to this instance are reached; the thread endpoint stays the source of truth.
+@Slf4j
+@Component
+public class SkillRequestMessageBroker {
+
+    // Idle streams are closed by the server; clients simply reconnect
+    private static final long STREAM_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private static final int MAX_STREAMS_PER_USER = 5;
+
+    private final Map<Long, List<SseEmitter>> streams = new ConcurrentHashMap<>();
+
+    // ================= SUBSCRIBE =================
+    public SseEmitter subscribe(Long userId) {
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        List<SseEmitter> evicted = new ArrayList<>();
+
+        streams.compute(userId, (id, userStreams) -> {
+            List<SseEmitter> list = userStreams != null ? userStreams : new CopyOnWriteArrayList<>();
+            // Oldest tab loses its stream instead of letting one user hold unbounded connections
+            while (list.size() >= MAX_STREAMS_PER_USER) {
+                evicted.add(list.remove(0));
+            }
+            list.add(emitter);
+            return list;
+        });
+        evicted.forEach(SseEmitter::complete);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(error -> remove(userId, emitter));
+
+        // First frame flushes the response headers so the client knows it is connected
+        send(userId, emitter, SseEmitter.event().comment("connected"));
+
+        return emitter;
+    }
+
+    // ================= PUSH (after commit) =================
+    // Async → a slow client never holds up the request that stored the message
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessage(SkillRequestMessageEvent event) {
+        push(event.learnerId(), event);
+        push(event.providerId(), event);
+    }
+
+    // Keeps proxies from closing quiet streams and prunes dead ones
+    @Scheduled(fixedRate = 25_000)
+    public void heartbeat() {
+        streams.forEach((userId, userStreams) ->
+                userStreams.forEach(emitter -> send(userId, emitter, SseEmitter.event().comment("ping"))));
+    }
+
+    // Package-private for tests
+    int openStreams(Long userId) {
+        List<SseEmitter> userStreams = streams.get(userId);
+        return userStreams != null ? userStreams.size() : 0;
+    }
+
+    // ================= HELPERS =================
+    private void push(Long userId, SkillRequestMessageEvent event) {
+        List<SseEmitter> userStreams = streams.get(userId);
+        if (userStreams == null) {
+            return;   // not connected → will read the thread on next open
+        }
+        userStreams.forEach(emitter -> send(userId, emitter, SseEmitter.event()
+                .id(String.valueOf(event.message().getId()))
+                .name("skill-request-message")
+                .data(event.message(), MediaType.APPLICATION_JSON)));
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder frame) {
+        try {
+            emitter.send(frame);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; drop the emitter
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+            log.debug("Dropped message stream of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        streams.computeIfPresent(userId, (id, userStreams) -> {
+            userStreams.remove(emitter);
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+    }
+}
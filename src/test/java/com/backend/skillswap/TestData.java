@@ -0,0 +1,44 @@
+package com.backend.skillswap;
+
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.entity.enums.SkillLevel;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Unsaved entities with every required column filled, shared by the database-backed tests.
+// Callers override only what their test is about and save through their own repositories.
+public final class TestData {
+
+    private TestData() {
+        // Utility class
+    }
+
+    public static UserEntity user(String name, Role role) {
+        UserEntity user = new UserEntity();
+        user.setUsername(name);
+        user.setEmail(name + "@test.local");
+        user.setPassword("secret");
+        user.setRoles(List.of(role));
+        return user;
+    }
+
+    // Unique title, so one provider can own several
+    public static UserSkill skill(UserEntity provider) {
+        return skill(provider, "Skill " + System.nanoTime());
+    }
+
+    public static UserSkill skill(UserEntity provider, String title) {
+        UserSkill skill = new UserSkill();
+        skill.setUser(provider);
+        skill.setTitle(title);
+        skill.setCategory(SkillCategory.PROGRAMMING);
+        skill.setLevel(SkillLevel.values()[0]);
+        skill.setExperienceYears(2);
+        skill.setHourlyRate(new BigDecimal("20.00"));
+        return skill;
+    }
+}
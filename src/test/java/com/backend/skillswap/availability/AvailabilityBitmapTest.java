@@ -0,0 +1,86 @@
+package com.backend.skillswap.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Quarter-hour slot math: rounding outward, the 00:00 / 24:00 edges and the split across the two words
+class AvailabilityBitmapTest {
+
+    @Test
+    void startsRoundDownAndEndsRoundUpToTheQuarterHour() {
+        assertThat(AvailabilityBitmap.floorSlot(LocalTime.of(9, 0))).isEqualTo(36);
+        assertThat(AvailabilityBitmap.floorSlot(LocalTime.of(9, 14, 59))).isEqualTo(36);
+        assertThat(AvailabilityBitmap.floorSlot(LocalTime.of(9, 15))).isEqualTo(37);
+
+        assertThat(AvailabilityBitmap.ceilSlot(LocalTime.of(10, 0))).isEqualTo(40);
+        assertThat(AvailabilityBitmap.ceilSlot(LocalTime.of(10, 1))).isEqualTo(41);
+        assertThat(AvailabilityBitmap.ceilSlot(LocalTime.of(10, 0, 1))).isEqualTo(41);
+        assertThat(AvailabilityBitmap.ceilSlot(LocalTime.of(10, 14, 59))).isEqualTo(41);
+
+        assertThat(AvailabilityBitmap.isAligned(LocalTime.of(10, 45))).isTrue();
+        assertThat(AvailabilityBitmap.isAligned(LocalTime.of(10, 50))).isFalse();
+        assertThat(AvailabilityBitmap.isAligned(LocalTime.of(10, 45, 1))).isFalse();
+    }
+
+    @Test
+    void midnightStartsTheDayAndEndsIt() {
+        assertThat(AvailabilityBitmap.floorSlot(LocalTime.MIDNIGHT)).isZero();
+        assertThat(AvailabilityBitmap.ceilSlot(LocalTime.MIDNIGHT)).isEqualTo(AvailabilityBitmap.SLOTS_PER_DAY);
+        assertThat(AvailabilityBitmap.ceilSlot(LocalTime.of(23, 59))).isEqualTo(AvailabilityBitmap.SLOTS_PER_DAY);
+
+        long[] day = AvailabilityBitmap.empty();
+        AvailabilityBitmap.set(day, AvailabilityBitmap.floorSlot(LocalTime.of(22, 0)), AvailabilityBitmap.ceilSlot(LocalTime.MIDNIGHT));
+
+        assertThat(AvailabilityBitmap.covers(day, 88, 96)).isTrue();
+        assertThat(AvailabilityBitmap.covers(day, 87, 96)).isFalse();
+        assertThat(windows(day)).containsExactly("22:00-00:00");
+    }
+
+    @Test
+    void fullDayCoversEverySlotAndNothingBeyond() {
+        long[] day = AvailabilityBitmap.full();
+
+        assertThat(AvailabilityBitmap.covers(day, 0, AvailabilityBitmap.SLOTS_PER_DAY)).isTrue();
+        assertThat(windows(day)).containsExactly("00:00-00:00");
+        // Bits 96..127 of the second word stay clear
+        assertThat(day[1] >>> (AvailabilityBitmap.SLOTS_PER_DAY - 64)).isZero();
+    }
+
+    @Test
+    void rangesSpanningBothWordsAreSetClearedAndCheckedTogether() {
+        long[] day = AvailabilityBitmap.empty();
+        AvailabilityBitmap.set(day, 60, 70);           // 15:00-17:30, crosses slot 64
+        assertThat(AvailabilityBitmap.covers(day, 60, 70)).isTrue();
+        assertThat(AvailabilityBitmap.covers(day, 59, 70)).isFalse();
+        assertThat(AvailabilityBitmap.covers(day, 60, 71)).isFalse();
+
+        AvailabilityBitmap.clear(day, 63, 65);         // one slot on each side of the boundary
+        assertThat(AvailabilityBitmap.covers(day, 60, 63)).isTrue();
+        assertThat(AvailabilityBitmap.covers(day, 63, 64)).isFalse();
+        assertThat(AvailabilityBitmap.covers(day, 64, 65)).isFalse();
+        assertThat(windows(day)).containsExactly("15:00-15:45", "16:15-17:30");
+
+        // An empty range is always covered
+        assertThat(AvailabilityBitmap.covers(AvailabilityBitmap.empty(), 10, 10)).isTrue();
+    }
+
+    @Test
+    void copyIsIndependentOfTheOriginal() {
+        long[] original = AvailabilityBitmap.empty();
+        AvailabilityBitmap.set(original, 0, 4);
+
+        long[] copy = AvailabilityBitmap.copy(original);
+        AvailabilityBitmap.clear(copy, 0, 4);
+
+        assertThat(AvailabilityBitmap.covers(original, 0, 4)).isTrue();
+        assertThat(AvailabilityBitmap.covers(copy, 0, 1)).isFalse();
+    }
+
+    private static List<String> windows(long[] day) {
+        return AvailabilityBitmap.windows(day).stream().map(window -> window[0] + "-" + window[1]).toList();
+    }
+}
@@ -0,0 +1,179 @@
+package com.backend.skillswap.availability;
+
+import com.backend.skillswap.entity.ProviderAvailabilityException;
+import com.backend.skillswap.entity.ProviderAvailabilityRule;
+import com.backend.skillswap.repository.ProviderAvailabilityExceptionRepository;
+import com.backend.skillswap.repository.ProviderAvailabilityRuleRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Compiled working hours: weekly rules, date exceptions on top, ranges over midnight, reload on evict and LRU bound
+class ProviderAvailabilityCacheTest {
+
+    private static final Long PROVIDER = 1L;
+
+    // Dates after today, so exceptions on them are always loaded
+    private static final LocalDate MONDAY = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+    private static final LocalDate SATURDAY = MONDAY.plusDays(5);
+
+    private final ProviderAvailabilityRuleRepository ruleRepository = mock(ProviderAvailabilityRuleRepository.class);
+    private final ProviderAvailabilityExceptionRepository exceptionRepository = mock(ProviderAvailabilityExceptionRepository.class);
+    private final ProviderAvailabilityCache cache = new ProviderAvailabilityCache(ruleRepository, exceptionRepository, 2);
+
+    @Test
+    void providerWithoutRulesIsBookableAroundTheClock() {
+        given(List.of(), List.of());
+
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 3, 0), at(TUESDAY, 3, 0))).isTrue();
+        assertThat(cache.dayBitmap(PROVIDER, SATURDAY)).containsExactly(AvailabilityBitmap.full());
+    }
+
+    @Test
+    void bookingEdgesRoundOutwardToWholeSlots() {
+        given(List.of(rule(DayOfWeek.MONDAY, 9, 0, 10, 0)), List.of());
+
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 9, 10), at(MONDAY, 10, 0))).isTrue();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 9, 10), at(MONDAY, 10, 5))).isFalse();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 8, 59), at(MONDAY, 9, 30))).isFalse();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(TUESDAY, 9, 0), at(TUESDAY, 10, 0))).isFalse();
+    }
+
+    @Test
+    void rangesOverMidnightNeedBothDays() {
+        given(List.of(rule(DayOfWeek.MONDAY, 22, 0, 0, 0), rule(DayOfWeek.TUESDAY, 0, 0, 2, 0)), List.of());
+
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 23, 0), at(TUESDAY, 1, 0))).isTrue();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 23, 0), at(TUESDAY, 2, 30))).isFalse();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 21, 45), at(TUESDAY, 1, 0))).isFalse();
+    }
+
+    @Test
+    void endingAtMidnightDoesNotTouchTheNextDay() {
+        given(List.of(rule(DayOfWeek.MONDAY, 22, 0, 0, 0)), List.of());
+
+        // Tuesday has no hours at all, yet a session ending exactly at 00:00 fits
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 23, 0), at(TUESDAY, 0, 0))).isTrue();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 23, 0), at(TUESDAY, 0, 15))).isFalse();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(TUESDAY, 0, 0), at(TUESDAY, 0, 15))).isFalse();
+    }
+
+    @Test
+    void dateExceptionsOverrideTheWeeklyPatternForThatDateOnly() {
+        given(
+                List.of(rule(DayOfWeek.MONDAY, 9, 0, 17, 0)),
+                List.of(
+                        exception(MONDAY, LocalTime.of(12, 0), LocalTime.of(13, 0), false),   // lunch break
+                        exception(SATURDAY, LocalTime.of(10, 0), LocalTime.of(12, 0), true),  // extra slot
+                        exception(SATURDAY, LocalTime.of(11, 0), LocalTime.of(11, 30), false), // blocks win
+                        exception(TUESDAY, null, null, true)                                   // whole day
+                )
+        );
+
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 11, 0), at(MONDAY, 12, 0))).isTrue();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 11, 30), at(MONDAY, 12, 30))).isFalse();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY.plusWeeks(1), 11, 30), at(MONDAY.plusWeeks(1), 12, 30))).isTrue();
+
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(SATURDAY, 10, 0), at(SATURDAY, 11, 0))).isTrue();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(SATURDAY, 10, 30), at(SATURDAY, 11, 15))).isFalse();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(SATURDAY.plusWeeks(1), 10, 0), at(SATURDAY.plusWeeks(1), 11, 0))).isFalse();
+
+        assertThat(cache.dayBitmap(PROVIDER, TUESDAY)).containsExactly(AvailabilityBitmap.full());
+    }
+
+    @Test
+    void compilesOncePerProviderUntilEvicted() {
+        given(List.of(rule(DayOfWeek.MONDAY, 9, 0, 10, 0)), List.of());
+
+        cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 9, 0), at(MONDAY, 10, 0));
+        cache.dayBitmap(PROVIDER, MONDAY);
+        verify(ruleRepository, times(1)).findByProviderIdOrderByDayOfWeekAscStartTimeAsc(PROVIDER);
+
+        given(List.of(rule(DayOfWeek.MONDAY, 14, 0, 15, 0)), List.of());
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 14, 0), at(MONDAY, 15, 0))).isFalse();
+
+        cache.evict(PROVIDER);
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 14, 0), at(MONDAY, 15, 0))).isTrue();
+        verify(ruleRepository, times(2)).findByProviderIdOrderByDayOfWeekAscStartTimeAsc(PROVIDER);
+    }
+
+    @Test
+    void editDuringCompileIsServedButNotKept() {
+        when(exceptionRepository.findByProviderIdAndDateGreaterThanEqualOrderByDateAsc(eq(PROVIDER), any()))
+                .thenReturn(List.of());
+        when(ruleRepository.findByProviderIdOrderByDayOfWeekAscStartTimeAsc(PROVIDER))
+                .thenAnswer(invocation -> {
+                    // The provider's edit commits while the old rules are being compiled
+                    cache.evict(PROVIDER);
+                    return List.of(rule(DayOfWeek.MONDAY, 9, 0, 10, 0));
+                })
+                .thenReturn(List.of(rule(DayOfWeek.MONDAY, 14, 0, 15, 0)));
+
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 9, 0), at(MONDAY, 10, 0))).isTrue();
+        assertThat(cache.cachedProviders()).isZero();
+
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 14, 0), at(MONDAY, 15, 0))).isTrue();
+        assertThat(cache.isWithinWorkingHours(PROVIDER, at(MONDAY, 9, 0), at(MONDAY, 10, 0))).isFalse();
+        verify(ruleRepository, times(2)).findByProviderIdOrderByDayOfWeekAscStartTimeAsc(PROVIDER);
+    }
+
+    @Test
+    void leastRecentlyCheckedProviderIsDroppedPastMaxProviders() {
+        when(ruleRepository.findByProviderIdOrderByDayOfWeekAscStartTimeAsc(any())).thenReturn(List.of());
+        when(exceptionRepository.findByProviderIdAndDateGreaterThanEqualOrderByDateAsc(any(), any()))
+                .thenReturn(List.of());
+
+        cache.dayBitmap(1L, MONDAY);
+        cache.dayBitmap(2L, MONDAY);
+        cache.dayBitmap(1L, MONDAY);    // 1 is now the most recent
+        cache.dayBitmap(3L, MONDAY);    // pushes out 2
+        assertThat(cache.cachedProviders()).isEqualTo(2);
+
+        cache.dayBitmap(1L, MONDAY);
+        cache.dayBitmap(2L, MONDAY);
+
+        verify(ruleRepository, times(1)).findByProviderIdOrderByDayOfWeekAscStartTimeAsc(1L);
+        verify(ruleRepository, times(2)).findByProviderIdOrderByDayOfWeekAscStartTimeAsc(2L);
+    }
+
+    private void given(List<ProviderAvailabilityRule> rules, List<ProviderAvailabilityException> exceptions) {
+        when(ruleRepository.findByProviderIdOrderByDayOfWeekAscStartTimeAsc(PROVIDER)).thenReturn(rules);
+        when(exceptionRepository.findByProviderIdAndDateGreaterThanEqualOrderByDateAsc(eq(PROVIDER), any()))
+                .thenReturn(exceptions);
+    }
+
+    private static LocalDateTime at(LocalDate date, int hour, int minute) {
+        return date.atTime(hour, minute);
+    }
+
+    private static ProviderAvailabilityRule rule(DayOfWeek day, int fromHour, int fromMinute, int toHour, int toMinute) {
+        return ProviderAvailabilityRule.builder()
+                .dayOfWeek(day)
+                .startTime(LocalTime.of(fromHour, fromMinute))
+                .endTime(LocalTime.of(toHour, toMinute))
+                .build();
+    }
+
+    private static ProviderAvailabilityException exception(LocalDate date, LocalTime start, LocalTime end, boolean available) {
+        return ProviderAvailabilityException.builder()
+                .date(date)
+                .startTime(start)
+                .endTime(end)
+                .available(available)
+                .build();
+    }
+}
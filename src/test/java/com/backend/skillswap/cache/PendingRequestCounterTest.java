@@ -0,0 +1,118 @@
+package com.backend.skillswap.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Badge counters: deltas move loaded counts, and a delta racing with the first COUNT can't be overwritten
+class PendingRequestCounterTest {
+
+    private static final Long USER = 1L;
+    private static final PendingRequestCounter.Box INBOX = PendingRequestCounter.Box.INBOX;
+
+    private final PendingRequestCounter counter = new PendingRequestCounter();
+
+    @Test
+    void deltasMoveOnlyLoadedCounters() {
+        counter.add(USER, INBOX, 1);   // nothing loaded yet → ignored
+        assertThat(counter.get(USER, INBOX, () -> 4)).isEqualTo(4);
+
+        counter.add(USER, INBOX, -1);
+        counter.add(USER, PendingRequestCounter.Box.OUTBOX, 5);
+
+        assertThat(counter.get(USER, INBOX, failingLoader())).isEqualTo(3);
+        assertThat(counter.get(USER, PendingRequestCounter.Box.OUTBOX, () -> 0)).isZero();
+    }
+
+    @Test
+    void deltaDuringTheFirstLoadIsNotOverwritten() throws Exception {
+        CountDownLatch counting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // First read: COUNT sees 3 pending, then stalls before the result is stored
+        CompletableFuture<Long> firstRead = CompletableFuture.supplyAsync(() -> counter.get(USER, INBOX, () -> {
+            counting.countDown();
+            await(release);
+            return 3;
+        }));
+        assertThat(counting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // A request is accepted and its delta lands while the COUNT is in flight
+        counter.add(USER, INBOX, -1);
+        release.countDown();
+
+        assertThat(firstRead.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+        // The stale 3 was not kept: the next read counts again and that result sticks
+        assertThat(counter.get(USER, INBOX, () -> 2)).isEqualTo(2);
+        assertThat(counter.get(USER, INBOX, failingLoader())).isEqualTo(2);
+    }
+
+    @Test
+    void readerDuringALoadReadsThroughWithoutReplacingIt() {
+        AtomicInteger innerCalls = new AtomicInteger();
+        LongSupplier outer = () -> {
+            // Same key requested while the placeholder is in place
+            assertThat(counter.get(USER, INBOX, () -> {
+                innerCalls.incrementAndGet();
+                return 7;
+            })).isEqualTo(7);
+            return 6;
+        };
+
+        assertThat(counter.get(USER, INBOX, outer)).isEqualTo(6);
+        assertThat(counter.get(USER, INBOX, failingLoader())).isEqualTo(6);
+        assertThat(innerCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void clearDuringALoadKeepsTheLoadedCountOut() {
+        assertThat(counter.get(USER, INBOX, () -> {
+            counter.clear();   // bulk expiry while counting
+            return 5;
+        })).isEqualTo(5);
+
+        assertThat(counter.get(USER, INBOX, () -> 1)).isEqualTo(1);
+    }
+
+    @Test
+    void failedLoadLeavesNoPlaceholderBehind() {
+        assertThatThrownBy(() -> counter.get(USER, INBOX, () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(counter.get(USER, INBOX, () -> 2)).isEqualTo(2);
+        counter.add(USER, INBOX, 1);
+        assertThat(counter.get(USER, INBOX, failingLoader())).isEqualTo(3);
+    }
+
+    @Test
+    void countNeverReadsBelowZero() {
+        counter.get(USER, INBOX, () -> 1);
+        counter.add(USER, INBOX, -1);
+        counter.add(USER, INBOX, -1);
+
+        assertThat(counter.get(USER, INBOX, failingLoader())).isZero();
+    }
+
+    private static LongSupplier failingLoader() {
+        return () -> {
+            throw new AssertionError("expected a cached count");
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.backend.skillswap.cache;
+
+import com.backend.skillswap.dto.response.CacheStatsResponse;
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Version-checked read-through with a byte-weighted LRU bound (untitled items weigh 160 bytes each)
+class SkillCatalogCacheTest {
+
+    private static final long ITEM_WEIGHT = 160;
+
+    private final SkillCatalogCache cache = new SkillCatalogCache(3 * ITEM_WEIGHT);
+
+    @Test
+    void servesCachedListUntilTheVersionChanges() {
+        CountingLoader loader = new CountingLoader(1);
+
+        List<UserSkillResponse> first = cache.get("all", loader);
+        List<UserSkillResponse> second = cache.get("all", loader);
+        assertThat(second).isSameAs(first);
+        assertThat(loader.calls.get()).isEqualTo(1);
+
+        long before = cache.stats().getVersion();
+        cache.bumpVersion();
+        assertThat(cache.stats().getVersion()).isGreaterThan(before);
+
+        cache.get("all", loader);
+        assertThat(loader.calls.get()).isEqualTo(2);
+
+        CacheStatsResponse stats = cache.stats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(2);
+        assertThat(stats.getInvalidations()).isEqualTo(1);
+        assertThat(stats.getWeightBytes()).isEqualTo(ITEM_WEIGHT);
+    }
+
+    @Test
+    void listLoadedWhileTheCatalogChangedIsServedButNotKept() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<List<UserSkillResponse>> racingLoader = () -> {
+            if (calls.incrementAndGet() == 1) {
+                cache.bumpVersion();   // a skill change commits mid-load
+            }
+            return items(1);
+        };
+
+        assertThat(cache.get("all", racingLoader)).hasSize(1);
+        assertThat(cache.stats().getEntries()).isZero();
+
+        cache.get("all", racingLoader);
+        cache.get("all", racingLoader);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedListsOverTheWeightBound() {
+        CountingLoader a = new CountingLoader(1);
+        CountingLoader b = new CountingLoader(1);
+        CountingLoader c = new CountingLoader(1);
+        CountingLoader d = new CountingLoader(1);
+
+        cache.get("a", a);
+        cache.get("b", b);
+        cache.get("c", c);
+        cache.get("a", a);   // touch → "b" is now the eldest
+        cache.get("d", d);
+
+        CacheStatsResponse stats = cache.stats();
+        assertThat(stats.getEntries()).isEqualTo(3);
+        assertThat(stats.getWeightBytes()).isEqualTo(3 * ITEM_WEIGHT);
+        assertThat(stats.getEvictions()).isEqualTo(1);
+
+        cache.get("a", a);
+        cache.get("c", c);
+        cache.get("b", b);
+        assertThat(a.calls.get()).isEqualTo(1);
+        assertThat(c.calls.get()).isEqualTo(1);
+        assertThat(b.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void replacingAnEntryOrSkippingAnOversizedOneKeepsTheWeightExact() {
+        cache.get("big", new CountingLoader(4));
+        assertThat(cache.stats().getEntries()).isZero();
+        assertThat(cache.stats().getWeightBytes()).isZero();
+
+        cache.get("x", new CountingLoader(2));
+        cache.get("y", new CountingLoader(1));
+        assertThat(cache.stats().getWeightBytes()).isEqualTo(3 * ITEM_WEIGHT);
+        assertThat(cache.stats().getEvictions()).isZero();
+
+        cache.bumpVersion();
+        assertThat(cache.stats().getWeightBytes()).isZero();
+    }
+
+    private static List<UserSkillResponse> items(int count) {
+        List<UserSkillResponse> items = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            items.add(UserSkillResponse.builder().id(id).build());
+        }
+        return items;
+    }
+
+    private static final class CountingLoader implements Supplier<List<UserSkillResponse>> {
+        final AtomicInteger calls = new AtomicInteger();
+        final int size;
+
+        CountingLoader(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public List<UserSkillResponse> get() {
+            calls.incrementAndGet();
+            return items(size);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.backend.skillswap.cache;
+
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.events.BookingEvent;
+import com.backend.skillswap.events.BookingEventType;
+import com.backend.skillswap.events.BookingSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Per-user upcoming timelines: event patching, the load/event race guard, window completeness and LRU bound
+class UpcomingTimelineCacheTest {
+
+    private static final Long LEARNER = 1L;
+    private static final Long PROVIDER = 2L;
+
+    private static final LocalDateTime BASE = LocalDateTime.now().plusDays(1).withNano(0);
+
+    private final UpcomingTimelineCache cache = new UpcomingTimelineCache(3, 2);
+
+    @Test
+    void eventsPatchTheCachedTimelineInStartOrder() {
+        CountingLoader loader = new CountingLoader(List.of(
+                snapshot(10L, BookingStatus.CONFIRMED, 1), snapshot(11L, BookingStatus.CONFIRMED, 3)));
+
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, loader))).containsExactly(10L, 11L);
+
+        cache.onBookingEvent(event(snapshot(12L, BookingStatus.PENDING, 2)));
+        cache.onBookingEvent(event(snapshot(10L, BookingStatus.CANCELLED, 1)));
+
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, loader))).containsExactly(12L, 11L);
+        assertThat(loader.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void pendingBookingsOnlyShowOnTheRequesterSide() {
+        cache.get(PROVIDER, UpcomingTimelineCache.Side.PROVIDER, new CountingLoader(List.of()));
+
+        cache.onBookingEvent(event(snapshot(20L, BookingStatus.PENDING, 1)));
+        assertThat(cache.get(PROVIDER, UpcomingTimelineCache.Side.PROVIDER, failingLoader())).isEmpty();
+
+        cache.onBookingEvent(event(snapshot(20L, BookingStatus.CONFIRMED, 1)));
+        assertThat(ids(cache.get(PROVIDER, UpcomingTimelineCache.Side.PROVIDER, failingLoader()))).containsExactly(20L);
+    }
+
+    @Test
+    void eventDuringLoadKeepsTheLoadedRowsOutOfTheCache() {
+        AtomicInteger calls = new AtomicInteger();
+        IntFunction<List<BookingSnapshot>> racingLoader = limit -> {
+            if (calls.incrementAndGet() == 1) {
+                // A booking commits while the first read is in flight; its rows are already stale
+                cache.onBookingEvent(event(snapshot(31L, BookingStatus.CONFIRMED, 1)));
+                return List.of(snapshot(30L, BookingStatus.CONFIRMED, 2));
+            }
+            return List.of(snapshot(31L, BookingStatus.CONFIRMED, 1), snapshot(30L, BookingStatus.CONFIRMED, 2));
+        };
+
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, racingLoader))).containsExactly(30L);
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, racingLoader))).containsExactly(31L, 30L);
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, failingLoader()))).containsExactly(31L, 30L);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void readerArrivingDuringALoadReadsThroughWithoutReplacingIt() {
+        CountingLoader inner = new CountingLoader(List.of(snapshot(41L, BookingStatus.CONFIRMED, 1)));
+        IntFunction<List<BookingSnapshot>> outer = limit -> {
+            // Same key requested while the placeholder is in place
+            assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, inner))).containsExactly(41L);
+            return List.of(snapshot(40L, BookingStatus.CONFIRMED, 2));
+        };
+
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, outer))).containsExactly(40L);
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, failingLoader()))).containsExactly(40L);
+        assertThat(inner.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failedLoadLeavesNoPlaceholderBehind() {
+        IntFunction<List<BookingSnapshot>> broken = limit -> {
+            throw new IllegalStateException("database down");
+        };
+        assertThatThrownBy(() -> cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, broken))
+                .isInstanceOf(IllegalStateException.class);
+
+        CountingLoader loader = new CountingLoader(List.of(snapshot(50L, BookingStatus.CONFIRMED, 1)));
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, loader))).containsExactly(50L);
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, loader))).containsExactly(50L);
+        assertThat(loader.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void incompleteWindowIgnoresLaterSessionsAndReloadsWhenItRunsShort() {
+        CountingLoader loader = new CountingLoader(List.of(
+                snapshot(60L, BookingStatus.CONFIRMED, 1), snapshot(61L, BookingStatus.CONFIRMED, 2),
+                snapshot(62L, BookingStatus.CONFIRMED, 3), snapshot(63L, BookingStatus.CONFIRMED, 4)));
+
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, loader))).containsExactly(60L, 61L, 62L);
+        assertThat(loader.limits).containsExactly(4);
+
+        // Beyond the cached window → left to the database
+        cache.onBookingEvent(event(snapshot(64L, BookingStatus.CONFIRMED, 5)));
+        assertThat(ids(cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, loader))).containsExactly(60L, 61L, 62L);
+
+        // Dropping below a full window of an incomplete timeline forces a reload
+        cache.onBookingEvent(event(snapshot(60L, BookingStatus.CANCELLED, 1)));
+        cache.get(LEARNER, UpcomingTimelineCache.Side.REQUESTER, loader);
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void leastRecentlyReadUserIsEvictedPastMaxUsers() {
+        CountingLoader first = new CountingLoader(List.of());
+        CountingLoader second = new CountingLoader(List.of());
+        CountingLoader third = new CountingLoader(List.of());
+
+        cache.get(1L, UpcomingTimelineCache.Side.REQUESTER, first);
+        cache.get(2L, UpcomingTimelineCache.Side.REQUESTER, second);
+        cache.get(1L, UpcomingTimelineCache.Side.REQUESTER, first);    // 1 is now the most recent
+        cache.get(3L, UpcomingTimelineCache.Side.REQUESTER, third);    // pushes out 2
+
+        cache.get(1L, UpcomingTimelineCache.Side.REQUESTER, first);
+        cache.get(2L, UpcomingTimelineCache.Side.REQUESTER, second);
+
+        assertThat(first.calls.get()).isEqualTo(1);
+        assertThat(second.calls.get()).isEqualTo(2);
+    }
+
+    private static List<Long> ids(List<BookingSnapshot> items) {
+        return items.stream().map(BookingSnapshot::bookingId).toList();
+    }
+
+    private static IntFunction<List<BookingSnapshot>> failingLoader() {
+        return limit -> {
+            throw new AssertionError("expected a cache hit");
+        };
+    }
+
+    private static BookingEvent event(BookingSnapshot booking) {
+        return new BookingEvent(booking.bookingId(), BookingEventType.CONFIRMED, booking);
+    }
+
+    // Learner 1 books provider 2, `inDays` days ahead
+    private static BookingSnapshot snapshot(Long bookingId, BookingStatus status, int inDays) {
+        LocalDateTime start = BASE.plusDays(inDays);
+        return new BookingSnapshot(
+                bookingId,
+                5L, "Skill",
+                LEARNER, "learner@test.local", "Learner",
+                PROVIDER, "provider@test.local", "Provider", null,
+                start, start.plusHours(1), 60,
+                new BigDecimal("20.00"), new BigDecimal("20.00"),
+                status, null, null, null,
+                BASE, BASE
+        );
+    }
+
+    private static final class CountingLoader implements IntFunction<List<BookingSnapshot>> {
+
+        private final List<BookingSnapshot> rows;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final List<Integer> limits = new ArrayList<>();
+
+        private CountingLoader(List<BookingSnapshot> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public List<BookingSnapshot> apply(int limit) {
+            calls.incrementAndGet();
+            limits.add(limit);
+            return rows.subList(0, Math.min(limit, rows.size()));
+        }
+    }
+}
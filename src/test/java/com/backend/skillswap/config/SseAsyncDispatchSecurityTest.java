@@ -0,0 +1,68 @@
+package com.backend.skillswap.config;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Unauthenticated ASYNC dispatches are let through for the SSE stream endpoint only
+@SpringBootTest
+@ActiveProfiles("test")
+class SseAsyncDispatchSecurityTest {
+
+    private static final String STREAM = "/api/skill-requests/messages/stream";
+
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken(
+            "test", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+    @Autowired
+    private SecurityFilterChain securityFilterChain;
+
+    @Test
+    void asyncDispatchOfTheStreamIsPermitted() {
+        assertThat(granted("GET", STREAM, DispatcherType.ASYNC)).isTrue();
+    }
+
+    @Test
+    void streamStillNeedsAuthenticationOnTheOriginalRequest() {
+        assertThat(granted("GET", STREAM, DispatcherType.REQUEST)).isFalse();
+    }
+
+    @Test
+    void otherAsyncDispatchesAreAuthorizedLikeNormalRequests() {
+        assertThat(granted("POST", STREAM, DispatcherType.ASYNC)).isFalse();
+        assertThat(granted("GET", STREAM + "/other", DispatcherType.ASYNC)).isFalse();
+        assertThat(granted("GET", "/api/skill-requests/1/messages", DispatcherType.ASYNC)).isFalse();
+        assertThat(granted("GET", "/api/user/bookings", DispatcherType.ASYNC)).isFalse();
+        assertThat(granted("GET", "/api/admin/users", DispatcherType.ASYNC)).isFalse();
+
+        // Public endpoints keep their own rule
+        assertThat(granted("GET", "/api/public/skills", DispatcherType.ASYNC)).isTrue();
+    }
+
+    private boolean granted(String method, String path, DispatcherType dispatcherType) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setDispatcherType(dispatcherType);
+        return authorizationManager().authorize(() -> ANONYMOUS, request).isGranted();
+    }
+
+    private AuthorizationManager<HttpServletRequest> authorizationManager() {
+        return securityFilterChain.getFilters().stream()
+                .filter(AuthorizationFilter.class::isInstance)
+                .map(filter -> ((AuthorizationFilter) filter).getAuthorizationManager())
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,103 @@
+package com.backend.skillswap.controller.Public;
+
+import com.backend.skillswap.repository.projection.ProfileStamp;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// If-None-Match handling of the public endpoints: 304 without building the body, 200 with a fresh tag otherwise
+class ConditionalGetTest {
+
+    private static final String ETAG = "\"skills-verified-42\"";
+
+    // Response of the last request(...), where checkNotModified writes the ETag header
+    private MockHttpServletResponse servletResponse;
+
+    private final AtomicInteger bodyBuilds = new AtomicInteger();
+    private final Supplier<String> body = () -> {
+        bodyBuilds.incrementAndGet();
+        return "skills";
+    };
+
+    @Test
+    void firstRequestGetsBodyTagAndCacheControl() {
+        ResponseEntity<String> response = ConditionalGet.respond(request(null), ETAG, ConditionalGet.SKILLS, body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("skills");
+        assertThat(servletResponse.getHeaders(HttpHeaders.ETAG)).containsExactly(ETAG);
+        assertThat(response.getHeaders().getETag()).isNull();
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=60, public");
+        assertThat(bodyBuilds.get()).isEqualTo(1);
+    }
+
+    @Test
+    void matchingTagAnswers304WithoutBuildingTheBody() {
+        ResponseEntity<String> strong = ConditionalGet.respond(request(ETAG), ETAG, ConditionalGet.SKILLS, body);
+
+        assertThat(strong.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(strong.getBody()).isNull();
+        assertThat(servletResponse.getHeaders(HttpHeaders.ETAG)).containsExactly(ETAG);
+        assertThat(strong.getHeaders().getETag()).isNull();
+        assertThat(strong.getHeaders().getCacheControl()).isEqualTo("max-age=60, public");
+
+        ResponseEntity<String> weak = ConditionalGet.respond(request("W/" + ETAG), ETAG, ConditionalGet.SKILLS, body);
+        assertThat(weak.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(bodyBuilds.get()).isZero();
+    }
+
+    @Test
+    void staleTagGetsTheCurrentBodyAndTag() {
+        ResponseEntity<String> response = ConditionalGet.respond(
+                request("\"skills-verified-41\""), ETAG, ConditionalGet.SKILLS, body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(servletResponse.getHeaders(HttpHeaders.ETAG)).containsExactly(ETAG);
+        assertThat(bodyBuilds.get()).isEqualTo(1);
+    }
+
+    @Test
+    void resourceWithoutStampFallsThroughToTheService() {
+        ResponseEntity<String> response = ConditionalGet.respond(request(ETAG), null, ConditionalGet.PROFILE, body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(servletResponse.getHeaders(HttpHeaders.ETAG)).isEmpty();
+        assertThat(response.getHeaders().getCacheControl()).isNull();
+        assertThat(bodyBuilds.get()).isEqualTo(1);
+    }
+
+    @Test
+    void profileTagChangesWithEveryMicrosecondOfUpdatedAt() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 3, 1, 12, 0, 0, 123_456_000);
+        String etag = new ProfileStamp(7L, updatedAt).etag();
+
+        assertThat(etag).startsWith("\"profile-7-").endsWith("\"");
+        assertThat(new ProfileStamp(7L, updatedAt).etag()).isEqualTo(etag);
+        assertThat(new ProfileStamp(7L, updatedAt.plusNanos(1_000)).etag()).isNotEqualTo(etag);
+        assertThat(new ProfileStamp(8L, updatedAt).etag()).isNotEqualTo(etag);
+        assertThat(new ProfileStamp(7L, null).etag()).isEqualTo("\"profile-7-0\"");
+
+        ResponseEntity<String> response = ConditionalGet.respond(request(etag), etag, ConditionalGet.PROFILE, body);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=300, public");
+    }
+
+    private ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/skills");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        servletResponse = new MockHttpServletResponse();
+        return new ServletWebRequest(request, servletResponse);
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.skillswap.controller.Public;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// The full public skill list round trip: exactly one ETag header on the 200 and on the 304 that follows
+@SpringBootTest
+@ActiveProfiles("test")
+class PublicSkillControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void verifiedSkillsCarryASingleETagOn200And304() throws Exception {
+        MockHttpServletResponse first = mockMvc.perform(get("/api/public/skills/verified"))
+                .andReturn().getResponse();
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeaders(HttpHeaders.ETAG)).hasSize(1);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse revalidated = mockMvc.perform(get("/api/public/skills/verified")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn().getResponse();
+
+        assertThat(revalidated.getStatus()).isEqualTo(304);
+        assertThat(revalidated.getHeaders(HttpHeaders.ETAG)).containsExactly(etag);
+        assertThat(revalidated.getContentAsString()).isEmpty();
+    }
+}
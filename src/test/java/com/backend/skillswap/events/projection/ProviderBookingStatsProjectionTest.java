@@ -0,0 +1,96 @@
+package com.backend.skillswap.events.projection;
+
+import com.backend.skillswap.dto.response.ProviderBookingStatsResponse;
+import com.backend.skillswap.entity.BookingEventLog;
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.events.BookingEventType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A booking's events are ordered by its version, not by the global sequence number,
+// and the per-booking state stays bounded.
+class ProviderBookingStatsProjectionTest {
+
+    private static final long PROVIDER = 7L;
+
+    private final ProviderBookingStatsProjection projection = new ProviderBookingStatsProjection();
+
+    @Test
+    void lowerSequenceWithNewerVersionWins() {
+        // Another instance / a slower transaction: CONFIRMED got a lower sequence number than CREATED
+        projection.apply(event(50, 1L, 1L, BookingEventType.CONFIRMED, BookingStatus.CONFIRMED));
+        projection.apply(event(120, 1L, 0L, BookingEventType.CREATED, BookingStatus.PENDING));
+
+        ProviderBookingStatsResponse stats = projection.getStats(PROVIDER);
+        assertThat(stats.getBookingsByStatus().get(BookingStatus.CONFIRMED)).isEqualTo(1);
+        assertThat(stats.getBookingsByStatus().get(BookingStatus.PENDING)).isZero();
+        assertThat(stats.getLastSequenceNumber()).isEqualTo(120);
+    }
+
+    @Test
+    void duplicatesAreIgnored() {
+        BookingEventLog completed = event(10, 2L, 3L, BookingEventType.COMPLETED, BookingStatus.COMPLETED);
+        projection.apply(completed);
+        projection.apply(completed);
+
+        ProviderBookingStatsResponse stats = projection.getStats(PROVIDER);
+        assertThat(stats.getBookingsByStatus().get(BookingStatus.COMPLETED)).isEqualTo(1);
+        assertThat(stats.getCompletedEarnings()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    void unversionedEventsFallBackToSequenceOrder() {
+        projection.apply(event(5, 3L, null, BookingEventType.CONFIRMED, BookingStatus.CONFIRMED));
+        projection.apply(event(4, 3L, null, BookingEventType.CREATED, BookingStatus.PENDING));
+        // First versioned event is newer than any legacy one
+        projection.apply(event(6, 3L, 2L, BookingEventType.STARTED, BookingStatus.IN_PROGRESS));
+
+        ProviderBookingStatsResponse stats = projection.getStats(PROVIDER);
+        assertThat(stats.getBookingsByStatus().get(BookingStatus.IN_PROGRESS)).isEqualTo(1);
+        assertThat(stats.getBookingsByStatus().get(BookingStatus.CONFIRMED)).isZero();
+        assertThat(stats.getBookingsByStatus().get(BookingStatus.PENDING)).isZero();
+    }
+
+    @Test
+    void finishedBookingsAreForgottenBeyondTheWindow() {
+        int bookings = ProviderBookingStatsProjection.FINISHED_WINDOW + 500;
+        long sequence = 0;
+        for (long id = 1; id <= bookings; id++) {
+            projection.apply(event(++sequence, id, 0L, BookingEventType.CREATED, BookingStatus.PENDING));
+            projection.apply(event(++sequence, id, 3L, BookingEventType.COMPLETED, BookingStatus.COMPLETED));
+        }
+        projection.apply(event(++sequence, bookings + 1L, 0L, BookingEventType.CREATED, BookingStatus.PENDING));
+
+        assertThat(projection.trackedBookings()).isEqualTo(ProviderBookingStatsProjection.FINISHED_WINDOW + 1);
+        assertThat(projection.getStats(PROVIDER).getBookingsByStatus().get(BookingStatus.COMPLETED)).isEqualTo(bookings);
+
+        // Booking 1 left the window long ago; its dispute still moves it out of COMPLETED
+        projection.apply(event(++sequence, 1L, 4L, BookingEventType.DISPUTED, BookingStatus.DISPUTED));
+
+        ProviderBookingStatsResponse stats = projection.getStats(PROVIDER);
+        assertThat(stats.getBookingsByStatus().get(BookingStatus.COMPLETED)).isEqualTo(bookings - 1);
+        assertThat(stats.getBookingsByStatus().get(BookingStatus.DISPUTED)).isEqualTo(1);
+        assertThat(stats.getCompletedEarnings()).isEqualByComparingTo(new BigDecimal("25.00").multiply(BigDecimal.valueOf(bookings - 1)));
+    }
+
+    private static BookingEventLog event(long sequence, Long bookingId, Long version, BookingEventType type, BookingStatus status) {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 10, 0);
+        return BookingEventLog.builder()
+                .sequenceNumber(sequence)
+                .bookingId(bookingId)
+                .bookingVersion(version)
+                .eventType(type)
+                .status(status)
+                .requesterId(9L)
+                .providerId(PROVIDER)
+                .skillId(3L)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .totalAmount(new BigDecimal("25.00"))
+                .build();
+    }
+}
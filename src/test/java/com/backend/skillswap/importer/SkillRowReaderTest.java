@@ -0,0 +1,139 @@
+package com.backend.skillswap.importer;
+
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Tokenizing, line numbers and length caps of the CSV / NDJSON upload readers
+class SkillRowReaderTest {
+
+    private static final String HEADER = "title,description,category,level,experienceYears,hourlyRate\n";
+
+    @Test
+    void quotedFieldsKeepCommasEscapedQuotesAndLineBreaks() throws IOException {
+        List<SkillRowReader.Row> rows = csv(HEADER
+                + "\"Guitar, acoustic\",\"Learn \"\"Wonderwall\"\"\nand more\",MUSIC,BEGINNER,2,15.50\n"
+                + "Piano,Scales and chords,music,expert,,20\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).line()).isEqualTo(2);
+        assertThat(rows.get(0).request().getTitle()).isEqualTo("Guitar, acoustic");
+        assertThat(rows.get(0).request().getDescription()).isEqualTo("Learn \"Wonderwall\"\nand more");
+        assertThat(rows.get(0).request().getHourlyRate()).isEqualByComparingTo(new BigDecimal("15.50"));
+        // The quoted line break moved the next record to line 4
+        assertThat(rows.get(1).line()).isEqualTo(4);
+        assertThat(rows.get(1).request().getCategory()).isEqualTo(SkillCategory.MUSIC);
+        assertThat(rows.get(1).request().getExperienceYears()).isZero();
+    }
+
+    @Test
+    void crlfAndBareCrEachCountAsOneLine() throws IOException {
+        List<SkillRowReader.Row> rows = csv(HEADER.replace("\n", "\r\n")
+                + "A,\"one\r\ntwo\",MUSIC,BEGINNER,1,10\r\n"
+                + "B,\"one\rtwo\",MUSIC,BEGINNER,1,10\r"
+                + "\r\n"
+                + "C,plain,MUSIC,BEGINNER,1,10");
+
+        assertThat(rows).extracting(SkillRowReader.Row::line).containsExactly(2, 4, 7);
+        assertThat(rows.get(2).request().getTitle()).isEqualTo("C");
+    }
+
+    @Test
+    void byteOrderMarkAndColumnOrderAreTolerated() throws IOException {
+        List<SkillRowReader.Row> rows = csv("\uFEFFhourlyRate,Title,extra,description,category,level,experienceYears\n"
+                + "12,Chess,ignored,Openings and endgames,OTHER,BEGINNER,3\n");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).request().getTitle()).isEqualTo("Chess");
+        assertThat(rows.get(0).request().getHourlyRate()).isEqualByComparingTo("12");
+    }
+
+    @Test
+    void missingColumnRejectsTheUpload() {
+        assertThatThrownBy(() -> csv("title,description,category,level,experienceYears\n"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("hourlyrate");
+    }
+
+    @Test
+    void shortRowsAndBadValuesFailOnlyTheirRow() throws IOException {
+        List<SkillRowReader.Row> rows = csv(HEADER
+                + "Short,Only two fields\n"
+                + "Bad,Bad category here,COOKING,BEGINNER,1,10\n"
+                + "Frac,Half a year here,MUSIC,BEGINNER,1.5,10\n");
+
+        assertThat(rows.get(0).request().getCategory()).isNull();
+        assertThat(rows.get(0).request().getHourlyRate()).isNull();
+        assertThat(rows.get(1).error()).contains("Invalid SkillCategory");
+        assertThat(rows.get(2).error()).contains("whole number");
+    }
+
+    @Test
+    void overlongFieldOrUnterminatedQuoteRejectsTheUpload() {
+        String longField = "x".repeat(SkillRowReader.MAX_FIELD_LENGTH + 1);
+        assertThatThrownBy(() -> csv(HEADER + "T," + longField + ",MUSIC,BEGINNER,1,10\n"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("longer than " + SkillRowReader.MAX_FIELD_LENGTH);
+
+        // Missing closing quote: stops at the cap instead of buffering the rest of the upload
+        String runaway = "T,\"oops,MUSIC,BEGINNER,1,10\n" + ("y".repeat(90) + "\n").repeat(100);
+        assertThatThrownBy(() -> csv(HEADER + runaway))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Field in the record starting on line 2");
+
+        // Many fields, each within the limit
+        String wide = ("w".repeat(900) + ",").repeat(5);
+        assertThatThrownBy(() -> csv(HEADER + "T,desc,MUSIC,BEGINNER,1,10," + wide + "\n"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Record starting on line 2");
+    }
+
+    @Test
+    void ndjsonReportsLinesAndRejectsOverlongLines() throws IOException {
+        String body = "\uFEFF{\"title\":\"Yoga\",\"description\":\"Morning flow\",\"category\":\"OTHER\",\"level\":\"BEGINNER\",\"hourlyRate\":9}\r\n"
+                + "\n"
+                + "{not json}\r"
+                + "{\"title\":\"Go\"}";
+
+        List<SkillRowReader.Row> rows = ndjson(body);
+
+        assertThat(rows).extracting(SkillRowReader.Row::line).containsExactly(1, 3, 4);
+        assertThat(rows.get(0).request().getTitle()).isEqualTo("Yoga");
+        assertThat(rows.get(1).error()).startsWith("Invalid JSON");
+        assertThat(rows.get(2).request().getTitle()).isEqualTo("Go");
+
+        String tooLong = "{\"title\":\"" + "z".repeat(SkillRowReader.MAX_RECORD_LENGTH) + "\"}";
+        assertThatThrownBy(() -> ndjson("{}\n" + tooLong))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Line 2");
+    }
+
+    private static List<SkillRowReader.Row> csv(String body) throws IOException {
+        return readAll(SkillImportFormat.CSV, body);
+    }
+
+    private static List<SkillRowReader.Row> ndjson(String body) throws IOException {
+        return readAll(SkillImportFormat.NDJSON, body);
+    }
+
+    private static List<SkillRowReader.Row> readAll(SkillImportFormat format, String body) throws IOException {
+        List<SkillRowReader.Row> rows = new ArrayList<>();
+        try (SkillRowReader reader = format.open(new StringReader(body), new ObjectMapper())) {
+            SkillRowReader.Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
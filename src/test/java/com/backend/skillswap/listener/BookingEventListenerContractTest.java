@@ -0,0 +1,102 @@
+package com.backend.skillswap.listener;
+
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.events.BookingEvent;
+import com.backend.skillswap.events.BookingEventType;
+import com.backend.skillswap.events.BookingSnapshot;
+import com.backend.skillswap.service.impl.EmailServiceImpl;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Contract: booking events are delivered after commit, carry only detached values,
+// and the async side (listener + booking mails) has no path to the database.
+class BookingEventListenerContractTest {
+
+    @Test
+    void listenerRunsAsyncAndOnlyAfterCommit() throws Exception {
+        var handler = BookingEventListener.class.getMethod("handleBookingEvent", BookingEvent.class);
+
+        TransactionalEventListener annotation = handler.getAnnotation(TransactionalEventListener.class);
+        assertThat(annotation).isNotNull();
+        assertThat(annotation.phase()).isEqualTo(TransactionPhase.AFTER_COMMIT);
+        assertThat(handler.isAnnotationPresent(Async.class)).isTrue();
+    }
+
+    @Test
+    void eventPayloadContainsNoEntities() {
+        assertThat(BookingEvent.class.isRecord()).isTrue();
+        assertThat(BookingSnapshot.class.isRecord()).isTrue();
+
+        for (Class<?> type : new Class<?>[]{BookingEvent.class, BookingSnapshot.class}) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                Class<?> componentType = component.getType();
+                assertThat(componentType.isAnnotationPresent(jakarta.persistence.Entity.class))
+                        .as("%s.%s must not be a JPA entity", type.getSimpleName(), component.getName())
+                        .isFalse();
+                assertThat(componentType.getPackageName())
+                        .as("%s.%s must not reference the entity model", type.getSimpleName(), component.getName())
+                        .isNotEqualTo("com.backend.skillswap.entity");
+            }
+        }
+    }
+
+    @Test
+    void asyncSideHasNoDatabaseDependencies() {
+        for (Class<?> type : new Class<?>[]{BookingEventListener.class, EmailServiceImpl.class}) {
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                Arrays.stream(constructor.getParameterTypes()).forEach(dependency ->
+                        assertThat(dependency.getName())
+                                .as("%s must not depend on %s", type.getSimpleName(), dependency.getName())
+                                .doesNotContain(".repository.")
+                                .doesNotStartWith("jakarta.persistence")
+                                .doesNotStartWith("org.springframework.data")
+                                .doesNotStartWith("org.springframework.jdbc"));
+            }
+        }
+    }
+
+    @Test
+    void everyEventTypeIsDeliveredFromTheSnapshotAlone() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+
+        // Real listener + real mail rendering; only the SMTP transport is mocked
+        BookingEventListener listener = new BookingEventListener(new EmailServiceImpl(mailSender));
+
+        for (BookingEventType type : BookingEventType.values()) {
+            listener.handleBookingEvent(new BookingEvent(1L, type, snapshot()));
+        }
+
+        // CREATED, CONFIRMED, CANCELLED → requester + provider; STARTED, COMPLETED, DISPUTED → requester
+        verify(mailSender, times(9)).send(any(MimeMessage.class));
+    }
+
+    private static BookingSnapshot snapshot() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return new BookingSnapshot(
+                10L,
+                20L, "Spring Boot Basics",
+                30L, "learner@example.com", "Learner",
+                40L, "mentor@example.com", "Mentor", "Mentor Name",
+                start, start.plusHours(1), 60,
+                new BigDecimal("500.00"), new BigDecimal("500.00"),
+                BookingStatus.PENDING, null, null, null,
+                LocalDateTime.now(), LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.backend.skillswap.mapper;
+
+import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserProfile;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.BookingStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Provider name in booking responses: profile full name, else email — the same whether the response
+// is mapped from the entity or from a cached event snapshot. Mails keep the username fallback.
+class BookingMapperTest {
+
+    @Test
+    void providerWithoutProfileShowsTheEmail() {
+        Booking booking = booking(provider(null));
+
+        assertThat(BookingMapper.toResponse(booking).getProviderName()).isEqualTo("mentor@test.local");
+        assertThat(BookingMapper.toResponse(BookingMapper.toSnapshot(booking)).getProviderName()).isEqualTo("mentor@test.local");
+        assertThat(BookingMapper.toSnapshot(booking).providerName()).isEqualTo("mentor");
+    }
+
+    @Test
+    void providerWithProfileShowsTheFullName() {
+        UserProfile profile = UserProfile.builder().firstName("Ada").lastName("Lovelace").build();
+        Booking booking = booking(provider(profile));
+
+        assertThat(BookingMapper.toResponse(booking).getProviderName()).isEqualTo("Ada Lovelace");
+        assertThat(BookingMapper.toResponse(BookingMapper.toSnapshot(booking)).getProviderName()).isEqualTo("Ada Lovelace");
+        assertThat(BookingMapper.toSnapshot(booking).providerName()).isEqualTo("Ada Lovelace");
+    }
+
+    private static UserEntity provider(UserProfile profile) {
+        UserEntity provider = UserEntity.builder()
+                .id(2L)
+                .username("mentor")
+                .email("mentor@test.local")
+                .build();
+        provider.setUserProfile(profile);
+        return provider;
+    }
+
+    private static Booking booking(UserEntity provider) {
+        UserEntity learner = UserEntity.builder()
+                .id(1L)
+                .username("learner")
+                .email("learner@test.local")
+                .build();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return Booking.builder()
+                .id(10L)
+                .requester(learner)
+                .provider(provider)
+                .skill(UserSkill.builder().id(5L).title("Skill").user(provider).build())
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .durationMinutes(60)
+                .pricePerHour(new BigDecimal("20.00"))
+                .totalAmount(new BigDecimal("20.00"))
+                .status(BookingStatus.CONFIRMED)
+                .build();
+    }
+}
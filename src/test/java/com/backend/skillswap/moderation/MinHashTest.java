@@ -0,0 +1,74 @@
+package com.backend.skillswap.moderation;
+
+import com.backend.skillswap.search.SkillTokenizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MinHashTest {
+
+    @Test
+    void identicalTextHasIdenticalSignature() {
+        int[] a = MinHash.signature("Guitar lessons", "Acoustic guitar for absolute beginners");
+        int[] b = MinHash.signature("Guitar lessons", "Acoustic guitar for absolute beginners");
+
+        assertThat(a).isEqualTo(b);
+        assertThat(MinHash.similarity(a, b)).isEqualTo(1.0);
+    }
+
+    @Test
+    void blankTextHasNoSignature() {
+        assertThat(MinHash.signature("  ", "")).isNull();
+    }
+
+    @Test
+    void estimateTracksTheExactJaccardSimilarity() {
+        String[][] pairs = {
+                {"Guitar lessons for absolute beginners, chords and strumming",
+                        "Guitar lesson for absolute beginners: chords & strumming!!"},
+                {"Spanish conversation practice with a native speaker",
+                        "Spanish conversation classes with a native teacher"},
+                {"Python for data analysis with pandas",
+                        "Watercolour painting for relaxed weekends"},
+        };
+
+        for (String[] pair : pairs) {
+            double exact = jaccard(pair[0], pair[1]);
+            double estimate = MinHash.similarity(MinHash.signature(pair[0], ""), MinHash.signature(pair[1], ""));
+            // 64 positions → standard error at most 1/16
+            assertThat(estimate).as("%s / %s", pair[0], pair[1]).isCloseTo(exact, within(0.2));
+        }
+    }
+
+    @Test
+    void nearDuplicatesScoreAboveUnrelatedText() {
+        int[] original = MinHash.signature("Piano lessons", "Classical piano for beginners and intermediates");
+        int[] edited = MinHash.signature("Piano lesson!!", "Classical piano for beginners and intermediate players");
+        int[] unrelated = MinHash.signature("Car repair", "Basic maintenance of your car engine");
+
+        assertThat(MinHash.similarity(original, edited)).isGreaterThanOrEqualTo(SkillDuplicateIndex.SIMILARITY_THRESHOLD);
+        assertThat(MinHash.similarity(original, unrelated)).isLessThan(0.2);
+    }
+
+    // Same 5-character shingles as MinHash, over the normalised text
+    private static double jaccard(String a, String b) {
+        Set<String> left = shingles(SkillTokenizer.normalize(a));
+        Set<String> right = shingles(SkillTokenizer.normalize(b));
+        Set<String> union = new HashSet<>(left);
+        union.addAll(right);
+        left.retainAll(right);
+        return (double) left.size() / union.size();
+    }
+
+    private static Set<String> shingles(String text) {
+        Set<String> shingles = new HashSet<>();
+        for (int start = 0; start + 5 <= text.length(); start++) {
+            shingles.add(text.substring(start, start + 5));
+        }
+        return shingles;
+    }
+}
@@ -0,0 +1,120 @@
+package com.backend.skillswap.moderation;
+
+import com.backend.skillswap.dto.response.SkillClusterResponse;
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.events.SkillChangeEvent;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// LSH candidate generation, clustering, newest-wins ordering and the warm-up replay
+class SkillDuplicateIndexTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final UserSkillRepository userSkillRepository = mock(UserSkillRepository.class);
+    private final SkillDuplicateIndex index = new SkillDuplicateIndex(userSkillRepository);
+
+    @Test
+    void nearDuplicatesFormOneClusterAndUnrelatedSkillsStayApart() {
+        change(pending(1L, 10L, "Guitar lessons", "Acoustic guitar for absolute beginners, chords and strumming", 0));
+        change(pending(2L, 11L, "Guitar lesson!!", "Acoustic guitar for absolute beginners: chords and strumming", 0));
+        change(pending(3L, 12L, "Guitar lessons", "Acoustic guitar for absolute beginners, chords & strumming.", 0));
+        change(pending(4L, 13L, "Tax returns", "Help with filing your yearly tax return", 0));
+
+        List<SkillClusterResponse> clusters = index.clusters(2);
+
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).getSkillIds()).containsExactly(3L, 2L, 1L);
+        assertThat(clusters.get(0).getClusterId()).isEqualTo(1L);
+        assertThat(clusters.get(0).getOwners()).isEqualTo(3);
+
+        // minSize 1 also lists the lone skill
+        assertThat(index.clusters(1)).hasSize(2);
+    }
+
+    @Test
+    void editingASkillAwayFromItsTwinSplitsTheCluster() {
+        change(pending(1L, 10L, "Spanish conversation", "Practice Spanish conversation with a native speaker", 0));
+        change(pending(2L, 11L, "Spanish conversation", "Practice Spanish conversation with a native speaker!", 0));
+        assertThat(index.clusters(2)).hasSize(1);
+
+        change(pending(2L, 11L, "Oil painting", "Oil painting techniques for landscapes", 1));
+
+        assertThat(index.clusters(2)).isEmpty();
+        assertThat(index.clusters(1)).hasSize(2);
+    }
+
+    @Test
+    void lateOlderChangeCannotResurrectAVerifiedSkill() {
+        UserSkillResponse created = pending(1L, 10L, "Chess coaching", "Openings, tactics and endgames for club players", 0);
+        UserSkillResponse verified = created.toBuilder().verified(true).updatedAt(T0.plusMinutes(5)).build();
+
+        change(verified);
+        change(created);   // delivered after the verification, but older
+
+        assertThat(index.clusters(1)).isEmpty();
+        assertThat(index.trackedSkills()).isEqualTo(1);
+    }
+
+    @Test
+    void removalsAreRememberedOnlyWithinTheWindow() {
+        for (long id = 1; id <= SkillDuplicateIndex.REMOVED_WINDOW + 100; id++) {
+            change(pending(id, 10L, "Skill " + id, "Some description " + id, 0).toBuilder().verified(true).build());
+        }
+
+        assertThat(index.trackedSkills()).isEqualTo(SkillDuplicateIndex.REMOVED_WINDOW);
+    }
+
+    @Test
+    void warmUpReplaysChangesThatArriveDuringTheQuery() {
+        UserEntity owner = new UserEntity();
+        owner.setId(10L);
+
+        UserSkill loaded = new UserSkill();
+        loaded.setId(1L);
+        loaded.setUser(owner);
+        loaded.setTitle("Yoga basics");
+        loaded.setDescription("Morning yoga flow for beginners");
+        loaded.setActive(true);
+        loaded.setVerified(false);
+        loaded.setUpdatedAt(T0);
+
+        // While the query runs, skill 1 is verified and skill 2 is added; the lock is not held meanwhile
+        when(userSkillRepository.findByVerifiedFalseAndActiveTrue()).thenAnswer(invocation -> {
+            change(pending(1L, 10L, "Yoga basics", "Morning yoga flow for beginners", 2).toBuilder().verified(true).build());
+            change(pending(2L, 11L, "Pottery", "Wheel throwing for beginners", 1));
+            return List.of(loaded);
+        });
+
+        index.loadPending();
+
+        assertThat(index.clusters(1))
+                .flatExtracting(SkillClusterResponse::getSkillIds)
+                .containsExactly(2L);
+    }
+
+    private void change(UserSkillResponse skill) {
+        index.onSkillChange(new SkillChangeEvent(skill));
+    }
+
+    private static UserSkillResponse pending(Long id, Long userId, String title, String description, int minutes) {
+        return UserSkillResponse.builder()
+                .id(id)
+                .userId(userId)
+                .title(title)
+                .description(description)
+                .active(true)
+                .verified(false)
+                .updatedAt(T0.plusMinutes(minutes))
+                .build();
+    }
+}
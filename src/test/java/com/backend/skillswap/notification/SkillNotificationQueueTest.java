@@ -0,0 +1,89 @@
+package com.backend.skillswap.notification;
+
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.entity.enums.SkillLevel;
+import com.backend.skillswap.events.SkillModerationNotice;
+import com.backend.skillswap.service.EmailService;
+import com.backend.skillswap.service.impl.EmailServiceImpl;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+// One failed mail doesn't cost the rest of its batch, and failed notices get one more try
+class SkillNotificationQueueTest {
+
+    private final EmailService emailService = mock(EmailService.class);
+    private final SkillNotificationQueue queue = new SkillNotificationQueue(emailService);
+
+    @Test
+    void failedNoticesAreRetriedOnceOnTheNextFlush() {
+        SkillModerationNotice ok = notice(1L, "ok@test.local");
+        SkillModerationNotice bounced = notice(2L, "bounce@test.local");
+        when(emailService.sendSkillModerationMails(anyList())).thenReturn(List.of(bounced));
+
+        queue.enqueue(List.of(ok, bounced));
+
+        queue.flush();
+        verify(emailService).sendSkillModerationMails(List.of(ok, bounced));
+
+        queue.flush();
+        verify(emailService).sendSkillModerationMails(List.of(bounced));
+
+        // MAX_ATTEMPTS reached → dropped, nothing left to send
+        queue.flush();
+        verify(emailService, times(2)).sendSkillModerationMails(anyList());
+    }
+
+    @Test
+    void aThrowingSessionRequeuesTheWholeBatch() {
+        SkillModerationNotice first = notice(1L, "a@test.local");
+        SkillModerationNotice second = notice(2L, "b@test.local");
+        when(emailService.sendSkillModerationMails(anyList()))
+                .thenThrow(new IllegalStateException("SMTP down"))
+                .thenReturn(List.of());
+
+        queue.enqueue(List.of(first, second));
+        queue.flush();
+        queue.flush();
+
+        verify(emailService, times(2)).sendSkillModerationMails(List.of(first, second));
+    }
+
+    @Test
+    void mailServiceReportsOnlyTheMessagesThatFailed() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        EmailServiceImpl mails = new EmailServiceImpl(mailSender);
+
+        SkillModerationNotice ok = notice(1L, "ok@test.local");
+        SkillModerationNotice bounced = notice(2L, "bounce@test.local");
+
+        doAnswer(invocation -> {
+            MimeMessage second = invocation.getArgument(1);
+            throw new MailSendException(Map.of(second, new RuntimeException("550 mailbox unavailable")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        assertThat(mails.sendSkillModerationMails(List.of(ok, bounced))).containsExactly(bounced);
+
+        // Connection-level failure without per-message detail → nothing can be assumed sent
+        doThrow(new MailSendException("Connection refused")).when(mailSender).send(any(MimeMessage[].class));
+
+        assertThat(mails.sendSkillModerationMails(List.of(ok, bounced))).containsExactly(ok, bounced);
+    }
+
+    private static SkillModerationNotice notice(Long skillId, String email) {
+        return new SkillModerationNotice(SkillModerationNotice.Decision.VERIFIED, skillId, "Skill " + skillId,
+                SkillCategory.MUSIC, SkillLevel.values()[0], new BigDecimal("10.00"), email, "Owner " + skillId);
+    }
+}
@@ -0,0 +1,139 @@
+package com.backend.skillswap.recommend;
+
+import com.backend.skillswap.repository.BookingRepository;
+import com.backend.skillswap.repository.projection.LearnerSkill;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Co-occurrence counting, CSR packing, partitioned build and incremental refresh of "also booked"
+class AlsoBookedIndexTest {
+
+    private static final int PARTITIONS = 2;
+
+    // learner → skills: 10 {1,2,3}, 20 {1,2,4,5}, 30 {3,4,5}
+    private static final List<LearnerSkill> HELD = List.of(
+            held(1L, 10L), held(1L, 20L),
+            held(2L, 10L), held(2L, 20L),
+            held(3L, 10L), held(3L, 30L),
+            held(4L, 20L), held(4L, 30L),
+            held(5L, 30L), held(5L, 20L));
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final AlsoBookedIndex index = new AlsoBookedIndex(bookingRepository, PARTITIONS);
+
+    @AfterEach
+    void stopWorkers() {
+        index.shutdown();
+    }
+
+    @Test
+    void countsEachLearnerOncePerSkillPair() {
+        CoOccurrenceCounts counts = new CoOccurrenceCounts();
+        Set<Long> touched = new HashSet<>();
+
+        counts.add(1L, 10L, touched);
+        counts.add(1L, 20L, touched);
+        counts.add(1L, 20L, touched);   // second session of the same skill
+        counts.add(2L, 20L, touched);
+        counts.add(2L, 10L, touched);
+
+        assertThat(counts.row(10L)).isEqualTo(Map.of(20L, 2));
+        assertThat(counts.row(20L)).isEqualTo(Map.of(10L, 2));
+        assertThat(counts.learners(20L)).isEqualTo(2);
+        assertThat(counts.row(99L)).isEmpty();
+        assertThat(touched).containsExactlyInAnyOrder(10L, 20L);
+    }
+
+    @Test
+    void capsSkillsPerLearnerAndMergesPartials() {
+        CoOccurrenceCounts busy = new CoOccurrenceCounts();
+        Set<Long> touched = new HashSet<>();
+        for (long skillId = 1; skillId <= CoOccurrenceCounts.MAX_SKILLS_PER_LEARNER + 1; skillId++) {
+            busy.add(1L, skillId, touched);
+        }
+        assertThat(busy.learners(CoOccurrenceCounts.MAX_SKILLS_PER_LEARNER + 1L)).isZero();
+        assertThat(busy.row(1L)).hasSize(CoOccurrenceCounts.MAX_SKILLS_PER_LEARNER - 1);
+
+        CoOccurrenceCounts other = new CoOccurrenceCounts();
+        other.add(2L, 1L, touched);
+        other.add(2L, 2L, touched);
+        busy.addAll(other);
+
+        assertThat(busy.row(1L).get(2L)).isEqualTo(2);
+        assertThat(busy.learners(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void packedNeighborsKeepTheirOrderAndAreCopiedOut() {
+        SkillNeighbors packed = SkillNeighbors.pack(Map.of(
+                30L, new long[]{10L},
+                10L, new long[]{20L, 30L},
+                20L, new long[0]));
+
+        assertThat(packed.size()).isEqualTo(3);
+        assertThat(packed.neighbors(10L)).containsExactly(20L, 30L);
+        assertThat(packed.neighbors(20L)).isEmpty();
+        assertThat(packed.neighbors(30L)).containsExactly(10L);
+        assertThat(packed.neighbors(15L)).isEmpty();
+
+        packed.neighbors(10L)[0] = 99L;
+        assertThat(packed.neighbors(10L)).containsExactly(20L, 30L);
+        assertThat(SkillNeighbors.EMPTY.neighbors(10L)).isEmpty();
+    }
+
+    @Test
+    void partitionedBuildRanksByCosine() {
+        stubPartitions();
+
+        index.rebuild();
+
+        // cos(10,20) = 2/√12 ≈ .58, cos(10,30) = 1/√9 ≈ .33
+        assertThat(index.neighbors(10L)).containsExactly(20L, 30L);
+        assertThat(index.neighbors(30L)).containsExactly(20L, 10L);
+        assertThat(index.neighbors(20L)).containsExactlyInAnyOrder(10L, 30L);
+        assertThat(index.neighbors(40L)).isEmpty();
+    }
+
+    @Test
+    void refreshReRanksOnlyTouchedRows() {
+        index.refresh();   // before the first build → nothing to extend
+        assertThat(index.neighbors(10L)).isEmpty();
+
+        stubPartitions();
+        index.rebuild();
+
+        when(bookingRepository.findHeldSessionsUpdatedSince(any(), anyLong(), any())).thenReturn(List.of(
+                held(6L, 10L), held(6L, 40L),
+                held(3L, 40L)));
+        index.refresh();
+
+        // cos(10,40) = 2/√8 ≈ .71 now beats cos(10,20) = 2/√16 = .5
+        assertThat(index.neighbors(10L)).containsExactly(40L, 20L, 30L);
+        assertThat(index.neighbors(40L)).containsExactly(10L, 30L);
+    }
+
+    private void stubPartitions() {
+        when(bookingRepository.findHeldSessionsInPartition(anyInt(), anyInt(), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    int partitions = invocation.getArgument(0);
+                    int partition = invocation.getArgument(1);
+                    return HELD.stream().filter(row -> row.learnerId() % partitions == partition).toList();
+                });
+    }
+
+    private static LearnerSkill held(Long learnerId, Long skillId) {
+        return new LearnerSkill(learnerId, skillId, learnerId * 1_000 + skillId);
+    }
+}
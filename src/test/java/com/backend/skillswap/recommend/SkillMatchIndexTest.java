@@ -0,0 +1,115 @@
+package com.backend.skillswap.recommend;
+
+import com.backend.skillswap.dto.response.SkillMatchResponse;
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.repository.WantedSkillRepository;
+import com.backend.skillswap.repository.projection.UserWant;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Teach graph upkeep and swap lookup: mutual pairs by overlap, 3-cycles, and links dropped on removal
+class SkillMatchIndexTest {
+
+    private final WantedSkillRepository wantedSkillRepository = mock(WantedSkillRepository.class);
+    private final SkillMatchIndex index = new SkillMatchIndex(wantedSkillRepository);
+
+    @Test
+    void findsMutualPairsStrongestOverlapFirst() {
+        index.upsert(skill(11L, 1L, SkillCategory.PROGRAMMING, "Python basics"));
+        index.upsert(skill(21L, 2L, SkillCategory.MUSIC, "Guitar lessons"));
+        index.upsert(skill(31L, 3L, SkillCategory.MUSIC, "Guitar solos"));
+        index.addWant(1L, SkillCategory.MUSIC, "guitar");
+        index.addWant(2L, SkillCategory.PROGRAMMING, "python");
+        // Matches user 1 through both the category and the keyword
+        index.addWant(3L, SkillCategory.PROGRAMMING, "python");
+        index.addWant(3L, SkillCategory.PROGRAMMING, null);
+
+        List<SkillMatchResponse> matches = index.matches(1L, 10);
+
+        assertThat(matches).extracting(SkillMatchResponse::getType)
+                .containsOnly(SkillMatchResponse.Type.PAIR);
+        assertThat(matches).extracting(SkillMatchResponse::getUserIds)
+                .containsExactly(List.of(1L, 3L), List.of(1L, 2L));
+        assertThat(matches.get(1).getLegs())
+                .extracting(SkillMatchResponse.Leg::getTeacherId, SkillMatchResponse.Leg::getLearnerId, SkillMatchResponse.Leg::getSkillId)
+                .containsExactly(
+                        tuple(1L, 2L, 11L),
+                        tuple(2L, 1L, 21L));
+        assertThat(index.matches(1L, 1)).extracting(SkillMatchResponse::getUserIds)
+                .containsExactly(List.of(1L, 3L));
+    }
+
+    @Test
+    void closesThreeWayCycles() {
+        index.upsert(skill(41L, 4L, SkillCategory.LANGUAGE, "Spanish conversation"));
+        index.upsert(skill(51L, 5L, SkillCategory.DESIGN, "Logo design"));
+        index.upsert(skill(61L, 6L, SkillCategory.FITNESS, "Yoga flow"));
+        index.addWant(4L, SkillCategory.FITNESS, "yoga");
+        index.addWant(5L, SkillCategory.LANGUAGE, "spanish");
+        index.addWant(6L, SkillCategory.DESIGN, null);
+
+        List<SkillMatchResponse> matches = index.matches(4L, 10);
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.getFirst().getType()).isEqualTo(SkillMatchResponse.Type.CYCLE);
+        assertThat(matches.getFirst().getUserIds()).containsExactly(4L, 5L, 6L);
+        assertThat(matches.getFirst().getLegs()).extracting(SkillMatchResponse.Leg::getSkillId)
+                .containsExactly(41L, 51L, 61L);
+    }
+
+    @Test
+    void removingTheLastCoveringSkillOrWantDropsTheLink() {
+        index.upsert(skill(11L, 1L, SkillCategory.PROGRAMMING, "Python basics"));
+        index.upsert(skill(12L, 1L, SkillCategory.PROGRAMMING, "Advanced python"));
+        index.upsert(skill(21L, 2L, SkillCategory.MUSIC, "Guitar lessons"));
+        index.addWant(1L, SkillCategory.MUSIC, "guitar");
+        index.addWant(2L, SkillCategory.PROGRAMMING, "python");
+
+        index.remove(11L);
+        List<SkillMatchResponse> stillCovered = index.matches(2L, 10);
+        assertThat(stillCovered).hasSize(1);
+        assertThat(stillCovered.getFirst().getLegs().get(1).getSkillId()).isEqualTo(12L);
+
+        index.upsert(skill(12L, 1L, SkillCategory.PROGRAMMING, "Advanced java"));   // retitled → no longer covers "python"
+        assertThat(index.matches(2L, 10)).isEmpty();
+
+        index.upsert(skill(12L, 1L, SkillCategory.PROGRAMMING, "Advanced python"));
+        assertThat(index.matches(2L, 10)).hasSize(1);
+
+        index.removeWant(1L, SkillCategory.MUSIC, "guitar");
+        assertThat(index.matches(2L, 10)).isEmpty();
+        assertThat(index.matches(1L, 10)).isEmpty();
+    }
+
+    @Test
+    void ignoresSelfLinksAndRebuildsWantsFromTheRepository() {
+        index.upsert(skill(11L, 1L, SkillCategory.PROGRAMMING, "Python basics"));
+        index.upsert(skill(21L, 2L, SkillCategory.MUSIC, "Guitar lessons"));
+        index.addWant(1L, SkillCategory.PROGRAMMING, "python");
+        assertThat(index.matches(1L, 10)).isEmpty();
+
+        when(wantedSkillRepository.findAllWants()).thenReturn(List.of(
+                new UserWant(1L, SkillCategory.MUSIC, "guitar"),
+                new UserWant(2L, SkillCategory.PROGRAMMING, "python")));
+        index.loadWants();
+
+        assertThat(index.matches(2L, 10)).extracting(SkillMatchResponse::getUserIds)
+                .containsExactly(List.of(2L, 1L));
+    }
+
+    private static UserSkillResponse skill(Long id, Long userId, SkillCategory category, String title) {
+        return UserSkillResponse.builder()
+                .id(id)
+                .userId(userId)
+                .title(title)
+                .category(category)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.backend.skillswap.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoHashTest {
+
+    @Test
+    void encodesTheReferencePoint() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        // Shorter hash = enclosing cell
+        assertThat(GeoHash.encode(57.64911, 10.40744, 5)).isEqualTo("u4pru");
+    }
+
+    @Test
+    void centreLiesInsideItsCell() {
+        String hash = GeoHash.encode(-33.8688, 151.2093, 6);
+        double[] centre = GeoHash.centre(hash);
+
+        assertThat(GeoHash.encode(centre[0], centre[1], 6)).isEqualTo(hash);
+        assertThat(centre[0]).isCloseTo(-33.8688, within(GeoHash.cellHeightDegrees(6) / 2));
+        assertThat(centre[1]).isCloseTo(151.2093, within(GeoHash.cellWidthDegrees(6) / 2));
+    }
+
+    @Test
+    void blockWrapsAroundTheAntimeridian() {
+        assertThat(SkillGeoIndex.blockAround(0.0, 179.99, 4))
+                .hasSize(9)
+                .contains(GeoHash.encode(0.0, -179.99, 4))
+                .contains(GeoHash.encode(0.0, 179.99, 4));
+        assertThat(SkillGeoIndex.blockAround(0.0, -179.99, 4))
+                .contains(GeoHash.encode(0.0, 179.99, 4));
+    }
+
+    @Test
+    void blockShrinksAtThePole() {
+        // No row above the top one: 2 rows of 3
+        assertThat(SkillGeoIndex.blockAround(89.99, 0.0, 3)).hasSize(6);
+    }
+
+    @Test
+    void precisionIsTheFinestCellCoveringTheRadius() {
+        assertThat(SkillGeoIndex.precisionFor(0.5, 0)).isEqualTo(6);
+        assertThat(SkillGeoIndex.precisionFor(1, 0)).isEqualTo(5);
+        assertThat(SkillGeoIndex.precisionFor(100, 0)).isEqualTo(3);
+        // Cells are narrower up north
+        assertThat(SkillGeoIndex.precisionFor(100, 80)).isEqualTo(2);
+    }
+
+    @Test
+    void distanceIsHaversine() {
+        // Paris → London, ~344 km
+        assertThat(GeoHash.distanceKm(48.8566, 2.3522, 51.5074, -0.1278)).isCloseTo(343.5, within(1.0));
+        assertThat(GeoHash.distanceKm(10, 20, 10, 20)).isZero();
+    }
+}
@@ -0,0 +1,103 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.repository.BookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Trie completions: word-start matching, popularity order, per-node top-K and background swaps
+class SkillAutocompleteIndexTest {
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final SkillAutocompleteIndex index = new SkillAutocompleteIndex(bookingRepository);
+
+    @AfterEach
+    void stopBuilder() {
+        index.shutdown();
+    }
+
+    @Test
+    void matchesAnyWordStartAndFoldsCaseAndAccents() {
+        index.upsert(skill(1L, "Python for Data Science"));
+        index.upsert(skill(2L, "Café Français"));
+
+        assertThat(eventually(() -> index.complete("sci", 10))).containsExactly("Python for Data Science");
+        assertThat(index.complete("CAFE", 10)).containsExactly("Café Français");
+        assertThat(index.complete("fran", 10)).containsExactly("Café Français");
+        assertThat(index.complete("ience", 10)).isEmpty();
+        assertThat(index.complete("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void ordersByBookingsAndMergesTitlesSharedByProviders() {
+        when(bookingRepository.countBookingsPerSkill()).thenReturn(List.of(
+                new Object[]{1L, 1L},
+                new Object[]{3L, 5L}));
+        index.upsert(skill(1L, "Guitar basics"));
+        index.upsert(skill(2L, "guitar  BASICS"));   // same normalised title → weight 1 + 1 + 1
+        index.upsert(skill(3L, "Guitar solos"));      // weight 1 + 5
+        index.upsert(skill(4L, "Golf"));
+        index.upsert(skill(5L, "Gardening"));
+
+        assertThat(eventually(() -> index.complete("g", 10)))
+                .containsExactly("Guitar solos", "Guitar basics", "Gardening", "Golf");
+        assertThat(index.complete("gui", 1)).containsExactly("Guitar solos");
+    }
+
+    @Test
+    void keepsAtMostMaxSuggestionsPerNode() {
+        for (long id = 1; id <= SkillAutocompleteIndex.MAX_SUGGESTIONS + 5; id++) {
+            index.upsert(skill(id, "Piano lesson " + (char) ('a' + id)));
+        }
+
+        List<String> completions = eventually(() -> index.complete("piano", 50));
+        assertThat(completions).hasSize(SkillAutocompleteIndex.MAX_SUGGESTIONS);
+        // Equal weights fall back to alphabetical order
+        assertThat(completions.getFirst()).isEqualTo("Piano lesson b");
+    }
+
+    @Test
+    void removalsShowUpAfterTheNextRebuild() {
+        index.upsert(skill(1L, "Chess openings"));
+        index.upsert(skill(2L, "Cheese making"));
+        assertThat(eventually(() -> index.complete("che", 10))).hasSize(2);
+
+        index.remove(1L);
+
+        assertThat(eventually(() -> {
+            List<String> completions = index.complete("che", 10);
+            return completions.size() == 1 ? completions : List.of();
+        })).containsExactly("Cheese making");
+    }
+
+    // The trie is swapped in by a background thread a little after the change
+    private static List<String> eventually(Supplier<List<String>> lookup) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        List<String> result = lookup.get();
+        while (result.isEmpty() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            result = lookup.get();
+        }
+        return result;
+    }
+
+    private static UserSkillResponse skill(Long id, String title) {
+        return UserSkillResponse.builder()
+                .id(id)
+                .userId(100L + id)
+                .title(title)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.cache.SkillRatingCache;
+import com.backend.skillswap.dto.response.RatingSummaryResponse;
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.entity.enums.SkillCategory;
+import com.backend.skillswap.entity.enums.SkillLevel;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Bitset filtering, disjunctive facet counts, slot reuse and rating order of the browse index
+class SkillFacetIndexTest {
+
+    private final SkillRatingCache skillRatingCache = new SkillRatingCache();
+    private final SkillFacetIndex index = new SkillFacetIndex(skillRatingCache);
+
+    private static final SkillFacetFilter NO_FILTER = new SkillFacetFilter(null, null, null, null, null, null);
+
+    @Test
+    void facetCountsIgnoreTheirOwnSelection() {
+        index.upsert(skill(1L, SkillCategory.MUSIC, SkillLevel.BEGINNER, "8.00", 1));
+        index.upsert(skill(2L, SkillCategory.MUSIC, SkillLevel.EXPERT, "30.00", 6));
+        index.upsert(skill(3L, SkillCategory.PROGRAMMING, SkillLevel.EXPERT, "120.00", 12));
+        index.upsert(skill(4L, SkillCategory.LANGUAGE, SkillLevel.BEGINNER, "25.00", 3));
+
+        SkillFacetResult result = index.browse(new SkillFacetFilter(
+                Set.of(SkillCategory.MUSIC), Set.of(SkillLevel.EXPERT), null, null, null, null), SkillSort.NEWEST, 0, 10);
+
+        assertThat(ids(result)).containsExactly(2L);
+        assertThat(result.hits().total()).isEqualTo(1);
+
+        Map<String, Map<String, Integer>> facets = result.facets();
+        // Category counts apply the level filter only: EXPERT skills per category
+        assertThat(facets.get(SkillFacetIndex.FACET_CATEGORY))
+                .containsEntry("MUSIC", 1).containsEntry("PROGRAMMING", 1).containsEntry("LANGUAGE", 0);
+        // Level counts apply the category filter only: MUSIC skills per level
+        assertThat(facets.get(SkillFacetIndex.FACET_LEVEL))
+                .containsEntry("BEGINNER", 1).containsEntry("EXPERT", 1).containsEntry("INTERMEDIATE", 0);
+        // Range facets apply both
+        assertThat(facets.get(SkillFacetIndex.FACET_HOURLY_RATE)).containsEntry("25-50", 1).containsEntry("0-10", 0);
+        assertThat(facets.get(SkillFacetIndex.FACET_EXPERIENCE)).containsEntry("5-9", 1);
+    }
+
+    @Test
+    void rateAndExperienceBoundsAreInclusive() {
+        index.upsert(skill(1L, SkillCategory.MUSIC, SkillLevel.BEGINNER, "10.00", 2));
+        index.upsert(skill(2L, SkillCategory.MUSIC, SkillLevel.BEGINNER, "25.00", 5));
+        index.upsert(skill(3L, SkillCategory.MUSIC, SkillLevel.BEGINNER, "25.01", 9));
+
+        SkillFacetResult byRate = index.browse(new SkillFacetFilter(
+                null, null, new BigDecimal("10"), new BigDecimal("25"), null, null), SkillSort.NEWEST, 0, 10);
+        SkillFacetResult byExperience = index.browse(new SkillFacetFilter(
+                null, null, null, null, 5, null), SkillSort.NEWEST, 0, 10);
+
+        assertThat(ids(byRate)).containsExactly(2L, 1L);
+        assertThat(ids(byExperience)).containsExactly(3L, 2L);
+        // Bucket edges: 10.00 starts "10-25", 25.00 starts "25-50"
+        assertThat(index.browse(NO_FILTER, SkillSort.NEWEST, 0, 10).facets().get(SkillFacetIndex.FACET_HOURLY_RATE))
+                .containsEntry("10-25", 1).containsEntry("25-50", 2);
+    }
+
+    @Test
+    void updatesMoveSkillsBetweenBitsetsAndReuseFreedSlots() {
+        index.upsert(skill(1L, SkillCategory.MUSIC, SkillLevel.BEGINNER, "8.00", 1));
+        index.upsert(skill(1L, SkillCategory.PROGRAMMING, SkillLevel.BEGINNER, "8.00", 1));
+        index.remove(2L);   // unknown → no-op
+
+        Map<String, Integer> categories = index.browse(NO_FILTER, SkillSort.NEWEST, 0, 10)
+                .facets().get(SkillFacetIndex.FACET_CATEGORY);
+        assertThat(categories).containsEntry("MUSIC", 0).containsEntry("PROGRAMMING", 1);
+
+        index.remove(1L);
+        index.upsert(skill(3L, SkillCategory.LANGUAGE, SkillLevel.EXPERT, "40.00", 4));
+
+        SkillFacetResult result = index.browse(NO_FILTER, SkillSort.NEWEST, 0, 10);
+        assertThat(ids(result)).containsExactly(3L);
+        assertThat(result.facets().get(SkillFacetIndex.FACET_CATEGORY)).containsEntry("PROGRAMMING", 0);
+    }
+
+    @Test
+    void ratingOrderPutsRatedSkillsFirstThenNewest() {
+        for (long id = 1; id <= 5; id++) {
+            index.upsert(skill(id, SkillCategory.MUSIC, SkillLevel.BEGINNER, "10.00", 1));
+        }
+        skillRatingCache.put(2L, rating(20, 4.8));
+        skillRatingCache.put(4L, rating(3, 5.0));
+        skillRatingCache.put(99L, rating(50, 5.0));   // not public → skipped
+
+        assertThat(ids(index.browse(NO_FILTER, SkillSort.RATING, 0, 10))).containsExactly(2L, 4L, 5L, 3L, 1L);
+        assertThat(ids(index.browse(NO_FILTER, SkillSort.RATING, 1, 2))).containsExactly(5L, 3L);
+    }
+
+    @Test
+    void lookupKeepsTheRequestedOrderAndSkipsHiddenSkills() {
+        index.upsert(skill(1L, SkillCategory.MUSIC, SkillLevel.BEGINNER, "10.00", 1));
+        index.upsert(skill(2L, SkillCategory.MUSIC, SkillLevel.BEGINNER, "10.00", 1));
+        index.upsert(skill(3L, SkillCategory.MUSIC, SkillLevel.BEGINNER, "10.00", 1));
+
+        assertThat(index.lookup(new long[]{3, 42, 1, 2}, 2))
+                .extracting(UserSkillResponse::getId)
+                .containsExactly(3L, 1L);
+    }
+
+    private static List<Long> ids(SkillFacetResult result) {
+        return result.hits().items().stream().map(UserSkillResponse::getId).toList();
+    }
+
+    private static RatingSummaryResponse rating(long count, double average) {
+        return RatingSummaryResponse.builder().count(count).average(average).build();
+    }
+
+    private static UserSkillResponse skill(Long id, SkillCategory category, SkillLevel level, String rate, int years) {
+        return UserSkillResponse.builder()
+                .id(id)
+                .userId(100L + id)
+                .title("Skill " + id)
+                .category(category)
+                .level(level)
+                .hourlyRate(new BigDecimal(rate))
+                .experienceYears(years)
+                .verified(true)
+                .active(true)
+                .build();
+    }
+}
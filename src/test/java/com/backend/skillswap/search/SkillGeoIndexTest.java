@@ -0,0 +1,66 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.entity.enums.SkillCategory;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillGeoIndexTest {
+
+    // Location loading is not exercised here
+    private final SkillGeoIndex index = new SkillGeoIndex(null);
+
+    @Test
+    void providersAreShownAtTheirCellCentre() {
+        double[] centre = GeoHash.centre(GeoHash.encode(52.52, 13.405, 6));
+        index.upsert(skill(1L, 10L, SkillCategory.MUSIC));
+        index.upsert(skill(2L, 11L, SkillCategory.MUSIC));
+        index.moveProvider(10L, centre[0] + 0.001, centre[1] + 0.002);
+        index.moveProvider(11L, centre[0] - 0.001, centre[1] - 0.002);
+
+        SkillHits hits = index.nearby(52.50, 13.40, 10, null, 0, 20);
+
+        // Same cell → same reported distance, whatever the exact coordinates
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.items().get(0).getDistanceKm()).isEqualTo(hits.items().get(1).getDistanceKm());
+    }
+
+    @Test
+    void clearedProvidersLeaveTheIndex() {
+        index.upsert(skill(3L, 12L, SkillCategory.LANGUAGE));
+        index.moveProvider(12L, 48.8566, 2.3522);
+        assertThat(index.nearby(48.86, 2.35, 5, SkillCategory.LANGUAGE, 0, 20).total()).isEqualTo(1);
+
+        index.moveProvider(12L, null, null);
+
+        assertThat(index.nearby(48.86, 2.35, 5, null, 0, 20).total()).isZero();
+    }
+
+    @Test
+    void radiusAndCategoryFilter() {
+        index.upsert(skill(4L, 13L, SkillCategory.MUSIC));
+        index.upsert(skill(5L, 14L, SkillCategory.PROGRAMMING));
+        index.moveProvider(13L, 40.7128, -74.0060);   // Manhattan
+        index.moveProvider(14L, 40.7306, -73.9352);   // Brooklyn, ~6 km away
+
+        assertThat(index.nearby(40.7128, -74.0060, 2, null, 0, 20).total()).isEqualTo(1);
+        assertThat(index.nearby(40.7128, -74.0060, 20, null, 0, 20).items())
+                .extracting(UserSkillResponse::getId)
+                .containsExactly(4L, 5L);
+        assertThat(index.nearby(40.7128, -74.0060, 20, SkillCategory.PROGRAMMING, 0, 20).items())
+                .extracting(UserSkillResponse::getId)
+                .containsExactly(5L);
+    }
+
+    private static UserSkillResponse skill(Long id, Long userId, SkillCategory category) {
+        return UserSkillResponse.builder()
+                .id(id)
+                .userId(userId)
+                .title("Skill " + id)
+                .category(category)
+                .verified(true)
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.events.SkillChangeEvent;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Change ordering per skill (late changes never win), the startup merge, and bounded per-skill state
+class SkillIndexUpdaterTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    private final UserSkillRepository userSkillRepository = mock(UserSkillRepository.class);
+    private final RecordingIndex index = new RecordingIndex();
+    private final SkillIndexUpdater updater = new SkillIndexUpdater(userSkillRepository, List.of(index));
+
+    @Test
+    void lateChangeCannotBringARemovedSkillBack() {
+        updater.onSkillChange(change(1L, true, T0));
+        updater.onSkillChange(change(1L, false, T0.plusMinutes(5)));
+        updater.onSkillChange(change(1L, true, T0.plusMinutes(1)));   // delivered late
+
+        assertThat(index.skills).doesNotContainKey(1L);
+
+        updater.onSkillChange(change(1L, true, T0.plusMinutes(10)));   // really restored
+        assertThat(index.skills).containsKey(1L);
+    }
+
+    @Test
+    void removedSkillsDropTheirStateAndOnlyARecentWindowIsRemembered() {
+        updater.onSkillChange(change(1L, true, T0));
+        updater.onSkillChange(change(1L, false, T0.plusMinutes(1)));
+        assertThat(updater.trackedSkills()).isEqualTo(1);
+
+        int removals = SkillIndexUpdater.REMOVED_WINDOW + 500;
+        for (long id = 2; id < 2 + removals; id++) {
+            updater.onSkillChange(change(id, false, T0));
+        }
+
+        assertThat(updater.trackedSkills()).isEqualTo(SkillIndexUpdater.REMOVED_WINDOW);
+        assertThat(index.skills).isEmpty();
+    }
+
+    @Test
+    void warmUpKeepsChangesThatArrivedDuringTheLoad() {
+        UserEntity owner = UserEntity.builder().id(9L).build();
+        when(userSkillRepository.findByVerifiedTrueAndActiveTrue()).thenAnswer(invocation -> {
+            // Committed while the catalog is being read
+            updater.onSkillChange(change(1L, false, T0.plusMinutes(5)));
+            updater.onSkillChange(change(2L, true, T0.plusMinutes(5)));
+            return List.of(entity(1L, owner, T0), entity(2L, owner, T0), entity(3L, owner, T0));
+        });
+
+        updater.warmIndexes();
+
+        assertThat(index.skills).containsOnlyKeys(2L, 3L);
+        assertThat(index.skills.get(2L).getUpdatedAt()).isEqualTo(T0.plusMinutes(5));
+        assertThat(updater.trackedSkills()).isEqualTo(3);   // two visible + one removal
+    }
+
+    private static SkillChangeEvent change(Long skillId, boolean visible, LocalDateTime updatedAt) {
+        return new SkillChangeEvent(UserSkillResponse.builder()
+                .id(skillId)
+                .userId(9L)
+                .title("Skill " + skillId)
+                .verified(true)
+                .active(visible)
+                .updatedAt(updatedAt)
+                .build());
+    }
+
+    private static UserSkill entity(Long skillId, UserEntity owner, LocalDateTime updatedAt) {
+        return UserSkill.builder()
+                .id(skillId)
+                .user(owner)
+                .title("Skill " + skillId)
+                .verified(true)
+                .active(true)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private static final class RecordingIndex implements SkillIndex {
+
+        private final Map<Long, UserSkillResponse> skills = new HashMap<>();
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void reset() {
+            skills.clear();
+        }
+
+        @Override
+        public void upsert(UserSkillResponse skill) {
+            skills.put(skill.getId(), skill);
+        }
+
+        @Override
+        public void remove(Long skillId) {
+            skills.remove(skillId);
+        }
+    }
+}
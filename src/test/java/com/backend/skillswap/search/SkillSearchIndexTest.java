@@ -0,0 +1,112 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.cache.ProviderStatsCache;
+import com.backend.skillswap.dto.response.ProviderStatsResponse;
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// BM25 ranking, bounded top-K paging and postings maintenance of the public search index
+class SkillSearchIndexTest {
+
+    private final ProviderStatsCache providerStatsCache = new ProviderStatsCache();
+    private final SkillSearchIndex index = new SkillSearchIndex(providerStatsCache);
+
+    @Test
+    void titleMatchOutranksDescriptionMatch() {
+        index.upsert(skill(1L, 10L, "Cooking basics", "Includes a short guitar warm-up song"));
+        index.upsert(skill(2L, 11L, "Guitar lessons", "Chords and strumming patterns"));
+        index.upsert(skill(3L, 12L, "Painting", "Watercolour landscapes"));
+
+        SkillHits hits = index.search("guitar", 0, 10);
+
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(ids(hits)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void rareTermsWeighMoreThanCommonOnes() {
+        // "lessons" is in every skill, "ukulele" only in one
+        index.upsert(skill(1L, 10L, "Piano lessons", "lessons for beginners"));
+        index.upsert(skill(2L, 11L, "Violin lessons", "lessons for beginners"));
+        index.upsert(skill(3L, 12L, "Ukulele", "lessons for beginners"));
+
+        assertThat(ids(index.search("lessons ukulele", 0, 10)).get(0)).isEqualTo(3L);
+    }
+
+    @Test
+    void shorterDocumentsWinOnEqualTermFrequency() {
+        index.upsert(skill(1L, 10L, "Chess", "Openings"));
+        index.upsert(skill(2L, 11L, "Chess", "Openings middlegame endgame tactics strategy puzzles tournaments clocks"));
+
+        assertThat(ids(index.search("chess", 0, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void pagesMatchTheFullRanking() {
+        IntStream.rangeClosed(1, 30).forEach(i ->
+                index.upsert(skill((long) i, (long) i, "Yoga " + "flow ".repeat(i % 4), "yoga class " + "x".repeat(i))));
+
+        List<Long> all = ids(index.search("yoga flow", 0, 30));
+        SkillHits second = index.search("yoga flow", 1, 10);
+
+        assertThat(all).hasSize(30);
+        assertThat(second.total()).isEqualTo(30);
+        assertThat(ids(second)).containsExactlyElementsOf(all.subList(10, 20));
+        assertThat(index.search("yoga flow", 5, 10).items()).isEmpty();
+    }
+
+    @Test
+    void providerTrackRecordBreaksTextTies() {
+        index.upsert(skill(1L, 10L, "Spanish tutoring", "Conversation practice"));
+        index.upsert(skill(2L, 11L, "Spanish tutoring", "Conversation practice"));
+        providerStatsCache.put(ProviderStatsResponse.builder()
+                .providerId(10L)
+                .completedSessions(40)
+                .distinctLearners(10)
+                .repeatLearners(5)
+                .build());
+
+        assertThat(ids(index.search("spanish", 0, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void upsertReplacesOldTermsAndRemoveDropsTheSkill() {
+        index.upsert(skill(1L, 10L, "Guitar", "Acoustic"));
+        index.upsert(skill(1L, 10L, "Drums", "Rock beats"));
+
+        assertThat(index.search("guitar", 0, 10).total()).isZero();
+        assertThat(ids(index.search("drums", 0, 10))).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("drums", 0, 10).total()).isZero();
+    }
+
+    @Test
+    void blankOrStopWordQueryListsNewestFirst() {
+        index.upsert(skill(1L, 10L, "Knitting", "Scarves"));
+        index.upsert(skill(2L, 11L, "Baking", "Bread"));
+
+        assertThat(ids(index.search("  ", 0, 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.search("the and", 0, 10))).containsExactly(2L, 1L);
+    }
+
+    private static List<Long> ids(SkillHits hits) {
+        return hits.items().stream().map(UserSkillResponse::getId).toList();
+    }
+
+    private static UserSkillResponse skill(Long id, Long userId, String title, String description) {
+        return UserSkillResponse.builder()
+                .id(id)
+                .userId(userId)
+                .title(title)
+                .description(description)
+                .verified(true)
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.backend.skillswap.search;
+
+import com.backend.skillswap.dto.response.UserSkillResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Typo-tolerant search: OSA distance with early exit, trigram candidates, ranking and unindexing
+class SkillTrigramIndexTest {
+
+    private final SkillTrigramIndex index = new SkillTrigramIndex();
+
+    @Test
+    void editDistanceCountsAdjacentSwapsAsOneEdit() {
+        assertThat(SkillTrigramIndex.editDistance("python", "python", 2)).isZero();
+        assertThat(SkillTrigramIndex.editDistance("pyhton", "python", 2)).isEqualTo(1);
+        assertThat(SkillTrigramIndex.editDistance("guiter", "guitar", 2)).isEqualTo(1);
+        assertThat(SkillTrigramIndex.editDistance("kitten", "sitting", 3)).isEqualTo(3);
+        // Optimal string alignment: no edits on a swapped pair, so "ca" → "abc" costs 3, not 2
+        assertThat(SkillTrigramIndex.editDistance("ca", "abc", 3)).isEqualTo(3);
+    }
+
+    @Test
+    void editDistanceGivesUpOverTheLimit() {
+        assertThat(SkillTrigramIndex.editDistance("go", "golang", 2)).isEqualTo(3);
+        assertThat(SkillTrigramIndex.editDistance("abcdef", "uvwxyz", 2)).isEqualTo(3);
+    }
+
+    @Test
+    void findsTitlesDespiteTyposAndAccents() {
+        index.upsert(skill(1L, "Python for beginners"));
+        index.upsert(skill(2L, "Guitar lessons"));
+        index.upsert(skill(3L, "Java backend"));
+
+        assertThat(ids(index.search("pyhton", 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search("GUITÉR", 0, 10))).containsExactly(2L);
+        // Short words allow a single edit only
+        assertThat(ids(index.search("jva", 0, 10))).containsExactly(3L);
+        assertThat(ids(index.search("jv", 0, 10))).isEmpty();
+        assertThat(ids(index.search("xylophone", 0, 10))).isEmpty();
+        assertThat(index.search("the of", 0, 10).total()).isZero();
+    }
+
+    @Test
+    void ranksBySummedSimilarityThenNewest() {
+        index.upsert(skill(1L, "Python basics"));
+        index.upsert(skill(2L, "Pythons and data"));
+        index.upsert(skill(3L, "Python basics"));
+        index.upsert(skill(4L, "Data cleaning"));
+
+        // Exact word beats a one-edit word; equal scores → newest first
+        assertThat(ids(index.search("python", 0, 10))).containsExactly(3L, 1L, 2L);
+        // Two matching words outweigh one closer word
+        assertThat(ids(index.search("pythn data", 0, 10))).startsWith(2L);
+
+        SkillHits page = index.search("python", 1, 2);
+        assertThat(page.total()).isEqualTo(3);
+        assertThat(ids(page)).containsExactly(2L);
+    }
+
+    @Test
+    void updatesAndRemovalsDropStaleWords() {
+        index.upsert(skill(1L, "Guitar lessons"));
+        index.upsert(skill(2L, "Guitar repair"));
+        index.upsert(skill(1L, "Piano lessons"));
+
+        assertThat(ids(index.search("guitar", 0, 10))).containsExactly(2L);
+        assertThat(ids(index.search("piano", 0, 10))).containsExactly(1L);
+
+        index.remove(2L);
+        assertThat(ids(index.search("guitar", 0, 10))).isEmpty();
+        assertThat(ids(index.search("lesons", 0, 10))).containsExactly(1L);
+
+        index.reset();
+        assertThat(ids(index.search("piano", 0, 10))).isEmpty();
+    }
+
+    private static List<Long> ids(SkillHits hits) {
+        return hits.items().stream().map(UserSkillResponse::getId).toList();
+    }
+
+    private static UserSkillResponse skill(Long id, String title) {
+        return UserSkillResponse.builder()
+                .id(id)
+                .userId(100L + id)
+                .title(title)
+                .build();
+    }
+}
@@ -0,0 +1,270 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.common.BulkItemResult;
+import com.backend.skillswap.dto.common.BulkOperationResponse;
+import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.SkillRequest;
+import com.backend.skillswap.entity.Transaction;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.entity.enums.PaymentGateway;
+import com.backend.skillswap.entity.enums.PaymentMethod;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
+import com.backend.skillswap.entity.enums.TransactionStatus;
+import com.backend.skillswap.entity.enums.TransactionType;
+import com.backend.skillswap.repository.BookingRepository;
+import com.backend.skillswap.repository.SkillRequestRepository;
+import com.backend.skillswap.repository.TransactionRepository;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.backend.skillswap.TestData.skill;
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Bulk confirm: per-booking outcomes in request order, one combined balance check per requester
+// (earliest sessions first), one PENDING escrow for every confirmed booking (a plain JPA row), and one flush for the whole batch.
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingBulkConfirmTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private SkillRequestRepository skillRequestRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void confirmsWhatTheBalanceCoversEarliestFirst() {
+        UserEntity provider = userRepository.save(user("bulk-provider-1", Role.PROVIDER));
+        UserEntity learnerA = userRepository.save(user("bulk-learner-1a", Role.USER));
+        UserEntity learnerB = userRepository.save(user("bulk-learner-1b", Role.USER));
+        deposit(learnerA, "50.00");
+        deposit(learnerB, "100.00");
+
+        Booking later = booking(provider, learnerA, BookingStatus.PENDING, 3, "30.00");
+        Booking earlier = booking(provider, learnerA, BookingStatus.PENDING, 1, "30.00");
+        Booking other = booking(provider, learnerB, BookingStatus.PENDING, 2, "20.00");
+
+        BulkOperationResponse response = bookingService.confirmBookings(
+                List.of(later.getId(), earlier.getId(), other.getId(), earlier.getId()), provider);
+
+        assertThat(response.getRequested()).isEqualTo(3);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(BulkItemResult::getId, BulkItemResult::isSuccess, BulkItemResult::getCode)
+                .containsExactly(
+                        tuple(later.getId(), false, "INSUFFICIENT_BALANCE"),
+                        tuple(earlier.getId(), true, "CONFIRMED"),
+                        tuple(other.getId(), true, "CONFIRMED"));
+
+        assertThat(status(later)).isEqualTo(BookingStatus.PENDING);
+        assertThat(status(earlier)).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(status(other)).isEqualTo(BookingStatus.CONFIRMED);
+
+        assertThat(transactionRepository.findBookingIdsWithPendingEscrow(
+                List.of(later.getId(), earlier.getId(), other.getId())))
+                .containsExactlyInAnyOrder(earlier.getId(), other.getId());
+        assertThat(transactionService.getWalletBalance(learnerA)).isEqualByComparingTo("20.00");
+        assertThat(transactionService.getWalletBalance(learnerB)).isEqualByComparingTo("80.00");
+    }
+
+    @Test
+    void reportsEveryRejectedBookingWithItsReason() {
+        UserEntity provider = userRepository.save(user("bulk-provider-2", Role.PROVIDER));
+        UserEntity stranger = userRepository.save(user("bulk-provider-2x", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("bulk-learner-2", Role.USER));
+        deposit(learner, "500.00");
+
+        Booking cancelled = booking(provider, learner, BookingStatus.CANCELLED, 1, "20.00");
+        Booking foreign = booking(stranger, learner, BookingStatus.PENDING, 1, "20.00");
+        Booking escrowed = booking(provider, learner, BookingStatus.PENDING, 2, "20.00");
+        transactionRepository.save(escrow(escrowed));
+
+        BulkOperationResponse response = bookingService.confirmBookings(
+                List.of(cancelled.getId(), foreign.getId(), escrowed.getId(), -1L), provider);
+
+        assertThat(response.getSucceeded()).isZero();
+        assertThat(response.getResults())
+                .extracting(BulkItemResult::getId, BulkItemResult::getCode)
+                .containsExactly(
+                        tuple(cancelled.getId(), "INVALID_STATUS"),
+                        tuple(foreign.getId(), "NOT_FOUND"),
+                        tuple(escrowed.getId(), "ESCROW_EXISTS"),
+                        tuple(-1L, "NOT_FOUND"));
+        assertThat(status(foreign)).isEqualTo(BookingStatus.PENDING);
+        assertThat(status(escrowed)).isEqualTo(BookingStatus.PENDING);
+    }
+
+    @Test
+    void secondRunFindsTheBookingsAlreadyConfirmed() {
+        UserEntity provider = userRepository.save(user("bulk-provider-3", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("bulk-learner-3", Role.USER));
+        deposit(learner, "100.00");
+        Booking booking = booking(provider, learner, BookingStatus.PENDING, 1, "40.00");
+
+        bookingService.confirmBookings(List.of(booking.getId()), provider);
+        BulkOperationResponse again = bookingService.confirmBookings(List.of(booking.getId()), provider);
+
+        assertThat(again.getResults()).extracting(BulkItemResult::getCode).containsExactly("INVALID_STATUS");
+        assertThat(transactionService.getWalletBalance(learner)).isEqualByComparingTo("60.00");
+    }
+
+    @Test
+    void batchInsertedEscrowReadsBackThroughJpa() {
+        UserEntity provider = userRepository.save(user("bulk-provider-6", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("bulk-learner-6", Role.USER));
+        deposit(learner, "100.00");
+        Booking booking = booking(provider, learner, BookingStatus.PENDING, 1, "40.00");
+
+        bookingService.confirmBookings(List.of(booking.getId()), provider);
+
+        Transaction written = escrowOf(booking);
+        Transaction expected = escrow(booking);   // built like the entity, builder defaults included
+        assertThat(written.getPayer().getId()).isEqualTo(learner.getId());
+        assertThat(written.getPayee().getId()).isEqualTo(provider.getId());
+        assertThat(written.getAmount()).isEqualByComparingTo("40.00");
+        assertThat(written.getCurrency()).isEqualTo(expected.getCurrency());
+        assertThat(written.getNetAmount()).isEqualByComparingTo(expected.getNetAmount());
+        assertThat(written.getPlatformFee()).isEqualByComparingTo(expected.getPlatformFee());
+        assertThat(written.getTransactionType()).isEqualTo(TransactionType.ESCROW);
+        assertThat(written.getStatus()).isEqualTo(TransactionStatus.PENDING);
+        assertThat(written.getPaymentGateway()).isEqualTo(expected.getPaymentGateway());
+        assertThat(written.getPaymentMethod()).isEqualTo(expected.getPaymentMethod());
+        assertThat(written.isEscrow()).isTrue();
+        assertThat(written.getRetryCount()).isEqualTo(expected.getRetryCount());
+        assertThat(written.getVersion()).isZero();
+        assertThat(written.getCreatedAt()).isNotNull();
+        assertThat(written.getUpdatedAt()).isNotNull();
+
+        // Versioned updates work on the row like on any JPA-written one
+        written.setStatus(TransactionStatus.SUCCESS);
+        transactionRepository.save(written);
+        assertThat(escrowOf(booking).getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void flushesDoNotGrowWithTheNumberOfBookings() {
+        assertThat(flushesToConfirm(6, "bulk-provider-4")).isEqualTo(flushesToConfirm(2, "bulk-provider-5"));
+    }
+
+    private long flushesToConfirm(int bookings, String providerName) {
+        UserEntity provider = userRepository.save(user(providerName, Role.PROVIDER));
+        UserEntity learner = userRepository.save(user(providerName + "-learner", Role.USER));
+        deposit(learner, "1000.00");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < bookings; i++) {
+            ids.add(booking(provider, learner, BookingStatus.PENDING, i + 1, "10.00").getId());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            bookingService.confirmBookings(ids, provider);
+            return statistics.getFlushCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    private BookingStatus status(Booking booking) {
+        return bookingRepository.findById(booking.getId()).orElseThrow().getStatus();
+    }
+
+    private Transaction escrowOf(Booking booking) {
+        return transactionRepository.findAll().stream()
+                .filter(tx -> tx.getBooking() != null && tx.getBooking().getId().equals(booking.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void deposit(UserEntity user, String amount) {
+        transactionRepository.save(Transaction.builder()
+                .payer(user)
+                .payee(user)
+                .amount(new BigDecimal(amount))
+                .netAmount(new BigDecimal(amount))
+                .transactionType(TransactionType.DEPOSIT)
+                .status(TransactionStatus.SUCCESS)
+                .paymentGateway(PaymentGateway.INTERNAL)
+                .paymentMethod(PaymentMethod.WALLET)
+                .transactionReference(UUID.randomUUID().toString())
+                .build());
+    }
+
+    private static Transaction escrow(Booking booking) {
+        return Transaction.builder()
+                .booking(booking)
+                .payer(booking.getRequester())
+                .payee(booking.getProvider())
+                .amount(booking.getTotalAmount())
+                .transactionType(TransactionType.ESCROW)
+                .status(TransactionStatus.PENDING)
+                .paymentGateway(PaymentGateway.INTERNAL)
+                .paymentMethod(PaymentMethod.WALLET)
+                .escrow(true)
+                .transactionReference(UUID.randomUUID().toString())
+                .build();
+    }
+
+    private Booking booking(UserEntity provider, UserEntity learner, BookingStatus status, int inDays, String amount) {
+        UserSkill skill = userSkillRepository.save(skill(provider));
+
+        SkillRequest request = skillRequestRepository.save(SkillRequest.builder()
+                .sender(learner)
+                .receiver(provider)
+                .skill(skill)
+                .status(SkillRequestStatus.ACCEPTED)
+                .build());
+
+        LocalDateTime start = LocalDateTime.now().plusDays(inDays);
+        return bookingRepository.save(Booking.builder()
+                .request(request)
+                .requester(learner)
+                .provider(provider)
+                .skill(skill)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .durationMinutes(60)
+                .pricePerHour(new BigDecimal(amount))
+                .totalAmount(new BigDecimal(amount))
+                .status(status)
+                .build());
+    }
+}
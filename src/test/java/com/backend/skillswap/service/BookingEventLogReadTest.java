@@ -0,0 +1,55 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.response.BookingEventLogResponse;
+import com.backend.skillswap.entity.BookingEventLog;
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.events.BookingEventType;
+import com.backend.skillswap.repository.BookingEventLogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Tailing reads stay behind the safety lag: an event that was just written (and whose neighbours may
+// still be uncommitted) is not handed out yet, so a cursor can't skip past it.
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingEventLogReadTest {
+
+    @Autowired
+    private BookingEventLogService bookingEventLogService;
+
+    @Autowired
+    private BookingEventLogRepository bookingEventLogRepository;
+
+    @Test
+    void freshEventsAreHeldBackFromTailingReads() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        BookingEventLog event = bookingEventLogRepository.saveAndFlush(BookingEventLog.builder()
+                .bookingId(987_654L)
+                .bookingVersion(0L)
+                .eventType(BookingEventType.CREATED)
+                .status(BookingStatus.PENDING)
+                .requesterId(1L)
+                .providerId(2L)
+                .skillId(3L)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .totalAmount(new BigDecimal("10.00"))
+                .build());
+
+        assertThat(bookingEventLogService.readAfter(event.getSequenceNumber() - 1, 100))
+                .extracting(BookingEventLogResponse::getSequenceNumber)
+                .doesNotContain(event.getSequenceNumber());
+
+        // The booking's own history is not a cursor read → shown right away
+        assertThat(bookingEventLogService.getBookingHistory(987_654L))
+                .extracting(BookingEventLogResponse::getBookingVersion)
+                .containsExactly(0L);
+    }
+}
@@ -0,0 +1,106 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.availability.ProviderAvailabilityCache;
+import com.backend.skillswap.dto.request.AvailabilityExceptionRequest;
+import com.backend.skillswap.dto.request.AvailabilityRuleRequest;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Editing working hours drops the compiled bitmap only once the edit has committed
+@SpringBootTest
+@ActiveProfiles("test")
+class ProviderAvailabilityEvictionTest {
+
+    private static final LocalDate MONDAY = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+    @Autowired
+    private ProviderAvailabilityService availabilityService;
+
+    @Autowired
+    private ProviderAvailabilityCache availabilityCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void newWeeklyRulesApplyAfterCommit() {
+        UserEntity provider = userRepository.save(user("hours-provider-1", Role.PROVIDER));
+        availabilityService.replaceWeeklyRules(provider, List.of(rule(9, 12)));
+        assertThat(works(provider, 9)).isTrue();
+        assertThat(works(provider, 14)).isFalse();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            availabilityService.replaceWeeklyRules(provider, List.of(rule(13, 17)));
+            // Not committed yet → other readers keep the old hours
+            assertThat(works(provider, 9)).isTrue();
+        });
+
+        assertThat(works(provider, 9)).isFalse();
+        assertThat(works(provider, 14)).isTrue();
+    }
+
+    @Test
+    void rolledBackEditKeepsTheCompiledHours() {
+        UserEntity provider = userRepository.save(user("hours-provider-2", Role.PROVIDER));
+        availabilityService.replaceWeeklyRules(provider, List.of(rule(9, 12)));
+        assertThat(works(provider, 9)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            availabilityService.replaceWeeklyRules(provider, List.of());
+            status.setRollbackOnly();
+        });
+
+        assertThat(works(provider, 9)).isTrue();
+        assertThat(works(provider, 14)).isFalse();
+    }
+
+    @Test
+    void dateExceptionsEvictToo() {
+        UserEntity provider = userRepository.save(user("hours-provider-3", Role.PROVIDER));
+        availabilityService.replaceWeeklyRules(provider, List.of(rule(9, 12)));
+        assertThat(works(provider, 9)).isTrue();
+
+        availabilityService.addException(provider, AvailabilityExceptionRequest.builder()
+                .date(MONDAY)
+                .available(false)
+                .reason("Holiday")
+                .build());
+
+        assertThat(works(provider, 9)).isFalse();
+        assertThat(availabilityCache.isWithinWorkingHours(provider.getId(),
+                MONDAY.plusWeeks(1).atTime(9, 0), MONDAY.plusWeeks(1).atTime(10, 0))).isTrue();
+    }
+
+    // One-hour session on MONDAY starting at `hour`
+    private boolean works(UserEntity provider, int hour) {
+        LocalDateTime start = MONDAY.atTime(hour, 0);
+        return availabilityCache.isWithinWorkingHours(provider.getId(), start, start.plusHours(1));
+    }
+
+    private static AvailabilityRuleRequest rule(int fromHour, int toHour) {
+        return AvailabilityRuleRequest.builder()
+                .dayOfWeek(DayOfWeek.MONDAY)
+                .startTime(LocalTime.of(fromHour, 0))
+                .endTime(LocalTime.of(toHour, 0))
+                .build();
+    }
+}
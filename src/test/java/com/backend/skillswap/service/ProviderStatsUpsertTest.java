@@ -0,0 +1,160 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.ProviderStats;
+import com.backend.skillswap.entity.SkillRequest;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
+import com.backend.skillswap.repository.BookingRepository;
+import com.backend.skillswap.repository.ProviderStatsRepository;
+import com.backend.skillswap.repository.SkillRequestRepository;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static com.backend.skillswap.TestData.skill;
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Provider counters are upserted inside the booking transaction: a provider without a stats row gets
+// one from its first transition, and that row commits or rolls back together with the booking.
+@SpringBootTest
+@ActiveProfiles("test")
+class ProviderStatsUpsertTest {
+
+    @Autowired
+    private ProviderStatsService providerStatsService;
+
+    @Autowired
+    private ProviderStatsRepository providerStatsRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private SkillRequestRepository skillRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void firstTransitionCreatesTheStatsRow() {
+        UserEntity provider = userRepository.save(user("stats-provider-1", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("stats-learner-1", Role.USER));
+        Booking completed = booking(provider, learner, BookingStatus.COMPLETED);
+
+        assertThat(providerStatsRepository.findById(provider.getId())).isEmpty();
+
+        transactionTemplate.executeWithoutResult(status -> providerStatsService.recordTransition(completed));
+
+        ProviderStats stats = providerStatsRepository.findById(provider.getId()).orElseThrow();
+        assertThat(stats.getCompletedSessions()).isEqualTo(1);
+        assertThat(stats.getDistinctLearners()).isEqualTo(1);
+        assertThat(stats.getRepeatLearners()).isZero();
+        assertThat(stats.getCancelledSessions()).isZero();
+
+        // Existing row → relative increments
+        Booking cancelled = booking(provider, learner, BookingStatus.CANCELLED);
+        Booking again = booking(provider, learner, BookingStatus.COMPLETED);
+        transactionTemplate.executeWithoutResult(status -> {
+            providerStatsService.recordTransition(cancelled);
+            providerStatsService.recordTransition(again);
+        });
+
+        stats = providerStatsRepository.findById(provider.getId()).orElseThrow();
+        assertThat(stats.getCompletedSessions()).isEqualTo(2);
+        assertThat(stats.getCancelledSessions()).isEqualTo(1);
+        assertThat(stats.getDistinctLearners()).isEqualTo(1);
+        assertThat(stats.getRepeatLearners()).isEqualTo(1);
+    }
+
+    @Test
+    void firstRatingCreatesTheStatsRow() {
+        UserEntity provider = userRepository.save(user("stats-provider-2", Role.PROVIDER));
+
+        transactionTemplate.executeWithoutResult(status -> providerStatsService.recordRating(provider.getId(), 4));
+
+        ProviderStats stats = providerStatsRepository.findById(provider.getId()).orElseThrow();
+        assertThat(stats.getRating().getRatingCount()).isEqualTo(1);
+        assertThat(stats.getRating().getRatingSum()).isEqualTo(4);
+        assertThat(stats.getRating().getFourStars()).isEqualTo(1);
+        assertThat(stats.getCompletedSessions()).isZero();
+    }
+
+    @Test
+    void firstRowRollsBackWithTheCaller() {
+        UserEntity provider = userRepository.save(user("stats-provider-3", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("stats-learner-3", Role.USER));
+        Booking disputed = booking(provider, learner, BookingStatus.DISPUTED);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            providerStatsService.recordTransition(disputed);
+            status.setRollbackOnly();
+        });
+
+        // No separate transaction: nothing was committed on the side
+        assertThat(providerStatsRepository.findById(provider.getId())).isEmpty();
+    }
+
+    @Test
+    void rebuildRepairsDriftedCounters() {
+        UserEntity provider = userRepository.save(user("stats-provider-4", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("stats-learner-4", Role.USER));
+        Booking completed = booking(provider, learner, BookingStatus.COMPLETED);
+        booking(provider, learner, BookingStatus.CANCELLED);   // never recorded → drift
+
+        transactionTemplate.executeWithoutResult(status -> {
+            providerStatsService.recordTransition(completed);
+            providerStatsService.recordRating(provider.getId(), 5);
+        });
+
+        providerStatsService.rebuildAll();
+
+        ProviderStats stats = providerStatsRepository.findById(provider.getId()).orElseThrow();
+        assertThat(stats.getCompletedSessions()).isEqualTo(1);
+        assertThat(stats.getCancelledSessions()).isEqualTo(1);
+        assertThat(stats.getDistinctLearners()).isEqualTo(1);
+        assertThat(stats.getRating().getRatingCount()).isEqualTo(1);   // ratings untouched
+    }
+
+    private Booking booking(UserEntity provider, UserEntity learner, BookingStatus status) {
+        UserSkill skill = userSkillRepository.save(skill(provider));
+
+        SkillRequest request = skillRequestRepository.save(SkillRequest.builder()
+                .sender(learner)
+                .receiver(provider)
+                .skill(skill)
+                .status(SkillRequestStatus.COMPLETED)
+                .build());
+
+        LocalDateTime start = LocalDateTime.now().minusDays(2);
+        return bookingRepository.save(Booking.builder()
+                .request(request)
+                .requester(learner)
+                .provider(provider)
+                .skill(skill)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .durationMinutes(60)
+                .pricePerHour(new BigDecimal("20.00"))
+                .totalAmount(new BigDecimal("20.00"))
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,141 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.cache.SkillRatingCache;
+import com.backend.skillswap.dto.request.ReviewRequest;
+import com.backend.skillswap.entity.Booking;
+import com.backend.skillswap.entity.SkillRatingStats;
+import com.backend.skillswap.entity.SkillRequest;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
+import com.backend.skillswap.exception.common.DuplicateResourceException;
+import com.backend.skillswap.repository.BookingRepository;
+import com.backend.skillswap.repository.ProviderStatsRepository;
+import com.backend.skillswap.repository.SkillRatingStatsRepository;
+import com.backend.skillswap.repository.SkillRequestRepository;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static com.backend.skillswap.TestData.skill;
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The first review of a skill (and the provider's first rating) creates the aggregate rows inside the
+// review transaction; later reviews add to them.
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewRatingUpsertTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private SkillRatingStatsRepository skillRatingStatsRepository;
+
+    @Autowired
+    private ProviderStatsRepository providerStatsRepository;
+
+    @Autowired
+    private SkillRatingCache skillRatingCache;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private SkillRequestRepository skillRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Test
+    void firstReviewOfASkillCreatesItsAggregates() {
+        UserEntity provider = userRepository.save(user("review-provider", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("review-learner", Role.USER));
+        UserEntity secondLearner = userRepository.save(user("review-learner-2", Role.USER));
+        UserSkill skill = userSkillRepository.save(skill(provider));
+
+        assertThat(skillRatingStatsRepository.findById(skill.getId())).isEmpty();
+        assertThat(providerStatsRepository.findById(provider.getId())).isEmpty();
+
+        reviewService.createReview(learner, completedBooking(skill, learner).getId(), review(5));
+
+        SkillRatingStats stats = skillRatingStatsRepository.findById(skill.getId()).orElseThrow();
+        assertThat(stats.getRating().getRatingCount()).isEqualTo(1);
+        assertThat(stats.getRating().getRatingSum()).isEqualTo(5);
+        assertThat(stats.getRating().getFiveStars()).isEqualTo(1);
+        assertThat(providerStatsRepository.findById(provider.getId()).orElseThrow().getRating().getRatingCount())
+                .isEqualTo(1);
+
+        // Cache patched after commit
+        assertThat(skillRatingCache.get(skill.getId()).getCount()).isEqualTo(1);
+
+        reviewService.createReview(secondLearner, completedBooking(skill, secondLearner).getId(), review(2));
+
+        stats = skillRatingStatsRepository.findById(skill.getId()).orElseThrow();
+        assertThat(stats.getRating().getRatingCount()).isEqualTo(2);
+        assertThat(stats.getRating().getRatingSum()).isEqualTo(7);
+        assertThat(stats.getRating().getTwoStars()).isEqualTo(1);
+        assertThat(skillRatingCache.get(skill.getId()).getAverage()).isEqualTo(3.5);
+    }
+
+    @Test
+    void rejectedReviewLeavesNoAggregates() {
+        UserEntity provider = userRepository.save(user("review-provider-3", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("review-learner-3", Role.USER));
+        UserSkill skill = userSkillRepository.save(skill(provider));
+        Booking booking = completedBooking(skill, learner);
+
+        reviewService.createReview(learner, booking.getId(), review(4));
+        assertThatThrownBy(() -> reviewService.createReview(learner, booking.getId(), review(1)))
+                .isInstanceOf(DuplicateResourceException.class);
+
+        SkillRatingStats stats = skillRatingStatsRepository.findById(skill.getId()).orElseThrow();
+        assertThat(stats.getRating().getRatingCount()).isEqualTo(1);
+        assertThat(stats.getRating().getOneStar()).isZero();
+    }
+
+    private Booking completedBooking(UserSkill skill, UserEntity learner) {
+        UserEntity provider = skill.getUser();
+
+        SkillRequest request = skillRequestRepository.save(SkillRequest.builder()
+                .sender(learner)
+                .receiver(provider)
+                .skill(skill)
+                .status(SkillRequestStatus.COMPLETED)
+                .build());
+
+        LocalDateTime start = LocalDateTime.now().minusDays(2);
+        return bookingRepository.save(Booking.builder()
+                .request(request)
+                .requester(learner)
+                .provider(provider)
+                .skill(skill)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .durationMinutes(60)
+                .pricePerHour(new BigDecimal("20.00"))
+                .totalAmount(new BigDecimal("20.00"))
+                .status(BookingStatus.COMPLETED)
+                .build());
+    }
+
+    private static ReviewRequest review(int stars) {
+        ReviewRequest request = new ReviewRequest();
+        request.setRating(stars);
+        request.setComment("Great session");
+        return request;
+    }
+}
@@ -0,0 +1,52 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.response.SkillImportResponse;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.importer.SkillImportFormat;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// An upload is read up to 1000 data rows; the rest is reported as truncated, not imported
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillImportTruncationTest {
+
+    @Autowired
+    private SkillImportService skillImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Test
+    void rowsBeyondTheLimitAreTruncated() {
+        UserEntity user = userRepository.save(user("import-user", Role.PROVIDER));
+
+        StringBuilder csv = new StringBuilder("title,description,category,level,experienceYears,hourlyRate\n");
+        for (int i = 1; i <= 1005; i++) {
+            csv.append("Skill ").append(i).append(",Imported skill number ").append(i).append(",OTHER,BEGINNER,1,10\n");
+        }
+
+        SkillImportResponse response = skillImportService.importSkills(user.getId(), SkillImportFormat.CSV,
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+
+        assertThat(response.isTruncated()).isTrue();
+        assertThat(response.getRows()).isEqualTo(1000);
+        assertThat(response.getImported()).isEqualTo(1000);
+        assertThat(response.getResults().get(999).getLine()).isEqualTo(1001);
+        assertThat(userSkillRepository.findActiveTitlesLowerCase(user.getId())).hasSize(1000);
+    }
+}
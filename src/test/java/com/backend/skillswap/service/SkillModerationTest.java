@@ -0,0 +1,134 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.TestData;
+import com.backend.skillswap.dto.common.BulkItemResult;
+import com.backend.skillswap.dto.common.BulkOperationResponse;
+import com.backend.skillswap.dto.request.SkillModerationRequest;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.events.SkillModerationNotice;
+import com.backend.skillswap.notification.SkillNotificationQueue;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// Bulk moderation: one locking read, verify / reject rules applied per id, mails queued only after commit
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillModerationTest {
+
+    @Autowired
+    private UserSkillService userSkillService;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private SkillNotificationQueue skillNotificationQueue;
+
+    @Test
+    void lockQueryReturnsTheModerationStateOfExistingRows() {
+        UserEntity provider = userRepository.save(user("lock-provider", Role.PROVIDER));
+        UserSkill pending = userSkillRepository.save(skill(provider, "Lock Pending", false, true));
+        UserSkill rejected = userSkillRepository.save(skill(provider, "Lock Rejected", false, false));
+
+        List<Object[]> rows = transactionTemplate.execute(status ->
+                userSkillRepository.lockModerationState(List.of(pending.getId(), rejected.getId(), -1L)));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows).anySatisfy(row -> {
+            assertThat(((Number) row[0]).longValue()).isEqualTo(pending.getId());
+            assertThat(row[1]).isIn(false, 0, 0L);
+            assertThat(row[2]).isIn(true, 1, 1L);
+        });
+    }
+
+    @Test
+    void verifiesAndRejectsPerRuleAndQueuesMailsAfterCommit() {
+        UserEntity provider = userRepository.save(user("moderation-provider", Role.PROVIDER));
+        UserSkill pending = userSkillRepository.save(skill(provider, "Pending Skill", false, true));
+        UserSkill alreadyVerified = userSkillRepository.save(skill(provider, "Verified Skill", true, true));
+        UserSkill toReject = userSkillRepository.save(skill(provider, "Reject Skill", true, true));
+        UserSkill alreadyRejected = userSkillRepository.save(skill(provider, "Rejected Skill", false, false));
+
+        SkillModerationRequest request = SkillModerationRequest.builder()
+                .verifyIds(List.of(pending.getId(), alreadyVerified.getId(), -1L))
+                .rejectIds(List.of(toReject.getId(), alreadyRejected.getId()))
+                .build();
+
+        BulkOperationResponse response = transactionTemplate.execute(status -> {
+            BulkOperationResponse result = userSkillService.moderateSkills(request);
+            // Still inside the transaction → nothing queued yet
+            verify(skillNotificationQueue, never()).enqueue(any());
+            return result;
+        });
+
+        assertThat(response.getResults())
+                .extracting(BulkItemResult::getId, BulkItemResult::isSuccess)
+                .containsExactly(
+                        tuple(pending.getId(), true),
+                        tuple(alreadyVerified.getId(), false),
+                        tuple(-1L, false),
+                        tuple(toReject.getId(), true),
+                        tuple(alreadyRejected.getId(), false));
+
+        assertThat(userSkillRepository.findById(pending.getId()).orElseThrow().isVerified()).isTrue();
+        UserSkill rejected = userSkillRepository.findById(toReject.getId()).orElseThrow();
+        assertThat(rejected.isVerified()).isFalse();
+        assertThat(rejected.isActive()).isFalse();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<SkillModerationNotice>> notices = ArgumentCaptor.forClass(Collection.class);
+        verify(skillNotificationQueue).enqueue(notices.capture());
+        assertThat(notices.getValue())
+                .extracting(SkillModerationNotice::skillId, SkillModerationNotice::decision)
+                .containsExactlyInAnyOrder(
+                        tuple(pending.getId(), SkillModerationNotice.Decision.VERIFIED),
+                        tuple(toReject.getId(), SkillModerationNotice.Decision.REJECTED));
+    }
+
+    @Test
+    void rolledBackModerationQueuesNothing() {
+        UserEntity provider = userRepository.save(user("rollback-provider", Role.PROVIDER));
+        UserSkill pending = userSkillRepository.save(skill(provider, "Rollback Skill", false, true));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userSkillService.moderateSkills(SkillModerationRequest.builder().verifyIds(List.of(pending.getId())).build());
+            status.setRollbackOnly();
+        });
+
+        verify(skillNotificationQueue, never()).enqueue(any());
+        assertThat(userSkillRepository.findById(pending.getId()).orElseThrow().isVerified()).isFalse();
+    }
+
+    private static UserSkill skill(UserEntity provider, String title, boolean verified, boolean active) {
+        UserSkill skill = TestData.skill(provider, title);
+        skill.setDescription("Description of " + title);
+        skill.setVerified(verified);
+        skill.setActive(active);
+        return skill;
+    }
+}
@@ -0,0 +1,107 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.request.SkillRequestRequest;
+import com.backend.skillswap.entity.SkillRequest;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
+import com.backend.skillswap.exception.common.DuplicateResourceException;
+import com.backend.skillswap.repository.SkillRequestRepository;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static com.backend.skillswap.TestData.skill;
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Live requests written before active_key existed get it backfilled, and only the active-key
+// constraint is reported as a duplicate request.
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillRequestActiveKeyTest {
+
+    @Autowired
+    private SkillRequestService skillRequestService;
+
+    @Autowired
+    private SkillRequestRepository skillRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void backfillKeysTheNewestLiveRequestPerPair() {
+        UserEntity learner = userRepository.save(user("legacy-learner", Role.USER));
+        UserEntity provider = userRepository.save(user("legacy-provider", Role.PROVIDER));
+        UserSkill skill = userSkillRepository.save(skill(provider, "Legacy Skill"));
+        UserSkill other = userSkillRepository.save(skill(provider, "Other Skill"));
+
+        SkillRequest olderDuplicate = legacyRequest(learner, skill, SkillRequestStatus.PENDING);
+        SkillRequest newest = legacyRequest(learner, skill, SkillRequestStatus.ACCEPTED);
+        SkillRequest finished = legacyRequest(learner, other, SkillRequestStatus.REJECTED);
+
+        assertThat(skillRequestRepository.backfillActiveKeys()).isEqualTo(1);
+        // Second run finds nothing left to key
+        assertThat(skillRequestRepository.backfillActiveKeys()).isZero();
+
+        assertThat(activeKey(newest)).isEqualTo(SkillRequest.activeKeyOf(learner.getId(), skill.getId()));
+        assertThat(activeKey(olderDuplicate)).isNull();
+        assertThat(activeKey(finished)).isNull();
+
+        // The backfilled key now blocks a new request for the same skill
+        assertThatThrownBy(() -> skillRequestService.sendRequest(learner.getId(), request(skill, "Again please")))
+                .isInstanceOf(DuplicateResourceException.class);
+    }
+
+    @Test
+    void otherIntegrityErrorsAreNotReportedAsDuplicates() {
+        UserEntity learner = userRepository.save(user("long-learner", Role.USER));
+        UserEntity provider = userRepository.save(user("long-provider", Role.PROVIDER));
+        UserSkill skill = userSkillRepository.save(skill(provider, "Long Skill"));
+
+        // Too long for the message column
+        assertThatThrownBy(() -> skillRequestService.sendRequest(learner.getId(), request(skill, "x".repeat(600))))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .isNotInstanceOf(DuplicateResourceException.class);
+    }
+
+    // Saved normally, then the key is wiped as if the row predated the column
+    private SkillRequest legacyRequest(UserEntity learner, UserSkill skill, SkillRequestStatus status) {
+        SkillRequest saved = skillRequestRepository.save(SkillRequest.builder()
+                .sender(learner)
+                .receiver(skill.getUser())
+                .skill(skill)
+                .status(status)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build());
+        jdbcTemplate.update("UPDATE skill_requests SET active_key = NULL WHERE id = ?", saved.getId());
+        return saved;
+    }
+
+    private String activeKey(SkillRequest request) {
+        return jdbcTemplate.queryForObject("SELECT active_key FROM skill_requests WHERE id = ?", String.class, request.getId());
+    }
+
+    private static SkillRequestRequest request(UserSkill skill, String message) {
+        return SkillRequestRequest.builder()
+                .skillId(skill.getId())
+                .message(message)
+                .build();
+    }
+}
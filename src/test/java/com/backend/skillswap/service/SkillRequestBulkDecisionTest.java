@@ -0,0 +1,159 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.cache.PendingRequestCounter;
+import com.backend.skillswap.dto.common.BulkItemResult;
+import com.backend.skillswap.dto.common.BulkOperationResponse;
+import com.backend.skillswap.dto.request.SkillRequestDecisionRequest;
+import com.backend.skillswap.dto.request.SkillRequestRequest;
+import com.backend.skillswap.entity.SkillRequest;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.backend.skillswap.repository.SkillRequestRepository;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.backend.skillswap.TestData.skill;
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Bulk accept/reject: only the receiver's live PENDING rows are decided, every other id is reported
+// NOT_ACTIONABLE, rejected rows free their active key, and the badge counters move after commit.
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillRequestBulkDecisionTest {
+
+    @Autowired
+    private SkillRequestService skillRequestService;
+
+    @Autowired
+    private SkillRequestRepository skillRequestRepository;
+
+    @Autowired
+    private PendingRequestCounter pendingRequestCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Test
+    void decidesOnlyActionableRequestsAndReportsTheRest() {
+        UserEntity provider = userRepository.save(user("decide-provider-1", Role.PROVIDER));
+        UserEntity otherProvider = userRepository.save(user("decide-provider-1x", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("decide-learner-1", Role.USER));
+
+        SkillRequest toAccept = request(learner, provider, SkillRequestStatus.PENDING, 1);
+        SkillRequest toReject = request(learner, provider, SkillRequestStatus.PENDING, 1);
+        SkillRequest expired = request(learner, provider, SkillRequestStatus.PENDING, -1);
+        SkillRequest foreign = request(learner, otherProvider, SkillRequestStatus.PENDING, 1);
+        SkillRequest alreadyRejected = request(learner, provider, SkillRequestStatus.REJECTED, 1);
+
+        BulkOperationResponse response = skillRequestService.decideRequests(provider.getId(), decision(
+                List.of(toAccept.getId(), expired.getId(), foreign.getId(), toAccept.getId()),
+                List.of(toReject.getId(), alreadyRejected.getId(), -1L)));
+
+        assertThat(response.getRequested()).isEqualTo(6);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(BulkItemResult::getId, BulkItemResult::getCode)
+                .containsExactly(
+                        tuple(toAccept.getId(), "ACCEPTED"),
+                        tuple(expired.getId(), "NOT_ACTIONABLE"),
+                        tuple(foreign.getId(), "NOT_ACTIONABLE"),
+                        tuple(toReject.getId(), "REJECTED"),
+                        tuple(alreadyRejected.getId(), "NOT_ACTIONABLE"),
+                        tuple(-1L, "NOT_ACTIONABLE"));
+
+        SkillRequest accepted = reload(toAccept);
+        assertThat(accepted.getStatus()).isEqualTo(SkillRequestStatus.ACCEPTED);
+        assertThat(accepted.getActiveKey()).isEqualTo(SkillRequest.activeKeyOf(learner.getId(), toAccept.getSkill().getId()));
+        SkillRequest rejected = reload(toReject);
+        assertThat(rejected.getStatus()).isEqualTo(SkillRequestStatus.REJECTED);
+        assertThat(rejected.getActiveKey()).isNull();
+        assertThat(reload(expired).getStatus()).isEqualTo(SkillRequestStatus.PENDING);
+        assertThat(reload(foreign).getStatus()).isEqualTo(SkillRequestStatus.PENDING);
+    }
+
+    @Test
+    void rejectedRequestCanBeSentAgain() {
+        UserEntity provider = userRepository.save(user("decide-provider-2", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("decide-learner-2", Role.USER));
+        SkillRequest pending = request(learner, provider, SkillRequestStatus.PENDING, 1);
+
+        skillRequestService.decideRequests(provider.getId(), decision(List.of(), List.of(pending.getId())));
+
+        skillRequestService.sendRequest(learner.getId(), SkillRequestRequest.builder()
+                .skillId(pending.getSkill().getId())
+                .message("Trying again")
+                .build());
+        assertThat(skillRequestRepository.findAll())
+                .filteredOn(request -> request.getSkill().getId().equals(pending.getSkill().getId()))
+                .extracting(SkillRequest::getStatus)
+                .containsExactlyInAnyOrder(SkillRequestStatus.REJECTED, SkillRequestStatus.PENDING);
+    }
+
+    @Test
+    void badgeCountersDropByTheDecidedRequests() {
+        UserEntity provider = userRepository.save(user("decide-provider-3", Role.PROVIDER));
+        UserEntity learnerA = userRepository.save(user("decide-learner-3a", Role.USER));
+        UserEntity learnerB = userRepository.save(user("decide-learner-3b", Role.USER));
+        SkillRequest a1 = request(learnerA, provider, SkillRequestStatus.PENDING, 1);
+        SkillRequest a2 = request(learnerA, provider, SkillRequestStatus.PENDING, 1);
+        SkillRequest b1 = request(learnerB, provider, SkillRequestStatus.PENDING, 1);
+
+        // Loaded before the decision, so only the deltas can move them
+        pendingRequestCounter.get(provider.getId(), PendingRequestCounter.Box.INBOX, () -> 3);
+        pendingRequestCounter.get(learnerA.getId(), PendingRequestCounter.Box.OUTBOX, () -> 2);
+        pendingRequestCounter.get(learnerB.getId(), PendingRequestCounter.Box.OUTBOX, () -> 1);
+
+        skillRequestService.decideRequests(provider.getId(), decision(List.of(a1.getId()), List.of(a2.getId(), b1.getId())));
+
+        assertThat(pendingRequestCounter.get(provider.getId(), PendingRequestCounter.Box.INBOX, () -> -1)).isZero();
+        assertThat(pendingRequestCounter.get(learnerA.getId(), PendingRequestCounter.Box.OUTBOX, () -> -1)).isZero();
+        assertThat(pendingRequestCounter.get(learnerB.getId(), PendingRequestCounter.Box.OUTBOX, () -> -1)).isZero();
+    }
+
+    @Test
+    void rejectsEmptyAndContradictoryDecisions() {
+        assertThatThrownBy(() -> skillRequestService.decideRequests(1L, decision(List.of(), List.of())))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> skillRequestService.decideRequests(1L, decision(List.of(5L), List.of(5L))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private SkillRequest reload(SkillRequest request) {
+        return skillRequestRepository.findById(request.getId()).orElseThrow();
+    }
+
+    // Own skill per request, so several live requests of one learner don't share an active key
+    private SkillRequest request(UserEntity learner, UserEntity provider, SkillRequestStatus status, int expiresInDays) {
+        UserSkill skill = userSkillRepository.save(skill(provider));
+        return skillRequestRepository.save(SkillRequest.builder()
+                .sender(learner)
+                .receiver(provider)
+                .skill(skill)
+                .status(status)
+                .expiresAt(LocalDateTime.now().plusDays(expiresInDays))
+                .build());
+    }
+
+    private static SkillRequestDecisionRequest decision(List<Long> acceptIds, List<Long> rejectIds) {
+        return SkillRequestDecisionRequest.builder()
+                .acceptIds(acceptIds)
+                .rejectIds(rejectIds)
+                .build();
+    }
+}
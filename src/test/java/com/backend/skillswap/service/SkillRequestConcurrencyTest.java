@@ -0,0 +1,96 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.request.SkillRequestRequest;
+import com.backend.skillswap.entity.SkillRequest;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.exception.common.DuplicateResourceException;
+import com.backend.skillswap.repository.SkillRequestRepository;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.backend.skillswap.TestData.skill;
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Parallel sends for the same (sender, skill) race on the unique active key:
+// exactly one insert wins, every other caller gets a duplicate error.
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillRequestConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private SkillRequestService skillRequestService;
+
+    @Autowired
+    private SkillRequestRepository skillRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Test
+    void parallelSendsLeaveExactlyOneActiveRequest() throws Exception {
+        UserEntity learner = userRepository.save(user("race-learner", Role.USER));
+        UserEntity provider = userRepository.save(user("race-provider", Role.PROVIDER));
+        UserSkill skill = userSkillRepository.save(skill(provider, "Java Concurrency"));
+
+        SkillRequestRequest dto = SkillRequestRequest.builder()
+                .skillId(skill.getId())
+                .message("Please teach me")
+                .build();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        skillRequestService.sendRequest(learner.getId(), dto);
+                        return true;
+                    } catch (DuplicateResourceException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<SkillRequest> stored = skillRequestRepository.findAll().stream()
+                .filter(request -> request.getSender().getId().equals(learner.getId()))
+                .toList();
+
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0).getActiveKey())
+                .isEqualTo(SkillRequest.activeKeyOf(learner.getId(), skill.getId()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.response.SkillRequestResponse;
+import com.backend.skillswap.entity.SkillRequest;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
+import com.backend.skillswap.repository.SkillRequestRepository;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.backend.skillswap.TestData.skill;
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+// Expiry: the chunked sweep terminates and leaves no due row behind, and a due request already
+// reads as EXPIRED (and can't be acted on) before the sweep gets to it.
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillRequestExpiryTest {
+
+    @Autowired
+    private SkillRequestService skillRequestService;
+
+    @Autowired
+    private SkillRequestRepository skillRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sweepExpiresEveryDueRowAcrossChunks() {
+        UserEntity provider = userRepository.save(user("sweep-provider-1", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("sweep-learner-1", Role.USER));
+        UserSkill skill = userSkillRepository.save(skill(provider));
+
+        LocalDateTime now = LocalDateTime.now();
+        insert(learner, skill, SkillRequestStatus.PENDING, now.minusHours(1), 1001);   // 500 + 500 + 1
+        insert(learner, skill, SkillRequestStatus.PENDING, now.plusDays(1), 3);
+        insert(learner, skill, SkillRequestStatus.ACCEPTED, now.minusHours(1), 2);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(60), skillRequestService::autoExpireRequests);
+
+        assertThat(countByStatus(provider, SkillRequestStatus.EXPIRED)).isEqualTo(1001);
+        assertThat(countByStatus(provider, SkillRequestStatus.PENDING)).isEqualTo(3);
+        assertThat(countByStatus(provider, SkillRequestStatus.ACCEPTED)).isEqualTo(2);
+        assertThat(dueAnywhere()).isZero();
+    }
+
+    @Test
+    void sweepEndsWhenTheLastChunkIsExactlyFull() {
+        UserEntity provider = userRepository.save(user("sweep-provider-2", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("sweep-learner-2", Role.USER));
+        UserSkill skill = userSkillRepository.save(skill(provider));
+
+        // Clear whatever other tests left due, so this run sees exactly two full chunks
+        skillRequestService.autoExpireRequests();
+        insert(learner, skill, SkillRequestStatus.PENDING, LocalDateTime.now().minusMinutes(5), 1000);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(60), skillRequestService::autoExpireRequests);
+
+        assertThat(countByStatus(provider, SkillRequestStatus.EXPIRED)).isEqualTo(1000);
+        assertThat(dueAnywhere()).isZero();
+    }
+
+    @Test
+    void dueRequestReadsAsExpiredBeforeTheSweep() {
+        UserEntity provider = userRepository.save(user("lazy-provider", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("lazy-learner", Role.USER));
+        UserSkill skill = userSkillRepository.save(skill(provider));
+
+        SkillRequest due = skillRequestRepository.save(SkillRequest.builder()
+                .sender(learner)
+                .receiver(provider)
+                .skill(skill)
+                .status(SkillRequestStatus.PENDING)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+
+        assertThat(skillRequestService.mySentRequests(learner.getId()))
+                .extracting(SkillRequestResponse::getId, SkillRequestResponse::getStatus)
+                .containsExactly(tuple(due.getId(), SkillRequestStatus.EXPIRED));
+        assertThatThrownBy(() -> skillRequestService.acceptRequest(provider.getId(), due.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Request already finalized");
+        assertThatThrownBy(() -> skillRequestService.cancelRequest(learner.getId(), due.getId()))
+                .isInstanceOf(IllegalStateException.class);
+
+        // The row itself waits for the sweep
+        assertThat(skillRequestRepository.findById(due.getId()).orElseThrow().getStatus())
+                .isEqualTo(SkillRequestStatus.PENDING);
+        skillRequestService.autoExpireRequests();
+        assertThat(skillRequestRepository.findById(due.getId()).orElseThrow().getStatus())
+                .isEqualTo(SkillRequestStatus.EXPIRED);
+    }
+
+    // Plain rows, bypassing the entity (many per sender and skill, like data from before any uniqueness rule)
+    private void insert(UserEntity learner, UserSkill skill, SkillRequestStatus status, LocalDateTime expiresAt, int count) {
+        Timestamp created = Timestamp.valueOf(LocalDateTime.now().minusDays(3));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{learner.getId(), skill.getUser().getId(), skill.getId(), status.name(),
+                    Timestamp.valueOf(expiresAt), created, created});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO skill_requests (sender_id, receiver_id, skill_id, status, expires_at, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    private long countByStatus(UserEntity receiver, SkillRequestStatus status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM skill_requests WHERE receiver_id = ? AND status = ?",
+                Long.class, receiver.getId(), status.name());
+    }
+
+    private long dueAnywhere() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM skill_requests WHERE status = 'PENDING' AND expires_at < ?",
+                Long.class, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.request.SkillRequestRequest;
+import com.backend.skillswap.dto.response.SkillRequestResponse;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.backend.skillswap.TestData.skill;
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Rows pulled in per skill-request action, measured with Hibernate statistics.
+// Only the request row itself may be materialised; names come from one projection.
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillRequestFetchTest {
+
+    @Autowired
+    private SkillRequestService skillRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void acceptLoadsOnlyTheRequestRow() {
+        UserEntity learner = userRepository.save(user("fetch-learner", Role.USER));
+        UserEntity provider = userRepository.save(user("fetch-provider", Role.PROVIDER));
+        UserSkill skill = userSkillRepository.save(skill(provider, "Spring Data"));
+
+        SkillRequestResponse sent = skillRequestService.sendRequest(learner.getId(), SkillRequestRequest.builder()
+                .skillId(skill.getId())
+                .message("Can we start next week?")
+                .build());
+
+        statistics.clear();
+        SkillRequestResponse accepted = skillRequestService.acceptRequest(provider.getId(), sent.getId());
+
+        assertThat(accepted.getStatus()).isEqualTo(SkillRequestStatus.ACCEPTED);
+        assertThat(accepted.getSenderUsername()).isEqualTo("fetch-learner");
+        assertThat(accepted.getReceiverUsername()).isEqualTo("fetch-provider");
+        assertThat(accepted.getSkillTitle()).isEqualTo("Spring Data");
+
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);       // the SkillRequest only
+        assertThat(statistics.getCollectionLoadCount()).isZero();      // no user role collections
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+}
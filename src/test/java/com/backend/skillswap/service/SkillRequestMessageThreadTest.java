@@ -0,0 +1,157 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.request.SkillRequestMessageRequest;
+import com.backend.skillswap.dto.request.SkillRequestRequest;
+import com.backend.skillswap.dto.response.SkillRequestMessageResponse;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.backend.skillswap.exception.common.OperationNotAllowedException;
+import com.backend.skillswap.exception.common.ResourceNotFoundException;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.backend.skillswap.TestData.skill;
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Negotiation threads: only the two parties get in, and pages walk newest-first without gaps or repeats
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillRequestMessageThreadTest {
+
+    @Autowired
+    private SkillRequestMessageService messageService;
+
+    @Autowired
+    private SkillRequestService skillRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void onlyTheLearnerAndTheProviderCanUseTheThread() {
+        UserEntity provider = userRepository.save(user("thread-provider-1", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("thread-learner-1", Role.USER));
+        UserEntity outsider = userRepository.save(user("thread-outsider", Role.USER));
+        Long requestId = open(learner, userSkillRepository.save(skill(provider)));
+
+        messageService.postMessage(learner, requestId, message("Hello"));
+        messageService.postMessage(provider, requestId, message("Hi there"));
+
+        assertThatThrownBy(() -> messageService.getThread(outsider.getId(), requestId, null, 10))
+                .isInstanceOf(OperationNotAllowedException.class);
+        assertThatThrownBy(() -> messageService.postMessage(outsider, requestId, message("Let me in")))
+                .isInstanceOf(OperationNotAllowedException.class);
+        assertThatThrownBy(() -> messageService.getThread(learner.getId(), Long.MAX_VALUE, null, 10))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(messageService.getThread(provider.getId(), requestId, null, 10).getItems())
+                .extracting(SkillRequestMessageResponse::getBody)
+                .containsExactly("Hi there", "Hello");
+    }
+
+    @Test
+    void pagesWalkMessagesWithTheSameCreatedAtNewestFirst() {
+        UserEntity provider = userRepository.save(user("thread-provider-2", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("thread-learner-2", Role.USER));
+        Long requestId = open(learner, userSkillRepository.save(skill(provider)));
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(messageService.postMessage(i % 2 == 0 ? learner : provider, requestId, message("m" + i)).getId());
+        }
+        // Same instant for every message → the id alone has to keep the order stable
+        jdbcTemplate.update("UPDATE skill_request_messages SET created_at = ? WHERE request_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().withNano(0)), requestId);
+        List<Long> newestFirst = ids.stream().sorted(Comparator.reverseOrder()).toList();
+
+        CursorPageResponse<SkillRequestMessageResponse> first = messageService.getThread(learner.getId(), requestId, null, 2);
+        CursorPageResponse<SkillRequestMessageResponse> second = messageService.getThread(learner.getId(), requestId, first.getNextCursor(), 2);
+        CursorPageResponse<SkillRequestMessageResponse> third = messageService.getThread(learner.getId(), requestId, second.getNextCursor(), 2);
+
+        assertThat(ids(first)).isEqualTo(newestFirst.subList(0, 2));
+        assertThat(ids(second)).isEqualTo(newestFirst.subList(2, 4));
+        assertThat(ids(third)).isEqualTo(newestFirst.subList(4, 5));
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(newestFirst.get(1));
+        assertThat(third.isHasMore()).isFalse();
+        assertThat(third.getNextCursor()).isNull();
+
+        // Both parties see the same pages
+        assertThat(ids(messageService.getThread(provider.getId(), requestId, first.getNextCursor(), 2)))
+                .isEqualTo(ids(second));
+    }
+
+    @Test
+    void fullLastPageReportsNoMoreAndSizeIsBounded() {
+        UserEntity provider = userRepository.save(user("thread-provider-3", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("thread-learner-3", Role.USER));
+        Long requestId = open(learner, userSkillRepository.save(skill(provider)));
+        for (int i = 0; i < 4; i++) {
+            messageService.postMessage(learner, requestId, message("m" + i));
+        }
+
+        CursorPageResponse<SkillRequestMessageResponse> first = messageService.getThread(learner.getId(), requestId, null, 2);
+        CursorPageResponse<SkillRequestMessageResponse> second = messageService.getThread(learner.getId(), requestId, first.getNextCursor(), 2);
+
+        assertThat(second.getItems()).hasSize(2);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(messageService.getThread(learner.getId(), requestId, second.getItems().get(1).getId(), 2).getItems())
+                .isEmpty();
+
+        assertThatThrownBy(() -> messageService.getThread(learner.getId(), requestId, null, 0))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> messageService.getThread(learner.getId(), requestId, null, 101))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void closedRequestStaysReadableButTakesNoMessages() {
+        UserEntity provider = userRepository.save(user("thread-provider-4", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("thread-learner-4", Role.USER));
+        Long requestId = open(learner, userSkillRepository.save(skill(provider)));
+        messageService.postMessage(learner, requestId, message("Still interested?"));
+
+        skillRequestService.rejectRequest(provider.getId(), requestId);
+
+        assertThatThrownBy(() -> messageService.postMessage(learner, requestId, message("Please?")))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(messageService.getThread(learner.getId(), requestId, null, 10).getItems()).hasSize(1);
+    }
+
+    private Long open(UserEntity learner, UserSkill skill) {
+        return skillRequestService.sendRequest(learner.getId(), SkillRequestRequest.builder()
+                .skillId(skill.getId())
+                .message("Hi")
+                .build()).getId();
+    }
+
+    private static SkillRequestMessageRequest message(String body) {
+        return SkillRequestMessageRequest.builder().body(body).build();
+    }
+
+    private static List<Long> ids(CursorPageResponse<SkillRequestMessageResponse> page) {
+        return page.getItems().stream().map(SkillRequestMessageResponse::getId).toList();
+    }
+}
@@ -0,0 +1,199 @@
+package com.backend.skillswap.service;
+
+import com.backend.skillswap.dto.common.CursorPageResponse;
+import com.backend.skillswap.dto.request.SkillRequestRequest;
+import com.backend.skillswap.dto.response.SkillRequestResponse;
+import com.backend.skillswap.entity.UserEntity;
+import com.backend.skillswap.entity.UserSkill;
+import com.backend.skillswap.entity.enums.Role;
+import com.backend.skillswap.entity.enums.SkillRequestStatus;
+import com.backend.skillswap.exception.common.BadRequestException;
+import com.backend.skillswap.repository.UserRepository;
+import com.backend.skillswap.repository.UserSkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.backend.skillswap.TestData.skill;
+import static com.backend.skillswap.TestData.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Outbox / inbox keyset pages (rows sharing a createdAt, page edges, status filter)
+// and the pending badge counters through send, accept, reject, cancel and expiry.
+@SpringBootTest
+@ActiveProfiles("test")
+class SkillRequestPageTest {
+
+    @Autowired
+    private SkillRequestService skillRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pagesWalkRowsWithTheSameCreatedAtWithoutGapsOrRepeats() {
+        UserEntity provider = userRepository.save(user("page-provider-1", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("page-learner-1", Role.USER));
+        UserSkill skill = userSkillRepository.save(skill(provider));
+
+        // Seven requests created in the same instant
+        LocalDateTime created = LocalDateTime.now().minusHours(1).withNano(0);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(insert(learner, skill, SkillRequestStatus.PENDING, created, created.plusDays(2)));
+        }
+        List<Long> newestFirst = ids.stream().sorted(Comparator.reverseOrder()).toList();
+
+        List<List<Long>> outbox = walk(cursor -> skillRequestService.mySentRequestsPage(learner.getId(), null, cursor, 3));
+        List<List<Long>> inbox = walk(cursor -> skillRequestService.myReceivedRequestsPage(provider.getId(), null, cursor, 3));
+
+        assertThat(outbox).containsExactly(newestFirst.subList(0, 3), newestFirst.subList(3, 6), newestFirst.subList(6, 7));
+        assertThat(inbox).isEqualTo(outbox);
+
+        // Same cursor, same page
+        Long cursor = newestFirst.get(2);
+        assertThat(ids(skillRequestService.mySentRequestsPage(learner.getId(), null, cursor, 3)))
+                .isEqualTo(ids(skillRequestService.mySentRequestsPage(learner.getId(), null, cursor, 3)));
+    }
+
+    @Test
+    void fullLastPageReportsNoMore() {
+        UserEntity provider = userRepository.save(user("page-provider-2", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("page-learner-2", Role.USER));
+        UserSkill skill = userSkillRepository.save(skill(provider));
+        LocalDateTime created = LocalDateTime.now().minusHours(1);
+        for (int i = 0; i < 4; i++) {
+            insert(learner, skill, SkillRequestStatus.PENDING, created, created.plusDays(2));
+        }
+
+        CursorPageResponse<SkillRequestResponse> first = skillRequestService.mySentRequestsPage(learner.getId(), null, null, 2);
+        CursorPageResponse<SkillRequestResponse> second = skillRequestService.mySentRequestsPage(learner.getId(), null, first.getNextCursor(), 2);
+
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(first.getItems().get(1).getId());
+        assertThat(second.getItems()).hasSize(2);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+
+        assertThatThrownBy(() -> skillRequestService.mySentRequestsPage(learner.getId(), null, null, 0))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> skillRequestService.mySentRequestsPage(learner.getId(), null, null, 101))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void pendingFilterLeavesOutDueRowsTheSweepHasNotReachedYet() {
+        UserEntity provider = userRepository.save(user("page-provider-3", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("page-learner-3", Role.USER));
+        UserSkill skill = userSkillRepository.save(skill(provider));
+        LocalDateTime now = LocalDateTime.now();
+
+        Long live = insert(learner, skill, SkillRequestStatus.PENDING, now.minusHours(1), now.plusDays(1));
+        Long due = insert(learner, skill, SkillRequestStatus.PENDING, now.minusDays(3), now.minusHours(1));
+        Long accepted = insert(learner, skill, SkillRequestStatus.ACCEPTED, now.minusHours(2), now.plusDays(1));
+
+        assertThat(ids(skillRequestService.mySentRequestsPage(learner.getId(), SkillRequestStatus.PENDING, null, 10)))
+                .containsExactly(live);
+        assertThat(ids(skillRequestService.mySentRequestsPage(learner.getId(), SkillRequestStatus.ACCEPTED, null, 10)))
+                .containsExactly(accepted);
+
+        // Unfiltered, the due row is listed but already reads as EXPIRED
+        CursorPageResponse<SkillRequestResponse> all = skillRequestService.mySentRequestsPage(learner.getId(), null, null, 10);
+        assertThat(all.getItems())
+                .filteredOn(item -> item.getId().equals(due))
+                .extracting(SkillRequestResponse::getStatus)
+                .containsExactly(SkillRequestStatus.EXPIRED);
+    }
+
+    @Test
+    void pendingCountersFollowEveryTransition() {
+        UserEntity provider = userRepository.save(user("badge-provider", Role.PROVIDER));
+        UserEntity learner = userRepository.save(user("badge-learner", Role.USER));
+        List<UserSkill> skills = List.of(
+                userSkillRepository.save(skill(provider)),
+                userSkillRepository.save(skill(provider)),
+                userSkillRepository.save(skill(provider)),
+                userSkillRepository.save(skill(provider)));
+
+        SkillRequestResponse first = send(learner, skills.get(0));
+        assertCounts(learner, provider, 1);          // loaded by COUNT
+
+        SkillRequestResponse second = send(learner, skills.get(1));
+        SkillRequestResponse third = send(learner, skills.get(2));
+        SkillRequestResponse fourth = send(learner, skills.get(3));
+        assertCounts(learner, provider, 4);          // moved by deltas
+
+        skillRequestService.acceptRequest(provider.getId(), first.getId());
+        assertCounts(learner, provider, 3);
+
+        skillRequestService.rejectRequest(provider.getId(), second.getId());
+        assertCounts(learner, provider, 2);
+
+        skillRequestService.cancelRequest(learner.getId(), third.getId());
+        assertCounts(learner, provider, 1);
+
+        // Rejecting an already-decided request changes nothing
+        assertThatThrownBy(() -> skillRequestService.rejectRequest(provider.getId(), first.getId()))
+                .isInstanceOf(IllegalStateException.class);
+        assertCounts(learner, provider, 1);
+
+        jdbcTemplate.update("UPDATE skill_requests SET expires_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), fourth.getId());
+        skillRequestService.autoExpireRequests();
+        assertCounts(learner, provider, 0);
+    }
+
+    private void assertCounts(UserEntity learner, UserEntity provider, long expected) {
+        assertThat(skillRequestService.countPendingSent(learner.getId())).isEqualTo(expected);
+        assertThat(skillRequestService.countPendingReceived(provider.getId())).isEqualTo(expected);
+    }
+
+    private SkillRequestResponse send(UserEntity learner, UserSkill skill) {
+        return skillRequestService.sendRequest(learner.getId(), SkillRequestRequest.builder()
+                .skillId(skill.getId())
+                .message("Hi")
+                .build());
+    }
+
+    private Long insert(UserEntity learner, UserSkill skill, SkillRequestStatus status,
+                        LocalDateTime createdAt, LocalDateTime expiresAt) {
+        jdbcTemplate.update("""
+                INSERT INTO skill_requests (sender_id, receiver_id, skill_id, status, expires_at, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, learner.getId(), skill.getUser().getId(), skill.getId(), status.name(),
+                Timestamp.valueOf(expiresAt), Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM skill_requests", Long.class);
+    }
+
+    private static List<List<Long>> walk(Function<Long, CursorPageResponse<SkillRequestResponse>> page) {
+        List<List<Long>> pages = new ArrayList<>();
+        Long cursor = null;
+        CursorPageResponse<SkillRequestResponse> current;
+        do {
+            current = page.apply(cursor);
+            pages.add(ids(current));
+            cursor = current.getNextCursor();
+        } while (current.isHasMore());
+        return pages;
+    }
+
+    private static List<Long> ids(CursorPageResponse<SkillRequestResponse> page) {
+        return page.getItems().stream().map(SkillRequestResponse::getId).toList();
+    }
+}
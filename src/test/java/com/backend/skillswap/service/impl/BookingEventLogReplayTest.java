@@ -0,0 +1,127 @@
+package com.backend.skillswap.service.impl;
+
+import com.backend.skillswap.dto.response.ProjectionReplayResponse;
+import com.backend.skillswap.dto.response.ProviderBookingStatsResponse;
+import com.backend.skillswap.entity.BookingEventLog;
+import com.backend.skillswap.entity.enums.BookingStatus;
+import com.backend.skillswap.events.BookingEventType;
+import com.backend.skillswap.events.projection.BookingEventProjection;
+import com.backend.skillswap.events.projection.ProviderBookingStatsProjection;
+import com.backend.skillswap.repository.BookingEventLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Replays from the middle of the log: bounded projections are rebuilt in full instead of counting twice
+class BookingEventLogReplayTest {
+
+    private static final long PROVIDER = 7L;
+
+    // More than the stats projection keeps in its finished window
+    private static final int BOOKINGS = 12_000;
+
+    private final List<BookingEventLog> log = new ArrayList<>();
+    private final BookingEventLogRepository repository = mock(BookingEventLogRepository.class);
+    private final ProviderBookingStatsProjection stats = new ProviderBookingStatsProjection();
+    private final CountingProjection counting = new CountingProjection();
+    private final BookingEventLogServiceImpl service =
+            new BookingEventLogServiceImpl(repository, List.of(stats, counting));
+
+    @BeforeEach
+    void fillLog() {
+        long sequence = 0;
+        for (long id = 1; id <= BOOKINGS; id++) {
+            log.add(event(++sequence, id, 0L, BookingStatus.PENDING));
+            log.add(event(++sequence, id, 3L, BookingStatus.COMPLETED));
+        }
+        when(repository.findBySequenceNumberGreaterThanOrderBySequenceNumberAsc(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long after = invocation.getArgument(0);
+                    Pageable page = invocation.getArgument(1);
+                    return log.stream()
+                            .filter(event -> event.getSequenceNumber() > after)
+                            .limit(page.getPageSize())
+                            .toList();
+                });
+    }
+
+    @Test
+    void midLogReplayOfTheStatsProjectionLeavesTheTotalsUnchanged() {
+        service.replay(ProviderBookingStatsProjection.NAME, 0L);
+        ProviderBookingStatsResponse before = stats.getStats(PROVIDER);
+        assertThat(before.getBookingsByStatus().get(BookingStatus.COMPLETED)).isEqualTo(BOOKINGS);
+
+        ProjectionReplayResponse result = service.replay(ProviderBookingStatsProjection.NAME, 1L);
+
+        ProviderBookingStatsResponse after = stats.getStats(PROVIDER);
+        assertThat(after.getBookingsByStatus()).isEqualTo(before.getBookingsByStatus());
+        assertThat(after.getCompletedEarnings()).isEqualByComparingTo(before.getCompletedEarnings());
+        assertThat(after.getLastSequenceNumber()).isEqualTo(log.size());
+        assertThat(result.getEventsApplied()).isEqualTo(log.size());
+    }
+
+    @Test
+    void projectionsWithPartialReplayOnlyGetTheNewerEvents() {
+        service.replay(CountingProjection.NAME, 0L);
+        assertThat(counting.applied).isEqualTo(log.size());
+
+        ProjectionReplayResponse result = service.replay(CountingProjection.NAME, log.size() - 10L);
+
+        assertThat(result.getEventsApplied()).isEqualTo(10);
+        assertThat(counting.applied).isEqualTo(log.size() + 10);
+        assertThat(counting.resets).isEqualTo(1);
+    }
+
+    private static BookingEventLog event(long sequence, Long bookingId, Long version, BookingStatus status) {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 10, 0);
+        return BookingEventLog.builder()
+                .sequenceNumber(sequence)
+                .bookingId(bookingId)
+                .bookingVersion(version)
+                .eventType(status == BookingStatus.PENDING ? BookingEventType.CREATED : BookingEventType.COMPLETED)
+                .status(status)
+                .requesterId(9L)
+                .providerId(PROVIDER)
+                .skillId(3L)
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .totalAmount(new BigDecimal("25.00"))
+                .build();
+    }
+
+    // Unbounded, idempotency left to the caller: just counts what it is fed
+    private static final class CountingProjection implements BookingEventProjection {
+
+        static final String NAME = "counting";
+
+        private int applied;
+        private int resets;
+
+        @Override
+        public String name() {
+            return NAME;
+        }
+
+        @Override
+        public void reset() {
+            applied = 0;
+            resets++;
+        }
+
+        @Override
+        public void apply(BookingEventLog event) {
+            applied++;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.backend.skillswap.stream;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Per-user stream cap (oldest tab loses its stream) and cleanup once a stream completes or times out
+class SkillRequestMessageBrokerTest {
+
+    private final SkillRequestMessageBroker broker = new SkillRequestMessageBroker();
+
+    // Real async requests, so the emitter callbacks fire like they do behind the servlet container
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(broker)).build();
+
+    @Test
+    void sixthStreamClosesTheOldest() {
+        List<SseEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            emitters.add(broker.subscribe(1L));
+        }
+
+        assertThat(broker.openStreams(1L)).isEqualTo(5);
+        assertThatThrownBy(() -> emitters.get(0).send("late"))
+                .isInstanceOf(IllegalStateException.class);
+        for (SseEmitter open : emitters.subList(1, 6)) {
+            assertThatCode(() -> open.send("still here")).doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    void capIsPerUser() {
+        for (int i = 0; i < 5; i++) {
+            broker.subscribe(1L);
+        }
+        broker.subscribe(2L);
+
+        assertThat(broker.openStreams(1L)).isEqualTo(5);
+        assertThat(broker.openStreams(2L)).isEqualTo(1);
+    }
+
+    @Test
+    void completedStreamIsDropped() throws Exception {
+        MockAsyncContext first = open(3L);
+        open(3L);
+        assertThat(broker.openStreams(3L)).isEqualTo(2);
+
+        first.complete();
+
+        assertThat(broker.openStreams(3L)).isEqualTo(1);
+    }
+
+    @Test
+    void timedOutStreamIsDropped() throws Exception {
+        MockAsyncContext stream = open(4L);
+        assertThat(broker.openStreams(4L)).isEqualTo(1);
+
+        for (AsyncListener listener : stream.getListeners()) {
+            listener.onTimeout(new AsyncEvent(stream));
+        }
+
+        assertThat(broker.openStreams(4L)).isZero();
+    }
+
+    private MockAsyncContext open(Long userId) throws Exception {
+        MvcResult result = mockMvc.perform(get("/stream/{userId}", userId)).andReturn();
+        assertThat(result.getRequest().isAsyncStarted()).isTrue();
+        return (MockAsyncContext) result.getRequest().getAsyncContext();
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final SkillRequestMessageBroker broker;
+
+        StreamController(SkillRequestMessageBroker broker) {
+            this.broker = broker;
+        }
+
+        @GetMapping("/stream/{userId}")
+        SseEmitter stream(@PathVariable Long userId) {
+            return broker.subscribe(userId);
+        }
+    }
+}